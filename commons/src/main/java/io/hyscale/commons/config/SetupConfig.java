@@ -42,6 +42,7 @@ public class SetupConfig {
     private static final String LOGS_DIR = "logs";
     private static final String APPS_DIR = "apps";
     private static final String HYSCALE_DIR = "hyscale";
+    private static final String CACHE_DIR = "cache";
 
     private static final ThreadLocal<String> absolutePathTL = new ThreadLocal<>();
 
@@ -125,6 +126,16 @@ public class SetupConfig {
         return getServiceDir(appName, serviceName) + LOGS_DIR + FILE_SEPARATOR;
     }
 
+    /**
+     * Cache is kept outside of the service directory, which is cleaned up on every deploy
+     */
+    public String getCacheDir(String appName, String serviceName) {
+        StringBuilder sb = new StringBuilder(getInstallationDir());
+        sb.append(HYSCALE_DIR).append(FILE_SEPARATOR).append(CACHE_DIR).append(FILE_SEPARATOR).append(appName)
+                .append(FILE_SEPARATOR).append(serviceName).append(FILE_SEPARATOR);
+        return sb.toString();
+    }
+
     public static String getMountPathOf(String dir) {
        return getMountPathOf(dir, HYSCALECTL_HOME_DIR);
 
@@ -43,6 +43,8 @@ public class ValidationConstants {
     public static final String NAMESPACE_REGEX = "([a-z0-9-]){" + NAMESPACE_LENGTH_MIN + "," + NAMESPACE_LENGTH_MAX + "}";
     
     public static final long MIN_LOG_LINES = 1;
+
+    public static final long MIN_PARALLELISM = 1;
     
     public static final String INVALID_APP_NAME_MSG = "Application name \"{}\" is invalid. It must consist of lower case alphanumeric characters or '-', "
             + "its length should be between " + APP_NAME_LENGTH_MIN + " and " + APP_NAME_LENGTH_MAX + "."
@@ -61,6 +63,8 @@ public class ValidationConstants {
     
     public static final String MIN_LOG_LINES_ERROR_MSG = "Logs lines must be more than " + MIN_LOG_LINES;
 
+    public static final String MIN_PARALLELISM_ERROR_MSG = "Parallelism must be at least " + MIN_PARALLELISM;
+
     public static final String STRUCTURED_OUTPUT_FORMAT_REGEX = "JSON|json";
 
     public static final String INVALID_OUTPUT_FORMAT_MSG = "Output format \"{}\" is invalid. Supported format is json.";
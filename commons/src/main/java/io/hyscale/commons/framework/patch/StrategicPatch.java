@@ -16,28 +16,34 @@
 package com.github.srujankujmar.commons.framework.patch;
 
 import java.io.StringReader;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import javax.json.*;
-import javax.json.JsonValue.ValueType;
-import javax.json.stream.JsonParsingException;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.srujankujmar.commons.exception.CommonErrorCode;
 import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 
 /**
  * Strategic Patch to update source with patch values
  * Source and Patch should be in JSON format 
+ * Merge works on Jackson trees, field and array element order of source is preserved
  * 
  * @author tushar
  *
@@ -47,15 +53,12 @@ public class StrategicPatch {
 
     private static final Logger logger = LoggerFactory.getLogger(StrategicPatch.class);
 
-    private static final List<ValueType> replacementValueTypes = Arrays.asList(ValueType.NUMBER, ValueType.STRING,
-            ValueType.TRUE, ValueType.FALSE);
-
     private StrategicPatch() {}
 
     /**
      * Convert String input for source and patch to Json 
-     * and calls {@link #mergeJsonObjects(JsonObject, JsonObject, FieldMetaDataProvider)}
-     * Convert result of {@link #mergeJsonObjects(JsonObject, JsonObject, FieldMetaDataProvider)} to String
+     * and calls {@link #mergeJsonNodes(ObjectNode, ObjectNode, FieldMetaDataProvider)}
+     * Convert result of {@link #mergeJsonNodes(ObjectNode, ObjectNode, FieldMetaDataProvider)} to String
      * 
      * @param source
      * @param patch
@@ -73,31 +76,68 @@ public class StrategicPatch {
         if (StringUtils.isBlank(patch)) {
             return source;
         }
-        JsonObject mergedJsonObject = null;
-        try (JsonReader sourceJsonReader = Json.createReader(new StringReader(source)); JsonReader patchJsonReader = Json.createReader(new StringReader(patch));) {
-            // Convert String to Json Object
-            JsonObject sourceJson = sourceJsonReader.readObject();
-            JsonObject patchJson = patchJsonReader.readObject();
-
-            // Convert JSON Object to String
-            mergedJsonObject = mergeJsonObjects(sourceJson, patchJson, fieldDataProvider);
-            if (mergedJsonObject != null) {
-                return mergedJsonObject.toString();
-            }
+        JsonNode mergedJsonNode = apply(readObject(source), readObject(patch), fieldDataProvider);
+        return mergedJsonNode != null ? mergedJsonNode.toString() : null;
+    }
 
-        } catch (JsonParsingException e) {
-            HyscaleException ex = new HyscaleException(e, CommonErrorCode.INVALID_JSON_FORMAT);
-            logger.error("Invalid Json format for source or patch", ex);
+    /**
+     * Merges patch into source, see {@link #mergeJsonNodes(ObjectNode, ObjectNode, FieldMetaDataProvider)}
+     * 
+     * @param source json object
+     * @param patch json object
+     * @param fieldDataProvider
+     * @return merged json object, source if patch is null, patch if source is null
+     * @throws HyscaleException if source or patch is not a json object
+     */
+    public static JsonNode apply(JsonNode source, JsonNode patch, FieldMetaDataProvider fieldDataProvider)
+            throws HyscaleException {
+        if (isNull(source)) {
+            return isNull(patch) ? null : patch;
+        }
+        if (isNull(patch)) {
+            return source;
+        }
+        if (!source.isObject() || !patch.isObject()) {
+            HyscaleException ex = new HyscaleException(CommonErrorCode.INVALID_JSON_FORMAT);
+            logger.error("Source and patch are expected to be json objects", ex);
             throw ex;
         }
+        return mergeJsonNodes((ObjectNode) source, (ObjectNode) patch, fieldDataProvider);
+    }
+
+    /**
+     * Merges javax json objects through {@link #mergeJsonNodes(ObjectNode, ObjectNode, FieldMetaDataProvider)}
+     * 
+     * @param source
+     * @param patch
+     * @param fieldDataProvider - provides keys while merging array entities
+     * @return merged JsonObject
+     * @throws HyscaleException
+     */
+    public static JsonObject mergeJsonObjects(JsonObject source, JsonObject patch,
+            FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
 
-        return null;
+        if (patch == null && source == null) {
+            return null;
+        }
+        if (patch == null) {
+            return source;
+        }
 
+        if (source == null) {
+            return patch;
+        }
+        ObjectNode merged = mergeJsonNodes(readObject(source.toString()), readObject(patch.toString()),
+                fieldDataProvider);
+        try (JsonReader jsonReader = Json.createReader(new StringReader(merged.toString()))) {
+            return jsonReader.readObject();
+        }
     }
 
     /**
-     * Creates new source map and recursively updates it with patch values
-     * Returns the map as JsonObject
+     * Creates new source object and recursively updates it with patch values
+     * Merged object shares unchanged subtrees with source and patch,
+     * neither of them should be modified afterwards
      * 
      * <p>
      * Implementation:
@@ -106,7 +146,9 @@ public class StrategicPatch {
      * 2. If it is replacement value type, replace value in source
      * 3. If arrays type
      *  3.a. If replacement value type elements, merge the values without duplication
-     *  3.b. Else merge based on key provided, throws exception if key is not available
+     *  3.b. Else merge based on key provided, throws exception if key is not available.
+     *       Source elements are indexed by key once per array, merged elements retain their position
+     *       and new elements are appended
      * 4. For Others(JSONObject):
      *  4.a. If value in source is absent or replacement type, replace with patch value(Model change)
      *  4.b. Else Recursively call with JsonObject of source and patch
@@ -115,10 +157,10 @@ public class StrategicPatch {
      * @param source
      * @param patch
      * @param fieldDataProvider - provides keys while merging array entities
-     * @return merged JsonObject
+     * @return merged ObjectNode
      * @throws HyscaleException
      */
-    public static JsonObject mergeJsonObjects(JsonObject source, JsonObject patch,
+    public static ObjectNode mergeJsonNodes(ObjectNode source, ObjectNode patch,
             FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
 
         if (patch == null && source == null) {
@@ -132,92 +174,121 @@ public class StrategicPatch {
             return patch;
         }
 
-        Map<String, JsonValue> effectiveMap = new HashMap<>();
+        ObjectNode effectiveNode = JsonNodeFactory.instance.objectNode();
+        effectiveNode.setAll(source);
 
-        source.entrySet().stream().forEach(each -> effectiveMap.put(each.getKey(), each.getValue()));
-
-        for (Entry<String, JsonValue> entrySet : patch.entrySet()) {
+        Iterator<Entry<String, JsonNode>> patchFields = patch.fields();
+        while (patchFields.hasNext()) {
+            Entry<String, JsonNode> entrySet = patchFields.next();
             String key = entrySet.getKey();
-            JsonValue value = entrySet.getValue();
-            if (value.getValueType() == ValueType.NULL) {
+            JsonNode value = entrySet.getValue();
+            if (isNull(value)) {
                 // Empty/Null value field are ignored
                 continue;
             }
 
             // if absent in source or different type than patch, put patch value
-            JsonValue sourceJsonValue = source.get(key);
-            if (sourceJsonValue == null || value.getValueType() != sourceJsonValue.getValueType()) {
-                effectiveMap.put(key, value);
+            JsonNode sourceJsonValue = source.get(key);
+            if (sourceJsonValue == null || value.getNodeType() != sourceJsonValue.getNodeType()) {
+                effectiveNode.set(key, value);
                 continue;
             }
 
-            if (replacementValueTypes.contains(value.getValueType())) {
+            if (value.isValueNode()) {
                 // if primitive, String or Boolean replace value in map
-                effectiveMap.put(key, value);
-            } else if (value.getValueType() == ValueType.ARRAY) {
-
-                JsonArray patchArray = value.asJsonArray();
-
-                JsonValue sourceJsonVal = effectiveMap.get(key);
-                Set<JsonValue> updatedJsonObj = new HashSet<>();
-                JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
-                JsonArray sourceArray = null;
-                if (sourceJsonVal != null) {
-                    sourceArray = sourceJsonVal.asJsonArray();
-                    // Add pre-existing elements
-                    sourceArray.stream().forEach(each -> updatedJsonObj.add(each));
-                }
+                effectiveNode.set(key, value);
+            } else if (value.isArray()) {
+                effectiveNode.set(key,
+                        mergeArrays(key, (ArrayNode) sourceJsonValue, (ArrayNode) value, fieldDataProvider));
+            } else {
+                effectiveNode.set(key,
+                        mergeJsonNodes((ObjectNode) sourceJsonValue, (ObjectNode) value, fieldDataProvider));
+            }
+        }
+        return effectiveNode;
+    }
 
-                for (JsonValue patchValue : patchArray) {
-                    if (patchValue instanceof JsonObject) {
-                        JsonObject patchObj = patchValue.asJsonObject();
-                        if (fieldDataProvider == null) {
-                            throw getException(key);
-                        }
-                        FieldMetaData mergeKey = fieldDataProvider.getMetaData(key);
-                        if (mergeKey == null || StringUtils.isBlank(mergeKey.getKey())) {
-                            throw getException(key);
-                        }
-                        JsonObject sourceObj = getKeyObject(sourceArray, mergeKey.getKey(),
-                                patchObj.get(mergeKey.getKey()));
-
-                        if (sourceObj != null) {
-                            // remove element and add updated one
-                            updatedJsonObj.remove(sourceObj);
-                        }
-                        updatedJsonObj.add(mergeJsonObjects(sourceObj, patchValue.asJsonObject(), fieldDataProvider));
-                    } else {
-                        // replacement value type
-                        updatedJsonObj.add(patchValue);
+    private static ArrayNode mergeArrays(String key, ArrayNode sourceArray, ArrayNode patchArray,
+            FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+        ArrayNode mergedArray = JsonNodeFactory.instance.arrayNode(sourceArray.size() + patchArray.size());
+        Set<JsonNode> values = new HashSet<>();
+        // Add pre-existing elements, replacement values without duplication
+        for (JsonNode sourceValue : sourceArray) {
+            if (!sourceValue.isValueNode() || values.add(sourceValue)) {
+                mergedArray.add(sourceValue);
+            }
+        }
+        String mergeKey = null;
+        Map<JsonNode, Integer> keyVsIndex = null;
+        for (JsonNode patchValue : patchArray) {
+            if (patchValue.isObject()) {
+                if (mergeKey == null) {
+                    mergeKey = getMergeKey(key, fieldDataProvider);
+                    keyVsIndex = getKeyIndex(mergedArray, mergeKey);
+                }
+                JsonNode keyValue = patchValue.get(mergeKey);
+                Integer index = keyValue != null ? keyVsIndex.get(keyValue) : null;
+                if (index != null) {
+                    // replace element with updated one
+                    mergedArray.set(index, mergeJsonNodes((ObjectNode) mergedArray.get(index),
+                            (ObjectNode) patchValue, fieldDataProvider));
+                } else {
+                    if (keyValue != null) {
+                        keyVsIndex.put(keyValue, mergedArray.size());
                     }
+                    mergedArray.add(patchValue);
                 }
-                // update list items
-                updatedJsonObj.stream().forEach(each -> arrayBuilder.add(each));
-
-                effectiveMap.put(key, arrayBuilder.build());
-            } else {
-                effectiveMap.put(key,
-                        mergeJsonObjects(sourceJsonValue.asJsonObject(), value.asJsonObject(), fieldDataProvider));
+            } else if (!patchValue.isValueNode() || values.add(patchValue)) {
+                // replacement value type
+                mergedArray.add(patchValue);
             }
         }
+        return mergedArray;
+    }
 
-        JsonObjectBuilder objBuilder = Json.createObjectBuilder();
-        effectiveMap.entrySet().stream().forEach(each -> objBuilder.add(each.getKey(), each.getValue()));
-        return objBuilder.build();
+    private static String getMergeKey(String key, FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+        if (fieldDataProvider == null) {
+            throw getException(key);
+        }
+        FieldMetaData mergeKey = fieldDataProvider.getMetaData(key);
+        if (mergeKey == null || StringUtils.isBlank(mergeKey.getKey())) {
+            throw getException(key);
+        }
+        return mergeKey.getKey();
     }
 
-    private static JsonObject getKeyObject(JsonArray objList, String key, JsonValue value) {
-        if (objList == null || StringUtils.isBlank(key)) {
-            return null;
+    /**
+     * @return value of merge key vs index of first object element with the value
+     */
+    private static Map<JsonNode, Integer> getKeyIndex(ArrayNode arrayNode, String mergeKey) {
+        Map<JsonNode, Integer> keyVsIndex = new HashMap<>();
+        for (int i = 0; i < arrayNode.size(); i++) {
+            JsonNode keyValue = arrayNode.get(i).isObject() ? arrayNode.get(i).get(mergeKey) : null;
+            if (keyValue != null) {
+                keyVsIndex.putIfAbsent(keyValue, i);
+            }
         }
-        for (JsonValue object : objList) {
-            JsonObject asJsonObject = object.asJsonObject();
-            JsonValue sourceVal = asJsonObject.get(key);
-            if (value.equals(sourceVal)) {
-                return asJsonObject;
+        return keyVsIndex;
+    }
+
+    private static ObjectNode readObject(String json) throws HyscaleException {
+        try {
+            JsonNode jsonNode = ObjectMapperFactory.jsonMapper().readTree(json);
+            if (jsonNode != null && jsonNode.isObject()) {
+                return (ObjectNode) jsonNode;
             }
+        } catch (JsonProcessingException e) {
+            HyscaleException ex = new HyscaleException(e, CommonErrorCode.INVALID_JSON_FORMAT);
+            logger.error("Invalid Json format for source or patch", ex);
+            throw ex;
         }
-        return null;
+        HyscaleException ex = new HyscaleException(CommonErrorCode.INVALID_JSON_FORMAT);
+        logger.error("Invalid Json format for source or patch", ex);
+        throw ex;
+    }
+
+    private static boolean isNull(JsonNode jsonNode) {
+        return jsonNode == null || jsonNode.isNull() || jsonNode.isMissingNode();
     }
     
     private static HyscaleException getException(String key) {
@@ -227,4 +298,4 @@ public class StrategicPatch {
         return ex;
     }
 
-}
\ No newline at end of file
+}
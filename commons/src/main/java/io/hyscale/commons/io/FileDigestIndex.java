@@ -0,0 +1,189 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.io;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.commons.exception.CommonErrorCode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.DigestUtil;
+
+/**
+ * Content digests of files, persisted between runs.
+ * Each file is indexed by its absolute path together with size and last modified time,
+ * a file is read and hashed again only when either of them changed.
+ * A file modified within the modified time granularity of its hashing could change again
+ * without a change in modified time, such entries are hashed again on lookup and not saved.
+ * Entries not looked up since the index was loaded are dropped on {@link #save()}
+ */
+public class FileDigestIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileDigestIndex.class);
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private static final String SEPARATOR = "\t";
+
+	// Coarsest modified time resolution among common file systems
+	private static final long MODIFIED_TIME_GRANULARITY_MILLIS = 2000;
+
+	private final Path indexFile;
+
+	private final Map<String, Entry> loadedEntries = new ConcurrentHashMap<>();
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private FileDigestIndex(Path indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Loads the index from file, an index which cannot be read is treated as empty
+	 * 
+	 * @param indexFilePath
+	 * @return index backed by the file
+	 */
+	public static FileDigestIndex load(String indexFilePath) {
+		FileDigestIndex index = new FileDigestIndex(Paths.get(indexFilePath).toAbsolutePath());
+		if (!Files.isRegularFile(index.indexFile)) {
+			return index;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(index.indexFile, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split(SEPARATOR, 4);
+				if (fields.length == 4) {
+					// Only entries hashed safely after modification are saved
+					index.loadedEntries.put(fields[3],
+							new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), false));
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			logger.debug("Ignoring unreadable digest index {}", indexFilePath, e);
+			index.loadedEntries.clear();
+		}
+		return index;
+	}
+
+	/**
+	 * @param file
+	 * @return hex digest of the file content
+	 * @throws HyscaleException if file cannot be read
+	 */
+	public String getDigest(File file) throws HyscaleException {
+		Path path = file.toPath().toAbsolutePath();
+		String key = path.toString();
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (IOException e) {
+			throw new HyscaleException(e, CommonErrorCode.FAILED_TO_READ_FILE, key);
+		}
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			entry = loadedEntries.get(key);
+		}
+		if (entry == null || entry.racy || entry.size != size || entry.lastModified != lastModified) {
+			// Time is taken before reading so that changes during the read are considered racy
+			long hashedAt = System.currentTimeMillis();
+			entry = new Entry(digest(path), size, lastModified,
+					lastModified > hashedAt - MODIFIED_TIME_GRANULARITY_MILLIS);
+		}
+		entries.put(key, entry);
+		return entry.digest;
+	}
+
+	/**
+	 * Writes entries looked up since load, replacing the index file
+	 */
+	public void save() {
+		try {
+			Files.createDirectories(indexFile.getParent());
+			Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), null);
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Entry> each : entries.entrySet()) {
+					Entry entry = each.getValue();
+					if (entry.racy || each.getKey().indexOf('\n') >= 0) {
+						continue;
+					}
+					writer.write(entry.digest + SEPARATOR + entry.size + SEPARATOR + entry.lastModified + SEPARATOR
+							+ each.getKey());
+					writer.newLine();
+				}
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.debug("Failed to save digest index {}", indexFile, e);
+		}
+	}
+
+	/**
+	 * Streams the file through the digest
+	 * 
+	 * @param path
+	 * @return hex digest of file content
+	 * @throws HyscaleException
+	 */
+	public static String digest(Path path) throws HyscaleException {
+		MessageDigest messageDigest = DigestUtil.newMessageDigest();
+		ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				messageDigest.update(buffer);
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			throw new HyscaleException(e, CommonErrorCode.FAILED_TO_READ_FILE, path.toString());
+		}
+		return DigestUtil.toHex(messageDigest.digest());
+	}
+
+	private static class Entry {
+		private final String digest;
+		private final long size;
+		private final long lastModified;
+		// Modified close to hashing, the same modified time does not guarantee same content
+		private final boolean racy;
+
+		Entry(String digest, long size, long lastModified, boolean racy) {
+			this.digest = digest;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.racy = racy;
+		}
+	}
+}
@@ -0,0 +1,424 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.commons.constants.ToolConstants;
+import com.github.srujankujmar.commons.exception.CommonErrorCode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.TailHandler;
+
+/**
+ * Log file of an activity such as image build or push, written asynchronously.
+ * Lines are queued in a bounded buffer and a background writer appends them through
+ * a single open channel, flushing once {@link #FLUSH_SIZE_IN_BYTES} are pending,
+ * every {@link #FLUSH_INTERVAL_IN_MILLIS} and on close. Writers block only while the buffer is full.
+ * Open sinks are registered by file path, readers in the same process subscribe
+ * to the lines in memory instead of tailing the file
+ */
+public class LogSink implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(LogSink.class);
+
+	private static final int BUFFER_CAPACITY = 8192;
+
+	private static final int FLUSH_SIZE_IN_BYTES = 64 * 1024;
+
+	private static final long FLUSH_INTERVAL_IN_MILLIS = 200;
+
+	private static final int REPLAY_BATCH_SIZE = 512;
+
+	private static final byte[] NEW_LINE = ToolConstants.NEW_LINE.getBytes(StandardCharsets.UTF_8);
+
+	// Compared by identity, marks end of log in the buffer
+	@SuppressWarnings("java:S2129")
+	private static final String END_OF_LOG = new String();
+
+	private static final Map<String, LogSink> openSinks = new ConcurrentHashMap<>();
+
+	private final Path path;
+
+	private final FileChannel channel;
+
+	private final BlockingQueue<String> buffer = new ArrayBlockingQueue<>(BUFFER_CAPACITY);
+
+	private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(FLUSH_SIZE_IN_BYTES);
+
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+	private final Queue<Subscription> pendingSubscriptions = new ConcurrentLinkedQueue<>();
+
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	private final Object lock = new Object();
+
+	private volatile boolean closing;
+
+	// Guarded by lock
+	private boolean terminated;
+
+	private boolean writeFailed;
+
+	private long lastFlushTime = System.currentTimeMillis();
+
+	private LogSink(Path path, FileChannel channel) {
+		this.path = path;
+		this.channel = channel;
+	}
+
+	/**
+	 * Opens sink appending to the log file, parent directories are created if missing
+	 * @param filePath
+	 * @return open sink, to be closed at the end of activity
+	 * @throws HyscaleException if file cannot be opened
+	 */
+	public static LogSink open(String filePath) throws HyscaleException {
+		if (filePath == null) {
+			throw new HyscaleException(CommonErrorCode.FAILED_TO_WRITE_FILE_DATA);
+		}
+		Path path = Paths.get(filePath).toAbsolutePath();
+		try {
+			if (path.getParent() != null) {
+				Files.createDirectories(path.getParent());
+			}
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND);
+			LogSink logSink = new LogSink(path, channel);
+			Thread writer = new Thread(logSink::drain, "log-sink-" + path.getFileName());
+			writer.setDaemon(true);
+			writer.start();
+			openSinks.put(path.toString(), logSink);
+			return logSink;
+		} catch (IOException e) {
+			logger.error("Failed to open log file {}", filePath, e);
+			throw new HyscaleException(e, CommonErrorCode.FAILED_TO_WRITE_FILE, filePath);
+		}
+	}
+
+	/**
+	 * @param filePath
+	 * @return sink currently writing to the file, null if none
+	 */
+	public static LogSink getOpenSink(String filePath) {
+		if (filePath == null) {
+			return null;
+		}
+		return openSinks.get(Paths.get(filePath).toAbsolutePath().toString());
+	}
+
+	/**
+	 * Queues line to be written, blocks while the buffer is full
+	 * @param line without line separator
+	 */
+	public void write(String line) {
+		if (line == null) {
+			return;
+		}
+		if (closing) {
+			logger.debug("Log sink {} is closed, ignoring line", path);
+			return;
+		}
+		try {
+			while (!buffer.offer(line, FLUSH_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (closing) {
+					logger.debug("Log sink {} is closed, ignoring line", path);
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.debug("Interrupted while writing to log sink {}", path);
+		}
+	}
+
+	/**
+	 * Subscribes to the log, lines already written are replayed before new lines.
+	 * Handler is invoked on the writer thread till it reports end of log or the sink is closed
+	 * @param handler
+	 * @return subscription, null if sink is already closed
+	 */
+	public Subscription subscribe(TailHandler handler) {
+		Subscription subscription = new Subscription(handler);
+		synchronized (lock) {
+			if (terminated) {
+				return null;
+			}
+			pendingSubscriptions.add(subscription);
+		}
+		return subscription;
+	}
+
+	/**
+	 * Writes pending lines, closes the file and completes all subscriptions
+	 */
+	@Override
+	public void close() {
+		if (!closing) {
+			closing = true;
+			// Wakes up the writer early, without it the writer ends on its next poll timeout
+			buffer.offer(END_OF_LOG);
+		}
+		try {
+			closed.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() {
+		List<String> lines = new ArrayList<>();
+		boolean end = false;
+		try {
+			while (!end) {
+				String line = buffer.poll(FLUSH_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+				attachSubscriptions();
+				if (line != null) {
+					lines.add(line);
+					buffer.drainTo(lines);
+				} else if (closing) {
+					buffer.drainTo(lines);
+					end = true;
+				}
+				int endIndex = indexOfEnd(lines);
+				if (endIndex >= 0) {
+					lines.subList(endIndex, lines.size()).clear();
+					end = true;
+				}
+				if (!lines.isEmpty()) {
+					append(lines);
+					publish(lines);
+					lines.clear();
+				}
+				if (System.currentTimeMillis() - lastFlushTime >= FLUSH_INTERVAL_IN_MILLIS) {
+					flush();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			terminate();
+		}
+	}
+
+	private static int indexOfEnd(List<String> lines) {
+		for (int i = lines.size() - 1; i >= 0; i--) {
+			if (lines.get(i) == END_OF_LOG) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void terminate() {
+		closing = true;
+		flush();
+		try {
+			channel.close();
+		} catch (IOException e) {
+			logger.debug("Error while closing log file {}", path, e);
+		}
+		openSinks.remove(path.toString(), this);
+		synchronized (lock) {
+			terminated = true;
+		}
+		attachSubscriptions();
+		subscriptions.forEach(Subscription::complete);
+		subscriptions.clear();
+		closed.countDown();
+	}
+
+	/**
+	 * Replays written lines to new subscribers, runs on the writer thread
+	 */
+	private void attachSubscriptions() {
+		Subscription subscription;
+		while ((subscription = pendingSubscriptions.poll()) != null) {
+			flush();
+			replay(subscription);
+			if (subscription.isActive()) {
+				subscriptions.add(subscription);
+			}
+		}
+	}
+
+	private void replay(Subscription subscription) {
+		List<String> lines = new ArrayList<>(REPLAY_BATCH_SIZE);
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null && subscription.isActive()) {
+				lines.add(line);
+				if (lines.size() == REPLAY_BATCH_SIZE) {
+					subscription.deliver(lines);
+					lines.clear();
+				}
+			}
+			if (!lines.isEmpty()) {
+				subscription.deliver(lines);
+			}
+		} catch (IOException e) {
+			logger.error("Error while replaying log file {}", path, e);
+		}
+	}
+
+	private void publish(List<String> lines) {
+		for (Subscription subscription : subscriptions) {
+			subscription.deliver(lines);
+			if (!subscription.isActive()) {
+				subscriptions.remove(subscription);
+			}
+		}
+	}
+
+	private void append(List<String> lines) {
+		if (writeFailed) {
+			return;
+		}
+		try {
+			for (String line : lines) {
+				encode(line);
+				if (byteBuffer.remaining() < NEW_LINE.length) {
+					write();
+				}
+				byteBuffer.put(NEW_LINE);
+			}
+		} catch (IOException e) {
+			writeFailed = true;
+			logger.error("Error while writing to log file {}, further lines are not written", path, e);
+		}
+	}
+
+	private void encode(String line) throws IOException {
+		CharBuffer chars = CharBuffer.wrap(line);
+		encoder.reset();
+		CoderResult result = encoder.encode(chars, byteBuffer, true);
+		while (result.isOverflow()) {
+			write();
+			result = encoder.encode(chars, byteBuffer, true);
+		}
+		while (encoder.flush(byteBuffer).isOverflow()) {
+			write();
+		}
+	}
+
+	private void flush() {
+		if (writeFailed) {
+			return;
+		}
+		try {
+			write();
+		} catch (IOException e) {
+			writeFailed = true;
+			logger.error("Error while writing to log file {}, further lines are not written", path, e);
+		}
+		lastFlushTime = System.currentTimeMillis();
+	}
+
+	private void write() throws IOException {
+		byteBuffer.flip();
+		while (byteBuffer.hasRemaining()) {
+			channel.write(byteBuffer);
+		}
+		byteBuffer.clear();
+	}
+
+	/**
+	 * In memory subscription to the log
+	 */
+	public static class Subscription {
+
+		private final TailHandler handler;
+
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		private volatile boolean active = true;
+
+		private Subscription(TailHandler handler) {
+			this.handler = handler;
+		}
+
+		/**
+		 * Waits till end of log is handled or sink is closed
+		 * @param timeout
+		 * @param unit
+		 * @return true if completed, false if timed out
+		 * @throws InterruptedException
+		 */
+		public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+			return completed.await(timeout, unit);
+		}
+
+		/**
+		 * Stops delivering lines to the handler
+		 */
+		public void cancel() {
+			complete();
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		private void deliver(List<String> lines) {
+			if (!active) {
+				return;
+			}
+			try {
+				if (handler.handleLines(lines)) {
+					complete();
+				}
+			} catch (RuntimeException e) {
+				logger.error("Error while handling log lines, unsubscribing", e);
+				complete();
+			}
+		}
+
+		private void complete() {
+			active = false;
+			completed.countDown();
+		}
+	}
+}
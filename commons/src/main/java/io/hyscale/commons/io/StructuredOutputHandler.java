@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,7 +34,8 @@ import java.util.List;
 @Component
 public class StructuredOutputHandler {
 
-    private List<String> errorMessages = new ArrayList<>();
+    // Specs are validated concurrently
+    private List<String> errorMessages = Collections.synchronizedList(new ArrayList<>());
 
     public void addErrorMessage(String message, String... args) {
         if (StringUtils.isEmpty(message)) {
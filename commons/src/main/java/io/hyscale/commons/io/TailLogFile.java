@@ -16,21 +16,60 @@
 package com.github.srujankujmar.commons.io;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.srujankujmar.commons.utils.TailHandler;
 
+/**
+ * Tails a log file and delivers new lines in batches to {@link TailHandler}.
+ * Waits on file system events of the parent directory, wait time is the fallback
+ * poll interval for file systems without change notification and until the
+ * parent directory is created.
+ * Content is read through a reusable direct buffer and decoded as UTF-8,
+ * lines handed to the handler are views over the decoded buffer.
+ */
 public class TailLogFile implements Runnable {
 
+	private static final Logger logger = LoggerFactory.getLogger(TailLogFile.class);
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private int delayMillis = 100;
-	private long lastKnownPosition = 0;
-	private boolean run = true;
+	private volatile boolean run = true;
 	private File logFile = null;
 	private TailHandler handler = null;
+	private volatile WatchService watchService;
+	private final CountDownLatch stopped = new CountDownLatch(1);
 
-	private static final String READ_ONLY = "r";
+	private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+	private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	private final LineBatch lineBatch = new LineBatch();
+	// Decoded chars before this index are known to hold no line separator
+	private int scannedChars = 0;
 
 	public TailLogFile(File logFile, int wait, TailHandler handler) {
 		this.delayMillis = wait;
@@ -45,62 +84,238 @@ public class TailLogFile implements Runnable {
 
 	public void stopRunning() {
 		run = false;
+		WatchService watcher = watchService;
+		if (watcher != null) {
+			try {
+				// Wakes up the tailing thread
+				watcher.close();
+			} catch (IOException e) {
+				logger.debug("Error while closing watch service of {}", logFile, e);
+			}
+		}
 	}
 
 	public boolean isRunning() {
 		return run;
 	}
 
+	/**
+	 * Waits for tailing to stop, either on end of log or on {@link #stopRunning()}
+	 * @param timeout
+	 * @param unit
+	 * @return true if tailing stopped, false if timed out
+	 * @throws InterruptedException
+	 */
+	public boolean awaitStop(long timeout, TimeUnit unit) throws InterruptedException {
+		return stopped.await(timeout, unit);
+	}
+
 	@SuppressWarnings("java:S106")
-	private void handle(String line) {
-		System.out.println(line);
+	private void handle(CharSequence line) {
+		System.out.append(line).println();
 	}
 
 	@Override
 	public void run() {
-		try {
+		Path path = logFile.toPath().toAbsolutePath();
+		FileChannel channel = null;
+		try (WatchService watcher = path.getFileSystem().newWatchService()) {
+			watchService = watcher;
+			WatchKey directoryKey = null;
 			while (run) {
-				long fileLength = logFile.length();
-				if (fileLength > lastKnownPosition) {
-					// Reading
-					readLogfile();
+				if (directoryKey == null || !directoryKey.isValid()) {
+					directoryKey = watchDirectory(watcher, path.getParent());
+				}
+				if (channel == null && Files.exists(path)) {
+					channel = FileChannel.open(path, StandardOpenOption.READ);
+				}
+				if (channel != null) {
+					readLogFile(channel);
+				}
+				if (run) {
+					awaitChange(watcher);
 				}
-				sleep();
 			}
-		} catch (Exception e) {
-			stopRunning();
+		} catch (ClosedWatchServiceException e) {
+			logger.debug("Stopped tailing {}", logFile);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			logger.error("Error while tailing {}", logFile, e);
+		} finally {
+			closeSilently(channel);
+			run = false;
+			stopped.countDown();
 		}
 	}
 
-	private void sleep() {
+	/**
+	 * @return key of the directory, null if the directory does not exist yet
+	 */
+	private WatchKey watchDirectory(WatchService watcher, Path directory) throws IOException {
 		try {
-			Thread.sleep(delayMillis);
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
+			return directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (NoSuchFileException e) {
+			logger.debug("Waiting for directory {} of {}", directory, logFile);
+			return null;
 		}
 	}
 
-	private void readLogfile() throws IOException {
-		try (RandomAccessFile readWriteFileAccess = new RandomAccessFile(logFile, READ_ONLY)){
-			readWriteFileAccess.seek(lastKnownPosition);
-			String fileLine = null;
-			while ((fileLine = readWriteFileAccess.readLine()) != null) {
-				if (handler == null) {
-					handle(fileLine);
-					continue;
-				}
-				handler.handleLine(fileLine);
-				if (handler.handleEOF(fileLine)) {
-					stopRunning();
-				}
+	private void awaitChange(WatchService watcher) throws InterruptedException {
+		WatchKey watchKey = watcher.poll(delayMillis, TimeUnit.MILLISECONDS);
+		if (watchKey != null) {
+			// Events of any file in the directory only trigger a read
+			watchKey.pollEvents();
+			watchKey.reset();
+		}
+	}
 
+	private void readLogFile(FileChannel channel) throws IOException {
+		if (channel.size() < channel.position()) {
+			// Truncated, log file is being rewritten
+			channel.position(0);
+		}
+		while (run && channel.read(byteBuffer) > 0) {
+			byteBuffer.flip();
+			boolean eof = decodeLines();
+			byteBuffer.compact();
+			if (eof) {
+				stopRunning();
 			}
-			lastKnownPosition = readWriteFileAccess.getFilePointer();
-		} catch (FileNotFoundException ex) {
-			sleep();
+		}
+	}
+
+	/**
+	 * Decodes the read bytes and delivers complete lines,
+	 * incomplete characters and lines are retained for the next read
+	 * @return true if handler reached end of log
+	 */
+	private boolean decodeLines() {
+		CoderResult result;
+		do {
+			result = decoder.decode(byteBuffer, charBuffer, false);
+			if (deliverLines()) {
+				return true;
+			}
+		} while (result.isOverflow());
+		return false;
+	}
+
+	private boolean deliverLines() {
+		char[] chars = charBuffer.array();
+		int limit = charBuffer.position();
+		int lineStart = 0;
+		lineBatch.clear();
+		for (int index = scannedChars; index < limit; index++) {
+			if (chars[index] == '\n') {
+				int lineEnd = index > lineStart && chars[index - 1] == '\r' ? index - 1 : index;
+				lineBatch.add(chars, lineStart, lineEnd);
+				lineStart = index + 1;
+			}
+		}
+		boolean eof = !lineBatch.isEmpty() && handleLines();
+		int remaining = limit - lineStart;
+		if (lineStart == 0 && !charBuffer.hasRemaining()) {
+			// Line longer than the buffer
+			charBuffer = CharBuffer.wrap(Arrays.copyOf(chars, chars.length * 2));
+		} else {
+			System.arraycopy(chars, lineStart, chars, 0, remaining);
+		}
+		charBuffer.position(remaining);
+		scannedChars = remaining;
+		return eof;
+	}
+
+	private boolean handleLines() {
+		if (handler == null) {
+			lineBatch.forEach(this::handle);
+			return false;
+		}
+		return handler.handleLines(lineBatch);
+	}
+
+	private static void closeSilently(FileChannel channel) {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
 		} catch (IOException e) {
-			throw e;
+			logger.debug("Error while closing log file channel", e);
+		}
+	}
+
+	/**
+	 * Lines of the current read, views are reused across reads
+	 */
+	private static class LineBatch extends AbstractList<CharSequence> {
+
+		private LineView[] views = new LineView[0];
+
+		private int size = 0;
+
+		void add(char[] chars, int start, int end) {
+			if (size == views.length) {
+				views = Arrays.copyOf(views, Math.max(16, size * 2));
+				for (int i = size; i < views.length; i++) {
+					views[i] = new LineView();
+				}
+			}
+			views[size++].set(chars, start, end);
+		}
+
+		@Override
+		public void clear() {
+			size = 0;
+		}
+
+		@Override
+		public CharSequence get(int index) {
+			if (index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			return views[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
 		}
 	}
 
+	private static class LineView implements CharSequence {
+
+		private char[] chars;
+
+		private int start;
+
+		private int end;
+
+		void set(char[] chars, int start, int end) {
+			this.chars = chars;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return chars[start + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			return new String(chars, start + from, to - from);
+		}
+
+		@Override
+		public String toString() {
+			return new String(chars, start, end - start);
+		}
+	}
 }
@@ -25,6 +25,9 @@ public class ActivityContext {
 
     private int remaining;
 
+    // Output buffer of the thread which started this activity, null when not buffering
+    private StringBuilder outputBuffer;
+
     public ActivityContext(Activity startActivity) {
         this.startActivity = startActivity;
         this.remaining = WorkflowLogger.LEFT_ALIGNED_PADDING - startActivity.getActivityMessage().length();
@@ -50,4 +53,12 @@ public class ActivityContext {
         this.remaining = remaining;
     }
 
+    StringBuilder getOutputBuffer() {
+        return outputBuffer;
+    }
+
+    void setOutputBuffer(StringBuilder outputBuffer) {
+        this.outputBuffer = outputBuffer;
+    }
+
 }
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.logger;
+
+/**
+ * Result or failure of a call run by {@link WorkflowLogger#callBuffered(java.util.function.Supplier)}
+ * together with the output it buffered
+ * @param <T> type of result
+ */
+public class Buffered<T> {
+
+    private final T result;
+
+    private final RuntimeException failure;
+
+    private final BufferedOutput output;
+
+    Buffered(T result, RuntimeException failure, BufferedOutput output) {
+        this.result = result;
+        this.failure = failure;
+        this.output = output;
+    }
+
+    /**
+     * @return result of the call
+     * @throws RuntimeException thrown by the call, to be called after its output is written
+     */
+    public T getResult() {
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * @return exception thrown by the call, null if it succeeded
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public BufferedOutput getOutput() {
+        return output;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.logger;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Output and persisted activities collected by {@link WorkflowLogger} while buffering
+ */
+public class BufferedOutput {
+
+    private final String output;
+
+    private final List<String> persistedActivities;
+
+    BufferedOutput(String output, List<String> persistedActivities) {
+        this.output = output;
+        this.persistedActivities = persistedActivities != null ? persistedActivities : Collections.emptyList();
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public List<String> getPersistedActivities() {
+        return persistedActivities;
+    }
+}
@@ -20,7 +20,9 @@ import com.github.srujankujmar.commons.models.Status;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 @SuppressWarnings("java:S106")
 public class WorkflowLogger {
@@ -34,7 +36,9 @@ public class WorkflowLogger {
     private static final Integer PADDING = 50;
     private static final String START_BRACES = "[";
     private static final String END_BRACES = "]";
-    private static final List<String> persistedActivities = new ArrayList<>();
+    private static final List<String> persistedActivities = Collections.synchronizedList(new ArrayList<>());
+    private static final ThreadLocal<StringBuilder> outputBuffer = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> bufferedActivities = new ThreadLocal<>();
 
     private static boolean disabled;
 
@@ -44,17 +48,17 @@ public class WorkflowLogger {
         if(isDisabled()){
             return;
         }
-        System.out.println();
-        System.out.println(STARS + getPaddedHeader(String.format(getActivity(activity), args)) + STARS);
-        System.out.println();
+        println();
+        println(STARS + getPaddedHeader(String.format(getActivity(activity), args)) + STARS);
+        println();
     }
 
     public static void footer() {
         if(isDisabled()){
             return;
         }
-        System.out.println();
-        System.out.println(STARS + STARS + STARS + STARS);
+        println();
+        println(STARS + STARS + STARS + STARS);
     }
 
     public static void info(Activity activity, String... args) {
@@ -88,14 +92,14 @@ public class WorkflowLogger {
         StringBuilder sb = new StringBuilder();
         sb.append(LoggerTags.ACTION.getTag()).append(ALIGNEMENT_SPACES);
         sb.append(getLeftAlignedActivity(getFormattedMessage(activity, args)));
-        System.out.print(sb.toString());
+        print(sb.toString());
     }
 
     public static void continueActivity() {
         if(isDisabled()){
             return;
         }
-        System.out.print(CONTINUATION_DOTS);
+        print(CONTINUATION_DOTS);
     }
 
     public static void endActivity(Status status, String... args) {
@@ -106,28 +110,28 @@ public class WorkflowLogger {
         sb.append(ALIGNEMENT_SPACES).append(START_BRACES);
         sb.append(String.format(status.getMessage(), args));
         sb.append(END_BRACES);
-        System.out.println(sb.toString());
+        println(sb.toString());
     }
 
     public static void logTable(TableFormatter tableFormatter) {
         if(isDisabled()){
             return;
         }
-        System.out.print(tableFormatter.toString());
+        print(tableFormatter.toString());
     }
 
     public static void logTableRow(TableFormatter tableFormatter, String[] row) {
         if(isDisabled()){
             return;
         }
-        System.out.println(tableFormatter.getFormattedRow(row));
+        println(tableFormatter.getFormattedRow(row));
     }
 
     public static void logTableFields(TableFormatter tableFormatter) {
         if(isDisabled()){
             return;
         }
-        System.out.println(tableFormatter.getFormattedFields());
+        println(tableFormatter.getFormattedFields());
     }
 
     private static String getActivityMessage(Activity activity, LoggerTags tag, String... args) {
@@ -144,7 +148,7 @@ public class WorkflowLogger {
         if(isDisabled()){
             return;
         }
-        System.out.println(getActivityMessage(activity, tag, args));
+        println(getActivityMessage(activity, tag, args));
 
     }
 
@@ -197,10 +201,11 @@ public class WorkflowLogger {
         }
         if (context != null) {
             context.setStartTime(System.currentTimeMillis());
+            context.setOutputBuffer(outputBuffer.get());
             StringBuilder sb = new StringBuilder();
             sb.append(LoggerTags.ACTION.getTag()).append(ALIGNEMENT_SPACES);
             sb.append(getFormattedMessage(context.getStartActivity(), args));
-            System.out.print(sb.toString());
+            print(sb.toString());
         }
     }
 
@@ -211,7 +216,7 @@ public class WorkflowLogger {
         if (context != null) {
             int remaining = context.getRemaining();
             if (context.getRemaining() > 0) {
-                System.out.print(CONTINUATION_DOTS);
+                print(context.getOutputBuffer(), CONTINUATION_DOTS);
                 context.setRemaining(--remaining);
             }
         } else {
@@ -227,7 +232,7 @@ public class WorkflowLogger {
             int remaining = context.getRemaining();
             if (remaining > 0) {
                 for (int i = 0; i < remaining; i++) {
-                    System.out.print(CONTINUATION_DOTS);
+                    print(context.getOutputBuffer(), CONTINUATION_DOTS);
                 }
                 context.setRemaining(0);
             }
@@ -241,7 +246,7 @@ public class WorkflowLogger {
     
     public static void persist(Activity activity, LoggerTags loggerTags, String... args) {
         if (activity != null) {
-            persistedActivities.add(getActivityMessage(activity, loggerTags, args));
+            getPersistedActivities().add(getActivityMessage(activity, loggerTags, args));
         }
     }
 
@@ -249,11 +254,12 @@ public class WorkflowLogger {
         if(isDisabled()){
             return;
         }
-        if (!persistedActivities.isEmpty()) {
-            persistedActivities.stream().filter(StringUtils::isNotBlank).forEach(System.out::println);
-            System.out.println();
+        List<String> activities = getPersistedActivities();
+        if (!activities.isEmpty()) {
+            activities.stream().filter(StringUtils::isNotBlank).forEach(WorkflowLogger::println);
+            println();
         }
-        persistedActivities.clear();
+        activities.clear();
     }
 
     public static boolean isDisabled() {
@@ -268,7 +274,99 @@ public class WorkflowLogger {
         if(isDisabled()){
             return;
         }
-        System.out.println(message);
+        println(message);
+    }
+
+    /**
+     * Starts collecting the output of the current thread instead of writing it to console.
+     * Activities persisted while buffering are kept per thread as well.
+     * Used to run workflows in parallel and print their output one after the other
+     */
+    public static void startBuffering() {
+        outputBuffer.set(new StringBuilder());
+        bufferedActivities.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops buffering for the current thread
+     * @return output and activities persisted since {@link #startBuffering()}
+     */
+    public static BufferedOutput stopBuffering() {
+        StringBuilder buffer = outputBuffer.get();
+        List<String> activities = bufferedActivities.get();
+        outputBuffer.remove();
+        bufferedActivities.remove();
+        if (buffer == null) {
+            return new BufferedOutput(StringUtils.EMPTY, activities);
+        }
+        synchronized (buffer) {
+            return new BufferedOutput(buffer.toString(), activities);
+        }
+    }
+
+    /**
+     * Runs the call with the output of the current thread buffered.
+     * Output is kept even if the call fails, so that callers write outputs of
+     * all calls in order before handling the failure
+     * @param call
+     * @return result or failure of the call and its buffered output, to be written with {@link #flush(BufferedOutput)}
+     */
+    public static <T> Buffered<T> callBuffered(Supplier<T> call) {
+        startBuffering();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            return new Buffered<>(null, e, stopBuffering());
+        }
+        return new Buffered<>(result, null, stopBuffering());
+    }
+
+    /**
+     * Writes buffered output as is and adds its persisted activities to
+     * those of the current thread. When the current thread is buffering
+     * output goes to its buffer
+     * @param bufferedOutput
+     */
+    public static void flush(BufferedOutput bufferedOutput) {
+        if (bufferedOutput == null) {
+            return;
+        }
+        getPersistedActivities().addAll(bufferedOutput.getPersistedActivities());
+        if (isDisabled() || StringUtils.isEmpty(bufferedOutput.getOutput())) {
+            return;
+        }
+        print(bufferedOutput.getOutput());
+        if (outputBuffer.get() == null) {
+            System.out.flush();
+        }
+    }
+
+    private static List<String> getPersistedActivities() {
+        List<String> activities = bufferedActivities.get();
+        return activities != null ? activities : persistedActivities;
+    }
+
+    private static void println() {
+        print(System.lineSeparator());
+    }
+
+    private static void println(String message) {
+        print(message + System.lineSeparator());
+    }
+
+    private static void print(String message) {
+        print(outputBuffer.get(), message);
+    }
+
+    private static void print(StringBuilder buffer, String message) {
+        if (buffer == null) {
+            System.out.print(message);
+            return;
+        }
+        synchronized (buffer) {
+            buffer.append(message);
+        }
     }
 
 }
@@ -28,6 +28,7 @@ public enum AnnotationKey {
     DEFAULT_BETA_STORAGE_CLASS("storageclass.beta.kubernetes.io/is-default-class"),
     LAST_UPDATED_AT("hyscale.io/last-updated-at"),
     CHECKSUM("hyscale.io/checksum"),
+    MANIFEST_DIGEST("hyscale.io/manifest-digest"),
     HYSCALE_APPLIED_KINDS("hyscale.io/applied-kinds");
     
 
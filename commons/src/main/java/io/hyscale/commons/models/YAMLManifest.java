@@ -16,19 +16,73 @@
 package com.github.srujankujmar.commons.models;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generated yaml manifest, carries the manifest content in memory.
+ * The manifest file is written asynchronously, {@link #getManifest()} waits for it.
+ * Consumers are expected to read the content or the parsed resource instead of the file
+ */
 public class YAMLManifest implements Manifest {
 
-	private File manifest;
+	private CompletableFuture<File> manifest = CompletableFuture.completedFuture(null);
+
+	private String yaml;
+
+	private ObjectNode manifestNode;
 
+	// Kubernetes model parsed from the manifest by the deployer, shared by its consumers
+	private volatile Object resource;
+
+	/**
+	 * @return manifest file once written, null if it could not be written
+	 */
 	public File getManifest() {
-		return manifest;
+		try {
+			return manifest.join();
+		} catch (CompletionException e) {
+			return null;
+		}
 	}
 
 	public void setManifest(File manifest) {
+		this.manifest = CompletableFuture.completedFuture(manifest);
+	}
+
+	public void setManifest(CompletableFuture<File> manifest) {
 		this.manifest = manifest;
 	}
 
+	public String getYaml() {
+		return yaml;
+	}
+
+	public void setYaml(String yaml) {
+		this.yaml = yaml;
+	}
+
+	/**
+	 * @return manifest as tree, must not be modified
+	 */
+	public ObjectNode getManifestNode() {
+		return manifestNode;
+	}
+
+	public void setManifestNode(ObjectNode manifestNode) {
+		this.manifestNode = manifestNode;
+	}
+
+	public Object getResource() {
+		return resource;
+	}
+
+	public void setResource(Object resource) {
+		this.resource = resource;
+	}
+
 	@Override
 	public ManifestType getManifestType() {
 		return ManifestType.YAML;
@@ -15,6 +15,8 @@
  */
 package com.github.srujankujmar.commons.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.srujankujmar.commons.exception.CommonErrorCode;
 import com.github.srujankujmar.commons.exception.HyscaleException;
@@ -77,4 +79,46 @@ public class DataFormatConverter {
         }
     }
 
+    /**
+     * Parses the given yaml to a json tree without intermediate json string.
+     *
+     * @param yaml String input
+     * @return JsonNode, null if yaml is blank
+     * @throws HyscaleException if yaml is not valid
+     */
+    public static JsonNode yamlToJsonNode(String yaml) throws HyscaleException {
+        if (StringUtils.isBlank(yaml)) {
+            return null;
+        }
+        try {
+            return ObjectMapperFactory.yamlMapper().readTree(yaml);
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage());
+            throw new HyscaleException(e, CommonErrorCode.YAML_TO_JSON_CONVERSION_FAILURE, e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the given yaml file to a json tree without intermediate json string.
+     *
+     * @param file
+     * @return JsonNode, null if file is null or has no content
+     * @throws HyscaleException if file cannot be read or is not valid yaml
+     */
+    public static JsonNode yamlToJsonNode(File file) throws HyscaleException {
+        if (file == null) {
+            return null;
+        }
+        try {
+            JsonNode jsonNode = ObjectMapperFactory.yamlMapper().readTree(file);
+            return jsonNode == null || jsonNode.isMissingNode() ? null : jsonNode;
+        } catch (JsonProcessingException e) {
+            LOGGER.error(e.getMessage());
+            throw new HyscaleException(e, CommonErrorCode.YAML_TO_JSON_CONVERSION_FAILURE, e.getMessage());
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage());
+            throw new HyscaleException(e, CommonErrorCode.FAILED_TO_READ_FILE, file.getPath());
+        }
+    }
+
 }
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digests in lower case hex, as used for content digests and fingerprints
+ */
+public class DigestUtil {
+
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private DigestUtil() {}
+
+    public static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param content
+     * @return hex digest of UTF-8 bytes of content, null if content is null
+     */
+    public static String digest(String content) {
+        if (content == null) {
+            return null;
+        }
+        return toHex(newMessageDigest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX_CHARS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+}
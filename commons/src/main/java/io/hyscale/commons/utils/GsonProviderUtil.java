@@ -25,6 +25,8 @@ public class GsonProviderUtil {
 
     private static final Gson PRETTY_JSON_BUILDER = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
 
+    private static final Gson COMPACT_JSON_BUILDER = new GsonBuilder().disableHtmlEscaping().create();
+
     private GsonProviderUtil() {
         throw new IllegalStateException("Utility class");
     }
@@ -37,4 +39,12 @@ public class GsonProviderUtil {
         return PRETTY_JSON_BUILDER;
     }
 
+    /**
+     * used for building json objects without whitespaces.
+     * @return COMPACT_JSON_BUILDER.
+     */
+    public static Gson getCompactGsonBuilder() {
+        return COMPACT_JSON_BUILDER;
+    }
+
 }
@@ -15,9 +15,29 @@
  */
 package com.github.srujankujmar.commons.utils;
 
+import java.util.List;
+
 public interface TailHandler {
 
 	public void handleLine(String line);
 
 	public boolean handleEOF(String line);
+
+	/**
+	 * Handles lines read together from the log.
+	 * Lines are views over the read buffer, valid only until this method returns
+	 * 
+	 * @param lines
+	 * @return true if end of log is reached, remaining lines are not handled
+	 */
+	public default boolean handleLines(List<? extends CharSequence> lines) {
+		for (CharSequence line : lines) {
+			String value = line.toString();
+			handleLine(value);
+			if (handleEOF(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.framework.patch;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+
+/**
+ * Compares indexed tree merge with the javax.json set based merge
+ * on a service spec and profile with props, volumes and ports.
+ * Run with the main method from the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategicPatchBenchmark {
+
+    private static final Map<String, String> mergeKeys = Map.of("volumes", "name", "ports", "port");
+
+    private static final FieldMetaDataProvider fieldDataProvider = field -> {
+        FieldMetaData fieldMetaData = new FieldMetaData();
+        fieldMetaData.setKey(mergeKeys.get(field));
+        return fieldMetaData;
+    };
+
+    @Param({ "100", "500" })
+    private int props;
+
+    @Param({ "50", "200" })
+    private int volumes;
+
+    private ObjectNode sourceNode;
+
+    private ObjectNode patchNode;
+
+    private String source;
+
+    private String patch;
+
+    @Setup
+    public void init() {
+        sourceNode = buildSpec(0);
+        // Profile overrides half of the entries and adds as many new ones
+        patchNode = buildSpec(props / 2);
+        source = sourceNode.toString();
+        patch = patchNode.toString();
+    }
+
+    @Benchmark
+    public JsonNode indexedTreeMerge() throws HyscaleException {
+        return StrategicPatch.mergeJsonNodes(sourceNode, patchNode, fieldDataProvider);
+    }
+
+    @Benchmark
+    public String indexedStringMerge() throws HyscaleException {
+        return StrategicPatch.apply(source, patch, fieldDataProvider);
+    }
+
+    @Benchmark
+    public String legacyStringMerge() throws HyscaleException {
+        try (JsonReader sourceReader = Json.createReader(new StringReader(source));
+                JsonReader patchReader = Json.createReader(new StringReader(patch))) {
+            return legacyMerge(sourceReader.readObject(), patchReader.readObject()).toString();
+        }
+    }
+
+    /**
+     * Set based merge with linear key lookup as done before indexed merge
+     */
+    private JsonObject legacyMerge(JsonObject source, JsonObject patch) throws HyscaleException {
+        Map<String, JsonValue> effectiveMap = new HashMap<>(source);
+        for (Entry<String, JsonValue> entry : patch.entrySet()) {
+            String key = entry.getKey();
+            JsonValue value = entry.getValue();
+            JsonValue sourceValue = source.get(key);
+            if (sourceValue == null || value.getValueType() != sourceValue.getValueType()
+                    || (value.getValueType() != ValueType.ARRAY && value.getValueType() != ValueType.OBJECT)) {
+                effectiveMap.put(key, value);
+            } else if (value.getValueType() == ValueType.ARRAY) {
+                JsonArray sourceArray = sourceValue.asJsonArray();
+                Set<JsonValue> elements = new HashSet<>(sourceArray);
+                for (JsonValue patchValue : value.asJsonArray()) {
+                    if (patchValue instanceof JsonObject) {
+                        String mergeKey = fieldDataProvider.getMetaData(key).getKey();
+                        JsonObject sourceObj = getKeyObject(sourceArray, mergeKey,
+                                patchValue.asJsonObject().get(mergeKey));
+                        if (sourceObj != null) {
+                            elements.remove(sourceObj);
+                        }
+                        elements.add(sourceObj == null ? patchValue.asJsonObject()
+                                : legacyMerge(sourceObj, patchValue.asJsonObject()));
+                    } else {
+                        elements.add(patchValue);
+                    }
+                }
+                JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+                elements.forEach(arrayBuilder::add);
+                effectiveMap.put(key, arrayBuilder.build());
+            } else {
+                effectiveMap.put(key, legacyMerge(sourceValue.asJsonObject(), value.asJsonObject()));
+            }
+        }
+        JsonObjectBuilder objBuilder = Json.createObjectBuilder();
+        effectiveMap.forEach(objBuilder::add);
+        return objBuilder.build();
+    }
+
+    private JsonObject getKeyObject(JsonArray objList, String key, JsonValue value) {
+        for (JsonValue object : objList) {
+            if (value.equals(object.asJsonObject().get(key))) {
+                return object.asJsonObject();
+            }
+        }
+        return null;
+    }
+
+    private ObjectNode buildSpec(int offset) {
+        ObjectNode spec = JsonNodeFactory.instance.objectNode();
+        spec.put("name", "benchmark");
+        spec.put("replicas", 1);
+        ObjectNode propsNode = spec.putObject("props");
+        for (int i = offset; i < offset + props; i++) {
+            propsNode.put("PROP_" + i, "value-" + i + "-" + offset);
+        }
+        ArrayNode volumesNode = spec.putArray("volumes");
+        ArrayNode portsNode = spec.putArray("ports");
+        for (int i = offset / 2; i < offset / 2 + volumes; i++) {
+            volumesNode.addObject().put("name", "volume-" + i).put("path", "/data/" + i).put("size",
+                    (offset > 0 ? 2 : 1) + "Gi");
+            portsNode.addObject().put("port", (8000 + i) + "/tcp").putObject("healthCheck").put("httpPath",
+                    "/health/" + offset);
+        }
+        return spec;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(StrategicPatchBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
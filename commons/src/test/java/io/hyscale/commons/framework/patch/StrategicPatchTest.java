@@ -21,9 +21,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -32,6 +35,7 @@ import javax.json.JsonObject;
 
 import org.json.JSONException;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -41,6 +45,9 @@ import com.github.srujankujmar.commons.exception.CommonErrorCode;
 import com.github.srujankujmar.commons.exception.HyscaleError;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.io.HyscaleFilesUtil;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class StrategicPatchTest {
 
@@ -119,6 +126,24 @@ public class StrategicPatchTest {
         }
     }
 
+    @Test
+    public void testMergePreservesOrder() throws HyscaleException, IOException {
+        ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
+        JsonNode source = mapper.readTree(
+                "{\"a\":1,\"patchTestModelList\":[{\"key\":\"k1\",\"v\":1},{\"key\":\"k2\",\"v\":2},{\"key\":\"k3\",\"v\":3}],\"list\":[\"x\",\"y\"]}");
+        JsonNode patch = mapper.readTree(
+                "{\"b\":2,\"patchTestModelList\":[{\"key\":\"k4\",\"v\":4},{\"key\":\"k2\",\"v\":20}],\"list\":[\"y\",\"z\"]}");
+        JsonNode merged = StrategicPatch.apply(source, patch, new TestFieldDataProvider());
+        assertEquals(mapper.readTree(
+                "{\"a\":1,\"patchTestModelList\":[{\"key\":\"k1\",\"v\":1},{\"key\":\"k2\",\"v\":20},{\"key\":\"k3\",\"v\":3},{\"key\":\"k4\",\"v\":4}],\"list\":[\"x\",\"y\",\"z\"],\"b\":2}"),
+                merged);
+        List<String> fields = new ArrayList<>();
+        merged.fieldNames().forEachRemaining(fields::add);
+        assertEquals(List.of("a", "patchTestModelList", "list", "b"), fields);
+        // Source is not modified
+        assertEquals(2, source.get("patchTestModelList").get(1).get("v").asInt());
+    }
+
     private static String getData(String path) throws HyscaleException {
         URL urlPath = StrategicPatchTest.class.getResource(path);
         return HyscaleFilesUtil.readFileData(new File(urlPath.getFile()));
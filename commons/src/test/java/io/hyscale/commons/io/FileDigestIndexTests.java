@@ -0,0 +1,93 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+
+public class FileDigestIndexTests {
+
+    private static final String EMPTY_DIGEST = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testDigest() throws HyscaleException, IOException {
+        Path file = Files.createFile(tempDir.toPath().resolve("empty"));
+        FileDigestIndex index = FileDigestIndex.load(new File(tempDir, "index").getPath());
+        Assertions.assertEquals(EMPTY_DIGEST, index.getDigest(file.toFile()));
+        Files.write(file, "content".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertNotEquals(EMPTY_DIGEST, index.getDigest(file.toFile()));
+        Assertions.assertEquals(FileDigestIndex.digest(file), index.getDigest(file.toFile()));
+    }
+
+    @Test
+    public void testSavedDigestReused() throws HyscaleException, IOException {
+        Path file = tempDir.toPath().resolve("artifact");
+        Files.write(file, "version-1".getBytes(StandardCharsets.UTF_8));
+        // Modified well before hashing
+        FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+        Files.setLastModifiedTime(file, lastModified);
+        String indexPath = new File(tempDir, "cache/index").getPath();
+        FileDigestIndex index = FileDigestIndex.load(indexPath);
+        String digest = index.getDigest(file.toFile());
+        index.save();
+
+        // Same size and modified time, digest is taken from the index without reading the file
+        Files.write(file, "version-2".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+        Assertions.assertEquals(digest, FileDigestIndex.load(indexPath).getDigest(file.toFile()));
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        Assertions.assertEquals(FileDigestIndex.digest(file), FileDigestIndex.load(indexPath).getDigest(file.toFile()));
+        Assertions.assertNotEquals(digest, FileDigestIndex.digest(file));
+    }
+
+    @Test
+    public void testRacyDigestRehashed() throws HyscaleException, IOException {
+        Path file = tempDir.toPath().resolve("artifact");
+        Files.write(file, "version-1".getBytes(StandardCharsets.UTF_8));
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        String indexPath = new File(tempDir, "cache/index").getPath();
+        FileDigestIndex index = FileDigestIndex.load(indexPath);
+        String digest = index.getDigest(file.toFile());
+        index.save();
+
+        // Modified within the same modified time as hashing, file is read again
+        Files.write(file, "version-2".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, lastModified);
+        Assertions.assertNotEquals(digest, index.getDigest(file.toFile()));
+        Assertions.assertEquals(FileDigestIndex.digest(file), index.getDigest(file.toFile()));
+        Assertions.assertEquals(FileDigestIndex.digest(file), FileDigestIndex.load(indexPath).getDigest(file.toFile()));
+    }
+
+    @Test
+    public void testMissingFile() {
+        FileDigestIndex index = FileDigestIndex.load(new File(tempDir, "index").getPath());
+        Assertions.assertThrows(HyscaleException.class, () -> index.getDigest(new File(tempDir, "missing")));
+    }
+}
@@ -28,7 +28,9 @@ import org.junit.jupiter.api.Nested;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -165,6 +167,41 @@ public class LogProcessorTests {
             Assertions.assertEquals(loggedLines, lines);
         }
 
+        @Test
+        public void testTailPartialWrites() throws IOException, InterruptedException {
+            List<String> lines = Stream.of("build étape 1", "日本語 log", "EXIT").collect(Collectors.toList());
+            byte[] content = String.join("\r\n", lines).concat("\n").getBytes(ENCODING);
+            TailLogFile tailLogFile = logProcessor.tailLogFile(file, tailLogTestHandler);
+            // Split within a multi byte character and within a line
+            int split = "build é".getBytes(ENCODING).length - 1;
+            try (OutputStream outputStream = new FileOutputStream(file, true)) {
+                outputStream.write(content, 0, split);
+                outputStream.flush();
+                Thread.sleep(200);
+                outputStream.write(content, split, content.length - split);
+            }
+            Assertions.assertTrue(tailLogFile.awaitStop(2, TimeUnit.SECONDS), "Tail timed out ,End of file did not match.");
+            Assertions.assertEquals(lines, tailLogTestHandler.getLines());
+        }
+
+        @Test
+        public void testTailMissingDirectory() throws IOException, InterruptedException {
+            File directory = new File(Files.createTempDirectory("tail").toFile(), "logs");
+            File logFile = new File(directory, "build.log");
+            TailLogFile tailLogFile = new TailLogFile(logFile, 50, tailLogTestHandler);
+            Thread tailThread = new Thread(tailLogFile);
+            tailThread.start();
+            Thread.sleep(200);
+            Assertions.assertTrue(tailLogFile.isRunning());
+
+            // Directory and log file are created after tailing started
+            directory.mkdirs();
+            FileUtils.writeStringToFile(logFile, "created later\nEXIT\n", ENCODING);
+            Assertions.assertTrue(tailLogFile.awaitStop(2, TimeUnit.SECONDS), "Tail timed out ,End of file did not match.");
+            Assertions.assertEquals(List.of("created later", "EXIT"), tailLogTestHandler.getLines());
+            FileUtils.deleteDirectory(directory.getParentFile());
+        }
+
         @Test
         public void testNullConditionsForTail() {
             Assertions.assertNull(logProcessor.tailLogFile(null, tailLogTestHandler));
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.TailHandler;
+
+public class LogSinkTests {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testWriteOnClose() throws HyscaleException, IOException {
+        File logFile = new File(tempDir, "build/build.log");
+        LogSink logSink = LogSink.open(logFile.getPath());
+        Assertions.assertSame(logSink, LogSink.getOpenSink(logFile.getPath()));
+        for (int i = 0; i < 20000; i++) {
+            logSink.write("line " + i);
+        }
+        logSink.write("");
+        logSink.write("done ✓");
+        logSink.close();
+        Assertions.assertNull(LogSink.getOpenSink(logFile.getPath()));
+        List<String> lines = Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(20002, lines.size());
+        Assertions.assertEquals("line 19999", lines.get(19999));
+        Assertions.assertEquals("", lines.get(20000));
+        Assertions.assertEquals("done ✓", lines.get(20001));
+    }
+
+    @Test
+    public void testSubscribeReplaysWrittenLines() throws HyscaleException, InterruptedException {
+        File logFile = new File(tempDir, "push.log");
+        LogSink logSink = LogSink.open(logFile.getPath());
+        logSink.write("first");
+        List<String> received = new ArrayList<>();
+        TailHandler handler = new TailHandler() {
+            @Override
+            public void handleLine(String line) {
+                received.add(line);
+            }
+
+            @Override
+            public boolean handleEOF(String line) {
+                return "last".equals(line);
+            }
+        };
+        LogSink.Subscription subscription = logSink.subscribe(handler);
+        Assertions.assertNotNull(subscription);
+        logSink.write("second");
+        logSink.write("last");
+        logSink.write("ignored");
+        Assertions.assertTrue(subscription.await(10, TimeUnit.SECONDS));
+        logSink.close();
+        Assertions.assertEquals(List.of("first", "second", "last"), received);
+        Assertions.assertNull(logSink.subscribe(handler));
+    }
+
+    @Test
+    public void testInterruptedCloseTerminates() throws HyscaleException, InterruptedException {
+        File logFile = new File(tempDir, "interrupted.log");
+        LogSink logSink = LogSink.open(logFile.getPath());
+        LogSink.Subscription subscription = logSink.subscribe(new TailHandler() {
+            @Override
+            public void handleLine(String line) {
+            }
+
+            @Override
+            public boolean handleEOF(String line) {
+                return false;
+            }
+        });
+        Assertions.assertNotNull(subscription);
+        logSink.write("line");
+        Thread.currentThread().interrupt();
+        logSink.close();
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertTrue(subscription.await(10, TimeUnit.SECONDS));
+        Assertions.assertNull(LogSink.getOpenSink(logFile.getPath()));
+        logSink.write("ignored");
+    }
+}
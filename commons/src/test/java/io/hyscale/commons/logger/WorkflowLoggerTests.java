@@ -0,0 +1,96 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.logger;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.models.Activity;
+import com.github.srujankujmar.commons.models.Status;
+
+public class WorkflowLoggerTests {
+
+    private static final Activity BUFFER_ACTIVITY = () -> "Buffered activity {}";
+
+    @Test
+    public void bufferedOutputTest() {
+        WorkflowLogger.startBuffering();
+        WorkflowLogger.info(BUFFER_ACTIVITY, "info");
+        WorkflowLogger.persist(BUFFER_ACTIVITY, "persisted");
+        WorkflowLogger.logPersistedActivities();
+        String output = WorkflowLogger.stopBuffering().getOutput();
+
+        Assertions.assertTrue(output.contains("Buffered activity info"));
+        Assertions.assertTrue(output.contains("Buffered activity persisted"));
+        Assertions.assertEquals("", WorkflowLogger.stopBuffering().getOutput());
+    }
+
+    @Test
+    public void activityContextBufferTest() {
+        WorkflowLogger.startBuffering();
+        ActivityContext activityContext = new ActivityContext(BUFFER_ACTIVITY);
+        WorkflowLogger.startActivity(activityContext);
+        // Continuation from another thread goes to the buffer of the activity
+        CompletableFuture.runAsync(() -> WorkflowLogger.continueActivity(activityContext)).join();
+        WorkflowLogger.endActivity(activityContext, Status.DONE);
+        String output = WorkflowLogger.stopBuffering().getOutput();
+
+        Assertions.assertTrue(output.startsWith(LoggerTags.ACTION.getTag()));
+        Assertions.assertTrue(output.contains(".."));
+        Assertions.assertTrue(output.trim().endsWith("[" + Status.DONE.getMessage() + "]"));
+    }
+
+    @Test
+    public void nestedFlushTest() {
+        WorkflowLogger.startBuffering();
+        BufferedOutput[] workerOutput = new BufferedOutput[1];
+        CompletableFuture.runAsync(() -> {
+            WorkflowLogger.startBuffering();
+            WorkflowLogger.info(BUFFER_ACTIVITY, "worker");
+            WorkflowLogger.persist(BUFFER_ACTIVITY, "worker persisted");
+            workerOutput[0] = WorkflowLogger.stopBuffering();
+        }).join();
+        WorkflowLogger.flush(workerOutput[0]);
+        WorkflowLogger.logPersistedActivities();
+        String output = WorkflowLogger.stopBuffering().getOutput();
+
+        Assertions.assertTrue(output.indexOf("Buffered activity worker") < output.indexOf("Buffered activity worker persisted"));
+        Assertions.assertTrue(output.contains("Buffered activity worker persisted"));
+    }
+
+    @Test
+    public void callBufferedTest() {
+        Buffered<String> buffered = WorkflowLogger.callBuffered(() -> {
+            WorkflowLogger.info(BUFFER_ACTIVITY, "called");
+            return "result";
+        });
+        Assertions.assertEquals("result", buffered.getResult());
+        Assertions.assertTrue(buffered.getOutput().getOutput().contains("Buffered activity called"));
+
+        Buffered<String> failed = WorkflowLogger.callBuffered(() -> {
+            WorkflowLogger.info(BUFFER_ACTIVITY, "failed");
+            throw new IllegalStateException();
+        });
+        // Output of a failed call is kept to be written in order
+        Assertions.assertTrue(failed.getOutput().getOutput().contains("Buffered activity failed"));
+        Assertions.assertTrue(failed.getFailure() instanceof IllegalStateException);
+        Assertions.assertThrows(IllegalStateException.class, failed::getResult);
+        // Buffering is stopped after a failed call
+        Assertions.assertEquals("", WorkflowLogger.stopBuffering().getOutput());
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.commons.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DigestUtilTests {
+
+    @Test
+    public void testDigest() {
+        Assertions.assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", DigestUtil.digest(""));
+        Assertions.assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", DigestUtil.digest("abc"));
+        Assertions.assertNull(DigestUtil.digest(null));
+    }
+
+    @Test
+    public void testToHex() {
+        Assertions.assertEquals("000fa0ff", DigestUtil.toHex(new byte[] { 0x00, 0x0f, (byte) 0xa0, (byte) 0xff }));
+        Assertions.assertEquals("", DigestUtil.toHex(new byte[0]));
+    }
+}
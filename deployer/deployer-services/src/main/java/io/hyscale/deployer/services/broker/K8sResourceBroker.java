@@ -85,6 +85,10 @@ public class K8sResourceBroker {
                 lifeCycleHandler.delete(apiClient, objectMeta.getName(), resourceNamespace, true);
                 lifeCycleHandler.create(apiClient, obj, resourceNamespace);
                 break;
+            case SERVER_SIDE_APPLY:
+                // Creates or updates resource, no fallback as apply does not depend on cluster state
+                lifeCycleHandler.apply(apiClient, obj, resourceNamespace);
+                break;
         }
     }
 
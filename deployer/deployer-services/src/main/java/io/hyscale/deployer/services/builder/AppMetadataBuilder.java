@@ -18,6 +18,7 @@ package com.github.srujankujmar.deployer.services.builder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -25,58 +26,64 @@ import org.springframework.stereotype.Component;
 
 import com.github.srujankujmar.commons.utils.ResourceLabelUtil;
 import com.github.srujankujmar.deployer.core.model.AppMetadata;
-import com.github.srujankujmar.deployer.core.model.ResourceKind;
-import com.github.srujankujmar.deployer.services.model.PodParent;
-import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import io.kubernetes.client.openapi.models.V1StatefulSet;
 
 @Component
 public class AppMetadataBuilder {
 
     /**
+     * @return accumulator to build {@link AppMetadata} as pod parent metadata is streamed
+     */
+    public Accumulator accumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * Accumulates pod parent metadata per namespace, not thread safe.
      * Gets app and service name from labels of pod parent generated by hyscale
      * For pod controller not deployed with hyscale AppMetadata with only namespace will be returned
-     * @param podParentList
-     * @return List of {@link AppMetadata} containing details of deployed apps
      */
-    public List<AppMetadata> build(List<PodParent> podParentList) {
-        Map<String, AppMetadata> mapping = new HashMap<>();
+    public static class Accumulator implements Consumer<V1ObjectMeta> {
 
-        podParentList.forEach(podParent -> {
-            V1ObjectMeta metadata = null;
-            
-            if (ResourceKind.DEPLOYMENT.getKind().equalsIgnoreCase(podParent.getKind())) {
-                metadata = ((V1Deployment)podParent.getParent()).getMetadata();
-            }
-            if (ResourceKind.STATEFUL_SET.getKind().equalsIgnoreCase(podParent.getKind())) {
-                metadata = ((V1StatefulSet)podParent.getParent()).getMetadata();
+        private final Map<String, AppMetadata> mapping = new HashMap<>();
+
+        private Accumulator() {
+        }
+
+        @Override
+        public void accept(V1ObjectMeta metadata) {
+            if (metadata == null) {
+                return;
             }
             String namespace = metadata.getNamespace();
             String appName = ResourceLabelUtil.getAppName(metadata.getLabels());
             String serviceName = ResourceLabelUtil.getServiceName(metadata.getLabels());
             String envName = ResourceLabelUtil.getEnvName(metadata.getLabels());
 
-            if (mapping.get(namespace) == null) {
-                AppMetadata appData = new AppMetadata();
-                appData.setNamespace(namespace);
-                mapping.put(namespace, appData);
-            }
+            AppMetadata appData = mapping.computeIfAbsent(namespace, key -> {
+                AppMetadata appMetadata = new AppMetadata();
+                appMetadata.setNamespace(key);
+                return appMetadata;
+            });
             if (StringUtils.isBlank(appName) || StringUtils.isBlank(serviceName)) {
                 return;
             }
             // One namespace can have only one app
-            mapping.get(namespace).setAppName(appName);
+            appData.setAppName(appName);
             if (StringUtils.isNotBlank(envName)) {
-                mapping.get(namespace).setEnvName(envName);
+                appData.setEnvName(envName);
             }
-            if (mapping.get(namespace).getServices() == null
-                    || !mapping.get(namespace).getServices().contains(serviceName)) {
-                mapping.get(namespace).addServices(serviceName);
+            if (appData.getServices() == null || !appData.getServices().contains(serviceName)) {
+                appData.addServices(serviceName);
             }
-        });
-        
-        return mapping.values().stream().collect(Collectors.toList());
+        }
+
+        /**
+         * @return List of {@link AppMetadata} containing details of deployed apps
+         */
+        public List<AppMetadata> get() {
+            return mapping.values().stream().collect(Collectors.toList());
+        }
     }
 
 }
@@ -20,18 +20,25 @@ import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.deployer.core.model.CustomResourceKind;
 import com.github.srujankujmar.deployer.services.model.CustomListObject;
 import com.github.srujankujmar.deployer.services.model.CustomObject;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.util.generic.GenericKubernetesApi;
 import org.bouncycastle.util.Strings;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 
 public abstract class GenericK8sClient {
 
-    private ApiClient apiClient;
+    protected ApiClient apiClient;
     protected String namespace;
     protected GenericKubernetesApi<CustomObject, CustomListObject> genericClient;
+    protected CustomResourceKind resourceKind;
+    protected String apiGroup;
+    protected String apiVersion;
+    protected String resourcePlural;
 
     protected GenericK8sClient(ApiClient apiClient){
         this.apiClient = apiClient;
@@ -44,23 +51,67 @@ public abstract class GenericK8sClient {
     }
 
     public GenericK8sClient forKind(CustomResourceKind resourceKind){
-        String apiVersion = resourceKind.getApiVersion();
+        String kindApiVersion = resourceKind.getApiVersion();
+        this.resourceKind = resourceKind;
+        this.apiGroup = getApiGroup(kindApiVersion);
+        this.apiVersion = getApiVersion(kindApiVersion);
+        this.resourcePlural = resourceKind.getKind().toLowerCase() + "s";
         this.genericClient = new GenericKubernetesApi<>(
-                CustomObject.class, CustomListObject.class, getApiGroup(apiVersion),
-                getApiVersion(apiVersion),
-                resourceKind.getKind().toLowerCase() + "s",apiClient);
+                CustomObject.class, CustomListObject.class, apiGroup,
+                apiVersion, resourcePlural, apiClient);
 
         return this;
     }
 
+    public CustomResourceKind getResourceKind() {
+        return resourceKind;
+    }
+
     public abstract void create(CustomObject resource) throws HyscaleException;
 
     public abstract void update(CustomObject resource) throws HyscaleException;
 
     public abstract boolean patch(CustomObject resource) throws HyscaleException;
 
+    /**
+     * Server side apply, creates or updates resource with a single request
+     */
+    public abstract void apply(CustomObject resource) throws HyscaleException;
+
     public abstract boolean delete(CustomObject resource);
 
+    /**
+     * Delete resource
+     * @param resource
+     * @param wait whether to wait till resource is deleted
+     * @return true if delete succeeded
+     */
+    public abstract boolean delete(CustomObject resource, boolean wait);
+
+    /**
+     * Delete all resources matching the label selector with a single request
+     * @param selector label selector
+     * @return true if deleted, false if kind does not support deleting a collection
+     * @throws HyscaleException if delete failed
+     */
+    public abstract boolean deleteCollection(String selector) throws HyscaleException;
+
+    /**
+     * Wait till resources are deleted
+     * @param names of resources
+     * @param timeoutInMillis
+     * @param onProgress invoked periodically while waiting, can be null
+     * @return names of resources still present on timeout, empty if all are deleted
+     * @throws InterruptedException
+     */
+    public abstract Set<String> waitForDeletion(Collection<String> names, long timeoutInMillis, Runnable onProgress)
+            throws InterruptedException;
+
+    /**
+     * @return kind to watch through {@link com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker}
+     */
+    public abstract WatchResource<CustomObject, CustomListObject> getWatchResource();
+
     public abstract CustomObject get(CustomObject resource);
 
     public abstract CustomObject getResourceByName(String name);
@@ -18,24 +18,37 @@ package com.github.srujankujmar.deployer.services.client;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
-import com.github.srujankujmar.commons.utils.ThreadPoolUtil;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.model.CustomListObject;
 import com.github.srujankujmar.deployer.services.model.CustomObject;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
+import com.github.srujankujmar.deployer.services.util.LastAppliedConfigUtil;
+import com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.Pair;
+import io.kubernetes.client.util.CallGeneratorParams;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
+import io.kubernetes.client.util.generic.options.PatchOptions;
+import okhttp3.Call;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.HttpURLConnection;
 import java.util.*;
 
 public class K8sResourceClient extends com.github.srujankujmar.deployer.services.client.GenericK8sClient {
     private static final Logger logger = LoggerFactory.getLogger(K8sResourceClient.class);
     private static final String annotations = "annotations";
+    private static final String[] AUTH_NAMES = new String[] { "BearerToken" };
+    private static final String JSON_CONTENT_TYPE = "application/json";
 
     public K8sResourceClient(ApiClient apiClient) {
         super(apiClient);
@@ -48,14 +61,7 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         }
         String kind = resource.getKind();
         String name = resource.getMetadata().getName();
-        Map<String,Object> metaMap = (Map) resource.get("metadata");
-
-        if(metaMap.get(annotations) == null){
-            metaMap.put(annotations,new HashMap<String,String>());
-        }
-        Map<String,String> annotationsMap = (Map) metaMap.get(K8sResourceClient.annotations);
-        annotationsMap.put(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
-                GsonProviderUtil.getPrettyGsonBuilder().toJson(resource));
+        updateLastAppliedConfig(resource);
 
         KubernetesApiResponse<CustomObject> response = genericClient.create(resource);
         if(response!=null){
@@ -76,13 +82,7 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         }
         String kind = resource.getKind();
         String name = resource.getMetadata().getName();
-        Map<String,Object> metaMap = (Map) resource.get("metadata");
-        if(metaMap.get(annotations) == null){
-            metaMap.put(annotations,new HashMap<String,String>());
-        }
-        Map<String,String> annotationsMap = (Map) metaMap.get(K8sResourceClient.annotations);
-        annotationsMap.put(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
-                GsonProviderUtil.getPrettyGsonBuilder().toJson(resource));
+        updateLastAppliedConfig(resource);
 
         KubernetesApiResponse<CustomObject> response = genericClient.update(resource);
         if(response!=null){
@@ -107,10 +107,15 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         if(customObject != null && customObject.getMetadata() != null && customObject.getMetadata().getAnnotations() != null){
             String lastAppliedConfig = customObject.getMetadata().getAnnotations()
                     .get(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation());
-            Object patchObject = null;
             try {
-                patchObject = K8sResourcePatchUtil.getJsonPatch(GsonProviderUtil.getPrettyGsonBuilder().fromJson(lastAppliedConfig, CustomObject.class),
-                        resource, CustomObject.class);
+                JsonNode source = LastAppliedConfigUtil.readTree(lastAppliedConfig);
+                if (source == null) {
+                    logger.debug("Last applied configuration not found for resource kind : {}, name : {}", kind, name);
+                    return false;
+                }
+                updateLastAppliedConfig(resource);
+                JsonNode patchObject = K8sResourcePatchUtil.getJsonPatch(source,
+                        ObjectMapperFactory.jsonMapper().valueToTree(resource));
                 V1Patch v1Patch = new V1Patch(patchObject.toString());
                 KubernetesApiResponse<CustomObject> response = genericClient.patch(name,null,v1Patch);
                 if(response!=null){
@@ -131,8 +136,39 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         return false;
     }
 
+    @Override
+    public void apply(CustomObject resource) throws HyscaleException {
+        if(resource == null){
+            return;
+        }
+        String kind = resource.getKind();
+        String name = resource.getMetadata().getName();
+        updateLastAppliedConfig(resource);
+
+        PatchOptions patchOptions = new PatchOptions();
+        patchOptions.setFieldManager(DeployerConstants.FIELD_MANAGER);
+        patchOptions.setForce(true);
+        V1Patch v1Patch = new V1Patch(GsonProviderUtil.getCompactGsonBuilder().toJson(resource));
+        KubernetesApiResponse<CustomObject> response = genericClient.patch(namespace, name,
+                V1Patch.PATCH_FORMAT_APPLY_YAML, v1Patch, patchOptions);
+        if(response!=null){
+            if(response.isSuccess()){
+                logger.info("Successfully applied resource : {} name : {}",kind,name);
+                return;
+            }else{
+                logger.error("Failed to apply, reason: {}\n Message: {}",response.getStatus().getReason(),response.getStatus().getMessage());
+            }
+        }
+        throw new HyscaleException(DeployerErrorCodes.FAILED_TO_APPLY_RESOURCE, kind);
+    }
+
     @Override
     public boolean delete(CustomObject resource) {
+        return delete(resource, true);
+    }
+
+    @Override
+    public boolean delete(CustomObject resource, boolean wait) {
         if(resource == null){
             return false;
         }
@@ -142,7 +178,9 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         if(response!=null){
             if(response.isSuccess()){
                 logger.info("Successfully deleted resource : {}, name : {}",kind,name);
-                waitForResourceDeletion(resource);
+                if (wait) {
+                    waitForResourceDeletion(name);
+                }
                 return true;
             }else{
                 logger.error("Failed to delete resource {} \nReason : {}",kind,response.getStatus().getReason());
@@ -151,17 +189,100 @@ public class K8sResourceClient extends com.github.srujankujmar.deployer.services
         return false;
     }
 
-    private void waitForResourceDeletion(CustomObject resource) {
-        if(resource == null){
-            return;
+    /**
+     * Stores resource in last applied configuration annotation in compact format
+     */
+    private void updateLastAppliedConfig(CustomObject resource) throws HyscaleException {
+        Map<String,Object> metaMap = (Map) resource.get("metadata");
+        if(metaMap.get(annotations) == null){
+            metaMap.put(annotations,new HashMap<String,String>());
+        }
+        Map<String,String> annotationsMap = (Map) metaMap.get(K8sResourceClient.annotations);
+        // Previous configuration is not part of the stored configuration
+        annotationsMap.remove(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation());
+        annotationsMap.put(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                LastAppliedConfigUtil.encode(resource));
+    }
+
+    private void waitForResourceDeletion(String name) {
+        try {
+            Set<String> pending = waitForDeletion(Collections.singletonList(name),
+                    DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS, null);
+            if (!pending.isEmpty()) {
+                logger.debug("Resource {} {} found to be existing after waiting for deletion", resourceKind.getKind(), name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted while waiting for deletion of {} {}", resourceKind.getKind(), name);
+        }
+    }
+
+    @Override
+    public boolean deleteCollection(String selector) throws HyscaleException {
+        String kind = resourceKind.getKind();
+        List<Pair> queryParams = new ArrayList<>();
+        if (StringUtils.isNotBlank(selector)) {
+            queryParams.addAll(apiClient.parameterToPair("labelSelector", selector));
         }
-        long startTime = System.currentTimeMillis();
-        while((System.currentTimeMillis() - startTime < DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS)){
-            CustomObject customObject = get(resource);
-            if(customObject == null){ return; }
-            logger.debug("Resource {} found to be existing, waiting for resource deletion", resource);
-            ThreadPoolUtil.sleepSilently(DeployerConstants.DELETE_SLEEP_INTERVAL_IN_MILLIS);
+        try {
+            Call call = buildCall("DELETE", queryParams);
+            apiClient.execute(call);
+            logger.info("Successfully deleted resources : {}, selector : {}", kind, selector);
+            return true;
+        } catch (ApiException e) {
+            if (e.getCode() == HttpURLConnection.HTTP_BAD_METHOD) {
+                logger.debug("Delete collection not supported for {}", kind);
+                return false;
+            }
+            logger.error("Failed to delete resources {} with selector {}, reason : {}", kind, selector,
+                    e.getResponseBody());
+            throw new HyscaleException(e, DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, kind);
+        }
+    }
+
+    @Override
+    public Set<String> waitForDeletion(Collection<String> names, long timeoutInMillis, Runnable onProgress)
+            throws InterruptedException {
+        return ResourceWatchTracker.awaitDeletion(apiClient, namespace, getWatchResource(), names, timeoutInMillis,
+                onProgress);
+    }
+
+    @Override
+    public WatchResource<CustomObject, CustomListObject> getWatchResource() {
+        return new WatchResource<>(apiGroup + "/" + apiVersion + "/" + resourcePlural, CustomObject.class,
+                CustomListObject.class, (client, watchNamespace, params) -> buildListCall(params));
+    }
+
+    private Call buildListCall(CallGeneratorParams params) throws ApiException {
+        List<Pair> queryParams = new ArrayList<>();
+        if (params.resourceVersion != null) {
+            queryParams.addAll(apiClient.parameterToPair("resourceVersion", params.resourceVersion));
+        }
+        if (params.timeoutSeconds != null) {
+            queryParams.addAll(apiClient.parameterToPair("timeoutSeconds", params.timeoutSeconds));
+        }
+        if (params.watch != null) {
+            queryParams.addAll(apiClient.parameterToPair("watch", params.watch));
+        }
+        return buildCall("GET", queryParams);
+    }
+
+    /**
+     * Call on the collection of the kind in namespace
+     */
+    private Call buildCall(String method, List<Pair> queryParams) throws ApiException {
+        StringBuilder path = new StringBuilder();
+        if (StringUtils.isBlank(apiGroup)) {
+            path.append("/api/").append(apiVersion);
+        } else {
+            path.append("/apis/").append(apiGroup).append("/").append(apiVersion);
         }
+        path.append("/namespaces/").append(apiClient.escapeString(namespace)).append("/").append(resourcePlural);
+        Map<String, String> headerParams = new HashMap<>();
+        headerParams.put("Accept", JSON_CONTENT_TYPE);
+        headerParams.put("Content-Type", JSON_CONTENT_TYPE);
+        return apiClient.buildCall(path.toString(), method, queryParams, new ArrayList<>(), null, headerParams,
+                new HashMap<>(), new HashMap<>(), AUTH_NAMES, null);
     }
 
     @Override
@@ -44,6 +44,59 @@ public class DeployerEnvConfig {
         }
     }
 
+    public static int getK8sConnectionPoolSize() {
+        String poolSize = getEnv(DeployerConstants.K8S_CONNECTION_POOL_SIZE);
+        if (poolSize == null) {
+            return DeployerConstants.DEFAULT_K8S_CONNECTION_POOL_SIZE;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(poolSize));
+        } catch (NumberFormatException e) {
+            logger.error("Error while parsing k8s connection pool size {} so defaulting to {}", DeployerConstants.K8S_CONNECTION_POOL_SIZE, DeployerConstants.DEFAULT_K8S_CONNECTION_POOL_SIZE);
+            return DeployerConstants.DEFAULT_K8S_CONNECTION_POOL_SIZE;
+        }
+    }
+
+    /**
+     * @return number of resources of the same weight applied concurrently
+     */
+    public static int getApplyParallelism() {
+        String parallelism = getEnv(DeployerConstants.APPLY_PARALLELISM);
+        if (parallelism == null) {
+            return DeployerConstants.DEFAULT_APPLY_PARALLELISM;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(parallelism));
+        } catch (NumberFormatException e) {
+            logger.error("Error while parsing apply parallelism {} so defaulting to {}", DeployerConstants.APPLY_PARALLELISM, DeployerConstants.DEFAULT_APPLY_PARALLELISM);
+            return DeployerConstants.DEFAULT_APPLY_PARALLELISM;
+        }
+    }
+
+    /**
+     * @return false only if HTTP/2 is explicitly disabled, clients then use HTTP/1.1
+     */
+    public static boolean isK8sHttp2Enabled() {
+        String http2Enabled = getEnv(DeployerConstants.K8S_HTTP2_ENABLED);
+        return http2Enabled == null || Boolean.parseBoolean(http2Enabled);
+    }
+
+    /**
+     * @return false only if server side apply is explicitly disabled, resources are then patched
+     */
+    public static boolean isServerSideApplyEnabled() {
+        String serverSideApplyEnabled = getEnv(DeployerConstants.SERVER_SIDE_APPLY_ENABLED);
+        return serverSideApplyEnabled == null || Boolean.parseBoolean(serverSideApplyEnabled);
+    }
+
+    /**
+     * @return false only if skipping is explicitly disabled, all resources are then applied on every deploy
+     */
+    public static boolean isSkipUnchangedResources() {
+        String skipUnchanged = getEnv(DeployerConstants.SKIP_UNCHANGED_RESOURCES);
+        return skipUnchanged == null || Boolean.parseBoolean(skipUnchanged);
+    }
+
     private static String getEnv(String key) {
         return System.getenv(key);
     }
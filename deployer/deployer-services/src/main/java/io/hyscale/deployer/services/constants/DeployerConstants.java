@@ -23,11 +23,27 @@ public class DeployerConstants {
     
     public static final String POD_RESTART_COUNT="HYS_POD_RESTART_COUNT";
 
+    public static final String K8S_CONNECTION_POOL_SIZE = "HYS_K8S_CONNECTION_POOL_SIZE";
+
+    public static final String K8S_HTTP2_ENABLED = "HYS_K8S_HTTP2_ENABLED";
+
+    public static final String APPLY_PARALLELISM = "HYS_APPLY_PARALLELISM";
+
+    public static final String SERVER_SIDE_APPLY_ENABLED = "HYS_SERVER_SIDE_APPLY_ENABLED";
+
+    public static final String SKIP_UNCHANGED_RESOURCES = "HYS_SKIP_UNCHANGED_RESOURCES";
+
+    public static final String FIELD_MANAGER = "hyscale";
+
     public static final String TRUE = "true";
     
     public static final long DEFAULT_LB_READY_TIMEOUT = 90000;
     
     public static final long DEFAULT_POD_RESTART_COUNT = 3;
+
+    public static final int DEFAULT_K8S_CONNECTION_POOL_SIZE = 10;
+
+    public static final int DEFAULT_APPLY_PARALLELISM = 5;
     
     public static final long DELETE_SLEEP_INTERVAL_IN_MILLIS = 3000;
     
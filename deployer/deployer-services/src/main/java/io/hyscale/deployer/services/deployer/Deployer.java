@@ -17,6 +17,7 @@ package com.github.srujankujmar.deployer.services.deployer;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.AuthConfig;
@@ -27,6 +28,7 @@ import com.github.srujankujmar.deployer.core.model.AppMetadata;
 import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
 import com.github.srujankujmar.deployer.services.model.*;
 import com.github.srujankujmar.deployer.services.progress.ProgressHandler;
+import com.github.srujankujmar.deployer.services.watch.ResourceSnapshotInformer;
 
 /**
  * Interface for service deployments.
@@ -94,6 +96,37 @@ public interface Deployer<T extends AuthConfig> {
      */
     public List<DeploymentStatus> getDeploymentStatus(DeploymentContext deploymentContext) throws HyscaleException;
 
+    /**
+     * Get resources of the App in the namespace, listed once per kind
+     *
+     * @param deploymentContext
+     * @return {@link ResourceSnapshot} of the App
+     * @throws HyscaleException
+     */
+    public ResourceSnapshot getResourceSnapshot(DeploymentContext deploymentContext) throws HyscaleException;
+
+    /**
+     * Get Deployment ServiceStatus for Services in the snapshot
+     *
+     * @param snapshot
+     * @return List of {@link DeploymentStatus} for each Service
+     * @throws HyscaleException
+     */
+    public List<DeploymentStatus> getDeploymentStatus(ResourceSnapshot snapshot) throws HyscaleException;
+
+    /**
+     * Watch resources of the App in the namespace,
+     * listener receives a {@link ResourceSnapshot} of the watched resources after changes
+     *
+     * @param deploymentContext
+     * @param intervalInMillis minimum time between two snapshots
+     * @param listener
+     * @return started informer, to be stopped once done
+     * @throws HyscaleException
+     */
+    public ResourceSnapshotInformer watchResourceSnapshot(DeploymentContext deploymentContext, long intervalInMillis,
+            Consumer<ResourceSnapshot> listener) throws HyscaleException;
+
 
     /**
      * Get replicas info based on pods
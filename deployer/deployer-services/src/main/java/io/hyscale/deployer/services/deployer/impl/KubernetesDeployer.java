@@ -23,12 +23,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.github.srujankujmar.deployer.services.manager.ScaleServiceManager;
 import com.github.srujankujmar.deployer.services.model.*;
 import com.github.srujankujmar.deployer.services.processor.ClusterVersionProvider;
 import com.github.srujankujmar.deployer.services.processor.PodParentProvider;
+import com.github.srujankujmar.deployer.services.processor.ResourceSnapshotProvider;
 import com.github.srujankujmar.deployer.services.processor.ServiceStatusProcessor;
 
 import org.slf4j.Logger;
@@ -64,11 +66,14 @@ import com.github.srujankujmar.deployer.services.handler.impl.V1PersistentVolume
 import com.github.srujankujmar.deployer.services.handler.impl.V1PodHandler;
 import com.github.srujankujmar.deployer.services.handler.impl.V1ServiceHandler;
 import com.github.srujankujmar.deployer.services.provider.K8sClientProvider;
+import com.github.srujankujmar.deployer.services.config.DeployerEnvConfig;
 import com.github.srujankujmar.deployer.services.util.K8sDeployerUtil;
 import com.github.srujankujmar.deployer.services.util.K8sPodUtil;
 import com.github.srujankujmar.deployer.services.util.K8sReplicaUtil;
+import com.github.srujankujmar.deployer.services.util.K8sResourceApplyUtil;
 import com.github.srujankujmar.deployer.services.util.K8sResourceDispatcher;
 import com.github.srujankujmar.deployer.services.util.KubernetesResourceUtil;
+import com.github.srujankujmar.deployer.services.watch.ResourceSnapshotInformer;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -108,6 +113,9 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
     @Autowired
     private ClusterVersionProvider clusterVersionProvider;
 
+    @Autowired
+    private ResourceSnapshotProvider resourceSnapshotProvider;
+
     @Autowired
     private EventPublisher publisher;
 
@@ -115,9 +123,11 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
     public void deploy(DeploymentContext context) throws HyscaleException {
         List<Manifest> manifests = context.getManifests();
         String namespace = context.getNamespace();
-        K8sResourceDispatcher resourceDispatcher = new K8sResourceDispatcher(clientProvider.get((K8sAuthorisation) context.getAuthConfig()));
+        ApiClient apiClient = clientProvider.get((K8sAuthorisation) context.getAuthConfig());
+        K8sResourceDispatcher resourceDispatcher = new K8sResourceDispatcher(apiClient);
         try {
             resourceDispatcher.waitForReadiness(context.isWaitForReadiness());
+            resourceDispatcher.serverSideApply(isServerSideApplySupported(apiClient));
             resourceDispatcher.withNamespace(namespace).apply(manifests);
         } catch (HyscaleException e) {
             logger.error("Error while deploying service {} in namespace {} , error {} ", context.getServiceName(),
@@ -126,6 +136,18 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
         }
     }
 
+    private boolean isServerSideApplySupported(ApiClient apiClient) {
+        if (!DeployerEnvConfig.isServerSideApplyEnabled()) {
+            return false;
+        }
+        try {
+            return K8sResourceApplyUtil.isServerSideApplySupported(clusterVersionProvider.getVersion(apiClient));
+        } catch (HyscaleException e) {
+            logger.debug("Unable to get cluster version, server side apply disabled", e);
+            return false;
+        }
+    }
+
     /**
      * Wait for Pod scheduled, creation and Readiness state
      */
@@ -296,6 +318,28 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
                 context.getNamespace());
     }
 
+    @Override
+    public ResourceSnapshot getResourceSnapshot(DeploymentContext context) throws HyscaleException {
+        ApiClient apiClient = clientProvider.get((K8sAuthorisation) context.getAuthConfig());
+        return resourceSnapshotProvider.get(apiClient, ResourceSelectorUtil.getSelector(context.getAppName()),
+                context.getNamespace(), ResourceSnapshotProvider.SERVICE_KINDS);
+    }
+
+    @Override
+    public List<DeploymentStatus> getDeploymentStatus(ResourceSnapshot snapshot) throws HyscaleException {
+        return serviceStatusProcessor.getDeploymentStatus(snapshot);
+    }
+
+    @Override
+    public ResourceSnapshotInformer watchResourceSnapshot(DeploymentContext context, long intervalInMillis,
+            Consumer<ResourceSnapshot> listener) throws HyscaleException {
+        ApiClient apiClient = clientProvider.get((K8sAuthorisation) context.getAuthConfig());
+        ResourceSnapshotInformer informer = new ResourceSnapshotInformer(apiClient, context.getNamespace(),
+                ResourceSelectorUtil.getSelector(context.getAppName()));
+        informer.start(intervalInMillis, listener);
+        return informer;
+    }
+
     /**
      * Get Replica info for pods
      *
@@ -318,7 +362,9 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
     @Override
     public List<AppMetadata> getAppsMetadata(K8sAuthorisation authConfig) throws HyscaleException {
         ApiClient apiClient = clientProvider.get(authConfig);
-        return appMetadataBuilder.build(podParentProvider.getAllPodParents(apiClient));
+        AppMetadataBuilder.Accumulator accumulator = appMetadataBuilder.accumulator();
+        podParentProvider.getAllPodParentsMetadata(apiClient, accumulator);
+        return accumulator.get();
     }
 
     @Override
@@ -30,12 +30,15 @@ public enum DeployerErrorCodes implements HyscaleError {
     FAILED_TO_RETRIEVE_POD("Failed to retrieve pods",HyscaleErrorGroup.WAIT_FOR_DEPLOYMENT),
     FAILED_TO_TAIL_POD("Failed to tail pod logs",HyscaleErrorGroup.GET_LOGS),
     REPLICA_DOES_NOT_EXIT("Cannot find replica \"{}\"",HyscaleErrorGroup.GET_LOGS),
+    CONTAINER_DOES_NOT_EXIST("Cannot find container \"{}\" in pods of service \"{}\"",HyscaleErrorGroup.GET_LOGS),
     RESOURCE_NOT_FOUND("Resource not found {} ",HyscaleErrorGroup.DEPLOYER_APPLY),
     FAILED_TO_GET_RESOURCE("Failed to get resource {} ",HyscaleErrorGroup.DEPLOYER_APPLY),
     FAILED_TO_CREATE_RESOURCE("Failed to create resource {}",HyscaleErrorGroup.DEPLOYER_APPLY),
     FAILED_TO_DELETE_RESOURCE("Failed to delete resource {}"),
     FAILED_TO_UPDATE_RESOURCE("Failed to update resource {}"),
     FAILED_TO_PATCH_RESOURCE("Failed to patch resource {}"),
+    FAILED_TO_APPLY_RESOURCE("Failed to apply resource {}",HyscaleErrorGroup.DEPLOYER_APPLY),
+    FAILED_TO_ENCODE_LAST_APPLIED_CONFIGURATION("Failed to encode last applied configuration",HyscaleErrorGroup.DEPLOYER_APPLY),
     FAILED_TO_GET_SERVICE_ADDRESS("Failed to get service address",HyscaleErrorGroup.GET_SERVICE_IP),
     MANIFEST_REQUIRED("Manifest required",HyscaleErrorGroup.DEPLOYER_APPLY),
     FAILED_TO_APPLY_MANIFEST("Failed to apply manifests",HyscaleErrorGroup.DEPLOYER_APPLY),
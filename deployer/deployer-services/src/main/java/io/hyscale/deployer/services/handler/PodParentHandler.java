@@ -16,6 +16,7 @@
 package com.github.srujankujmar.deployer.services.handler;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.utils.ResourceLabelUtil;
@@ -51,6 +52,18 @@ public abstract class PodParentHandler<T> {
     public abstract List<T> listForAllNamespaces(ApiClient apiClient, String selector, boolean label)
             throws HyscaleException;
 
+    /**
+     * List metadata of resources irrespective of namespace, page by page.
+     * Full objects are not fetched
+     * @param apiClient
+     * @param selector
+     * @param label
+     * @param consumer receives metadata of each resource as pages arrive
+     * @throws HyscaleException
+     */
+    public abstract void listMetadataForAllNamespaces(ApiClient apiClient, String selector, boolean label,
+            Consumer<V1ObjectMeta> consumer) throws HyscaleException;
+
     protected abstract String getPodRevision(ApiClient apiClient, T t);
 
     public abstract Integer getReplicas(T t);
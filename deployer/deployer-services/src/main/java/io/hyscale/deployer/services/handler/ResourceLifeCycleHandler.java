@@ -17,6 +17,7 @@ package com.github.srujankujmar.deployer.services.handler;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,9 @@ import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.model.ResourceStatus;
 import com.github.srujankujmar.deployer.services.model.ResourceUpdatePolicy;
+import com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 
@@ -116,6 +120,22 @@ public interface ResourceLifeCycleHandler<T> {
      */
     public boolean patch(ApiClient apiClient, String name, String namespace, T body) throws HyscaleException;
 
+    /**
+     * Server side apply resource, creates resource if not found else updates it
+     * with a single request, no fetch or diff required
+     * Used when update policy is {@link ResourceUpdatePolicy#SERVER_SIDE_APPLY}
+     *
+     * @param apiClient
+     * @param resource
+     * @param namespace
+     * @return applied resource
+     * @throws HyscaleException
+     */
+    default T apply(ApiClient apiClient, T resource, String namespace) throws HyscaleException {
+        throw new HyscaleException(DeployerErrorCodes.OPERATION_NOT_SUPPORTED,
+                ResourceOperation.APPLY.getOperation(), getKind());
+    }
+
     /**
      * Delete resource and wait if enabled
      *
@@ -167,9 +187,17 @@ public interface ResourceLifeCycleHandler<T> {
         return deleteOptions;
     }
 
+    /**
+     * @return resource to watch for deletion, null if resource has to be polled
+     */
+    default WatchResource<? extends KubernetesObject, ?> getWatchResource() {
+        return null;
+    }
+
     /**
      * Wait until resource is no longer available
      * or timeout, in which case throws exception
+     * Resources with {@link #getWatchResource()} wait on delete events, others are polled
      *
      * @param apiClient
      * @param pendingResources
@@ -184,6 +212,32 @@ public interface ResourceLifeCycleHandler<T> {
         if (pendingResources == null) {
             return;
         }
+        WatchResource<? extends KubernetesObject, ?> watchResource = getWatchResource();
+        if (watchResource != null) {
+            try {
+                Set<String> remainingResources = ResourceWatchTracker.awaitDeletion(apiClient, namespace, watchResource,
+                        pendingResources, DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS,
+                        () -> WorkflowLogger.continueActivity(activityContext));
+                pendingResources.retainAll(remainingResources);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                getLogger().error("Interrupted while waiting for deletion of {}", pendingResources);
+            }
+        } else {
+            pollForResourceDeletion(apiClient, pendingResources, namespace, activityContext);
+        }
+        // Fail case
+        if (!pendingResources.isEmpty()) {
+            if (activityContext != null) {
+                WorkflowLogger.endActivity(activityContext, Status.FAILED);
+            }
+            getLogger().error("Resource deletion failed for: {}", pendingResources);
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, pendingResources.toString());
+        }
+    }
+
+    private void pollForResourceDeletion(ApiClient apiClient, List<String> pendingResources, String namespace,
+                                         ActivityContext activityContext) {
         long startTime = System.currentTimeMillis();
         while (!pendingResources.isEmpty()
                 && (System.currentTimeMillis() - startTime < DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS)) {
@@ -202,15 +256,6 @@ public interface ResourceLifeCycleHandler<T> {
             }
             ThreadPoolUtil.sleepSilently(DeployerConstants.DELETE_SLEEP_INTERVAL_IN_MILLIS);
         }
-        // Fail case
-        if (!pendingResources.isEmpty()) {
-            if (activityContext != null) {
-                WorkflowLogger.endActivity(activityContext, Status.FAILED);
-            }
-            getLogger().error("Resource deletion failed for: {}", pendingResources);
-            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, pendingResources.toString());
-        }
-
     }
 
     /**
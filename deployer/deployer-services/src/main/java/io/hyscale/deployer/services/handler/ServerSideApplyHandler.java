@@ -0,0 +1,86 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.handler;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
+import com.github.srujankujmar.commons.models.Status;
+import com.github.srujankujmar.deployer.services.model.ResourceUpdatePolicy;
+import com.github.srujankujmar.deployer.services.util.K8sResourceApplyUtil;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+
+/**
+ * Handler of resources updated through server side apply
+ * Apply request, activity and error handling are common to all such resources,
+ * handlers provide the patch call of their resource
+ *
+ * @param <T>
+ */
+public interface ServerSideApplyHandler<T extends KubernetesObject> extends ResourceLifeCycleHandler<T> {
+
+    /**
+     * @param apiClient
+     * @param name
+     * @param namespace
+     * @param patch
+     * @param force true for apply patch, null for other patches
+     * @return patch call of the resource with hyscale field manager
+     * @throws ApiException
+     */
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException;
+
+    /**
+     * @return activity displayed while applying resource
+     */
+    public Activity getApplyActivity();
+
+    /**
+     * Single server side apply request, creates or updates resource
+     */
+    @Override
+    default T apply(ApiClient apiClient, T resource, String namespace) throws HyscaleException {
+        if (resource == null) {
+            getLogger().debug("Cannot apply null {}", getKind());
+            return resource;
+        }
+        WorkflowLogger.startActivity(getApplyActivity());
+        String name = resource.getMetadata().getName();
+        T appliedResource = null;
+        try {
+            appliedResource = K8sResourceApplyUtil.apply(apiClient, resource,
+                    (patch, force) -> getApplyCall(apiClient, name, namespace, patch, force));
+        } catch (HyscaleException ex) {
+            getLogger().error("Error while applying {} {} in namespace {}, error {}", getKind(), name, namespace,
+                    ex.toString());
+            WorkflowLogger.endActivity(Status.FAILED);
+            throw ex;
+        }
+        getLogger().info("Applied {} {} in namespace {}", getKind(), name, namespace);
+        WorkflowLogger.endActivity(Status.DONE);
+        return appliedResource;
+    }
+
+    @Override
+    default ResourceUpdatePolicy getUpdatePolicy() {
+        return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+    }
+}
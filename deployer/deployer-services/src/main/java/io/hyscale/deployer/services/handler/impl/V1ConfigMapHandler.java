@@ -21,7 +21,7 @@ import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.ResourceStatus;
 import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
 import org.slf4j.Logger;
@@ -33,6 +33,7 @@ import com.google.gson.JsonSyntaxException;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.Status;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
@@ -45,8 +46,9 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.custom.V1Patch;
+import okhttp3.Call;
 
-public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap> {
+public class V1ConfigMapHandler implements ServerSideApplyHandler<V1ConfigMap> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1ConfigMapHandler.class);
 
@@ -112,6 +114,18 @@ public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap>
         return true;
     }
 
+    @Override
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException {
+        return new CoreV1Api(apiClient).patchNamespacedConfigMapCall(name, namespace, patch, DeployerConstants.TRUE, null,
+                DeployerConstants.FIELD_MANAGER, force, null);
+    }
+
+    @Override
+    public Activity getApplyActivity() {
+        return DeployerActivity.DEPLOYING_CONFIGMAP;
+    }
+
     @Override
     public V1ConfigMap get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.*;
@@ -33,6 +34,7 @@ import com.github.srujankujmar.commons.constants.K8SRuntimeConstants;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.Status;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
@@ -44,20 +46,28 @@ import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.handler.PodParentHandler;
 import com.github.srujankujmar.deployer.services.handler.ResourceHandlers;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.ResourceStatus;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
+import com.github.srujankujmar.deployer.services.util.PartialObjectMetadataUtil;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
+import okhttp3.Call;
+import com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
 
-public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implements ResourceLifeCycleHandler<V1Deployment> {
+public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implements ServerSideApplyHandler<V1Deployment> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1DeploymentHandler.class);
 
+    private static final WatchResource<V1Deployment, V1DeploymentList> WATCH_RESOURCE = new WatchResource<>(V1Deployment.class,
+            V1DeploymentList.class, (apiClient, namespace, params) -> new AppsV1Api(apiClient).listNamespacedDeploymentCall(namespace,
+                    null, null, null, null, null, null, params.resourceVersion, params.timeoutSeconds, params.watch, null));
+
     public V1Deployment create(ApiClient apiClient, V1Deployment resource, String namespace) throws HyscaleException {
         if (resource == null) {
             LOGGER.debug("Cannot create null Deployment");
@@ -119,6 +129,18 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return true;
     }
 
+    @Override
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException {
+        return new AppsV1Api(apiClient).patchNamespacedDeploymentCall(name, namespace, patch, DeployerConstants.TRUE, null,
+                DeployerConstants.FIELD_MANAGER, force, null);
+    }
+
+    @Override
+    public Activity getApplyActivity() {
+        return DeployerActivity.DEPLOYING_DEPLOYMENT;
+    }
+
     @Override
     public V1Deployment get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
@@ -177,6 +199,25 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return v1Deployments;
     }
 
+    @Override
+    public void listMetadataForAllNamespaces(ApiClient apiClient, String selector, boolean label,
+            Consumer<V1ObjectMeta> consumer) throws HyscaleException {
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        String labelSelector = label ? selector : null;
+        String fieldSelector = label ? null : selector;
+        try {
+            PartialObjectMetadataUtil.list(apiClient,
+                    (continueToken, limit) -> appsV1Api.listDeploymentForAllNamespacesCall(null, continueToken, fieldSelector,
+                            labelSelector, limit, null, null, null, null, null),
+                    consumer);
+        } catch (ApiException e) {
+            HyscaleException ex = ExceptionHelper.buildGetException(getKind(), e, ResourceOperation.GET_ALL);
+            LOGGER.error("Error while listing Deployments metadata in all namespaces, with selectors {}, error {} ", selector,
+                    ex.toString());
+            throw ex;
+        }
+    }
+
     @Override
     public boolean patch(ApiClient apiClient, String name, String namespace, V1Deployment target) throws HyscaleException {
         if (target == null) {
@@ -282,6 +323,11 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return true;
     }
 
+    @Override
+    public WatchResource<V1Deployment, V1DeploymentList> getWatchResource() {
+        return WATCH_RESOURCE;
+    }
+
     @Override
     public String getKind() {
         return ResourceKind.DEPLOYMENT.getKind();
@@ -487,35 +533,44 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
     }
 
     private boolean waitForDesiredState(ApiClient apiClient, String name, String namespace,ActivityContext activityContext) throws HyscaleException {
-        Long startTime = System.currentTimeMillis();
-        boolean stable = false;
-        int rotateThreshold = 5;
-        int sleep = 3;
+        V1Deployment deployment = null;
         try {
-            int rotations = 0;
-            while (System.currentTimeMillis() - startTime < DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS) {
-                rotations++;
-                V1Deployment updatedDeployment = null;
-                updatedDeployment = get(apiClient, name, namespace);
-                LOGGER.debug("Patched deployment status :{} ", updatedDeployment.getStatus());
-                if (status(updatedDeployment) == ResourceStatus.STABLE) {
-                    stable = true;
-                    break;
-                }
-                if (rotateThreshold == rotations) {
-                    sleep++;
-                    rotations = 0;
-                }
-                WorkflowLogger.continueActivity(activityContext);
-                Thread.sleep(sleep * 1000L);
-            }
-        } catch (InterruptedException e) {
-            LOGGER.error("Sleep Thread interrupted ", e);
-            Thread.currentThread().interrupt();
+            deployment = get(apiClient, name, namespace);
         } catch (HyscaleException ex){
             LOGGER.error("Error while fetching deployment {}", ex.getHyscaleError(), ex);
+            return false;
+        }
+        long generation = getGeneration(deployment);
+        if (isRolledOut(deployment, generation)) {
+            return true;
+        }
+        try {
+            V1Deployment updatedDeployment = ResourceWatchTracker.await(apiClient, namespace, WATCH_RESOURCE,
+                    each -> name.equals(each.getMetadata().getName()) && isRolledOut(each, generation),
+                    DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS, () -> WorkflowLogger.continueActivity(activityContext));
+            return updatedDeployment != null;
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while waiting on deployment {}", name, e);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private long getGeneration(V1Deployment deployment) {
+        Long generation = deployment.getMetadata() != null ? deployment.getMetadata().getGeneration() : null;
+        return generation != null ? generation : 0;
+    }
+
+    /**
+     * Rolled out once controller has observed the given generation or later and status is stable
+     */
+    private boolean isRolledOut(V1Deployment deployment, long generation) {
+        long currentGeneration = getGeneration(deployment);
+        Long observedGeneration = deployment.getStatus() != null ? deployment.getStatus().getObservedGeneration() : null;
+        if (currentGeneration < generation || (observedGeneration != null && observedGeneration < currentGeneration)) {
+            return false;
         }
-        return stable;
+        return status(deployment) == ResourceStatus.STABLE;
     }
 
 }
@@ -20,6 +20,7 @@ import com.google.gson.JsonSyntaxException;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.Status;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
@@ -27,7 +28,7 @@ import com.github.srujankujmar.deployer.core.model.ResourceKind;
 import com.github.srujankujmar.deployer.core.model.ResourceOperation;
 import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
@@ -38,6 +39,7 @@ import io.kubernetes.client.openapi.models.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.kubernetes.client.custom.V1Patch;
+import okhttp3.Call;
 
 import java.util.List;
 
@@ -48,7 +50,7 @@ import java.util.List;
  * kind: HorizontalPodAutoScaler
  */
 
-public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandler<V1HorizontalPodAutoscaler> {
+public class V1HorizontalPodAutoScalerHandler implements ServerSideApplyHandler<V1HorizontalPodAutoscaler> {
 
     private static final Logger logger = LoggerFactory.getLogger(V1HorizontalPodAutoScalerHandler.class);
 
@@ -110,6 +112,18 @@ public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandle
         return true;
     }
 
+    @Override
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException {
+        return new AutoscalingV1Api(apiClient).patchNamespacedHorizontalPodAutoscalerCall(name, namespace, patch, DeployerConstants.TRUE, null,
+                DeployerConstants.FIELD_MANAGER, force, null);
+    }
+
+    @Override
+    public Activity getApplyActivity() {
+        return DeployerActivity.DEPLOYING_HORIZONTAL_AUTO_SCALER;
+    }
+
     @Override
     public V1HorizontalPodAutoscaler get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
         AutoscalingV1Api autoscalingV1Api = new AutoscalingV1Api(apiClient);
@@ -17,10 +17,11 @@ package com.github.srujankujmar.deployer.services.handler.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import com.github.srujankujmar.deployer.services.model.PodStatusUtil;
 import org.slf4j.Logger;
@@ -51,25 +52,25 @@ import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.factory.PodParentFactory;
 import com.github.srujankujmar.deployer.services.handler.PodParentHandler;
 import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.logs.PodLogAggregator;
+import com.github.srujankujmar.deployer.services.logs.PodLogTarget;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.PodParent;
 import com.github.srujankujmar.deployer.services.predicates.PodPredicates;
 import com.github.srujankujmar.deployer.services.processor.PodParentProvider;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
+import com.github.srujankujmar.deployer.services.util.K8sHttpClientUtil;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
-import io.kubernetes.client.PodLogs;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
-import okhttp3.OkHttpClient;
-import okhttp3.OkHttpClient.Builder;
-import okhttp3.Response;
 
 public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
@@ -291,36 +292,15 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
     public InputStream tailLogs(ApiClient apiClient, String serviceName, String namespace, String podName, String containerName, Integer readLines)
             throws HyscaleException {
-        if (podName == null) {
-            List<V1Pod> v1Pods = getBySelector(apiClient, ResourceLabelKey.SERVICE_NAME.getLabel() + "=" + serviceName, true,
-                    namespace);
-            if (v1Pods == null || v1Pods.isEmpty()) {
-                throw new HyscaleException(DeployerErrorCodes.FAILED_TO_RETRIEVE_POD, serviceName, namespace);
-            }
-            podName = v1Pods.get(0).getMetadata().getName();
-        }
-        OkHttpClient existingHttpClient = apiClient.getHttpClient();
+        List<PodLogTarget> logTargets = getLogTargets(apiClient, serviceName, namespace, podName, containerName);
         try {
-            // Update timeout
-            apiClient.setHttpClient(getUpdatedHttpClient(existingHttpClient));
-            PodLogs logs = new PodLogs(apiClient);
-            return logs.streamNamespacedPodLog(namespace, podName, containerName, null, readLines,
-                    true);
-        } catch (IOException | ApiException e) {
+            return new PodLogAggregator(apiClient, namespace).follow(logTargets, readLines);
+        } catch (HyscaleException e) {
             LOGGER.error("Failed to tail Pod logs for service {} in namespace {} ", serviceName, namespace);
             throw new HyscaleException(DeployerErrorCodes.FAILED_TO_TAIL_POD, serviceName, namespace);
-        } finally {
-            apiClient.setHttpClient(existingHttpClient);
         }
     }
 
-    private OkHttpClient getUpdatedHttpClient(OkHttpClient existingHttpClient) {
-        Builder newClientBuilder = existingHttpClient.newBuilder()
-                .readTimeout(120, TimeUnit.MINUTES);
-
-        return newClientBuilder.build();
-    }
-
     public InputStream getLogs(ApiClient apiClient, String name, String namespace, Integer readLines)
             throws HyscaleException {
         return getLogs(apiClient, name, namespace, null, name, readLines);
@@ -328,31 +308,52 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
     public InputStream getLogs(ApiClient apiClient, String serviceName, String namespace, String podName, String containerName, Integer readLines)
             throws HyscaleException {
-        if (podName == null) {
-            List<V1Pod> v1Pods = getBySelector(apiClient, ResourceLabelKey.SERVICE_NAME.getLabel() + "=" + serviceName, true,
-                    namespace);
-            if (v1Pods == null || v1Pods.isEmpty()) {
-                throw new HyscaleException(DeployerErrorCodes.FAILED_TO_RETRIEVE_POD, serviceName, namespace);
-            }
-            podName = v1Pods.get(0).getMetadata().getName();
-        }
+        List<PodLogTarget> logTargets = getLogTargets(apiClient, serviceName, namespace, podName, containerName);
         try {
-            CoreV1Api coreClient = new CoreV1Api(apiClient);
-            Call call = coreClient.readNamespacedPodLogCall(podName, namespace, containerName, Boolean.FALSE, Boolean.TRUE,
-                    null,DeployerConstants.TRUE, Boolean.FALSE, null,readLines, Boolean.TRUE, null);
-            Response response = call.execute();
-            if (!response.isSuccessful()) {
-                LOGGER.error("Failed to get Pod logs for service {} in namespace {} : {}", serviceName, namespace,
-                        response.body());
-                throw new HyscaleException(DeployerErrorCodes.FAILED_TO_GET_LOGS, serviceName, namespace);
-            }
-            return response.body().byteStream();
-        } catch (IOException | ApiException e) {
-            LOGGER.error("Error while fetching Pod logs for service {} in namespace {}", serviceName, namespace, e);
+            return new PodLogAggregator(apiClient, namespace).read(logTargets, readLines);
+        } catch (HyscaleException e) {
+            LOGGER.error("Error while fetching Pod logs for service {} in namespace {}", serviceName, namespace);
             throw new HyscaleException(DeployerErrorCodes.FAILED_TO_GET_LOGS, serviceName, namespace);
         }
     }
 
+    /**
+     * When pod name is not given, containers of all the service pods are log targets.
+     * Container name when given is looked up in each pod, pods without it are reported and skipped,
+     * otherwise all containers of the pod are considered
+     *
+     * @return containers to fetch logs from
+     * @throws HyscaleException if no pods found for the service or none of them has the container
+     */
+    private List<PodLogTarget> getLogTargets(ApiClient apiClient, String serviceName, String namespace, String podName,
+            String containerName) throws HyscaleException {
+        if (podName != null) {
+            return Collections.singletonList(new PodLogTarget(podName, containerName));
+        }
+        List<V1Pod> v1Pods = getBySelector(apiClient, ResourceLabelKey.SERVICE_NAME.getLabel() + "=" + serviceName, true,
+                namespace);
+        if (v1Pods == null || v1Pods.isEmpty()) {
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_RETRIEVE_POD, serviceName, namespace);
+        }
+        List<PodLogTarget> logTargets = new ArrayList<>();
+        for (V1Pod v1Pod : v1Pods) {
+            String name = v1Pod.getMetadata().getName();
+            List<V1Container> containers = v1Pod.getSpec() != null ? v1Pod.getSpec().getContainers() : null;
+            if (containerName == null && containers != null) {
+                containers.forEach(each -> logTargets.add(new PodLogTarget(name, each.getName())));
+            } else if (containers == null || containers.stream().anyMatch(each -> each.getName().equals(containerName))) {
+                logTargets.add(new PodLogTarget(name, containerName));
+            } else {
+                LOGGER.error("Container {} not found in pod {} of service {} in namespace {}", containerName, name,
+                        serviceName, namespace);
+            }
+        }
+        if (logTargets.isEmpty()) {
+            throw new HyscaleException(DeployerErrorCodes.CONTAINER_DOES_NOT_EXIST, containerName, serviceName);
+        }
+        return logTargets;
+    }
+
     @Override
     public boolean cleanUp() {
         return false;
@@ -403,14 +404,7 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
         if (latestPodSelector == null) {
             throw new HyscaleException(DeployerErrorCodes.FAILED_TO_RETRIEVE_SERVICE_REPLICAS);
         }
-        OkHttpClient previousHttpClient = apiClient.getHttpClient();
-        OkHttpClient newHttpClient = getUpdatedHttpClient(previousHttpClient);
-        apiClient.setHttpClient(newHttpClient);
-        try {
-            watchPods(apiClient, serviceMetadata, namespace, latestPodSelector, replicas);
-        } finally {
-            apiClient.setHttpClient(previousHttpClient);
-        }
+        watchPods(apiClient, serviceMetadata, namespace, latestPodSelector, replicas);
     }
 
     private void watchPods(ApiClient apiClient, ServiceMetadata serviceMetadata, String namespace,
@@ -543,9 +537,9 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
             throws HyscaleException {
         CoreV1Api api = new CoreV1Api(apiClient);
         try {
-            return Watch.createWatch(
-                    apiClient, api.listNamespacedPodCall(namespace, null, false, null, null, latestPodSelector, null,
-                            null, POD_WATCH_TIMEOUT_IN_SEC, Boolean.TRUE, null),
+            Call call = api.listNamespacedPodCall(namespace, null, false, null, null, latestPodSelector, null,
+                    null, POD_WATCH_TIMEOUT_IN_SEC, Boolean.TRUE, null);
+            return Watch.createWatch(apiClient, K8sHttpClientUtil.newStreamingCall(apiClient, call),
                     new TypeToken<Watch.Response<V1Pod>>() {
                     }.getType());
         } catch (ApiException e) {
@@ -22,7 +22,7 @@ import java.util.List;
 
 import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
@@ -35,6 +35,7 @@ import com.google.gson.JsonSyntaxException;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.Status;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
@@ -47,9 +48,10 @@ import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.custom.V1Patch;
+import okhttp3.Call;
 
 // TODO Integrate logging with AOP
-public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
+public class V1SecretHandler implements ServerSideApplyHandler<V1Secret> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(V1SecretHandler.class);
 
@@ -113,6 +115,18 @@ public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
 		return true;
 	}
 
+	@Override
+	public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+			throws ApiException {
+		return new CoreV1Api(apiClient).patchNamespacedSecretCall(name, namespace, patch, DeployerConstants.TRUE, null,
+				DeployerConstants.FIELD_MANAGER, force, null);
+	}
+
+	@Override
+	public Activity getApplyActivity() {
+		return DeployerActivity.DEPLOYING_SECRETS;
+	}
+
 	@Override
 	public V1Secret get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
 		V1Secret v1Secret = null;
@@ -15,7 +15,9 @@
  */
 package com.github.srujankujmar.deployer.services.handler.impl;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.github.srujankujmar.deployer.services.config.DeployerEnvConfig;
 import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
@@ -29,18 +31,21 @@ import com.google.gson.JsonSyntaxException;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.Status;
 import com.github.srujankujmar.commons.utils.GsonProviderUtil;
 import com.github.srujankujmar.deployer.core.model.ResourceKind;
 import com.github.srujankujmar.deployer.core.model.ResourceOperation;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.ServiceAddress;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
 import com.github.srujankujmar.deployer.services.util.K8sServiceUtil;
+import com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
@@ -49,13 +54,18 @@ import io.kubernetes.client.openapi.models.V1LoadBalancerIngress;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.custom.V1Patch;
+import okhttp3.Call;
 
-public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
+public class V1ServiceHandler implements ServerSideApplyHandler<V1Service> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1ServiceHandler.class);
 
     private static final long LB_READY_STATE_TIME = DeployerEnvConfig.getLBReadyTimeout();
-    private static final long MAX_LB_WAIT_TIME = 2000;
+
+    private static final WatchResource<V1Service, V1ServiceList> WATCH_RESOURCE = new WatchResource<>(V1Service.class,
+            V1ServiceList.class, (apiClient, namespace, params) -> new CoreV1Api(apiClient).listNamespacedServiceCall(
+                    namespace, null, null, null, null, null, null, params.resourceVersion, params.timeoutSeconds,
+                    params.watch, null));
 
     @Override
     public V1Service create(ApiClient apiClient, V1Service resource, String namespace) throws HyscaleException {
@@ -119,6 +129,18 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
         return true;
     }
 
+    @Override
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException {
+        return new CoreV1Api(apiClient).patchNamespacedServiceCall(name, namespace, patch, DeployerConstants.TRUE, null,
+                DeployerConstants.FIELD_MANAGER, force, null);
+    }
+
+    @Override
+    public Activity getApplyActivity() {
+        return DeployerActivity.DEPLOYING_SERVICE;
+    }
+
     @Override
     public V1Service get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
@@ -248,6 +270,11 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
         return isSuccess;
     }
 
+    @Override
+    public WatchResource<V1Service, V1ServiceList> getWatchResource() {
+        return WATCH_RESOURCE;
+    }
+
     @Override
     public String getKind() {
         return ResourceKind.SERVICE.getKind();
@@ -269,23 +296,20 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
         if (!wait) {
             return getServiceAddress(apiClient, selector, namespace);
         }
-        long startTime = System.currentTimeMillis();
         V1Service v1Service = null;
         V1LoadBalancerIngress loadBalancerIngress = null;
         ActivityContext serviceIPContext = new ActivityContext(DeployerActivity.WAITING_FOR_SERVICE_IP);
         WorkflowLogger.startActivity(serviceIPContext);
         try {
-            while (System.currentTimeMillis() - startTime < LB_READY_STATE_TIME) {
-                WorkflowLogger.continueActivity(serviceIPContext);
-                List<V1Service> v1ServiceList = getBySelector(apiClient, selector, true, namespace);
-                
-                v1Service = v1ServiceList != null && !v1ServiceList.isEmpty() ? v1ServiceList.get(0) : null;
+            List<V1Service> v1ServiceList = getBySelector(apiClient, selector, true, namespace);
+            v1Service = v1ServiceList != null && !v1ServiceList.isEmpty() ? v1ServiceList.get(0) : null;
+            loadBalancerIngress = K8sServiceUtil.getLoadBalancer(v1Service);
+            if (loadBalancerIngress == null) {
+                Map<String, String> selectorLabels = getSelectorLabels(selector);
+                v1Service = ResourceWatchTracker.await(apiClient, namespace, WATCH_RESOURCE,
+                        each -> isSelected(each, selectorLabels) && K8sServiceUtil.getLoadBalancer(each) != null,
+                        LB_READY_STATE_TIME, () -> WorkflowLogger.continueActivity(serviceIPContext));
                 loadBalancerIngress = K8sServiceUtil.getLoadBalancer(v1Service);
-
-                if (loadBalancerIngress != null) {
-                    break;
-                }
-                Thread.sleep(MAX_LB_WAIT_TIME);
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -319,4 +343,30 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
 
     }
 
+    /**
+     * @param selector equality based label selector such as "key1=value1,key2=value2"
+     * @return labels in the selector
+     */
+    private Map<String, String> getSelectorLabels(String selector) {
+        Map<String, String> selectorLabels = new HashMap<>();
+        if (selector == null) {
+            return selectorLabels;
+        }
+        for (String requirement : selector.split(",")) {
+            String[] keyValue = requirement.split("=", 2);
+            if (keyValue.length == 2) {
+                selectorLabels.put(keyValue[0].trim(), keyValue[1].trim());
+            }
+        }
+        return selectorLabels;
+    }
+
+    private boolean isSelected(V1Service v1Service, Map<String, String> selectorLabels) {
+        Map<String, String> labels = v1Service.getMetadata() != null ? v1Service.getMetadata().getLabels() : null;
+        if (labels == null) {
+            return selectorLabels.isEmpty();
+        }
+        return labels.entrySet().containsAll(selectorLabels.entrySet());
+    }
+
 }
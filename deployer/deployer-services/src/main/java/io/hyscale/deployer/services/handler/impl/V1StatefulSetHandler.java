@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.*;
@@ -32,6 +33,7 @@ import com.github.srujankujmar.commons.constants.K8SRuntimeConstants;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.ResourceLabelKey;
 import com.github.srujankujmar.commons.models.Status;
@@ -45,25 +47,33 @@ import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.handler.PodParentHandler;
 import com.github.srujankujmar.deployer.services.handler.ResourceHandlers;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.ServerSideApplyHandler;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.PodCondition;
 import com.github.srujankujmar.deployer.services.model.ResourceStatus;
 import com.github.srujankujmar.deployer.services.util.ExceptionHelper;
 import com.github.srujankujmar.deployer.services.util.K8sPodUtil;
 import com.github.srujankujmar.deployer.services.util.K8sResourcePatchUtil;
+import com.github.srujankujmar.deployer.services.util.PartialObjectMetadataUtil;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
+import okhttp3.Call;
+import com.github.srujankujmar.deployer.services.watch.ResourceWatchTracker;
+import com.github.srujankujmar.deployer.services.watch.WatchResource;
 
 /**
  * @author tushart
  */
 
-public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implements ResourceLifeCycleHandler<V1StatefulSet> {
+public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implements ServerSideApplyHandler<V1StatefulSet> {
     private static final Logger LOGGER = LoggerFactory.getLogger(V1StatefulSetHandler.class);
 
+    private static final WatchResource<V1StatefulSet, V1StatefulSetList> WATCH_RESOURCE = new WatchResource<>(V1StatefulSet.class,
+            V1StatefulSetList.class, (apiClient, namespace, params) -> new AppsV1Api(apiClient).listNamespacedStatefulSetCall(namespace,
+                    null, null, null, null, null, null, params.resourceVersion, params.timeoutSeconds, params.watch, null));
+
     @Override
     public V1StatefulSet create(ApiClient apiClient, V1StatefulSet resource, String namespace) throws HyscaleException {
         if (resource == null) {
@@ -127,6 +137,18 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return true;
     }
 
+    @Override
+    public Call getApplyCall(ApiClient apiClient, String name, String namespace, V1Patch patch, Boolean force)
+            throws ApiException {
+        return new AppsV1Api(apiClient).patchNamespacedStatefulSetCall(name, namespace, patch, DeployerConstants.TRUE, null,
+                DeployerConstants.FIELD_MANAGER, force, null);
+    }
+
+    @Override
+    public Activity getApplyActivity() {
+        return DeployerActivity.DEPLOYING_STATEFULSET;
+    }
+
     @Override
     public V1StatefulSet get(ApiClient apiClient, String name, String namespace) throws HyscaleException {
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
@@ -181,6 +203,25 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return statefulSets;
     }
 
+    @Override
+    public void listMetadataForAllNamespaces(ApiClient apiClient, String selector, boolean label,
+            Consumer<V1ObjectMeta> consumer) throws HyscaleException {
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        String labelSelector = label ? selector : null;
+        String fieldSelector = label ? null : selector;
+        try {
+            PartialObjectMetadataUtil.list(apiClient,
+                    (continueToken, limit) -> appsV1Api.listStatefulSetForAllNamespacesCall(null, continueToken, fieldSelector,
+                            labelSelector, limit, null, null, null, null, null),
+                    consumer);
+        } catch (ApiException e) {
+            HyscaleException ex = ExceptionHelper.buildGetException(getKind(), e, ResourceOperation.GET_ALL);
+            LOGGER.error("Error while listing StatefulSets metadata in all namespaces, with selectors {}, error {} ", selector,
+                    ex.toString());
+            throw ex;
+        }
+    }
+
     @Override
     public boolean patch(ApiClient apiClient, String name, String namespace, V1StatefulSet target) throws HyscaleException {
         if (target == null) {
@@ -293,6 +334,11 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return true;
     }
 
+    @Override
+    public WatchResource<V1StatefulSet, V1StatefulSetList> getWatchResource() {
+        return WATCH_RESOURCE;
+    }
+
     @Override
     public String getKind() {
         return ResourceKind.STATEFUL_SET.getKind();
@@ -513,35 +559,44 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
     }
 
     private boolean waitForDesiredState(ApiClient apiClient, String name, String namespace,ActivityContext activityContext) throws HyscaleException {
-        Long startTime = System.currentTimeMillis();
-        boolean stable = false;
-        int rotateThreshold = 5;
-        int sleep = 3;
+        V1StatefulSet statefulSet = null;
         try {
-            int rotations = 0;
-            while (System.currentTimeMillis() - startTime < DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS) {
-                V1StatefulSet updatedStatefulset = null;
-                updatedStatefulset = get(apiClient, name, namespace);
-                LOGGER.debug("Patched Statefulset status :{} ", updatedStatefulset.getStatus());
-                if (status(updatedStatefulset) == ResourceStatus.STABLE) {
-                    stable = true;
-                    break;
-                }
-                WorkflowLogger.continueActivity(activityContext);
-                if (rotateThreshold == rotations) {
-                    sleep++;
-                    rotations = 0;
-                }
-                Thread.sleep(sleep * 1000L);
-                rotations++;
-            }
-        } catch (InterruptedException e) {
-            LOGGER.error("Sleep Thread interrupted ", e);
-            Thread.currentThread().interrupt();
+            statefulSet = get(apiClient, name, namespace);
         } catch (HyscaleException ex){
             LOGGER.error("Error while fetching statefulset {}", ex.getHyscaleError(), ex);
+            return false;
+        }
+        long generation = getGeneration(statefulSet);
+        if (isRolledOut(statefulSet, generation)) {
+            return true;
+        }
+        try {
+            V1StatefulSet updatedStatefulSet = ResourceWatchTracker.await(apiClient, namespace, WATCH_RESOURCE,
+                    each -> name.equals(each.getMetadata().getName()) && isRolledOut(each, generation),
+                    DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS, () -> WorkflowLogger.continueActivity(activityContext));
+            return updatedStatefulSet != null;
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while waiting on statefulset {}", name, e);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private long getGeneration(V1StatefulSet statefulSet) {
+        Long generation = statefulSet.getMetadata() != null ? statefulSet.getMetadata().getGeneration() : null;
+        return generation != null ? generation : 0;
+    }
+
+    /**
+     * Rolled out once controller has observed the given generation or later and status is stable
+     */
+    private boolean isRolledOut(V1StatefulSet statefulSet, long generation) {
+        long currentGeneration = getGeneration(statefulSet);
+        Long observedGeneration = statefulSet.getStatus() != null ? statefulSet.getStatus().getObservedGeneration() : null;
+        if (currentGeneration < generation || (observedGeneration != null && observedGeneration < currentGeneration)) {
+            return false;
         }
-        return stable;
+        return status(statefulSet) == ResourceStatus.STABLE;
     }
 
 }
@@ -0,0 +1,459 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.logs;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.ThreadPoolUtil;
+import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
+import com.github.srujankujmar.deployer.services.util.K8sHttpClientUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Streams logs of multiple pod containers concurrently over a shared http client.
+ * Lines are prefixed with pod and container name when more than one target is streamed,
+ * each line carries the timestamp added by the cluster.
+ *
+ * <p>
+ * Follow: lines are written as they arrive. Producers block once the buffer is full,
+ * so a slow reader throttles the streams instead of buffering them in memory.
+ * Dropped streams are reconnected with sinceTime of the last line received.
+ * Otherwise: logs of each target are read completely and merged in timestamp order.
+ * </p>
+ */
+public class PodLogAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodLogAggregator.class);
+
+    private static final int BUFFER_LINES = 1024;
+
+    private static final int MAX_RECONNECT_ATTEMPTS = 5;
+
+    private static final long RECONNECT_INTERVAL_MILLIS = 1000;
+
+    private static final String SINCE_TIME = "sinceTime";
+
+    private final ApiClient apiClient;
+
+    private final String namespace;
+
+    private final OkHttpClient httpClient;
+
+    private final long reconnectIntervalMillis;
+
+    public PodLogAggregator(ApiClient apiClient, String namespace) {
+        this(apiClient, namespace, RECONNECT_INTERVAL_MILLIS);
+    }
+
+    PodLogAggregator(ApiClient apiClient, String namespace, long reconnectIntervalMillis) {
+        this.apiClient = apiClient;
+        this.namespace = namespace;
+        this.httpClient = K8sHttpClientUtil.getStreamingHttpClient(apiClient);
+        this.reconnectIntervalMillis = reconnectIntervalMillis;
+    }
+
+    /**
+     * Follows logs of all targets until each of them ends or the returned stream is closed
+     *
+     * @param targets
+     * @param readLines lines to read from the end of each container log
+     * @return stream of aggregated logs, closing it stops all streams
+     * @throws HyscaleException if logs of none of the targets could be streamed
+     */
+    public InputStream follow(List<PodLogTarget> targets, Integer readLines) throws HyscaleException {
+        boolean prefix = targets.size() > 1;
+        ExecutorService executor = getExecutor(targets.size());
+        LogStream logStream = new LogStream(targets.size(), executor);
+        CountDownLatch connectedLatch = new CountDownLatch(targets.size());
+        AtomicInteger connected = new AtomicInteger();
+        for (PodLogTarget target : targets) {
+            executor.submit(() -> followTarget(target, readLines, prefix, logStream, connectedLatch, connected));
+        }
+        executor.shutdown();
+        try {
+            connectedLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (connected.get() == 0) {
+            logStream.close();
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_TAIL_POD);
+        }
+        return logStream;
+    }
+
+    /**
+     * Reads logs of all targets concurrently
+     *
+     * @param targets
+     * @param readLines lines to read from the end of each container log
+     * @return logs of all targets merged in timestamp order
+     * @throws HyscaleException if logs of none of the targets could be read
+     */
+    public InputStream read(List<PodLogTarget> targets, Integer readLines) throws HyscaleException {
+        boolean prefix = targets.size() > 1;
+        ExecutorService executor = getExecutor(targets.size());
+        List<Future<List<LogLine>>> futures = new ArrayList<>();
+        for (PodLogTarget target : targets) {
+            futures.add(executor.submit(() -> readTarget(target, readLines, prefix)));
+        }
+        executor.shutdown();
+        List<List<LogLine>> targetLines = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                targetLines.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HyscaleException(e, DeployerErrorCodes.FAILED_TO_GET_LOGS);
+            } catch (ExecutionException e) {
+                logger.error("Error while reading logs of {} in namespace {}", targets.get(i), namespace,
+                        e.getCause());
+            }
+        }
+        if (targetLines.isEmpty()) {
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_GET_LOGS);
+        }
+        return new ByteArrayInputStream(merge(targetLines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void followTarget(PodLogTarget target, Integer readLines, boolean prefix, LogStream logStream,
+            CountDownLatch connectedLatch, AtomicInteger connected) {
+        boolean firstAttempt = true;
+        int attempts = 0;
+        Instant lastTimestamp = null;
+        // Lines written with the last timestamp, sent again when the stream resumes from it
+        int linesAtLastTimestamp = 0;
+        try {
+            while (!logStream.isClosed() && attempts <= MAX_RECONNECT_ATTEMPTS) {
+                Instant resumeFrom = lastTimestamp;
+                int linesToSkip = linesAtLastTimestamp;
+                boolean skipping = false;
+                Call call = getLogCall(target, true, resumeFrom == null ? readLines : null, resumeFrom);
+                logStream.register(call);
+                try (Response response = call.execute()) {
+                    if (firstAttempt) {
+                        firstAttempt = false;
+                        if (response.isSuccessful()) {
+                            connected.incrementAndGet();
+                        }
+                        connectedLatch.countDown();
+                    }
+                    if (!response.isSuccessful()) {
+                        logger.debug("Failed to stream logs of {} in namespace {} : {}", target, namespace,
+                                response.code());
+                        attempts++;
+                    } else {
+                        try (BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8))) {
+                            String line;
+                            while (!logStream.isClosed() && (line = reader.readLine()) != null) {
+                                Instant timestamp = getTimestamp(line);
+                                if (resumeFrom != null && timestamp != null) {
+                                    // Already written before the stream dropped, other lines at the
+                                    // last timestamp are new
+                                    skipping = timestamp.isBefore(resumeFrom)
+                                            || (timestamp.equals(resumeFrom) && linesToSkip-- > 0);
+                                }
+                                if (skipping) {
+                                    // Continuation lines without timestamp stay with the preceding line
+                                    continue;
+                                }
+                                if (timestamp != null && timestamp.equals(lastTimestamp)) {
+                                    linesAtLastTimestamp++;
+                                } else if (timestamp != null) {
+                                    lastTimestamp = timestamp;
+                                    linesAtLastTimestamp = 1;
+                                }
+                                attempts = 0;
+                                logStream.put(format(target, line, prefix));
+                            }
+                        }
+                        attempts++;
+                    }
+                } catch (IOException e) {
+                    logger.debug("Log stream of {} in namespace {} dropped", target, namespace, e);
+                    attempts++;
+                } finally {
+                    logStream.unregister(call);
+                }
+                if (!logStream.isClosed() && attempts <= MAX_RECONNECT_ATTEMPTS) {
+                    ThreadPoolUtil.sleepSilently(reconnectIntervalMillis);
+                }
+            }
+        } catch (ApiException e) {
+            logger.error("Error while streaming logs of {} in namespace {}", target, namespace, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (firstAttempt) {
+                connectedLatch.countDown();
+            }
+            logStream.producerDone();
+        }
+    }
+
+    private List<LogLine> readTarget(PodLogTarget target, Integer readLines, boolean prefix)
+            throws ApiException, IOException, HyscaleException {
+        List<LogLine> lines = new ArrayList<>();
+        try (Response response = getLogCall(target, false, readLines, null).execute()) {
+            if (!response.isSuccessful()) {
+                logger.error("Failed to get logs of {} in namespace {} : {}", target, namespace, response.code());
+                throw new HyscaleException(DeployerErrorCodes.FAILED_TO_GET_LOGS);
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8))) {
+                String line;
+                Instant lastTimestamp = Instant.MIN;
+                while ((line = reader.readLine()) != null) {
+                    Instant timestamp = getTimestamp(line);
+                    // Continuation lines without timestamp stay with the preceding line
+                    lastTimestamp = timestamp != null ? timestamp : lastTimestamp;
+                    lines.add(new LogLine(lastTimestamp, format(target, line, prefix)));
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Merges lines of each target, already in timestamp order, into a single timeline
+     */
+    private static String merge(List<List<LogLine>> targetLines) {
+        StringBuilder logs = new StringBuilder();
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Comparator
+                .comparing((int[] head) -> targetLines.get(head[0]).get(head[1]).timestamp)
+                .thenComparingInt(head -> head[0]));
+        for (int i = 0; i < targetLines.size(); i++) {
+            if (!targetLines.get(i).isEmpty()) {
+                heads.add(new int[] { i, 0 });
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<LogLine> lines = targetLines.get(head[0]);
+            logs.append(lines.get(head[1]).text).append('\n');
+            if (head[1] + 1 < lines.size()) {
+                heads.add(new int[] { head[0], head[1] + 1 });
+            }
+        }
+        return logs.toString();
+    }
+
+    private Call getLogCall(PodLogTarget target, boolean follow, Integer readLines, Instant sinceTime)
+            throws ApiException {
+        CoreV1Api coreClient = new CoreV1Api(apiClient);
+        Call call = coreClient.readNamespacedPodLogCall(target.getPodName(), namespace, target.getContainerName(),
+                follow, follow ? null : Boolean.TRUE, null, null, Boolean.FALSE, null, readLines, Boolean.TRUE, null);
+        Request request = call.request();
+        if (sinceTime != null) {
+            request = request.newBuilder()
+                    .url(request.url().newBuilder().addQueryParameter(SINCE_TIME, sinceTime.toString()).build())
+                    .build();
+        }
+        return httpClient.newCall(request);
+    }
+
+    private static String format(PodLogTarget target, String line, boolean prefix) {
+        return prefix ? "[" + target + "] " + line : line;
+    }
+
+    /**
+     * @return timestamp added by cluster at the start of the line, null if not found
+     */
+    private static Instant getTimestamp(String line) {
+        int index = line.indexOf(' ');
+        if (index <= 0) {
+            return null;
+        }
+        try {
+            return Instant.parse(line.substring(0, index));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService getExecutor(int targets) {
+        return Executors.newFixedThreadPool(targets,
+                new ThreadFactoryBuilder().setNameFormat("pod-log-%d").setDaemon(true).build());
+    }
+
+    private static class LogLine {
+        private final Instant timestamp;
+        private final String text;
+
+        LogLine(Instant timestamp, String text) {
+            this.timestamp = timestamp;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Bounded buffer of lines read as a stream,
+     * ends once all producers are done or when closed
+     */
+    private static class LogStream extends InputStream {
+
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> lines = new ArrayBlockingQueue<>(BUFFER_LINES);
+
+        private final List<Call> calls = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger producers;
+
+        private final ExecutorService executor;
+
+        private volatile boolean closed;
+
+        private boolean ended;
+
+        private byte[] current;
+
+        private int position;
+
+        LogStream(int producers, ExecutorService executor) {
+            this.producers = new AtomicInteger(producers);
+            this.executor = executor;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        void register(Call call) {
+            calls.add(call);
+            if (closed) {
+                call.cancel();
+            }
+        }
+
+        void unregister(Call call) {
+            calls.remove(call);
+        }
+
+        void put(String line) throws InterruptedException {
+            offer((line + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        void producerDone() {
+            if (producers.decrementAndGet() == 0) {
+                try {
+                    offer(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void offer(byte[] bytes) throws InterruptedException {
+            // Blocks while reader is slower than the streams
+            while (!closed && !lines.offer(bytes, RECONNECT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.trace("Log buffer full, waiting for reader");
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return current[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return current != null ? current.length - position : 0;
+        }
+
+        private boolean fill() throws IOException {
+            while (current == null || position == current.length) {
+                if (ended || closed) {
+                    return false;
+                }
+                try {
+                    byte[] next = lines.take();
+                    if (next == END) {
+                        ended = true;
+                        return false;
+                    }
+                    current = next;
+                    position = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while reading logs", e);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            calls.forEach(Call::cancel);
+            executor.shutdownNow();
+            lines.clear();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.logs;
+
+/**
+ * Container of a pod whose logs are streamed through {@link PodLogAggregator}
+ *
+ */
+public class PodLogTarget {
+
+    private final String podName;
+
+    private final String containerName;
+
+    public PodLogTarget(String podName, String containerName) {
+        this.podName = podName;
+        this.containerName = containerName;
+    }
+
+    public String getPodName() {
+        return podName;
+    }
+
+    public String getContainerName() {
+        return containerName;
+    }
+
+    @Override
+    public String toString() {
+        return containerName != null ? podName + "/" + containerName : podName;
+    }
+}
@@ -23,6 +23,7 @@ import com.github.srujankujmar.commons.models.Activity;
 public enum DeployerActivity implements Activity {
 	DEPLOYING("Applying {}"),
 	DELETING("Deleting {}"),
+	APPLY_SUMMARY("Applied {} resources, skipped {} unchanged"),
 	DEPLOYING_CONFIGMAP("Applying ConfigMap "),
 	DEPLOYING_STATEFULSET("Applying StatefulSet "),
 	DEPLOYING_DEPLOYMENT("Applying Deployment "),
@@ -45,6 +46,7 @@ public enum DeployerActivity implements Activity {
     DELETING_HORIZONTAL_POD_AUTOSCALER("Deleting HorizontalPodAutoScaler "),
     LATEST_DEPLOYMENT_NOT_IDENTIFIABLE("Unable to identify latest deployment, displaying all replicas"),
 	NO_RESOURCES_TO_UNDEPLOY("No resources to undeploy "),
+	WAITING_FOR_RESOURCE_DELETION("Waiting for resource deletion "),
 	STALE_VOLUME_DELETION(
 			"Volumes {} seems to have been removed in your hspec. These volumes are retained in your namespace {} as pvc {} for review and manual deletion"),
 	STALE_VOLUME_REUSE(
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of applying manifests to cluster, one result per resource
+ *
+ */
+public class ResourceApplyReport {
+
+    private final List<ResourceApplyResult> results = new ArrayList<>();
+
+    public void add(ResourceApplyResult result) {
+        if (result != null) {
+            results.add(result);
+        }
+    }
+
+    public List<ResourceApplyResult> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    public List<ResourceApplyResult> getFailedResults() {
+        return results.stream().filter(ResourceApplyResult::isFailed).collect(Collectors.toList());
+    }
+
+    public long getAppliedCount() {
+        return results.stream().filter(ResourceApplyResult::isApplied).count();
+    }
+
+    /**
+     * @return number of resources skipped as they are unchanged on cluster
+     */
+    public long getSkippedCount() {
+        return results.stream().filter(ResourceApplyResult::isSkipped).count();
+    }
+
+    public boolean isSuccessful() {
+        return results.stream().noneMatch(ResourceApplyResult::isFailed);
+    }
+
+    @Override
+    public String toString() {
+        return results.stream().map(ResourceApplyResult::toString).collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    public enum ApplyState {
+        APPLIED, SKIPPED, FAILED
+    }
+
+    public static class ResourceApplyResult {
+
+        private final String kind;
+        private final String name;
+        private final ApplyState state;
+        private final String error;
+
+        private ResourceApplyResult(String kind, String name, ApplyState state, String error) {
+            this.kind = kind;
+            this.name = name;
+            this.state = state;
+            this.error = error;
+        }
+
+        public static ResourceApplyResult applied(String kind, String name) {
+            return new ResourceApplyResult(kind, name, ApplyState.APPLIED, null);
+        }
+
+        public static ResourceApplyResult skipped(String kind, String name) {
+            return new ResourceApplyResult(kind, name, ApplyState.SKIPPED, null);
+        }
+
+        public static ResourceApplyResult failed(String kind, String name, String error) {
+            return new ResourceApplyResult(kind, name, ApplyState.FAILED, error);
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ApplyState getState() {
+            return state;
+        }
+
+        public boolean isApplied() {
+            return state == ApplyState.APPLIED;
+        }
+
+        public boolean isSkipped() {
+            return state == ApplyState.SKIPPED;
+        }
+
+        public boolean isFailed() {
+            return state == ApplyState.FAILED;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return kind + "/" + name + (isFailed() ? " failed: " + error : " " + state.name().toLowerCase());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.model;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.ResourceLabelKey;
+import com.github.srujankujmar.commons.utils.ResourceLabelBuilder;
+import com.github.srujankujmar.deployer.services.util.KubernetesResourceUtil;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+/**
+ * Resources of a namespace listed once per kind and indexed by service name label,
+ * so that status and troubleshooting of each service are evaluated without further cluster calls.
+ * Cluster scoped resources and events are kept as listed.
+ *
+ * Snapshot is read concurrently once built, resources must not be modified
+ */
+public class ResourceSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSnapshot.class);
+
+    private final String namespace;
+
+    private final Map<String, Map<String, List<Object>>> kindVsServiceResources = new HashMap<>();
+
+    private final Map<String, List<Object>> kindVsResources = new HashMap<>();
+
+    private final Map<String, HyscaleException> kindVsFailure = new HashMap<>();
+
+    private List<V1Event> events;
+
+    private volatile Map<String, List<V1Event>> nameVsEvents;
+
+    public ResourceSnapshot(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Indexes resources of the kind by service name label,
+     * resources without the label are only available through {@link #getResources(String)}
+     */
+    public void addResources(String kind, List<?> resources) {
+        Map<String, List<Object>> serviceVsResources = kindVsServiceResources.computeIfAbsent(kind,
+                key -> new HashMap<>());
+        List<Object> allResources = kindVsResources.computeIfAbsent(kind, key -> new ArrayList<>());
+        if (resources == null) {
+            return;
+        }
+        for (Object resource : resources) {
+            allResources.add(resource);
+            String serviceName = getServiceName(resource);
+            if (serviceName != null) {
+                serviceVsResources.computeIfAbsent(serviceName, key -> new ArrayList<>()).add(resource);
+            }
+        }
+    }
+
+    public void addFailure(String kind, HyscaleException failure) {
+        kindVsFailure.put(kind, failure);
+    }
+
+    public void setEvents(List<V1Event> events) {
+        this.events = events;
+    }
+
+    /**
+     * @return resources of the kind belonging to the service, empty if none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getResources(String kind, String serviceName) {
+        Map<String, List<Object>> serviceVsResources = kindVsServiceResources.get(kind);
+        if (serviceVsResources == null || serviceName == null) {
+            return Collections.emptyList();
+        }
+        List<Object> resources = serviceVsResources.get(ResourceLabelBuilder.normalize(serviceName));
+        return resources != null ? (List<T>) Collections.unmodifiableList(resources) : Collections.emptyList();
+    }
+
+    /**
+     * @return all listed resources of the kind, empty if none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getResources(String kind) {
+        List<Object> resources = kindVsResources.get(kind);
+        return resources != null ? (List<T>) Collections.unmodifiableList(resources) : Collections.emptyList();
+    }
+
+    /**
+     * @return true if resources of the kind were listed successfully
+     */
+    public boolean isListed(String kind) {
+        return kindVsResources.containsKey(kind);
+    }
+
+    /**
+     * @return error while listing resources of the kind, null if none
+     */
+    public HyscaleException getFailure(String kind) {
+        return kindVsFailure.get(kind);
+    }
+
+    /**
+     * @return events grouped by involved object name in the listed order, null if events were not listed
+     */
+    public Map<String, List<V1Event>> getEventsByInvolvedObject() {
+        if (events == null) {
+            return null;
+        }
+        Map<String, List<V1Event>> eventsByName = nameVsEvents;
+        if (eventsByName == null) {
+            eventsByName = new HashMap<>();
+            for (V1Event event : events) {
+                if (event.getInvolvedObject() != null && event.getInvolvedObject().getName() != null) {
+                    eventsByName.computeIfAbsent(event.getInvolvedObject().getName(), key -> new ArrayList<>())
+                            .add(event);
+                }
+            }
+            nameVsEvents = eventsByName;
+        }
+        return eventsByName;
+    }
+
+    private String getServiceName(Object resource) {
+        try {
+            V1ObjectMeta objectMeta = KubernetesResourceUtil.getObjectMeta(resource);
+            return objectMeta != null && objectMeta.getLabels() != null
+                    ? objectMeta.getLabels().get(ResourceLabelKey.SERVICE_NAME.getLabel())
+                    : null;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            logger.debug("Error while fetching metadata of {}", resource.getClass(), e);
+        }
+        return null;
+    }
+}
@@ -17,10 +17,12 @@ package com.github.srujankujmar.deployer.services.model;
 
 /**
  * Defines update policies for resource update on cluster
+ * SERVER_SIDE_APPLY creates or updates the resource with a single apply request,
+ * clusters without server side apply support fallback to PATCH
  *
  */
 public enum ResourceUpdatePolicy {
 
-	DELETE_AND_CREATE, UPDATE, PATCH;
+	DELETE_AND_CREATE, UPDATE, PATCH, SERVER_SIDE_APPLY;
 
 }
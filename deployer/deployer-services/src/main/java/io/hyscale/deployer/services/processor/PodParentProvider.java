@@ -17,15 +17,18 @@ package com.github.srujankujmar.deployer.services.processor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Component;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.ResourceLabelKey;
 import com.github.srujankujmar.commons.utils.ResourceSelectorUtil;
 import com.github.srujankujmar.deployer.services.factory.PodParentFactory;
 import com.github.srujankujmar.deployer.services.handler.PodParentHandler;
 import com.github.srujankujmar.deployer.services.model.PodParent;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 
 @Component
 public class PodParentProvider {
@@ -93,24 +96,18 @@ public class PodParentProvider {
     }
 
     /**
-     * Provides list of all {@link PodParent} available in the cluster
+     * Streams metadata of all hyscale managed {@link PodParent} available in the cluster.
+     * Resources are filtered by app label on the server and listed in pages
      * 
      * @param apiClient
-     * @return list of {@link PodParent}
+     * @param consumer receives metadata of each {@link PodParent}
      * @throws HyscaleException
      */
-    public List<PodParent> getAllPodParents(ApiClient apiClient) throws HyscaleException {
-        List<PodParent> podParentList = new ArrayList<>();
-        List<PodParentHandler> podParentHandlerList = PodParentFactory.getAllHandlers();
-        for (PodParentHandler podParentHandler : podParentHandlerList) {
-            List<?> podParentResource = podParentHandler.listForAllNamespaces(apiClient, null, true);
-            if (podParentResource != null) {
-                podParentResource.stream().forEach(each -> {
-                    PodParent podParent = new PodParent(podParentHandler.getKind(), each);
-                    podParentList.add(podParent);
-                });
-            }
+    public void getAllPodParentsMetadata(ApiClient apiClient, Consumer<V1ObjectMeta> consumer)
+            throws HyscaleException {
+        String selector = ResourceLabelKey.APP_NAME.getLabel();
+        for (PodParentHandler podParentHandler : PodParentFactory.getAllHandlers()) {
+            podParentHandler.listMetadataForAllNamespaces(apiClient, selector, true, consumer);
         }
-        return podParentList;
     }
 }
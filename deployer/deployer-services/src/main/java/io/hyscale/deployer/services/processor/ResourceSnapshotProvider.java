@@ -0,0 +1,128 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.processor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
+import com.github.srujankujmar.deployer.services.handler.ResourceHandlers;
+import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
+import com.github.srujankujmar.deployer.services.handler.impl.V1EventHandler;
+import com.github.srujankujmar.deployer.services.handler.impl.V1StorageClassHandler;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.kubernetes.client.openapi.ApiClient;
+
+/**
+ * Builds {@link ResourceSnapshot} with one list call per kind,
+ * along with events of the namespace and storage classes, listed concurrently
+ */
+@Component
+public class ResourceSnapshotProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSnapshotProvider.class);
+
+    /**
+     * Kinds required for status and troubleshooting of services
+     */
+    public static final List<String> SERVICE_KINDS = Collections.unmodifiableList(Arrays.asList(
+            ResourceKind.STATEFUL_SET.getKind(), ResourceKind.DEPLOYMENT.getKind(), ResourceKind.REPLICA_SET.getKind(),
+            ResourceKind.POD.getKind(), ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind(),
+            ResourceKind.SERVICE.getKind()));
+
+    private static final ExecutorService snapshotExecutor = Executors.newFixedThreadPool(8,
+            new ThreadFactoryBuilder().setNameFormat("resource-snapshot-%d").setDaemon(true).build());
+
+    /**
+     * Lists resources of the kinds matching the selector.
+     * Failure to list a kind is recorded in the snapshot, callers decide whether it is required
+     *
+     * @param apiClient
+     * @param selector label selector of the resources
+     * @param namespace
+     * @param kinds namespaced kinds to list
+     * @return snapshot of the resources, events of the namespace and storage classes
+     * @throws HyscaleException if interrupted while listing
+     */
+    public ResourceSnapshot get(ApiClient apiClient, String selector, String namespace, List<String> kinds)
+            throws HyscaleException {
+        Map<String, Future<List>> kindVsResourcesFuture = new LinkedHashMap<>();
+        for (String kind : kinds) {
+            ResourceLifeCycleHandler handler = ResourceHandlers.getHandlerOf(kind);
+            if (handler == null) {
+                logger.debug("No handler found for kind {}", kind);
+                continue;
+            }
+            kindVsResourcesFuture.put(kind,
+                    snapshotExecutor.submit(() -> handler.getBySelector(apiClient, selector, true, namespace)));
+        }
+        V1StorageClassHandler storageClassHandler = (V1StorageClassHandler) ResourceHandlers
+                .getHandlerOf(ResourceKind.STORAGE_CLASS.getKind());
+        kindVsResourcesFuture.put(ResourceKind.STORAGE_CLASS.getKind(),
+                snapshotExecutor.submit(() -> storageClassHandler.getAll(apiClient)));
+        V1EventHandler eventHandler = (V1EventHandler) ResourceHandlers.getHandlerOf(ResourceKind.EVENT.getKind());
+        Future<List> eventsFuture = snapshotExecutor
+                .submit(() -> eventHandler.getBySelector(apiClient, null, false, namespace));
+
+        ResourceSnapshot snapshot = new ResourceSnapshot(namespace);
+        try {
+            for (Map.Entry<String, Future<List>> entry : kindVsResourcesFuture.entrySet()) {
+                try {
+                    snapshot.addResources(entry.getKey(), getResult(entry.getKey(), entry.getValue()));
+                } catch (HyscaleException e) {
+                    logger.debug("Error while listing {} in namespace {} with selector {}", entry.getKey(),
+                            namespace, selector, e);
+                    snapshot.addFailure(entry.getKey(), e);
+                }
+            }
+            try {
+                snapshot.setEvents(getResult(ResourceKind.EVENT.getKind(), eventsFuture));
+            } catch (HyscaleException e) {
+                logger.debug("Error while listing events in namespace {}", namespace, e);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HyscaleException(e, DeployerErrorCodes.FAILED_TO_GET_RESOURCE, namespace);
+        }
+        return snapshot;
+    }
+
+    private List getResult(String kind, Future<List> future) throws HyscaleException, InterruptedException {
+        try {
+            List result = future.get();
+            return result != null ? result : Collections.emptyList();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof HyscaleException) {
+                throw (HyscaleException) e.getCause();
+            }
+            throw new HyscaleException(e.getCause(), DeployerErrorCodes.FAILED_TO_GET_RESOURCE, kind);
+        }
+    }
+}
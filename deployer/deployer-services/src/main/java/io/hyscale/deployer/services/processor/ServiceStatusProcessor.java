@@ -15,9 +15,8 @@
  */
 package com.github.srujankujmar.deployer.services.processor;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -29,16 +28,21 @@ import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.AuthConfig;
 import com.github.srujankujmar.commons.models.DeploymentContext;
 import com.github.srujankujmar.commons.models.K8sAuthorisation;
+import com.github.srujankujmar.commons.utils.ResourceSelectorUtil;
 import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
 import com.github.srujankujmar.deployer.services.deployer.Deployer;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.factory.PodParentFactory;
 import com.github.srujankujmar.deployer.services.handler.PodParentHandler;
 import com.github.srujankujmar.deployer.services.model.PodParent;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
 import com.github.srujankujmar.deployer.services.model.ServiceAddress;
 import com.github.srujankujmar.deployer.services.provider.K8sClientProvider;
 import com.github.srujankujmar.deployer.services.util.DeploymentStatusUtil;
+import com.github.srujankujmar.deployer.services.util.K8sServiceUtil;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Service;
 
 @Component
 public class ServiceStatusProcessor {
@@ -53,6 +57,9 @@ public class ServiceStatusProcessor {
     @Autowired
     private PodParentProvider podParentProvider;
 
+    @Autowired
+    private ResourceSnapshotProvider resourceSnapshotProvider;
+
     public DeploymentStatus getServiceDeploymentStatus(AuthConfig authConfig, String appname, String serviceName,
             String namespace) throws HyscaleException {
         if (StringUtils.isBlank(serviceName)) {
@@ -77,24 +84,58 @@ public class ServiceStatusProcessor {
 
     public List<DeploymentStatus> getDeploymentStatus(AuthConfig authConfig, String appname, String namespace)
             throws HyscaleException {
-        List<PodParent> podParentList = null;
+        ResourceSnapshot snapshot = null;
         try {
             ApiClient apiClient = clientProvider.get((K8sAuthorisation) authConfig);
-            podParentList = podParentProvider.getPodParents(apiClient, appname, namespace);
+            snapshot = resourceSnapshotProvider.get(apiClient, ResourceSelectorUtil.getSelector(appname), namespace,
+                    ResourceSnapshotProvider.SERVICE_KINDS);
         } catch (HyscaleException e) {
             logger.error("Error while fetching status for app: {} in namespace: {} ", appname, namespace, e);
             throw e;
+        }
+        return getDeploymentStatus(snapshot);
+    }
+
+    /**
+     * Builds status of each service from pod parents in the snapshot,
+     * service address is read from services in the snapshot
+     * 
+     * @param snapshot resources of the app
+     * @return List of {@link DeploymentStatus} for each Service
+     * @throws HyscaleException if pod parents could not be listed
+     */
+    public List<DeploymentStatus> getDeploymentStatus(ResourceSnapshot snapshot) throws HyscaleException {
+        List<DeploymentStatus> deploymentStatusList = new ArrayList<>();
+        for (PodParentHandler podParentHandler : PodParentFactory.getAllHandlers()) {
+            HyscaleException failure = snapshot.getFailure(podParentHandler.getKind());
+            if (failure != null) {
+                logger.error("Error while fetching status in namespace: {} ", snapshot.getNamespace(), failure);
+                throw failure;
+            }
+            for (Object podParent : snapshot.getResources(podParentHandler.getKind())) {
+                DeploymentStatus deploymentStatus = podParentHandler.buildStatus(podParent);
+                if (deploymentStatus != null) {
+                    deploymentStatusList.add(updateServiceAddress(deploymentStatus, snapshot));
+                }
+            }
+        }
+        return deploymentStatusList;
+    }
 
+    private DeploymentStatus updateServiceAddress(DeploymentStatus deploymentStatus, ResourceSnapshot snapshot) {
+        if (!snapshot.isListed(ResourceKind.SERVICE.getKind())) {
+            deploymentStatus.setServiceAddress("Failed to get service address, try again");
+            return deploymentStatus;
         }
-        if (podParentList == null || podParentList.isEmpty()) {
-            return Collections.emptyList();
+        List<V1Service> services = snapshot.getResources(ResourceKind.SERVICE.getKind(),
+                deploymentStatus.getServiceName());
+        if (!services.isEmpty()) {
+            ServiceAddress serviceAddress = K8sServiceUtil.getServiceAddress(services.get(0));
+            if (serviceAddress != null) {
+                deploymentStatus.setServiceAddress(serviceAddress.toString());
+            }
         }
-        List<DeploymentStatus> deploymentStatusList = podParentList.stream().map(each -> {
-            PodParentHandler podParentHandler = PodParentFactory.getHandler(each.getKind());
-            return podParentHandler.buildStatus(each.getParent());
-        }).collect(Collectors.toList());
-        return deploymentStatusList.stream().map(each -> updateServiceAddress(each, authConfig, appname, namespace))
-                .collect(Collectors.toList());
+        return deploymentStatus;
     }
 
     private DeploymentStatus updateServiceAddress(DeploymentStatus deploymentStatus, AuthConfig authConfig,
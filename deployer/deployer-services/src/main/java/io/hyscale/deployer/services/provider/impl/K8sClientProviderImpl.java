@@ -15,12 +15,20 @@
  */
 package com.github.srujankujmar.deployer.services.provider.impl;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import com.github.srujankujmar.commons.config.SetupConfig;
 import com.github.srujankujmar.commons.constants.ToolConstants;
+import com.github.srujankujmar.deployer.services.config.DeployerEnvConfig;
 import com.github.srujankujmar.deployer.services.model.K8sKubeConfigAuth;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import org.slf4j.Logger;
@@ -35,13 +43,32 @@ import com.github.srujankujmar.commons.models.K8sConfigReaderAuth;
 import com.github.srujankujmar.deployer.services.provider.K8sClientProvider;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.util.Config;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
+/**
+ * Clients are cached per cluster identity so that connection pools and TLS sessions
+ * are reused across calls. Identity is the kube config file with its last modified time
+ * and size, or the master url with credentials. A changed identity replaces the cached client.
+ * Clients built from config readers and kube config objects are not cached.
+ * 
+ * Connection pool size and HTTP/2 can be configured through
+ * {@link DeployerEnvConfig#getK8sConnectionPoolSize()} and {@link DeployerEnvConfig#isK8sHttp2Enabled()}
+ */
 @Component
 public class K8sClientProviderImpl implements K8sClientProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(K8sClientProviderImpl.class);
     
     private static final String FAILED_TO_INITIALIZE_K8S_CLIENT = "Failed to initialize k8s client ";
+
+    // Credentials such as exec plugin tokens are resolved once per client
+    private static final long CLIENT_MAX_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final long CONNECTION_KEEP_ALIVE_IN_MINUTES = 5;
+
+    private final Map<String, CachedClient> clientCache = new ConcurrentHashMap<>();
     
     /*
      * Get client from K8s config file
@@ -109,6 +136,30 @@ public class K8sClientProviderImpl implements K8sClientProvider {
 
 	@Override
 	public ApiClient get(K8sAuthorisation authConfig) throws HyscaleException {
+		ClientIdentity identity = ClientIdentity.of(authConfig);
+		if (identity == null) {
+			return configure(create(authConfig));
+		}
+		CachedClient cachedClient = clientCache.get(identity.getSource());
+		if (cachedClient != null && cachedClient.isValidFor(identity)) {
+			return cachedClient.getApiClient();
+		}
+		synchronized (clientCache) {
+			cachedClient = clientCache.get(identity.getSource());
+			if (cachedClient != null && cachedClient.isValidFor(identity)) {
+				return cachedClient.getApiClient();
+			}
+			ApiClient apiClient = configure(create(authConfig));
+			clientCache.put(identity.getSource(), new CachedClient(identity, apiClient));
+			if (cachedClient != null) {
+				logger.debug("Replacing k8s client for {}", identity.getSource());
+				cachedClient.evictConnections();
+			}
+			return apiClient;
+		}
+	}
+
+	private ApiClient create(K8sAuthorisation authConfig) throws HyscaleException {
 		ApiClient apiClient = null;
 		switch (authConfig.getK8sAuthType()) {
 		case KUBE_CONFIG_FILE:
@@ -127,4 +178,88 @@ public class K8sClientProviderImpl implements K8sClientProvider {
 		return apiClient;
 	}
 
+	private ApiClient configure(ApiClient apiClient) {
+		if (apiClient == null) {
+			return null;
+		}
+		OkHttpClient.Builder builder = apiClient.getHttpClient().newBuilder().connectionPool(new ConnectionPool(
+				DeployerEnvConfig.getK8sConnectionPoolSize(), CONNECTION_KEEP_ALIVE_IN_MINUTES, TimeUnit.MINUTES));
+		if (!DeployerEnvConfig.isK8sHttp2Enabled()) {
+			builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+		}
+		apiClient.setHttpClient(builder.build());
+		return apiClient;
+	}
+
+	private static class ClientIdentity {
+
+		private final String source;
+
+		private final List<Object> fingerprint;
+
+		private ClientIdentity(String source, Object... fingerprint) {
+			this.source = source;
+			this.fingerprint = Arrays.asList(fingerprint);
+		}
+
+		/**
+		 * @param authConfig
+		 * @return identity of the cluster credentials, null if the client should not be cached
+		 */
+		static ClientIdentity of(K8sAuthorisation authConfig) {
+			if (authConfig instanceof K8sConfigFileAuth) {
+				File kubeConfig = ((K8sConfigFileAuth) authConfig).getK8sConfigFile();
+				if (kubeConfig == null || !kubeConfig.isFile()) {
+					return null;
+				}
+				return new ClientIdentity("file:" + kubeConfig.getAbsolutePath(), kubeConfig.lastModified(),
+						kubeConfig.length());
+			}
+			if (authConfig instanceof K8sBasicAuth) {
+				K8sBasicAuth basicAuth = (K8sBasicAuth) authConfig;
+				return new ClientIdentity("url:" + basicAuth.getMasterURL() + "#" + basicAuth.getUserName(),
+						basicAuth.getPassword(), basicAuth.getToken(), basicAuth.getCaCert());
+			}
+			return null;
+		}
+
+		String getSource() {
+			return source;
+		}
+
+		List<Object> getFingerprint() {
+			return fingerprint;
+		}
+	}
+
+	private static class CachedClient {
+
+		private final ClientIdentity identity;
+
+		private final ApiClient apiClient;
+
+		private final long createdAt;
+
+		CachedClient(ClientIdentity identity, ApiClient apiClient) {
+			this.identity = identity;
+			this.apiClient = apiClient;
+			this.createdAt = System.currentTimeMillis();
+		}
+
+		boolean isValidFor(ClientIdentity clientIdentity) {
+			return apiClient != null && identity.getFingerprint().equals(clientIdentity.getFingerprint())
+					&& System.currentTimeMillis() - createdAt < CLIENT_MAX_AGE_IN_MILLIS;
+		}
+
+		ApiClient getApiClient() {
+			return apiClient;
+		}
+
+		void evictConnections() {
+			if (apiClient != null) {
+				apiClient.getHttpClient().connectionPool().evictAll();
+			}
+		}
+	}
+
 }
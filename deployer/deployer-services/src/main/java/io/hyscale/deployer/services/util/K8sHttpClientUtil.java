@@ -0,0 +1,57 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+
+/**
+ * Http clients for long running calls such as watches and log streams
+ */
+public class K8sHttpClientUtil {
+
+    // Streaming clients derived from the client of api client, sharing its connection pool
+    private static final Map<OkHttpClient, OkHttpClient> streamingClients = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    private K8sHttpClientUtil() {}
+
+    /**
+     * Gets client without read timeout derived from the client of apiClient,
+     * the response is held open by the api server. Shared apiClient is not modified
+     * @param apiClient
+     * @return streaming client, cached per client of apiClient
+     */
+    public static OkHttpClient getStreamingHttpClient(ApiClient apiClient) {
+        return streamingClients.computeIfAbsent(apiClient.getHttpClient(),
+                client -> client.newBuilder().readTimeout(0, TimeUnit.SECONDS).build());
+    }
+
+    /**
+     * @param apiClient
+     * @param call built by apiClient
+     * @return call with the same request on the streaming client
+     */
+    public static Call newStreamingCall(ApiClient apiClient, Call call) {
+        return getStreamingHttpClient(apiClient).newCall(call.request());
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.AnnotationKey;
+import com.github.srujankujmar.commons.models.ClusterVersionInfo;
+import com.github.srujankujmar.commons.utils.GsonProviderUtil;
+import com.github.srujankujmar.deployer.core.model.ResourceOperation;
+import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
+import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.PatchUtils;
+import okhttp3.Call;
+
+/**
+ * Utility for server side apply of resources
+ * Resource is created or updated with a single apply patch request,
+ * fields are owned by the hyscale field manager
+ *
+ */
+public class K8sResourceApplyUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(K8sResourceApplyUtil.class);
+
+    private static final int MIN_SUPPORTED_MAJOR_VERSION = 1;
+
+    // Server side apply is enabled by default from 1.16, with stable field ownership from 1.18
+    private static final int MIN_SUPPORTED_MINOR_VERSION = 18;
+
+    // Field manager of requests made before server side apply, derived from the client user agent
+    static final String LEGACY_FIELD_MANAGER = "OpenAPI-Generator";
+
+    private static final String APPLY_OPERATION = "Apply";
+
+    private static final String UPDATE_OPERATION = "Update";
+
+    private K8sResourceApplyUtil() {}
+
+    /**
+     * Provides the patch call of the resource for the given patch
+     */
+    @FunctionalInterface
+    public interface ApplyCallProvider {
+        /**
+         * @param patch
+         * @param force true for apply patch, null for other patches
+         * @return patch call with the hyscale field manager
+         * @throws ApiException
+         */
+        Call getCall(V1Patch patch, Boolean force) throws ApiException;
+    }
+
+    /**
+     * Applies resource through server side apply
+     * Last applied configuration annotation is not used by server side apply, it is retained
+     * so that scale and the patch fallback of clusters without server side apply still work
+     *
+     * <p>Fields of a resource created or updated before server side apply are owned by
+     * the legacy field manager, force apply does not remove such fields when they are
+     * dropped from the resource. On the first apply, their ownership is moved to hyscale
+     * and the resource is applied again so that dropped fields are removed
+     *
+     * @param <T>
+     * @param apiClient
+     * @param resource
+     * @param callProvider call to patch resource with hyscale field manager
+     * @return resource from cluster
+     * @throws HyscaleException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends KubernetesObject> T apply(ApiClient apiClient, T resource, ApplyCallProvider callProvider)
+            throws HyscaleException {
+        Class<T> klass = (Class<T>) resource.getClass();
+        resource.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                GsonProviderUtil.getPrettyGsonBuilder().toJson(resource));
+        // Json is valid yaml, server accepts it as apply patch
+        V1Patch applyPatch = new V1Patch(apiClient.getJSON().serialize(resource));
+        try {
+            T applied = patch(apiClient, klass, callProvider, applyPatch, V1Patch.PATCH_FORMAT_APPLY_YAML);
+            List<V1ManagedFieldsEntry> managedFields = getUpgradedManagedFields(applied.getMetadata());
+            if (managedFields == null) {
+                return applied;
+            }
+            logger.debug("Moving fields of {} {} from {} to {}", resource.getKind(),
+                    resource.getMetadata().getName(), LEGACY_FIELD_MANAGER, DeployerConstants.FIELD_MANAGER);
+            patch(apiClient, klass, callProvider, getManagedFieldsPatch(apiClient, applied.getMetadata(), managedFields),
+                    V1Patch.PATCH_FORMAT_JSON_PATCH);
+            return patch(apiClient, klass, callProvider, applyPatch, V1Patch.PATCH_FORMAT_APPLY_YAML);
+        } catch (ApiException e) {
+            throw new HyscaleException(e, DeployerErrorCodes.FAILED_TO_APPLY_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(resource.getKind(), e, ResourceOperation.APPLY));
+        }
+    }
+
+    private static <T> T patch(ApiClient apiClient, Class<T> klass, ApplyCallProvider callProvider, V1Patch patch,
+            String patchFormat) throws ApiException {
+        Boolean force = V1Patch.PATCH_FORMAT_APPLY_YAML.equals(patchFormat) ? Boolean.TRUE : null;
+        return PatchUtils.patch(klass, () -> callProvider.getCall(patch, force), patchFormat, apiClient);
+    }
+
+    /**
+     * Managed fields where the fields owned by the legacy field manager are
+     * merged into the apply entry of hyscale
+     *
+     * @param metadata of the applied resource
+     * @return upgraded managed fields, null if no fields are owned by the legacy field manager
+     */
+    static List<V1ManagedFieldsEntry> getUpgradedManagedFields(V1ObjectMeta metadata) {
+        if (metadata == null || metadata.getManagedFields() == null) {
+            return null;
+        }
+        V1ManagedFieldsEntry applyEntry = metadata.getManagedFields().stream()
+                .filter(entry -> DeployerConstants.FIELD_MANAGER.equals(entry.getManager())
+                        && APPLY_OPERATION.equals(entry.getOperation()))
+                .findFirst().orElse(null);
+        if (applyEntry == null) {
+            return null;
+        }
+        List<V1ManagedFieldsEntry> managedFields = new ArrayList<>();
+        Object fields = applyEntry.getFieldsV1();
+        boolean upgraded = false;
+        for (V1ManagedFieldsEntry entry : metadata.getManagedFields()) {
+            if (entry == applyEntry) {
+                continue;
+            }
+            // Fields are tracked per api version, entries of other versions are left as is
+            if (LEGACY_FIELD_MANAGER.equals(entry.getManager()) && UPDATE_OPERATION.equals(entry.getOperation())
+                    && Objects.equals(applyEntry.getApiVersion(), entry.getApiVersion())) {
+                fields = mergeFields(fields, entry.getFieldsV1());
+                upgraded = true;
+            } else {
+                managedFields.add(entry);
+            }
+        }
+        if (!upgraded) {
+            return null;
+        }
+        managedFields.add(new V1ManagedFieldsEntry().manager(applyEntry.getManager())
+                .operation(applyEntry.getOperation()).apiVersion(applyEntry.getApiVersion())
+                .fieldsType(applyEntry.getFieldsType()).time(applyEntry.getTime()).fieldsV1(fields));
+        return managedFields;
+    }
+
+    /**
+     * Field sets are trees of field keys, union of both trees
+     */
+    @SuppressWarnings("unchecked")
+    private static Object mergeFields(Object fields, Object otherFields) {
+        if (!(fields instanceof Map) || !(otherFields instanceof Map)) {
+            return fields != null ? fields : otherFields;
+        }
+        Map<String, Object> merged = new LinkedHashMap<>((Map<String, Object>) fields);
+        ((Map<String, Object>) otherFields).forEach((key, value) -> merged.merge(key, value, K8sResourceApplyUtil::mergeFields));
+        return merged;
+    }
+
+    /**
+     * Replaces managed fields only when resource is not modified after the apply
+     */
+    private static V1Patch getManagedFieldsPatch(ApiClient apiClient, V1ObjectMeta metadata,
+            List<V1ManagedFieldsEntry> managedFields) {
+        List<Map<String, Object>> operations = new ArrayList<>();
+        if (metadata.getResourceVersion() != null) {
+            operations.add(Map.of("op", "test", "path", "/metadata/resourceVersion", "value", metadata.getResourceVersion()));
+        }
+        operations.add(Map.of("op", "replace", "path", "/metadata/managedFields", "value", managedFields));
+        return new V1Patch(apiClient.getJSON().serialize(operations));
+    }
+
+    /**
+     * @param versionInfo
+     * @return true if cluster version supports server side apply, else false
+     */
+    public static boolean isServerSideApplySupported(ClusterVersionInfo versionInfo) {
+        if (versionInfo == null) {
+            return false;
+        }
+        int major = getVersionNumber(versionInfo.getMajor());
+        int minor = getVersionNumber(versionInfo.getMinor());
+        if (major != MIN_SUPPORTED_MAJOR_VERSION) {
+            return major > MIN_SUPPORTED_MAJOR_VERSION;
+        }
+        return minor >= MIN_SUPPORTED_MINOR_VERSION;
+    }
+
+    /**
+     * Managed clusters report versions such as "18+"
+     */
+    private static int getVersionNumber(String version) {
+        String digits = StringUtils.getDigits(version);
+        return StringUtils.isEmpty(digits) ? -1 : Integer.parseInt(digits);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.util.Map;
+
+import com.github.srujankujmar.commons.models.AnnotationKey;
+import com.github.srujankujmar.commons.utils.DigestUtil;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+/**
+ * Digest of generated manifests, stored on the resource as {@link AnnotationKey#MANIFEST_DIGEST}
+ * Resources whose live digest matches the generated one are unchanged since the last deploy
+ *
+ */
+public class K8sResourceDigestUtil {
+
+    private K8sResourceDigestUtil() {}
+
+    /**
+     * Digest is calculated on the serialized resource,
+     * should be called before setting annotations that change on every deploy
+     *
+     * @param json serializer of the api client
+     * @param resource
+     * @return hex digest of resource, null if resource is null
+     */
+    public static String getDigest(JSON json, Object resource) {
+        if (resource == null) {
+            return null;
+        }
+        return getDigest(json.serialize(resource));
+    }
+
+    public static String getDigest(String content) {
+        return DigestUtil.digest(content);
+    }
+
+    /**
+     * @param metadata
+     * @return digest annotation of the resource, null if not found
+     */
+    public static String getDigest(V1ObjectMeta metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        Map<String, String> annotations = metadata.getAnnotations();
+        return annotations != null ? annotations.get(AnnotationKey.MANIFEST_DIGEST.getAnnotation()) : null;
+    }
+}
@@ -17,6 +17,8 @@ package com.github.srujankujmar.deployer.services.util;
 
 import com.github.srujankujmar.commons.constants.K8SRuntimeConstants;
 import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.logger.ActivityContext;
+import com.github.srujankujmar.commons.logger.Buffered;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.KubernetesResource;
@@ -28,6 +30,8 @@ import com.github.srujankujmar.deployer.core.model.ResourceKind;
 import com.github.srujankujmar.deployer.services.broker.K8sResourceBroker;
 import com.github.srujankujmar.deployer.services.builder.NamespaceBuilder;
 import com.github.srujankujmar.deployer.services.client.GenericK8sClient;
+import com.github.srujankujmar.deployer.services.config.DeployerEnvConfig;
+import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
 import com.github.srujankujmar.deployer.services.client.K8sResourceClient;
 import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
 import com.github.srujankujmar.deployer.services.handler.ResourceHandlers;
@@ -37,9 +41,14 @@ import com.github.srujankujmar.deployer.services.manager.AnnotationsUpdateManage
 import com.github.srujankujmar.deployer.services.model.CustomObject;
 import com.github.srujankujmar.deployer.services.model.DeployerActivity;
 import com.github.srujankujmar.deployer.services.model.PodParent;
+import com.github.srujankujmar.deployer.services.model.ResourceApplyReport;
+import com.github.srujankujmar.deployer.services.model.ResourceApplyReport.ResourceApplyResult;
+import com.github.srujankujmar.deployer.services.model.ResourceUpdatePolicy;
 import com.github.srujankujmar.deployer.services.processor.PodParentUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -49,8 +58,19 @@ import org.springframework.util.MultiValueMap;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Handles generic resource level operation such as apply, undeploy among others
@@ -60,10 +80,16 @@ public class K8sResourceDispatcher {
 
     private static final Logger logger = LoggerFactory.getLogger(K8sResourceDispatcher.class);
 
+    private static final long DELETE_PROGRESS_INTERVAL_IN_MILLIS = 1000;
+
+    private static final ExecutorService deleteWaitExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("resource-delete-wait-%d").setDaemon(true).build());
+
     private K8sResourceBroker resourceBroker;
     private ApiClient apiClient;
     private String namespace;
     private boolean waitForReadiness;
+    private boolean serverSideApply;
 
     public K8sResourceDispatcher(ApiClient apiClient) {
         this.apiClient = apiClient;
@@ -90,14 +116,33 @@ public class K8sResourceDispatcher {
         this.waitForReadiness = waitForReadiness;
     }
 
+    public boolean isServerSideApply() {
+        return serverSideApply;
+    }
+
+    /**
+     * Enable only if cluster supports server side apply,
+     * resources are then applied with a single request instead of fetch followed by patch or create
+     * @param serverSideApply
+     */
+    public void serverSideApply(boolean serverSideApply) {
+        this.serverSideApply = serverSideApply;
+    }
+
     /**
      * Applies manifest to cluster
-     * Use update policy if resource found on cluster otherwise create
+     * Use update policy if resource found on cluster otherwise create,
+     * server side apply does not require to fetch the resource
+     * Resources unchanged since the last deploy are identified by their manifest digest and skipped
+     * Resources of the same weight are applied concurrently, tiers are applied in order of weight
+     * followed by custom resources. Each call applies on its own pool, so that applies waiting
+     * for readiness do not hold threads needed by services deployed in parallel
      *
      * @param manifests
+     * @return result of each resource applied
      * @throws HyscaleException
      */
-    public void apply(List<Manifest> manifests) throws HyscaleException {
+    public ResourceApplyReport apply(List<Manifest> manifests) throws HyscaleException {
         if (manifests == null || manifests.isEmpty()) {
             logger.error("Found empty manifests to deploy ");
             throw new HyscaleException(DeployerErrorCodes.MANIFEST_REQUIRED);
@@ -107,30 +152,235 @@ public class K8sResourceDispatcher {
         MultiValueMap<String,CustomObject> kindVsCustomObjects = getCustomObjects(manifests);
         List<KubernetesResource> k8sResources = getSortedResources(manifests);
         List<String> appliedKinds = buildAppliedKindsAnnotation(kindVsCustomObjects);
+        k8sResources.forEach(each -> updateAnnotations(each, appliedKinds));
+        Map<String, Map<String, String>> kindVsLiveDigests = getLiveDigests(k8sResources);
 
-        for (KubernetesResource k8sResource : k8sResources) {
-            AnnotationsUpdateManager.update(k8sResource, AnnotationKey.LAST_UPDATED_AT,
-                    DateTime.now().toString("yyyy-MM-dd HH:mm:ss"));
+        ResourceApplyReport applyReport = new ResourceApplyReport();
+        ExecutorService applyExecutor = newApplyExecutor();
+        try {
+            List<ResourceApplyResult> results = applyTiers(k8sResources,
+                    each -> applyResource(each, kindVsLiveDigests.get(each.getKind())), applyExecutor);
+            for (ResourceApplyResult result : results) {
+                applyReport.add(result);
+                if (result != null && !result.isFailed()) {
+                    kindVsCustomObjects.remove(result.getKind());
+                }
+            }
+            applyCustomResources(kindVsCustomObjects, applyReport, applyExecutor);
+        } finally {
+            applyExecutor.shutdownNow();
+        }
+        logger.debug("Apply report for namespace {} : {}", namespace, applyReport);
+        WorkflowLogger.info(DeployerActivity.APPLY_SUMMARY, String.valueOf(applyReport.getAppliedCount()),
+                String.valueOf(applyReport.getSkippedCount()));
+        return applyReport;
+    }
 
-            if(k8sResource.getKind().equalsIgnoreCase("deployment") || k8sResource.getKind().equalsIgnoreCase("statefulset")){
-                AnnotationsUpdateManager.update(k8sResource,AnnotationKey.HYSCALE_APPLIED_KINDS,appliedKinds.toString());
+    /**
+     * Manifest digest is calculated before annotations which change on every deploy are added
+     */
+    private void updateAnnotations(KubernetesResource k8sResource, List<String> appliedKinds) {
+        if(k8sResource.getKind().equalsIgnoreCase("deployment") || k8sResource.getKind().equalsIgnoreCase("statefulset")){
+            AnnotationsUpdateManager.update(k8sResource,AnnotationKey.HYSCALE_APPLIED_KINDS,appliedKinds.toString());
+        }
+        String digest = K8sResourceDigestUtil.getDigest(apiClient.getJSON(), k8sResource.getResource());
+        if (digest != null) {
+            AnnotationsUpdateManager.update(k8sResource, AnnotationKey.MANIFEST_DIGEST, digest);
+        }
+        AnnotationsUpdateManager.update(k8sResource, AnnotationKey.LAST_UPDATED_AT,
+                DateTime.now().toString("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    /**
+     * Fetches manifest digest of live resources with a single list call per kind,
+     * selected by labels common to all resources of the kind
+     *
+     * @param k8sResources
+     * @return kind vs resource name vs digest, empty if skipping unchanged resources is disabled
+     */
+    private Map<String, Map<String, String>> getLiveDigests(List<KubernetesResource> k8sResources) {
+        Map<String, Map<String, String>> kindVsLiveDigests = new HashMap<>();
+        if (!DeployerEnvConfig.isSkipUnchangedResources()) {
+            return kindVsLiveDigests;
+        }
+        Map<String, List<KubernetesResource>> kindVsResources = k8sResources.stream()
+                .filter(each -> each.getV1ObjectMeta() != null)
+                .collect(Collectors.groupingBy(KubernetesResource::getKind, LinkedHashMap::new, Collectors.toList()));
+        kindVsResources.forEach((kind, resources) -> {
+            ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(kind);
+            String selector = getCommonLabelSelector(resources);
+            if (lifeCycleHandler == null || StringUtils.isBlank(selector)) {
+                return;
             }
-            ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(k8sResource.getKind());
-            if (lifeCycleHandler != null && k8sResource.getResource() != null && k8sResource.getV1ObjectMeta() != null) {
-                try {
-                    String name = k8sResource.getV1ObjectMeta().getName();
-                    if (resourceBroker.get(lifeCycleHandler, name) != null) {
-                        resourceBroker.update(lifeCycleHandler, k8sResource, lifeCycleHandler.getUpdatePolicy());
-                    } else {
-                        resourceBroker.create(lifeCycleHandler, k8sResource.getResource());
+            try {
+                List<?> liveResources = lifeCycleHandler.getBySelector(apiClient, selector, true, namespace);
+                if (liveResources == null) {
+                    return;
+                }
+                Map<String, String> nameVsDigest = new HashMap<>();
+                for (Object liveResource : liveResources) {
+                    V1ObjectMeta metadata = KubernetesResourceUtil.getObjectMeta(liveResource);
+                    String digest = K8sResourceDigestUtil.getDigest(metadata);
+                    if (digest != null) {
+                        nameVsDigest.put(metadata.getName(), digest);
                     }
-                    kindVsCustomObjects.remove(k8sResource.getKind());
-                } catch (HyscaleException ex) {
-                    logger.error("Failed to apply resource :{} Reason :: {}", k8sResource.getKind(), ex.getMessage(),ex);
                 }
+                kindVsLiveDigests.put(kind, nameVsDigest);
+            } catch (HyscaleException | ReflectiveOperationException e) {
+                logger.error("Error while fetching {} in namespace {}, applying all of them", kind, namespace, e);
+            }
+        });
+        return kindVsLiveDigests;
+    }
+
+    private String getCommonLabelSelector(List<KubernetesResource> resources) {
+        Map<String, String> commonLabels = null;
+        for (KubernetesResource resource : resources) {
+            Map<String, String> labels = resource.getV1ObjectMeta().getLabels();
+            if (labels == null || labels.isEmpty()) {
+                return null;
             }
+            if (commonLabels == null) {
+                commonLabels = new LinkedHashMap<>(labels);
+            } else {
+                commonLabels.entrySet().retainAll(labels.entrySet());
+            }
+        }
+        if (commonLabels == null) {
+            return null;
+        }
+        return commonLabels.entrySet().stream().map(each -> each.getKey() + "=" + each.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    private boolean isUnchanged(KubernetesResource k8sResource, Map<String, String> liveDigests) {
+        if (liveDigests == null) {
+            return false;
+        }
+        String digest = K8sResourceDigestUtil.getDigest(k8sResource.getV1ObjectMeta());
+        return digest != null && digest.equals(liveDigests.get(k8sResource.getV1ObjectMeta().getName()));
+    }
+
+    /**
+     * Resources with the same manifest digest as the live resource are skipped
+     * @return null if resource is not handled by any lifecycle handler
+     */
+    private ResourceApplyResult applyResource(KubernetesResource k8sResource, Map<String, String> liveDigests) {
+        ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(k8sResource.getKind());
+        if (lifeCycleHandler == null || k8sResource.getResource() == null || k8sResource.getV1ObjectMeta() == null) {
+            return null;
+        }
+        String name = k8sResource.getV1ObjectMeta().getName();
+        if (isUnchanged(k8sResource, liveDigests)) {
+            logger.debug("Resource {}/{} unchanged, skipping apply", k8sResource.getKind(), name);
+            WorkflowLogger.startActivity(DeployerActivity.DEPLOYING, k8sResource.getKind());
+            WorkflowLogger.endActivity(Status.SKIPPING);
+            return ResourceApplyResult.skipped(k8sResource.getKind(), name);
+        }
+        ResourceUpdatePolicy updatePolicy = getUpdatePolicy(lifeCycleHandler);
+        try {
+            if (updatePolicy == ResourceUpdatePolicy.SERVER_SIDE_APPLY) {
+                resourceBroker.update(lifeCycleHandler, k8sResource, updatePolicy);
+            } else if (resourceBroker.get(lifeCycleHandler, name) != null) {
+                resourceBroker.update(lifeCycleHandler, k8sResource, updatePolicy);
+            } else {
+                resourceBroker.create(lifeCycleHandler, k8sResource.getResource());
+            }
+            return ResourceApplyResult.applied(k8sResource.getKind(), name);
+        } catch (HyscaleException ex) {
+            logger.error("Failed to apply resource :{} Reason :: {}", k8sResource.getKind(), ex.getMessage(),ex);
+            return ResourceApplyResult.failed(k8sResource.getKind(), name, ex.getMessage());
         }
-        applyCustomResources(kindVsCustomObjects);
+    }
+
+    /**
+     * Server side apply falls back to patch when not enabled for the cluster
+     */
+    private ResourceUpdatePolicy getUpdatePolicy(ResourceLifeCycleHandler lifeCycleHandler) {
+        ResourceUpdatePolicy updatePolicy = lifeCycleHandler.getUpdatePolicy();
+        if (updatePolicy == ResourceUpdatePolicy.SERVER_SIDE_APPLY && !serverSideApply) {
+            return ResourceUpdatePolicy.PATCH;
+        }
+        return updatePolicy;
+    }
+
+    /**
+     * Groups sorted resources by weight
+     */
+    private List<List<KubernetesResource>> getTiers(List<KubernetesResource> sortedResources) {
+        List<List<KubernetesResource>> tiers = new ArrayList<>();
+        Integer currentWeight = null;
+        for (KubernetesResource k8sResource : sortedResources) {
+            int weight = getWeight(k8sResource.getKind());
+            if (currentWeight == null || weight != currentWeight) {
+                tiers.add(new ArrayList<>());
+                currentWeight = weight;
+            }
+            tiers.get(tiers.size() - 1).add(k8sResource);
+        }
+        return tiers;
+    }
+
+    private static ExecutorService newApplyExecutor() {
+        return Executors.newFixedThreadPool(DeployerEnvConfig.getApplyParallelism(),
+                new ThreadFactoryBuilder().setNameFormat("resource-apply-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Applies sorted resources tier by tier in order of weight,
+     * resources of the same tier concurrently
+     *
+     * @return result of each resource in the order of resources
+     */
+    List<ResourceApplyResult> applyTiers(List<KubernetesResource> sortedResources,
+            Function<KubernetesResource, ResourceApplyResult> applier, ExecutorService applyExecutor)
+            throws HyscaleException {
+        List<ResourceApplyResult> results = new ArrayList<>();
+        for (List<KubernetesResource> tier : getTiers(sortedResources)) {
+            results.addAll(applyConcurrently(tier, applier, applyExecutor));
+        }
+        return results;
+    }
+
+    /**
+     * Applies each item on the apply executor and waits for all of them.
+     * Output of each item is buffered and written in the order of items
+     */
+    private <T> List<ResourceApplyResult> applyConcurrently(List<T> items, Function<T, ResourceApplyResult> applier,
+            ExecutorService applyExecutor) throws HyscaleException {
+        List<ResourceApplyResult> results = new ArrayList<>();
+        if (items.size() == 1) {
+            results.add(applier.apply(items.get(0)));
+            return results;
+        }
+        List<Future<Buffered<ResourceApplyResult>>> futures = new ArrayList<>();
+        for (T item : items) {
+            futures.add(applyExecutor.submit(() -> WorkflowLogger.callBuffered(() -> applier.apply(item))));
+        }
+        HyscaleException applyException = null;
+        for (Future<Buffered<ResourceApplyResult>> future : futures) {
+            try {
+                Buffered<ResourceApplyResult> buffered = future.get();
+                WorkflowLogger.flush(buffered.getOutput());
+                if (buffered.getFailure() != null) {
+                    logger.error("Error while applying resources in namespace {}", namespace, buffered.getFailure());
+                    applyException = new HyscaleException(buffered.getFailure(),
+                            DeployerErrorCodes.FAILED_TO_APPLY_MANIFEST);
+                } else {
+                    results.add(buffered.getResult());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                applyException = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_APPLY_MANIFEST);
+            } catch (ExecutionException e) {
+                logger.error("Error while applying resources in namespace {}", namespace, e.getCause());
+                applyException = new HyscaleException(e.getCause(), DeployerErrorCodes.FAILED_TO_APPLY_MANIFEST);
+            }
+        }
+        if (applyException != null) {
+            throw applyException;
+        }
+        return results;
     }
 
     /**
@@ -148,12 +398,16 @@ public class K8sResourceDispatcher {
         PodParentUtil podParentUtil = new PodParentUtil(apiClient,namespace);
         Map<String,PodParent> serviceVsPodParents = podParentUtil.getServiceVsPodParentMap(appName);
         if(serviceVsPodParents != null && !serviceVsPodParents.isEmpty()){
-            for (Map.Entry<String, PodParent> entry : serviceVsPodParents.entrySet()) {
-                PodParent podParent = entry.getValue();
+            // App selector covers all services, each kind is deleted once
+            Map<String, CustomResourceKind> appliedKinds = new LinkedHashMap<>();
+            for (PodParent podParent : serviceVsPodParents.values()) {
                 List<CustomResourceKind> appliedKindsList = podParentUtil.getAppliedKindsList(podParent);
-                String selector = ResourceSelectorUtil.getServiceSelector(appName,null);
-                deleteResources(selector,appliedKindsList);
+                if (appliedKindsList != null) {
+                    appliedKindsList.forEach(kind -> appliedKinds.putIfAbsent(kind.getKind() + ":" + kind.getApiVersion(), kind));
+                }
             }
+            String selector = ResourceSelectorUtil.getServiceSelector(appName,null);
+            deleteResources(selector, new ArrayList<>(appliedKinds.values()));
         }
     }
 
@@ -190,70 +444,153 @@ public class K8sResourceDispatcher {
         return appliedKinds;
     }
 
-    private void applyCustomResources(MultiValueMap<String, CustomObject> kindVsCustomObject){
-        if(kindVsCustomObject != null && !kindVsCustomObject.isEmpty()){
-            kindVsCustomObject.forEach((kind,customObjects)->{
-                for(CustomObject object : customObjects){
-                    // Using Generic K8s Client
-                    GenericK8sClient genericK8sClient = new K8sResourceClient(apiClient).
-                            withNamespace(namespace).forKind(new CustomResourceKind(kind,object.getApiVersion()));
-                    if(genericK8sClient != null){
-                        try{
-                            WorkflowLogger.startActivity(DeployerActivity.DEPLOYING,kind);
-                            if(genericK8sClient.get(object) != null && !genericK8sClient.patch(object)){
-                                logger.debug("Updating resource with Generic client for Kind - {}",kind);
-                                // Delete and Create if failed to Patch
-                                logger.info("Deleting & Creating resource : {}",object.getKind());
-                                genericK8sClient.delete(object);
-                                genericK8sClient.create(object);
-                                WorkflowLogger.endActivity(Status.DONE);
-                            }else{
-                                logger.debug("Creating resource with Generic client for Kind - {}",kind);
-                                genericK8sClient.create(object);
-                                WorkflowLogger.endActivity(Status.DONE);
-                            }
-                        }catch (HyscaleException ex){
-                            WorkflowLogger.endActivity(Status.FAILED);
-                            logger.error("Failed to apply resource :{} Reason :: {}", kind, ex.getMessage());
-                        }
-                    }
-                }
-            });
+    private void applyCustomResources(MultiValueMap<String, CustomObject> kindVsCustomObject,
+            ResourceApplyReport applyReport, ExecutorService applyExecutor) throws HyscaleException {
+        if (kindVsCustomObject == null || kindVsCustomObject.isEmpty()) {
+            return;
+        }
+        // Kinds are applied in manifest order, objects of a kind concurrently
+        for (List<CustomObject> customObjects : kindVsCustomObject.values()) {
+            applyConcurrently(customObjects, this::applyCustomResource, applyExecutor).forEach(applyReport::add);
+        }
+    }
+
+    private ResourceApplyResult applyCustomResource(CustomObject object) {
+        String kind = object.getKind();
+        String name = object.getMetadata() != null ? object.getMetadata().getName() : null;
+        // Using Generic K8s Client
+        GenericK8sClient genericK8sClient = new K8sResourceClient(apiClient).
+                withNamespace(namespace).forKind(new CustomResourceKind(kind,object.getApiVersion()));
+        if (genericK8sClient == null) {
+            return null;
+        }
+        try{
+            WorkflowLogger.startActivity(DeployerActivity.DEPLOYING,kind);
+            if (serverSideApply) {
+                logger.debug("Applying resource with Generic client for Kind - {}",kind);
+                genericK8sClient.apply(object);
+                WorkflowLogger.endActivity(Status.DONE);
+            } else if(genericK8sClient.get(object) != null && !genericK8sClient.patch(object)){
+                logger.debug("Updating resource with Generic client for Kind - {}",kind);
+                // Delete and Create if failed to Patch
+                logger.info("Deleting & Creating resource : {}",object.getKind());
+                genericK8sClient.delete(object);
+                genericK8sClient.create(object);
+                WorkflowLogger.endActivity(Status.DONE);
+            }else{
+                logger.debug("Creating resource with Generic client for Kind - {}",kind);
+                genericK8sClient.create(object);
+                WorkflowLogger.endActivity(Status.DONE);
+            }
+            return ResourceApplyResult.applied(kind, name);
+        }catch (HyscaleException ex){
+            WorkflowLogger.endActivity(Status.FAILED);
+            logger.error("Failed to apply resource :{} Reason :: {}", kind, ex.getMessage());
+            return ResourceApplyResult.failed(kind, name, ex.getMessage());
         }
     }
 
+    /**
+     * Deletes resources of each kind with a single delete collection request where supported,
+     * otherwise resource by resource. Waits for deletion of all kinds concurrently
+     */
     private void deleteResources(String labelSelector, List<CustomResourceKind> appliedKindsList) throws HyscaleException {
+        if (appliedKindsList == null || appliedKindsList.isEmpty()) {
+            WorkflowLogger.info(DeployerActivity.NO_RESOURCES_TO_UNDEPLOY);
+            return;
+        }
+        List<String> failedResources = new ArrayList<>();
+        Map<GenericK8sClient, List<String>> pendingDeletions = new LinkedHashMap<>();
+        for (CustomResourceKind customResource : appliedKindsList) {
+            logger.info("Cleaning up - {}", customResource.getKind());
+            GenericK8sClient genericK8sClient = new K8sResourceClient(apiClient).
+                    withNamespace(namespace).forKind(customResource);
+            List<CustomObject> resources = genericK8sClient.getBySelector(labelSelector);
+            if (resources == null || resources.isEmpty()) {
+                continue;
+            }
+            WorkflowLogger.startActivity(DeployerActivity.DELETING, customResource.getKind());
+            boolean resourcesDeleted = deleteResources(genericK8sClient, customResource, labelSelector, resources);
+            if (resourcesDeleted) {
+                WorkflowLogger.endActivity(Status.DONE);
+                pendingDeletions.put(genericK8sClient, resources.stream().map(each -> each.getMetadata().getName())
+                        .collect(Collectors.toList()));
+            } else {
+                failedResources.add(customResource.getKind());
+                WorkflowLogger.endActivity(Status.FAILED);
+            }
+        }
+        failedResources.addAll(waitForDeletion(pendingDeletions));
+        if (!failedResources.isEmpty()) {
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, failedResources.toString());
+        }
+    }
+
+    /**
+     * Deletes resources of the kind with a single request,
+     * each resource is deleted when the kind does not support deleting a collection
+     * @return true if all resources are deleted
+     */
+    boolean deleteResources(GenericK8sClient genericK8sClient, CustomResourceKind customResource,
+            String labelSelector, List<CustomObject> resources) {
+        try {
+            if (genericK8sClient.deleteCollection(labelSelector)) {
+                return true;
+            }
+        } catch (HyscaleException e) {
+            logger.error("Failed to delete {} with selector {}", customResource.getKind(), labelSelector, e);
+            return false;
+        }
         boolean resourcesDeleted = true;
+        for (CustomObject resource : resources) {
+            resource.put("kind", customResource.getKind());
+            boolean result = genericK8sClient.delete(resource, false);
+            logger.debug("Undeployment status for resource {} is {}", customResource.getKind(), result);
+            resourcesDeleted = resourcesDeleted && result;
+        }
+        return resourcesDeleted;
+    }
 
+    /**
+     * Waits on deletion of each kind concurrently
+     * @return kinds with resources remaining after timeout
+     */
+    private List<String> waitForDeletion(Map<GenericK8sClient, List<String>> pendingDeletions) {
         List<String> failedResources = new ArrayList<>();
-        if(appliedKindsList!=null && !appliedKindsList.isEmpty()){
-            for(CustomResourceKind customResource : appliedKindsList){
-                logger.info("Cleaning up - {}",customResource.getKind());
-                GenericK8sClient genericK8sClient = new K8sResourceClient(apiClient).
-                        withNamespace(namespace).forKind(customResource);
-                List<CustomObject> resources =  genericK8sClient.getBySelector(labelSelector);
-                if(resources == null || resources.isEmpty()){
-                    continue;
-                }
-                WorkflowLogger.startActivity(DeployerActivity.DELETING,customResource.getKind());
-                for(CustomObject resource : resources){
-                    resource.put("kind",customResource.getKind());
-                    boolean result = genericK8sClient.delete(resource);
-                    logger.debug("Undeployment status for resource {} is {}", customResource.getKind(), result);
-                    resourcesDeleted = resourcesDeleted && result;
-                }
-                if(resourcesDeleted){ WorkflowLogger.endActivity(Status.DONE); }
-                else{
-                    failedResources.add(customResource.getKind());
-                    WorkflowLogger.endActivity(Status.FAILED);
-                }
+        if (pendingDeletions.isEmpty()) {
+            return failedResources;
+        }
+        ActivityContext activityContext = new ActivityContext(DeployerActivity.WAITING_FOR_RESOURCE_DELETION);
+        WorkflowLogger.startActivity(activityContext);
+        Map<String, Future<Set<String>>> kindVsPending = new LinkedHashMap<>();
+        pendingDeletions.forEach((genericK8sClient, names) -> kindVsPending.put(genericK8sClient.getResourceKind().getKind(),
+                deleteWaitExecutor.submit(() -> genericK8sClient.waitForDeletion(names,
+                        DeployerConstants.MAX_WAIT_TIME_IN_MILLISECONDS, null))));
+        for (Map.Entry<String, Future<Set<String>>> entry : kindVsPending.entrySet()) {
+            Set<String> pending = waitForDeletion(entry.getValue(), activityContext);
+            if (pending == null || !pending.isEmpty()) {
+                logger.error("Resource deletion failed for {} : {}", entry.getKey(), pending);
+                failedResources.add(entry.getKey());
+            }
+        }
+        WorkflowLogger.endActivity(activityContext, failedResources.isEmpty() ? Status.DONE : Status.FAILED);
+        return failedResources;
+    }
+
+    private Set<String> waitForDeletion(Future<Set<String>> future, ActivityContext activityContext) {
+        while (true) {
+            try {
+                return future.get(DELETE_PROGRESS_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                WorkflowLogger.continueActivity(activityContext);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                return null;
+            } catch (ExecutionException e) {
+                logger.error("Error while waiting for resource deletion in namespace {}", namespace, e.getCause());
+                return null;
             }
-        }else if(!failedResources.isEmpty()){
-            String[] args = new String[failedResources.size()];
-            failedResources.toArray(args);
-            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, args);
-        }else{
-            WorkflowLogger.info(DeployerActivity.NO_RESOURCES_TO_UNDEPLOY);
         }
     }
 
@@ -291,12 +628,16 @@ public class K8sResourceDispatcher {
             }
         }
         // Sort resources to deploy secrets and configmaps before Pod Controller
-        k8sResources.sort((resource1, resource2) -> ResourceKind.fromString(resource1.getKind()).getWeight()
-                - ResourceKind.fromString(resource2.getKind()).getWeight());
+        k8sResources.sort((resource1, resource2) -> getWeight(resource1.getKind()) - getWeight(resource2.getKind()));
         
         return k8sResources;
     }
 
+    private int getWeight(String kind) {
+        ResourceKind resourceKind = ResourceKind.fromString(kind);
+        return resourceKind != null ? resourceKind.getWeight() : 0;
+    }
+
     /**
      * Creates namespace if it doesnot exist on the cluster
      *
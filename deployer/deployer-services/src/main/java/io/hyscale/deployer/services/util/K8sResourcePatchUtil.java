@@ -53,6 +53,19 @@ public class K8sResourcePatchUtil {
 		return null;
 	}
 
+	/**
+	 * Creates Json diff on parsed trees, avoids serializing source and target
+	 * @param source
+	 * @param target
+	 * @return json patch, null if source or target is null
+	 */
+	public static JsonNode getJsonPatch(JsonNode source, JsonNode target) {
+		if (source == null || target == null) {
+			return null;
+		}
+		return JsonDiff.asJson(source, target);
+	}
+
 	private static String getzJsonPatch(Object source, Object target) throws HyscaleException {
 		ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
 		Gson gson = new Gson();
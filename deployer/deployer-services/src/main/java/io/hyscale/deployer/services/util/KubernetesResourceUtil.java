@@ -15,6 +15,7 @@
  */
 package com.github.srujankujmar.deployer.services.util;
 
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
@@ -22,10 +23,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.srujankujmar.commons.models.KubernetesResource;
 import com.github.srujankujmar.commons.models.Manifest;
 import com.github.srujankujmar.commons.models.YAMLManifest;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 import com.github.srujankujmar.deployer.services.model.CustomObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Yaml;
 import org.slf4j.Logger;
@@ -34,6 +38,9 @@ import org.yaml.snakeyaml.constructor.ConstructorException;
 
 /**
  * Utility for generic kubernetes resource
+ * Manifests are read from their in memory content when available,
+ * the typed resource is parsed once per manifest and shared by callers,
+ * apply annotates it in place
  *
  */
 public class KubernetesResourceUtil {
@@ -41,6 +48,9 @@ public class KubernetesResourceUtil {
     private static final String GET_KIND = "getKind";
     private static final String GET_METADATA = "getMetadata";
     private static final Logger logger = LoggerFactory.getLogger(KubernetesResourceUtil.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
     
     private KubernetesResourceUtil() {}
 
@@ -52,17 +62,26 @@ public class KubernetesResourceUtil {
         }
         KubernetesResource resource = new KubernetesResource();
         YAMLManifest yamlManifest = (YAMLManifest) manifest;
-        Object obj = null;
-        try{
-            obj = Yaml.load(yamlManifest.getManifest());
-        }catch (ConstructorException | IOException e){
-            logger.error("Failed to load manifest returning null");
-            return null;
+        Object obj = yamlManifest.getResource();
+        if (obj == null) {
+            try {
+                obj = loadResource(yamlManifest);
+            } catch (ConstructorException | IOException e) {
+                logger.error("Failed to load manifest returning null");
+                return null;
+            }
+            yamlManifest.setResource(obj);
+        }
+        String kind;
+        V1ObjectMeta v1ObjectMeta;
+        if (obj instanceof KubernetesObject) {
+            kind = ((KubernetesObject) obj).getKind();
+            v1ObjectMeta = ((KubernetesObject) obj).getMetadata();
+        } else {
+            Method kindMethod = obj.getClass().getMethod(GET_KIND);
+            kind = (String) kindMethod.invoke(obj);
+            v1ObjectMeta = getObjectMeta(obj);
         }
-        Method kindMethod = obj.getClass().getMethod(GET_KIND);
-        String kind = (String) kindMethod.invoke(obj);
-
-        V1ObjectMeta v1ObjectMeta = getObjectMeta(obj);
         if (v1ObjectMeta != null) {
             v1ObjectMeta.setNamespace(namespace);
         }
@@ -72,13 +91,33 @@ public class KubernetesResourceUtil {
         return resource;
     }
 
+    private static Object loadResource(YAMLManifest yamlManifest) throws IOException {
+        if (yamlManifest.getYaml() != null) {
+            return Yaml.load(yamlManifest.getYaml());
+        }
+        return Yaml.load(yamlManifest.getManifest());
+    }
+
+    /**
+     * Custom objects are created afresh on every call, callers are free to modify them
+     */
     public static CustomObject getK8sCustomObjectResource(Manifest manifest, String namespace)
             throws IOException {
         if (manifest == null) {
                 return null;
             }
         YAMLManifest yamlManifest = (YAMLManifest) manifest;
-        Map<String, Object> data = (Map) Yaml.getSnakeYaml().load((Reader)(new FileReader(yamlManifest.getManifest())));
+        Map<String, Object> data;
+        if (yamlManifest.getManifestNode() != null) {
+            data = ObjectMapperFactory.jsonMapper().convertValue(yamlManifest.getManifestNode(), MAP_TYPE);
+        } else if (yamlManifest.getYaml() != null) {
+            data = (Map) Yaml.getSnakeYaml().load(yamlManifest.getYaml());
+        } else {
+            File manifestFile = yamlManifest.getManifest();
+            try (Reader reader = new FileReader(manifestFile)) {
+                data = (Map) Yaml.getSnakeYaml().load(reader);
+            }
+        }
         CustomObject customObject = new CustomObject();
         customObject.putAll(data);
         Map<String,Object> metaMap = (Map) customObject.get("metadata");
@@ -94,6 +133,9 @@ public class KubernetesResourceUtil {
         if (object == null) {
             return null;
         }
+        if (object instanceof KubernetesObject) {
+            return ((KubernetesObject) object).getMetadata();
+        }
         Method metadataMethod = object.getClass().getMethod(GET_METADATA);
 
         return (V1ObjectMeta) metadataMethod.invoke(object);
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.GsonProviderUtil;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
+import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
+
+/**
+ * Encodes resource in last applied configuration annotation.
+ * Resource is stored as minified json, compressed with gzip and base64 encoded
+ * once it exceeds {@link #COMPRESSION_THRESHOLD} characters.
+ * Pretty printed json stored by earlier versions is read as is.
+ *
+ */
+public class LastAppliedConfigUtil {
+
+    public static final String COMPRESSED_PREFIX = "gzip+base64:";
+
+    // Annotations of a resource are limited to 256KB in total
+    public static final int COMPRESSION_THRESHOLD = 16 * 1024;
+
+    private LastAppliedConfigUtil() {}
+
+    /**
+     * @param resource
+     * @return annotation value of the resource
+     * @throws HyscaleException
+     */
+    public static String encode(Object resource) throws HyscaleException {
+        String json = GsonProviderUtil.getCompactGsonBuilder().toJson(resource);
+        if (json.length() <= COMPRESSION_THRESHOLD) {
+            return json;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length() / 4);
+        try (OutputStream outputStream = new GZIPOutputStream(Base64.getEncoder().wrap(compressed))) {
+            outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new HyscaleException(e, DeployerErrorCodes.FAILED_TO_ENCODE_LAST_APPLIED_CONFIGURATION);
+        }
+        return COMPRESSED_PREFIX + compressed.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Parses annotation value into a json tree,
+     * compressed value is decoded while parsing without expanding it into a string
+     *
+     * @param lastAppliedConfig annotation value in any of the supported formats
+     * @return json tree, null if annotation value is blank
+     * @throws HyscaleException
+     */
+    public static JsonNode readTree(String lastAppliedConfig) throws HyscaleException {
+        if (StringUtils.isBlank(lastAppliedConfig)) {
+            return null;
+        }
+        try {
+            if (!isCompressed(lastAppliedConfig)) {
+                return ObjectMapperFactory.jsonMapper().readTree(lastAppliedConfig);
+            }
+            try (InputStream inputStream = getDecodedStream(lastAppliedConfig)) {
+                return ObjectMapperFactory.jsonMapper().readTree(inputStream);
+            }
+        } catch (IOException e) {
+            throw new HyscaleException(e, DeployerErrorCodes.ERROR_WHILE_CREATING_PATCH);
+        }
+    }
+
+    public static boolean isCompressed(String lastAppliedConfig) {
+        return lastAppliedConfig != null && lastAppliedConfig.startsWith(COMPRESSED_PREFIX);
+    }
+
+    private static InputStream getDecodedStream(String lastAppliedConfig) throws IOException {
+        byte[] encoded = lastAppliedConfig.substring(COMPRESSED_PREFIX.length()).getBytes(StandardCharsets.ISO_8859_1);
+        return new GZIPInputStream(Base64.getDecoder().wrap(new ByteArrayInputStream(encoded)));
+    }
+}
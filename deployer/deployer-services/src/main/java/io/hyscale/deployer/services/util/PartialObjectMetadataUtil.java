@@ -0,0 +1,108 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
+import okhttp3.Request;
+
+/**
+ * Lists resources as PartialObjectMetadata, page by page.
+ * Only metadata of each item is transferred and decoded,
+ * servers without PartialObjectMetadata support fall back to full objects
+ * of which only metadata is decoded
+ */
+public class PartialObjectMetadataUtil {
+
+    public static final int PAGE_SIZE = 500;
+
+    private static final String ACCEPT_HEADER = "Accept";
+
+    private static final String PARTIAL_OBJECT_METADATA_LIST = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+
+    private static final String METADATA = "metadata";
+
+    private static final String ITEMS = "items";
+
+    private static final String CONTINUE = "continue";
+
+    private PartialObjectMetadataUtil() {}
+
+    /**
+     * Builds list call of a page
+     */
+    @FunctionalInterface
+    public interface PageCallBuilder {
+        /**
+         * @param continueToken null for the first page
+         * @param limit page size
+         * @return list call for the page
+         * @throws ApiException
+         */
+        Call build(String continueToken, Integer limit) throws ApiException;
+    }
+
+    /**
+     * Lists all pages, consumer receives metadata of each item as pages arrive
+     * 
+     * @param apiClient
+     * @param pageCallBuilder
+     * @param consumer
+     * @throws ApiException
+     */
+    public static void list(ApiClient apiClient, PageCallBuilder pageCallBuilder, Consumer<V1ObjectMeta> consumer)
+            throws ApiException {
+        Gson gson = apiClient.getJSON().getGson();
+        String continueToken = null;
+        do {
+            Request request = pageCallBuilder.build(continueToken, PAGE_SIZE).request().newBuilder()
+                    .header(ACCEPT_HEADER, PARTIAL_OBJECT_METADATA_LIST).build();
+            JsonObject page = apiClient.<JsonObject>execute(apiClient.getHttpClient().newCall(request), JsonObject.class)
+                    .getData();
+            if (page == null) {
+                return;
+            }
+            if (page.has(ITEMS) && page.get(ITEMS).isJsonArray()) {
+                for (JsonElement item : page.getAsJsonArray(ITEMS)) {
+                    JsonElement metadata = item.isJsonObject() ? item.getAsJsonObject().get(METADATA) : null;
+                    if (metadata != null && metadata.isJsonObject()) {
+                        consumer.accept(gson.fromJson(metadata, V1ObjectMeta.class));
+                    }
+                }
+            }
+            continueToken = getContinueToken(page);
+        } while (StringUtils.isNotBlank(continueToken));
+    }
+
+    private static String getContinueToken(JsonObject page) {
+        JsonElement listMeta = page.get(METADATA);
+        if (listMeta == null || !listMeta.isJsonObject()) {
+            return null;
+        }
+        JsonElement continueToken = listMeta.getAsJsonObject().get(CONTINUE);
+        return continueToken != null && continueToken.isJsonPrimitive() ? continueToken.getAsString() : null;
+    }
+}
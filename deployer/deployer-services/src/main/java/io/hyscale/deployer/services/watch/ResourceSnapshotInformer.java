@@ -0,0 +1,223 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.watch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+import com.github.srujankujmar.deployer.services.util.K8sHttpClientUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1ReplicaSet;
+import io.kubernetes.client.openapi.models.V1ReplicaSetList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1StatefulSet;
+import io.kubernetes.client.openapi.models.V1StatefulSetList;
+import io.kubernetes.client.util.CallGeneratorParams;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+
+/**
+ * Keeps resources matching a label selector in memory through one shared informer per kind
+ * and publishes a {@link ResourceSnapshot} of the cached resources on change.
+ * Changes are debounced, listener is invoked at most once per interval and never concurrently.
+ * First snapshot is published once all informers have listed
+ */
+public class ResourceSnapshotInformer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSnapshotInformer.class);
+
+    /**
+     * Kinds available to watch through this informer
+     */
+    public static final List<String> WATCH_KINDS = Collections.unmodifiableList(Arrays.asList(
+            ResourceKind.DEPLOYMENT.getKind(), ResourceKind.STATEFUL_SET.getKind(),
+            ResourceKind.REPLICA_SET.getKind(), ResourceKind.POD.getKind(), ResourceKind.SERVICE.getKind()));
+
+    private static final long SYNC_CHECK_INTERVAL_IN_MILLIS = 100;
+
+    private final ApiClient apiClient;
+
+    private final String namespace;
+
+    private final String selector;
+
+    private final Map<String, SharedIndexInformer<? extends KubernetesObject>> kindVsInformer = new LinkedHashMap<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final ExecutorService informerExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("snapshot-informer-%d").setDaemon(true).build());
+
+    private final ScheduledExecutorService publishExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("snapshot-publisher").setDaemon(true).build());
+
+    private SharedInformerFactory informerFactory;
+
+    private Consumer<ResourceSnapshot> listener;
+
+    private long intervalInMillis;
+
+    private long lastPublished;
+
+    public ResourceSnapshotInformer(ApiClient apiClient, String namespace, String selector) {
+        this.apiClient = apiClient;
+        this.namespace = namespace;
+        this.selector = selector;
+    }
+
+    /**
+     * Starts informers of all {@link #WATCH_KINDS}
+     * @param intervalInMillis minimum time between two snapshots
+     * @param listener receives snapshot of cached resources after changes
+     */
+    public void start(long intervalInMillis, Consumer<ResourceSnapshot> listener) {
+        this.intervalInMillis = intervalInMillis;
+        this.listener = listener;
+        // Watch is held open by the api server, avoid client read timeouts
+        OkHttpClient watchHttpClient = K8sHttpClientUtil.getStreamingHttpClient(apiClient);
+        informerFactory = new SharedInformerFactory(apiClient, informerExecutor);
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        register(ResourceKind.DEPLOYMENT.getKind(), V1Deployment.class, V1DeploymentList.class, watchHttpClient,
+                params -> appsV1Api.listNamespacedDeploymentCall(namespace, null, null, null, null, selector, null,
+                        params.resourceVersion, params.timeoutSeconds, params.watch, null));
+        register(ResourceKind.STATEFUL_SET.getKind(), V1StatefulSet.class, V1StatefulSetList.class, watchHttpClient,
+                params -> appsV1Api.listNamespacedStatefulSetCall(namespace, null, null, null, null, selector, null,
+                        params.resourceVersion, params.timeoutSeconds, params.watch, null));
+        register(ResourceKind.REPLICA_SET.getKind(), V1ReplicaSet.class, V1ReplicaSetList.class, watchHttpClient,
+                params -> appsV1Api.listNamespacedReplicaSetCall(namespace, null, null, null, null, selector, null,
+                        params.resourceVersion, params.timeoutSeconds, params.watch, null));
+        register(ResourceKind.POD.getKind(), V1Pod.class, V1PodList.class, watchHttpClient,
+                params -> coreV1Api.listNamespacedPodCall(namespace, null, null, null, null, selector, null,
+                        params.resourceVersion, params.timeoutSeconds, params.watch, null));
+        register(ResourceKind.SERVICE.getKind(), V1Service.class, V1ServiceList.class, watchHttpClient,
+                params -> coreV1Api.listNamespacedServiceCall(namespace, null, null, null, null, selector, null,
+                        params.resourceVersion, params.timeoutSeconds, params.watch, null));
+        informerFactory.startAllRegisteredInformers();
+        logger.debug("Started snapshot informers in namespace {} with selector {}", namespace, selector);
+        schedulePublish();
+    }
+
+    /**
+     * Stops publishing and watching right away. Each informer waits up to a minute
+     * for its event handler thread on stop, so informers are stopped in background
+     */
+    public void stop() {
+        publishExecutor.shutdownNow();
+        informerExecutor.shutdownNow();
+        if (informerFactory != null) {
+            SharedInformerFactory stoppedFactory = informerFactory;
+            new ThreadFactoryBuilder().setNameFormat("snapshot-informer-stop").setDaemon(true).build()
+                    .newThread(() -> stoppedFactory.stopAllRegisteredInformers(false)).start();
+        }
+        logger.debug("Stopped snapshot informers in namespace {} with selector {}", namespace, selector);
+    }
+
+    private <T extends KubernetesObject> void register(String kind, Class<T> apiTypeClass,
+            Class<? extends KubernetesListObject> apiListTypeClass,
+            OkHttpClient watchHttpClient, WatchCallProvider callProvider) {
+        SharedIndexInformer<T> informer = informerFactory.sharedIndexInformerFor(params -> {
+            Call call = callProvider.get(params);
+            return Boolean.TRUE.equals(params.watch) ? watchHttpClient.newCall(call.request()) : call;
+        }, apiTypeClass, apiListTypeClass);
+        informer.addEventHandler(new ChangeHandler<>());
+        kindVsInformer.put(kind, informer);
+    }
+
+    /**
+     * Publishes once per interval, changes arriving meanwhile are covered by the scheduled publish
+     */
+    private void schedulePublish() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = Math.max(0, lastPublished + intervalInMillis - System.currentTimeMillis());
+        try {
+            publishExecutor.schedule(this::publish, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Snapshot informer stopped, skipping publish");
+        }
+    }
+
+    private void publish() {
+        if (!kindVsInformer.values().stream().allMatch(SharedIndexInformer::hasSynced)) {
+            publishExecutor.schedule(this::publish, SYNC_CHECK_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        scheduled.set(false);
+        lastPublished = System.currentTimeMillis();
+        ResourceSnapshot snapshot = new ResourceSnapshot(namespace);
+        kindVsInformer.forEach((kind, informer) -> snapshot.addResources(kind, new ArrayList<>(informer.getIndexer().list())));
+        try {
+            listener.accept(snapshot);
+        } catch (RuntimeException e) {
+            logger.error("Error while publishing snapshot in namespace {}", namespace, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface WatchCallProvider {
+        Call get(CallGeneratorParams params) throws ApiException;
+    }
+
+    private class ChangeHandler<T extends KubernetesObject> implements ResourceEventHandler<T> {
+
+        @Override
+        public void onAdd(T obj) {
+            schedulePublish();
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            schedulePublish();
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            schedulePublish();
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.watch;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.srujankujmar.deployer.services.util.K8sHttpClientUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+
+/**
+ * Tracks resources through one shared informer per api client, namespace and kind
+ * instead of polling the api server. Waiters register a condition and are completed
+ * as soon as an added or updated resource satisfies it.
+ * Informer lists once and keeps watching from the last resource version, on disconnect
+ * the watch resumes from that version.
+ * Deletion waiters are completed on delete events, resources missing from the synced
+ * cache are considered deleted.
+ * Informers are stopped once they have no waiters for {@link #IDLE_TIMEOUT_IN_MILLIS}
+ */
+public class ResourceWatchTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceWatchTracker.class);
+
+    private static final long IDLE_TIMEOUT_IN_MILLIS = 30000;
+
+    private static final long PROGRESS_INTERVAL_IN_MILLIS = 1000;
+
+    private static final Map<WatchKey, NamespaceWatch<?>> namespaceWatches = new HashMap<>();
+
+    private static final ExecutorService informerExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("resource-watch-%d").setDaemon(true).build());
+
+    private static final ScheduledExecutorService idleExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("resource-watch-idle").setDaemon(true).build());
+
+    private ResourceWatchTracker() {}
+
+    /**
+     * Waits till a resource in namespace satisfies condition
+     * 
+     * @param apiClient
+     * @param namespace
+     * @param watchResource kind of resource to watch
+     * @param condition evaluated on every added or updated resource of the kind in namespace
+     * @param timeoutInMillis
+     * @param onProgress invoked periodically while waiting, can be null
+     * @return resource satisfying condition, null on timeout
+     * @throws InterruptedException
+     */
+    public static <T extends KubernetesObject> T await(ApiClient apiClient, String namespace,
+            WatchResource<T, ?> watchResource, Predicate<T> condition, long timeoutInMillis, Runnable onProgress)
+            throws InterruptedException {
+        NamespaceWatch<T> namespaceWatch = acquire(apiClient, namespace, watchResource);
+        Waiter<T> waiter = new Waiter<>(condition);
+        try {
+            namespaceWatch.register(waiter);
+            long deadline = System.currentTimeMillis() + timeoutInMillis;
+            long remaining = timeoutInMillis;
+            while (remaining > 0) {
+                try {
+                    return waiter.getResult(Math.min(remaining, PROGRESS_INTERVAL_IN_MILLIS));
+                } catch (TimeoutException e) {
+                    if (onProgress != null) {
+                        onProgress.run();
+                    }
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+            logger.debug("Timed out waiting on {} in namespace {}", watchResource.getName(), namespace);
+            return null;
+        } finally {
+            namespaceWatch.unregister(waiter);
+            release(namespaceWatch);
+        }
+    }
+
+    /**
+     * Waits till named resources of the kind are deleted from namespace
+     * 
+     * @param apiClient
+     * @param namespace
+     * @param watchResource kind of resource to watch
+     * @param names of resources to be deleted
+     * @param timeoutInMillis
+     * @param onProgress invoked periodically while waiting, can be null
+     * @return names of resources still present on timeout, empty if all are deleted
+     * @throws InterruptedException
+     */
+    public static <T extends KubernetesObject> Set<String> awaitDeletion(ApiClient apiClient, String namespace,
+            WatchResource<T, ?> watchResource, Collection<String> names, long timeoutInMillis, Runnable onProgress)
+            throws InterruptedException {
+        if (names == null || names.isEmpty()) {
+            return Collections.emptySet();
+        }
+        NamespaceWatch<T> namespaceWatch = acquire(apiClient, namespace, watchResource);
+        DeletionWaiter deletionWaiter = new DeletionWaiter(names);
+        try {
+            namespaceWatch.register(deletionWaiter);
+            long deadline = System.currentTimeMillis() + timeoutInMillis;
+            long remaining = timeoutInMillis;
+            while (remaining > 0) {
+                // Deleted before the watch started or while it was down
+                namespaceWatch.removeMissing(deletionWaiter);
+                if (deletionWaiter.await(Math.min(remaining, PROGRESS_INTERVAL_IN_MILLIS))) {
+                    return Collections.emptySet();
+                }
+                if (onProgress != null) {
+                    onProgress.run();
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+            logger.debug("Timed out waiting on deletion of {} {} in namespace {}", watchResource.getName(),
+                    deletionWaiter.getPending(), namespace);
+            return deletionWaiter.getPending();
+        } finally {
+            namespaceWatch.unregister(deletionWaiter);
+            release(namespaceWatch);
+        }
+    }
+
+    private static <T extends KubernetesObject> NamespaceWatch<T> acquire(ApiClient apiClient, String namespace,
+            WatchResource<T, ?> watchResource) {
+        WatchKey watchKey = new WatchKey(apiClient, namespace, watchResource.getName());
+        synchronized (namespaceWatches) {
+            NamespaceWatch<T> namespaceWatch = (NamespaceWatch<T>) namespaceWatches.get(watchKey);
+            if (namespaceWatch == null) {
+                namespaceWatch = new NamespaceWatch<>(watchKey, apiClient, namespace, watchResource);
+                namespaceWatches.put(watchKey, namespaceWatch);
+                namespaceWatch.start();
+            }
+            namespaceWatch.acquire();
+            return namespaceWatch;
+        }
+    }
+
+    private static void release(NamespaceWatch<?> namespaceWatch) {
+        synchronized (namespaceWatches) {
+            if (namespaceWatch.release() > 0) {
+                return;
+            }
+            namespaceWatch.scheduleStop(idleExecutor.schedule(() -> stopIfIdle(namespaceWatch),
+                    IDLE_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static void stopIfIdle(NamespaceWatch<?> namespaceWatch) {
+        synchronized (namespaceWatches) {
+            if (!namespaceWatch.isIdle()) {
+                return;
+            }
+            namespaceWatches.remove(namespaceWatch.getWatchKey());
+        }
+        namespaceWatch.stop();
+    }
+
+    private static class NamespaceWatch<T extends KubernetesObject> implements ResourceEventHandler<T> {
+
+        private final WatchKey watchKey;
+
+        private final ApiClient apiClient;
+
+        private final String namespace;
+
+        private final WatchResource<T, ?> watchResource;
+
+        private final Set<Waiter<T>> waiters = ConcurrentHashMap.newKeySet();
+
+        private final Set<DeletionWaiter> deletionWaiters = ConcurrentHashMap.newKeySet();
+
+        private SharedInformerFactory informerFactory;
+
+        private SharedIndexInformer<T> informer;
+
+        // Guarded by namespaceWatches
+        private int users;
+
+        private ScheduledFuture<?> stopFuture;
+
+        NamespaceWatch(WatchKey watchKey, ApiClient apiClient, String namespace, WatchResource<T, ?> watchResource) {
+            this.watchKey = watchKey;
+            this.apiClient = apiClient;
+            this.namespace = namespace;
+            this.watchResource = watchResource;
+        }
+
+        void start() {
+            // Watch is held open by the api server, avoid client read timeouts
+            OkHttpClient watchHttpClient = K8sHttpClientUtil.getStreamingHttpClient(apiClient);
+            informerFactory = new SharedInformerFactory(apiClient, informerExecutor);
+            informer = informerFactory.sharedIndexInformerFor(params -> {
+                Call call = watchResource.getListCall(apiClient, namespace, params);
+                return Boolean.TRUE.equals(params.watch) ? watchHttpClient.newCall(call.request()) : call;
+            }, watchResource.getApiTypeClass(), watchResource.getApiListTypeClass());
+            informer.addEventHandler(this);
+            informerFactory.startAllRegisteredInformers();
+            logger.debug("Started watch on {} in namespace {}", watchResource.getName(), namespace);
+        }
+
+        void stop() {
+            informerFactory.stopAllRegisteredInformers(false);
+            logger.debug("Stopped watch on {} in namespace {}", watchResource.getName(), namespace);
+        }
+
+        void register(Waiter<T> waiter) {
+            waiters.add(waiter);
+            // Resources already cached do not trigger events again
+            informer.getIndexer().list().forEach(waiter::offer);
+        }
+
+        void unregister(Waiter<T> waiter) {
+            waiters.remove(waiter);
+        }
+
+        void register(DeletionWaiter deletionWaiter) {
+            deletionWaiters.add(deletionWaiter);
+        }
+
+        void unregister(DeletionWaiter deletionWaiter) {
+            deletionWaiters.remove(deletionWaiter);
+        }
+
+        /**
+         * Cache is complete only once synced, until then absence does not imply deletion
+         */
+        void removeMissing(DeletionWaiter deletionWaiter) {
+            if (!informer.hasSynced()) {
+                return;
+            }
+            for (String name : deletionWaiter.getPending()) {
+                String key = StringUtils.isBlank(namespace) ? name : namespace + "/" + name;
+                if (informer.getIndexer().getByKey(key) == null) {
+                    deletionWaiter.deleted(name);
+                }
+            }
+        }
+
+        void acquire() {
+            users++;
+            if (stopFuture != null) {
+                stopFuture.cancel(false);
+                stopFuture = null;
+            }
+        }
+
+        int release() {
+            return --users;
+        }
+
+        boolean isIdle() {
+            return users == 0;
+        }
+
+        void scheduleStop(ScheduledFuture<?> stopFuture) {
+            this.stopFuture = stopFuture;
+        }
+
+        WatchKey getWatchKey() {
+            return watchKey;
+        }
+
+        @Override
+        public void onAdd(T obj) {
+            waiters.forEach(waiter -> waiter.offer(obj));
+        }
+
+        @Override
+        public void onUpdate(T oldObj, T newObj) {
+            waiters.forEach(waiter -> waiter.offer(newObj));
+        }
+
+        @Override
+        public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+            if (obj == null || obj.getMetadata() == null) {
+                return;
+            }
+            String name = obj.getMetadata().getName();
+            deletionWaiters.forEach(deletionWaiter -> deletionWaiter.deleted(name));
+        }
+    }
+
+    private static class Waiter<T> {
+
+        private final Predicate<T> condition;
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Waiter(Predicate<T> condition) {
+            this.condition = condition;
+        }
+
+        void offer(T resource) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                if (condition.test(resource)) {
+                    result.complete(resource);
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Error while evaluating watch condition", e);
+            }
+        }
+
+        T getResult(long timeoutInMillis) throws InterruptedException, TimeoutException {
+            try {
+                return result.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                // result is never completed exceptionally
+                return null;
+            }
+        }
+    }
+
+    private static class DeletionWaiter {
+
+        private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+        private final CountDownLatch deleted = new CountDownLatch(1);
+
+        DeletionWaiter(Collection<String> names) {
+            pending.addAll(names);
+        }
+
+        void deleted(String name) {
+            if (pending.remove(name) && pending.isEmpty()) {
+                deleted.countDown();
+            }
+        }
+
+        boolean await(long timeoutInMillis) throws InterruptedException {
+            return deleted.await(timeoutInMillis, TimeUnit.MILLISECONDS);
+        }
+
+        Set<String> getPending() {
+            return new HashSet<>(pending);
+        }
+    }
+
+    private static class WatchKey {
+
+        private final ApiClient apiClient;
+
+        private final String namespace;
+
+        private final String resourceName;
+
+        WatchKey(ApiClient apiClient, String namespace, String resourceName) {
+            this.apiClient = apiClient;
+            this.namespace = namespace;
+            this.resourceName = resourceName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            WatchKey watchKey = (WatchKey) o;
+            return apiClient == watchKey.apiClient && Objects.equals(namespace, watchKey.namespace)
+                    && Objects.equals(resourceName, watchKey.resourceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(apiClient), namespace, resourceName);
+        }
+    }
+}
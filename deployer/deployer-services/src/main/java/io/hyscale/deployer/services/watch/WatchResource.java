@@ -0,0 +1,85 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.watch;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.CallGeneratorParams;
+import okhttp3.Call;
+
+/**
+ * Kind of resource that can be tracked through {@link ResourceWatchTracker}.
+ * Provides the namespaced list call used by the informer for list and watch
+ *
+ * @param <T> resource type
+ * @param <L> resource list type
+ */
+public class WatchResource<T extends KubernetesObject, L extends KubernetesListObject> {
+
+    private final Class<T> apiTypeClass;
+
+    private final Class<L> apiListTypeClass;
+
+    private final ListCallProvider listCallProvider;
+
+    private final String name;
+
+    public WatchResource(Class<T> apiTypeClass, Class<L> apiListTypeClass, ListCallProvider listCallProvider) {
+        this(apiTypeClass.getSimpleName(), apiTypeClass, apiListTypeClass, listCallProvider);
+    }
+
+    /**
+     * @param name identifies the kind, required when kinds share the api type class
+     */
+    public WatchResource(String name, Class<T> apiTypeClass, Class<L> apiListTypeClass,
+            ListCallProvider listCallProvider) {
+        this.name = name;
+        this.apiTypeClass = apiTypeClass;
+        this.apiListTypeClass = apiListTypeClass;
+        this.listCallProvider = listCallProvider;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<T> getApiTypeClass() {
+        return apiTypeClass;
+    }
+
+    public Class<L> getApiListTypeClass() {
+        return apiListTypeClass;
+    }
+
+    public Call getListCall(ApiClient apiClient, String namespace, CallGeneratorParams params) throws ApiException {
+        return listCallProvider.get(apiClient, namespace, params);
+    }
+
+    @FunctionalInterface
+    public interface ListCallProvider {
+
+        /**
+         * @param apiClient
+         * @param namespace
+         * @param params watch, resource version and timeout to be set on the call
+         * @return list call of the resource in namespace
+         * @throws ApiException
+         */
+        Call get(ApiClient apiClient, String namespace, CallGeneratorParams params) throws ApiException;
+    }
+}
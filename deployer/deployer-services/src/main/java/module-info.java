@@ -32,6 +32,7 @@ module deployer.services {
     exports com.github.srujankujmar.deployer.services.provider;
     exports com.github.srujankujmar.deployer.services.util;
     exports com.github.srujankujmar.deployer.services.client;
+    exports com.github.srujankujmar.deployer.services.watch;
 
     requires deployerModel;
     requires commons;
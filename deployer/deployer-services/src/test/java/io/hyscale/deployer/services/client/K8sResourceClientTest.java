@@ -0,0 +1,112 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.deployer.core.model.CustomResourceKind;
+import com.github.srujankujmar.deployer.services.exception.DeployerErrorCodes;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+class K8sResourceClientTest {
+
+    private static final CustomResourceKind SNAPSHOT_KIND = new CustomResourceKind("Snapshot", "backup.io/v1");
+
+    private static final String STATUS = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"status\":\"%s\",\"code\":%d}";
+
+    private static final String SNAPSHOT_LIST = "{\"kind\":\"SnapshotList\",\"apiVersion\":\"backup.io/v1\","
+            + "\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[]}";
+
+    private final List<Request> requests = new ArrayList<>();
+
+    @Test
+    void testDeleteCollection() throws HyscaleException {
+        GenericK8sClient client = getClient(200);
+
+        Assertions.assertTrue(client.deleteCollection("hyscale.io/app-name=app"));
+
+        Assertions.assertEquals(1, requests.size());
+        Request request = requests.get(0);
+        Assertions.assertEquals("DELETE", request.method());
+        Assertions.assertEquals("/apis/backup.io/v1/namespaces/dev/snapshots", request.url().encodedPath());
+        Assertions.assertEquals("hyscale.io/app-name=app", request.url().queryParameter("labelSelector"));
+    }
+
+    @Test
+    void testDeleteCollectionNotSupported() throws HyscaleException {
+        // Caller falls back to deleting each resource
+        Assertions.assertFalse(getClient(405).deleteCollection("hyscale.io/app-name=app"));
+    }
+
+    @Test
+    void testDeleteCollectionFailure() {
+        GenericK8sClient client = getClient(500);
+
+        HyscaleException exception = Assertions.assertThrows(HyscaleException.class,
+                () -> client.deleteCollection("hyscale.io/app-name=app"));
+        Assertions.assertEquals(DeployerErrorCodes.FAILED_TO_DELETE_RESOURCE, exception.getHyscaleError());
+    }
+
+    @Test
+    void testWaitForDeletionOfMissingResources() throws InterruptedException {
+        GenericK8sClient client = getClient(200);
+
+        Set<String> pending = client.waitForDeletion(List.of("daily"), 10000, null);
+
+        Assertions.assertTrue(pending.isEmpty());
+        Assertions.assertEquals("/apis/backup.io/v1/namespaces/dev/snapshots", requests.get(0).url().encodedPath());
+    }
+
+    private GenericK8sClient getClient(int deleteCode) {
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            int code = "DELETE".equals(request.method()) ? deleteCode : 200;
+            String body = SNAPSHOT_LIST;
+            if ("DELETE".equals(request.method())) {
+                body = String.format(STATUS, code == 200 ? "Success" : "Failure", code);
+            } else if ("true".equals(request.url().queryParameter("watch"))) {
+                // No events, keeps reconnecting watches from spinning
+                body = "";
+                sleep(200);
+            }
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code).message("Status")
+                    .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
+        return new K8sResourceClient(apiClient).withNamespace("dev").forKind(SNAPSHOT_KIND);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
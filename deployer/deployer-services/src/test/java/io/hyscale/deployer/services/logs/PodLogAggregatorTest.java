@@ -0,0 +1,236 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.logs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.deployer.services.handler.impl.V1PodHandler;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Okio;
+
+class PodLogAggregatorTest {
+
+    private static final String NAMESPACE = "dev";
+
+    private static final String T1 = "2024-01-01T00:00:01Z";
+
+    private static final String T2 = "2024-01-01T00:00:02Z";
+
+    private static final String T3 = "2024-01-01T00:00:03Z";
+
+    private static final String T4 = "2024-01-01T00:00:04Z";
+
+    private static final long RECONNECT_INTERVAL_MILLIS = 10;
+
+    private static final PodLogTarget TARGET_A = new PodLogTarget("pod-a", "app");
+
+    private static final PodLogTarget TARGET_B = new PodLogTarget("pod-b", "app");
+
+    @Test
+    void testReadMergesTargetsInTimestampOrder() throws HyscaleException, IOException {
+        ApiClient apiClient = apiClient(request -> {
+            if (getPodName(request).equals("pod-a")) {
+                return lines(T1 + " a1", "  continuation of a1", T3 + " a3");
+            }
+            return lines(T2 + " b2", T4 + " b4");
+        });
+        InputStream logs = new PodLogAggregator(apiClient, NAMESPACE).read(Arrays.asList(TARGET_A, TARGET_B), null);
+
+        Assertions.assertEquals(lines("[pod-a/app] " + T1 + " a1", "[pod-a/app]   continuation of a1",
+                "[pod-b/app] " + T2 + " b2", "[pod-a/app] " + T3 + " a3", "[pod-b/app] " + T4 + " b4"), read(logs));
+    }
+
+    @Test
+    void testAllReplicasLogs() throws HyscaleException, IOException {
+        String podList = "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{},\"items\":["
+                + "{\"metadata\":{\"name\":\"web-1\"},\"spec\":{\"containers\":[{\"name\":\"web\"}]}},"
+                + "{\"metadata\":{\"name\":\"web-2\"},\"spec\":{\"containers\":[{\"name\":\"web\"}]}}]}";
+        ApiClient apiClient = apiClient(request -> {
+            if (!request.url().encodedPath().endsWith("/log")) {
+                return podList;
+            }
+            return getPodName(request).equals("web-1") ? lines(T2 + " second") : lines(T1 + " first");
+        });
+        InputStream logs = new V1PodHandler().getLogs(apiClient, "web", NAMESPACE, null, "web", null);
+
+        Assertions.assertEquals(lines("[web-2/web] " + T1 + " first", "[web-1/web] " + T2 + " second"), read(logs));
+    }
+
+    @Test
+    void testReplicaWithoutContainerSkipped() throws HyscaleException, IOException {
+        String podList = "{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{},\"items\":["
+                + "{\"metadata\":{\"name\":\"web-1\"},\"spec\":{\"containers\":[{\"name\":\"web\"}]}},"
+                + "{\"metadata\":{\"name\":\"web-2\"},\"spec\":{\"containers\":[{\"name\":\"sidecar\"}]}}]}";
+        List<String> logPods = Collections.synchronizedList(new ArrayList<>());
+        ApiClient apiClient = apiClient(request -> {
+            if (!request.url().encodedPath().endsWith("/log")) {
+                return podList;
+            }
+            logPods.add(getPodName(request) + "/" + request.url().queryParameter("container"));
+            return lines(T1 + " first");
+        });
+        InputStream logs = new V1PodHandler().getLogs(apiClient, "web", NAMESPACE, null, "web", null);
+
+        Assertions.assertEquals(lines(T1 + " first"), read(logs));
+        Assertions.assertEquals(Collections.singletonList("web-1/web"), logPods);
+        Assertions.assertThrows(HyscaleException.class,
+                () -> new V1PodHandler().getLogs(apiClient, "web", NAMESPACE, null, "missing", null));
+    }
+
+    @Test
+    void testFollowKeepsNewLinesAtResumeTimestamp() throws HyscaleException, IOException {
+        ApiClient apiClient = apiClient(request -> {
+            String sinceTime = request.url().queryParameter("sinceTime");
+            if (sinceTime == null) {
+                return lines(T1 + " a1", T2 + " a2", T2 + " a2b");
+            }
+            // Lines at the resume timestamp are sent again along with the ones logged after the drop
+            return sinceTime.equals(T2)
+                    ? lines(T2 + " a2", T2 + " a2b", T2 + " a2c", "  continuation of a2c", T3 + " a3")
+                    : null;
+        });
+        InputStream logs = new PodLogAggregator(apiClient, NAMESPACE, RECONNECT_INTERVAL_MILLIS)
+                .follow(Collections.singletonList(TARGET_A), null);
+
+        Assertions.assertEquals(lines(T1 + " a1", T2 + " a2", T2 + " a2b", T2 + " a2c", "  continuation of a2c",
+                T3 + " a3"), read(logs));
+    }
+
+    @Test
+    void testFollowSkipsLinesSeenBeforeReconnect() throws HyscaleException, IOException {
+        List<String> sinceTimes = Collections.synchronizedList(new ArrayList<>());
+        ApiClient apiClient = apiClient(request -> {
+            String sinceTime = request.url().queryParameter("sinceTime");
+            if (getPodName(request).equals("pod-b")) {
+                // Container ended, reconnects fail
+                return sinceTime == null ? lines(T1 + " b1") : null;
+            }
+            sinceTimes.add(sinceTime);
+            if (sinceTime == null) {
+                return lines(T1 + " a1", T2 + " a2");
+            }
+            // Stream resumes at the last line received, which is sent again
+            return sinceTime.equals(T2) ? lines(T2 + " a2", T3 + " a3") : lines(T3 + " a3");
+        });
+        InputStream logs = new PodLogAggregator(apiClient, NAMESPACE, RECONNECT_INTERVAL_MILLIS)
+                .follow(Arrays.asList(TARGET_A, TARGET_B), null);
+
+        // Stream ends once both targets end
+        List<String> lines = Arrays.asList(read(logs).split("\n"));
+        Assertions.assertEquals(Arrays.asList("[pod-a/app] " + T1 + " a1", "[pod-a/app] " + T2 + " a2",
+                "[pod-a/app] " + T3 + " a3"),
+                lines.stream().filter(line -> line.startsWith("[pod-a/app]")).collect(Collectors.toList()));
+        Assertions.assertEquals(Collections.singletonList("[pod-b/app] " + T1 + " b1"),
+                lines.stream().filter(line -> line.startsWith("[pod-b/app]")).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList(null, T2, T3), sinceTimes.subList(0, 3));
+    }
+
+    @Test
+    void testCloseStopsStreams() throws HyscaleException, IOException, InterruptedException {
+        CountDownLatch bodyClosed = new CountDownLatch(1);
+        byte[] line = lines(T1 + " tick").getBytes(StandardCharsets.UTF_8);
+        InputStream endlessLog = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                int value = line[position];
+                position = (position + 1) % line.length;
+                return value;
+            }
+
+            @Override
+            public void close() {
+                bodyClosed.countDown();
+            }
+        };
+        OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> new Response.Builder()
+                .request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                .body(ResponseBody.create(MediaType.get("text/plain"), -1, Okio.buffer(Okio.source(endlessLog))))
+                .build()).build();
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(httpClient);
+        InputStream logs = new PodLogAggregator(apiClient, NAMESPACE, RECONNECT_INTERVAL_MILLIS)
+                .follow(Collections.singletonList(TARGET_A), null);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(logs, StandardCharsets.UTF_8));
+        Assertions.assertEquals(T1 + " tick", reader.readLine());
+        logs.close();
+        Assertions.assertEquals(-1, logs.read());
+        Assertions.assertTrue(bodyClosed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFollowFailsWhenNoTargetConnects() {
+        ApiClient apiClient = apiClient(request -> null);
+        PodLogAggregator podLogAggregator = new PodLogAggregator(apiClient, NAMESPACE, RECONNECT_INTERVAL_MILLIS);
+        Assertions.assertThrows(HyscaleException.class,
+                () -> podLogAggregator.follow(Arrays.asList(TARGET_A, TARGET_B), null));
+    }
+
+    /**
+     * @param responder body of response to the request, null responds with not found
+     */
+    private static ApiClient apiClient(Function<Request, String> responder) {
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            String body = responder.apply(request);
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1)
+                    .code(body != null ? 200 : 404).message(body != null ? "OK" : "Not Found")
+                    .body(ResponseBody.create(MediaType.get("text/plain"), body != null ? body : "")).build();
+        }).build());
+        return apiClient;
+    }
+
+    private static String getPodName(Request request) {
+        List<String> segments = request.url().pathSegments();
+        return segments.get(segments.indexOf("pods") + 1);
+    }
+
+    private static String lines(String... lines) {
+        return Arrays.stream(lines).map(line -> line + "\n").collect(Collectors.joining());
+    }
+
+    private static String read(InputStream logs) throws IOException {
+        try (InputStream stream = logs) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
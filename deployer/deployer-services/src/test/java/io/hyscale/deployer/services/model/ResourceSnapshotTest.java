@@ -0,0 +1,86 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.models.ResourceLabelKey;
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+
+class ResourceSnapshotTest {
+
+    private static final String POD = ResourceKind.POD.getKind();
+
+    @Test
+    void testResourcesByService() {
+        ResourceSnapshot snapshot = new ResourceSnapshot("dev");
+        snapshot.addResources(POD, Arrays.asList(getPod("web-0", "web"), getPod("db-0", "db"),
+                getPod("web-1", "web"), getPod("other", null)));
+
+        List<V1Pod> webPods = snapshot.getResources(POD, "web");
+        assertEquals(2, webPods.size());
+        assertEquals("web-1", webPods.get(1).getMetadata().getName());
+        assertEquals(1, snapshot.<V1Pod>getResources(POD, "db").size());
+        assertTrue(snapshot.getResources(POD, "cache").isEmpty());
+        assertEquals(4, snapshot.getResources(POD).size());
+        assertTrue(snapshot.isListed(POD));
+        assertFalse(snapshot.isListed(ResourceKind.DEPLOYMENT.getKind()));
+        assertTrue(snapshot.getResources(ResourceKind.DEPLOYMENT.getKind(), "web").isEmpty());
+    }
+
+    @Test
+    void testServiceNameNormalized() {
+        ResourceSnapshot snapshot = new ResourceSnapshot("dev");
+        snapshot.addResources(POD, Arrays.asList(getPod("web-0", "my-web")));
+        assertEquals(1, snapshot.getResources(POD, "my.web").size());
+    }
+
+    @Test
+    void testEventsByInvolvedObject() {
+        ResourceSnapshot snapshot = new ResourceSnapshot("dev");
+        assertNull(snapshot.getEventsByInvolvedObject());
+        snapshot.setEvents(Arrays.asList(getEvent("web-0", "Scheduled"), getEvent("db-0", "Pulled"),
+                getEvent("web-0", "Started"), new V1Event()));
+        Map<String, List<V1Event>> nameVsEvents = snapshot.getEventsByInvolvedObject();
+        assertEquals(2, nameVsEvents.size());
+        assertEquals("Started", nameVsEvents.get("web-0").get(1).getReason());
+    }
+
+    private V1Pod getPod(String name, String serviceName) {
+        V1ObjectMeta metadata = new V1ObjectMeta().name(name);
+        if (serviceName != null) {
+            metadata.putLabelsItem(ResourceLabelKey.SERVICE_NAME.getLabel(), serviceName);
+        }
+        return new V1Pod().metadata(metadata);
+    }
+
+    private V1Event getEvent(String involvedObject, String reason) {
+        return new V1Event().involvedObject(new V1ObjectReference().name(involvedObject)).reason(reason);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.provider;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.K8sBasicAuth;
+import com.github.srujankujmar.deployer.services.provider.impl.K8sClientProviderImpl;
+import io.kubernetes.client.openapi.ApiClient;
+
+class K8sClientProviderImplTest {
+
+    private static final String MASTER_URL = "https://localhost:6443";
+
+    @Test
+    void sameIdentityReusesClient() throws HyscaleException {
+        K8sClientProvider clientProvider = new K8sClientProviderImpl();
+        ApiClient apiClient = clientProvider.get(getBasicAuth("token"));
+        assertSame(apiClient, clientProvider.get(getBasicAuth("token")));
+    }
+
+    @Test
+    void changedCredentialsReplaceClient() throws HyscaleException {
+        K8sClientProvider clientProvider = new K8sClientProviderImpl();
+        ApiClient apiClient = clientProvider.get(getBasicAuth("token"));
+        ApiClient refreshedClient = clientProvider.get(getBasicAuth("refreshed-token"));
+        assertNotSame(apiClient, refreshedClient);
+        assertSame(refreshedClient, clientProvider.get(getBasicAuth("refreshed-token")));
+    }
+
+    private K8sBasicAuth getBasicAuth(String token) {
+        K8sBasicAuth basicAuth = new K8sBasicAuth();
+        basicAuth.setMasterURL(MASTER_URL);
+        basicAuth.setToken(token);
+        return basicAuth;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.OkHttpClient;
+
+class K8sHttpClientUtilTest {
+
+    @Test
+    void testStreamingHttpClient() {
+        ApiClient apiClient = new ApiClient();
+        OkHttpClient streamingClient = K8sHttpClientUtil.getStreamingHttpClient(apiClient);
+
+        Assertions.assertEquals(0, streamingClient.readTimeoutMillis());
+        Assertions.assertNotEquals(0, apiClient.getHttpClient().readTimeoutMillis());
+        Assertions.assertSame(apiClient.getHttpClient().connectionPool(), streamingClient.connectionPool());
+        Assertions.assertSame(streamingClient, K8sHttpClientUtil.getStreamingHttpClient(apiClient));
+
+        apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().build());
+        Assertions.assertNotSame(streamingClient, K8sHttpClientUtil.getStreamingHttpClient(apiClient));
+    }
+}
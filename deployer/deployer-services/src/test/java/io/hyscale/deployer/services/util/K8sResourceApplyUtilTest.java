@@ -0,0 +1,179 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.ClusterVersionInfo;
+import com.github.srujankujmar.deployer.services.constants.DeployerConstants;
+import com.github.srujankujmar.deployer.services.handler.impl.V1ConfigMapHandler;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+class K8sResourceApplyUtilTest {
+
+    private static final String LEGACY_MANAGED_CONFIG_MAP = "{\"kind\":\"ConfigMap\",\"apiVersion\":\"v1\","
+            + "\"metadata\":{\"name\":\"config\",\"resourceVersion\":\"10\",\"managedFields\":["
+            + "{\"manager\":\"hyscale\",\"operation\":\"Apply\",\"apiVersion\":\"v1\",\"fieldsType\":\"FieldsV1\","
+            + "\"fieldsV1\":{\"f:data\":{\"f:key\":{}}}},"
+            + "{\"manager\":\"OpenAPI-Generator\",\"operation\":\"Update\",\"apiVersion\":\"v1\",\"fieldsType\":\"FieldsV1\","
+            + "\"fieldsV1\":{\"f:data\":{\"f:key\":{},\"f:dropped\":{}}}}]},\"data\":{\"key\":\"value\",\"dropped\":\"value\"}}";
+
+    private static final String APPLIED_CONFIG_MAP = "{\"kind\":\"ConfigMap\",\"apiVersion\":\"v1\","
+            + "\"metadata\":{\"name\":\"config\",\"resourceVersion\":\"12\",\"managedFields\":["
+            + "{\"manager\":\"hyscale\",\"operation\":\"Apply\",\"apiVersion\":\"v1\",\"fieldsType\":\"FieldsV1\","
+            + "\"fieldsV1\":{\"f:data\":{\"f:key\":{}}}}]},\"data\":{\"key\":\"value\"}}";
+
+    private static Stream<Arguments> input() {
+        return Stream.of(Arguments.of("1", "15", false),
+                Arguments.of("1", "17+", false),
+                Arguments.of("1", "18", true),
+                Arguments.of("1", "21+", true),
+                Arguments.of("2", "0", true),
+                Arguments.of("", "", false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("input")
+    void testServerSideApplySupport(String major, String minor, boolean expected) {
+        ClusterVersionInfo versionInfo = new ClusterVersionInfo();
+        versionInfo.setMajor(major);
+        versionInfo.setMinor(minor);
+        assertEquals(expected, K8sResourceApplyUtil.isServerSideApplySupported(versionInfo));
+    }
+
+    @Test
+    void testNullVersion() {
+        assertFalse(K8sResourceApplyUtil.isServerSideApplySupported(null));
+    }
+
+    @Test
+    void testUpgradedManagedFields() {
+        V1ObjectMeta metadata = new V1ObjectMeta()
+                .addManagedFieldsItem(getEntry(DeployerConstants.FIELD_MANAGER, "Apply", Map.of("f:data", Map.of("f:key", Map.of()))))
+                .addManagedFieldsItem(getEntry(K8sResourceApplyUtil.LEGACY_FIELD_MANAGER, "Update",
+                        Map.of("f:data", Map.of("f:dropped", Map.of()), "f:metadata", Map.of("f:labels", Map.of()))))
+                .addManagedFieldsItem(getEntry("kube-controller-manager", "Update", Map.of("f:status", Map.of())));
+
+        List<V1ManagedFieldsEntry> managedFields = K8sResourceApplyUtil.getUpgradedManagedFields(metadata);
+
+        assertEquals(2, managedFields.size());
+        assertEquals("kube-controller-manager", managedFields.get(0).getManager());
+        V1ManagedFieldsEntry applyEntry = managedFields.get(1);
+        assertEquals(DeployerConstants.FIELD_MANAGER, applyEntry.getManager());
+        assertEquals("Apply", applyEntry.getOperation());
+        assertEquals(Map.of("f:data", Map.of("f:key", Map.of(), "f:dropped", Map.of()), "f:metadata",
+                Map.of("f:labels", Map.of())), applyEntry.getFieldsV1());
+    }
+
+    @Test
+    void testNoLegacyManagedFields() {
+        V1ObjectMeta metadata = new V1ObjectMeta()
+                .addManagedFieldsItem(getEntry(DeployerConstants.FIELD_MANAGER, "Apply", Map.of("f:data", Map.of())))
+                .addManagedFieldsItem(getEntry("kubectl-edit", "Update", Map.of("f:data", Map.of())));
+        assertNull(K8sResourceApplyUtil.getUpgradedManagedFields(metadata));
+        assertNull(K8sResourceApplyUtil.getUpgradedManagedFields(new V1ObjectMeta()));
+    }
+
+    @Test
+    void testApplyMovesLegacyFields() throws HyscaleException {
+        List<Request> requests = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            bodies.add(getBody(request));
+            String body = requests.size() == 1 ? LEGACY_MANAGED_CONFIG_MAP : APPLIED_CONFIG_MAP;
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
+        V1ConfigMap configMap = new V1ConfigMap().apiVersion("v1").kind("ConfigMap")
+                .metadata(new V1ObjectMeta().name("config")).data(Map.of("key", "value"));
+
+        V1ConfigMap applied = new V1ConfigMapHandler().apply(apiClient, configMap, "default");
+
+        assertEquals("12", applied.getMetadata().getResourceVersion());
+        assertEquals(3, requests.size());
+        assertEquals(V1Patch.PATCH_FORMAT_APPLY_YAML, getContentType(requests.get(0)));
+        assertEquals("true", requests.get(0).url().queryParameter("force"));
+        // Ownership of legacy fields is moved to hyscale before applying again
+        assertEquals(V1Patch.PATCH_FORMAT_JSON_PATCH, getContentType(requests.get(1)));
+        assertNull(requests.get(1).url().queryParameter("force"));
+        assertTrue(bodies.get(1).contains("f:dropped"));
+        assertFalse(bodies.get(1).contains(K8sResourceApplyUtil.LEGACY_FIELD_MANAGER));
+        assertEquals(V1Patch.PATCH_FORMAT_APPLY_YAML, getContentType(requests.get(2)));
+        assertEquals(bodies.get(0), bodies.get(2));
+    }
+
+    @Test
+    void testApplyWithoutLegacyFields() throws HyscaleException {
+        List<Request> requests = new ArrayList<>();
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            requests.add(chain.request());
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.get("application/json"), APPLIED_CONFIG_MAP)).build();
+        }).build());
+        V1ConfigMap configMap = new V1ConfigMap().apiVersion("v1").kind("ConfigMap")
+                .metadata(new V1ObjectMeta().name("config")).data(Map.of("key", "value"));
+
+        new V1ConfigMapHandler().apply(apiClient, configMap, "default");
+
+        assertEquals(1, requests.size());
+    }
+
+    private V1ManagedFieldsEntry getEntry(String manager, String operation, Map<String, Object> fields) {
+        return new V1ManagedFieldsEntry().manager(manager).operation(operation).apiVersion("v1")
+                .fieldsType("FieldsV1").fieldsV1(fields);
+    }
+
+    private String getContentType(Request request) {
+        MediaType contentType = request.body().contentType();
+        return contentType.type() + "/" + contentType.subtype();
+    }
+
+    private String getBody(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
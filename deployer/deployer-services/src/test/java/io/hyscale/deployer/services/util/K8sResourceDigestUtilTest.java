@@ -0,0 +1,67 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.models.AnnotationKey;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+class K8sResourceDigestUtilTest {
+
+    private static final JSON json = new JSON();
+
+    @Test
+    void testSameResourceDigest() {
+        String digest = K8sResourceDigestUtil.getDigest(json, getConfigMap("value"));
+        assertEquals(64, digest.length());
+        assertEquals(digest, K8sResourceDigestUtil.getDigest(json, getConfigMap("value")));
+    }
+
+    @Test
+    void testChangedResourceDigest() {
+        assertNotEquals(K8sResourceDigestUtil.getDigest(json, getConfigMap("value")),
+                K8sResourceDigestUtil.getDigest(json, getConfigMap("changed")));
+    }
+
+    @Test
+    void testKnownDigest() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                K8sResourceDigestUtil.getDigest("abc"));
+    }
+
+    @Test
+    void testDigestAnnotation() {
+        V1ObjectMeta metadata = new V1ObjectMeta().name("config");
+        assertNull(K8sResourceDigestUtil.getDigest(metadata));
+        metadata.putAnnotationsItem(AnnotationKey.MANIFEST_DIGEST.getAnnotation(), "digest");
+        assertEquals("digest", K8sResourceDigestUtil.getDigest(metadata));
+        assertNull(K8sResourceDigestUtil.getDigest((V1ObjectMeta) null));
+        assertNull(K8sResourceDigestUtil.getDigest(json, null));
+    }
+
+    private V1ConfigMap getConfigMap(String value) {
+        return new V1ConfigMap().metadata(new V1ObjectMeta().name("config")).data(Map.of("key", value));
+    }
+}
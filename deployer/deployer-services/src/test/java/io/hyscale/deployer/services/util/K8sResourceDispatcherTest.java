@@ -0,0 +1,169 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.KubernetesResource;
+import com.github.srujankujmar.deployer.core.model.CustomResourceKind;
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import com.github.srujankujmar.deployer.services.client.GenericK8sClient;
+import com.github.srujankujmar.deployer.services.client.K8sResourceClient;
+import com.github.srujankujmar.deployer.services.model.CustomObject;
+import com.github.srujankujmar.deployer.services.model.ResourceApplyReport.ResourceApplyResult;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+class K8sResourceDispatcherTest {
+
+    private final K8sResourceDispatcher dispatcher = new K8sResourceDispatcher(new ApiClient());
+
+    private ExecutorService applyExecutor;
+
+    @BeforeEach
+    void init() {
+        applyExecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void shutdown() {
+        applyExecutor.shutdownNow();
+    }
+
+    @Test
+    void testIndependentKindsAppliedConcurrently() throws HyscaleException {
+        CountDownLatch sameTier = new CountDownLatch(2);
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        List<KubernetesResource> resources = List.of(getResource(ResourceKind.CONFIG_MAP),
+                getResource(ResourceKind.SECRET), getResource(ResourceKind.DEPLOYMENT));
+
+        List<ResourceApplyResult> results = dispatcher.applyTiers(resources, resource -> {
+            if (!ResourceKind.DEPLOYMENT.getKind().equals(resource.getKind())) {
+                sameTier.countDown();
+                try {
+                    // Completes only when the other resource of the tier is applied at the same time
+                    assertTrue(sameTier.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            applied.add(resource.getKind());
+            return ResourceApplyResult.applied(resource.getKind(), resource.getV1ObjectMeta().getName());
+        }, applyExecutor);
+
+        assertEquals(0, sameTier.getCount());
+        assertEquals(ResourceKind.DEPLOYMENT.getKind(), applied.get(2));
+        assertEquals(resources.stream().map(KubernetesResource::getKind).collect(Collectors.toList()),
+                results.stream().map(ResourceApplyResult::getKind).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testDependentKindsAppliedInOrder() throws HyscaleException {
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        List<KubernetesResource> resources = List.of(getResource(ResourceKind.SERVICE),
+                getResource(ResourceKind.STATEFUL_SET), getResource(ResourceKind.HORIZONTAL_POD_AUTOSCALER));
+
+        dispatcher.applyTiers(resources, resource -> {
+            applied.add(resource.getKind());
+            return ResourceApplyResult.applied(resource.getKind(), resource.getV1ObjectMeta().getName());
+        }, applyExecutor);
+
+        assertEquals(resources.stream().map(KubernetesResource::getKind).collect(Collectors.toList()), applied);
+    }
+
+    @Test
+    void testFailedApplyStopsLaterTiers() {
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+        List<KubernetesResource> resources = List.of(getResource(ResourceKind.CONFIG_MAP),
+                getResource(ResourceKind.SECRET), getResource(ResourceKind.DEPLOYMENT));
+
+        assertThrows(HyscaleException.class, () -> dispatcher.applyTiers(resources, resource -> {
+            applied.add(resource.getKind());
+            if (ResourceKind.SECRET.getKind().equals(resource.getKind())) {
+                throw new IllegalStateException("Apply failed");
+            }
+            return ResourceApplyResult.applied(resource.getKind(), resource.getV1ObjectMeta().getName());
+        }, applyExecutor));
+
+        assertEquals(2, applied.size());
+        assertFalse(applied.contains(ResourceKind.DEPLOYMENT.getKind()));
+    }
+
+    @Test
+    void testDeleteEachResourceWhenCollectionNotSupported() {
+        List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            boolean collection = request.url().encodedPath().endsWith("/snapshots");
+            int code = collection ? 405 : 200;
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code).message("Status")
+                    .body(ResponseBody.create(MediaType.get("application/json"),
+                            "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"code\":" + code + "}"))
+                    .build();
+        }).build());
+        CustomResourceKind snapshotKind = new CustomResourceKind("Snapshot", "backup.io/v1");
+        GenericK8sClient client = new K8sResourceClient(apiClient).withNamespace("dev").forKind(snapshotKind);
+
+        boolean deleted = new K8sResourceDispatcher(apiClient).deleteResources(client, snapshotKind,
+                "hyscale.io/app-name=app", List.of(getCustomObject("daily"), getCustomObject("weekly")));
+
+        Assertions.assertTrue(deleted);
+        Assertions.assertEquals(List.of("/apis/backup.io/v1/namespaces/dev/snapshots",
+                "/apis/backup.io/v1/namespaces/dev/snapshots/daily", "/apis/backup.io/v1/namespaces/dev/snapshots/weekly"),
+                requests.stream().map(request -> request.url().encodedPath()).collect(Collectors.toList()));
+    }
+
+    private CustomObject getCustomObject(String name) {
+        CustomObject customObject = new CustomObject();
+        customObject.put("metadata", new HashMap<>(Map.of("name", name)));
+        return customObject;
+    }
+
+    private KubernetesResource getResource(ResourceKind kind) {
+        KubernetesResource resource = new KubernetesResource();
+        resource.setKind(kind.getKind());
+        resource.setV1ObjectMeta(new V1ObjectMeta().name(kind.getKind().toLowerCase()));
+        return resource;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.srujankujmar.commons.models.KubernetesResource;
+import com.github.srujankujmar.commons.models.YAMLManifest;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
+import com.github.srujankujmar.deployer.services.model.CustomObject;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+
+class KubernetesResourceUtilTest {
+
+    private static final String CONFIG_MAP = "apiVersion: v1\nkind: ConfigMap\nmetadata:\n  name: config\ndata:\n  key: value\n";
+
+    @Test
+    void testResourceParsedOnce() throws Exception {
+        YAMLManifest manifest = new YAMLManifest();
+        manifest.setYaml(CONFIG_MAP);
+        KubernetesResource resource = KubernetesResourceUtil.getKubernetesResource(manifest, "dev");
+        assertEquals("ConfigMap", resource.getKind());
+        assertEquals("config", resource.getV1ObjectMeta().getName());
+        assertEquals("dev", resource.getV1ObjectMeta().getNamespace());
+        assertEquals("value", ((V1ConfigMap) resource.getResource()).getData().get("key"));
+        assertSame(resource.getResource(), KubernetesResourceUtil.getKubernetesResource(manifest, "dev").getResource());
+        assertNull(manifest.getManifest());
+    }
+
+    @Test
+    void testCustomObjectFromManifestNode() throws Exception {
+        YAMLManifest manifest = new YAMLManifest();
+        manifest.setYaml(CONFIG_MAP);
+        manifest.setManifestNode((ObjectNode) ObjectMapperFactory.yamlMapper().readTree(CONFIG_MAP));
+        CustomObject customObject = KubernetesResourceUtil.getK8sCustomObjectResource(manifest, "dev");
+        assertEquals("ConfigMap", customObject.getKind());
+        assertEquals("dev", ((Map) customObject.get("metadata")).get("namespace"));
+        CustomObject other = KubernetesResourceUtil.getK8sCustomObjectResource(manifest, null);
+        assertNotSame(customObject.get("metadata"), other.get("metadata"));
+        assertNull(((Map) other.get("metadata")).get("namespace"));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.GsonProviderUtil;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
+import com.github.srujankujmar.deployer.services.model.CustomObject;
+
+class LastAppliedConfigUtilTest {
+
+    @Test
+    void testSmallResourceIsMinified() throws HyscaleException {
+        CustomObject resource = getResource(10);
+        String encoded = LastAppliedConfigUtil.encode(resource);
+        assertFalse(LastAppliedConfigUtil.isCompressed(encoded));
+        assertFalse(encoded.contains("\n"));
+        assertEquals(toTree(resource), LastAppliedConfigUtil.readTree(encoded));
+    }
+
+    @Test
+    void testLargeResourceIsCompressed() throws HyscaleException {
+        CustomObject resource = getResource(2000);
+        String encoded = LastAppliedConfigUtil.encode(resource);
+        assertTrue(LastAppliedConfigUtil.isCompressed(encoded));
+        assertTrue(encoded.length() < GsonProviderUtil.getCompactGsonBuilder().toJson(resource).length());
+        assertEquals(toTree(resource), LastAppliedConfigUtil.readTree(encoded));
+    }
+
+    @Test
+    void testPrettyFormatIsReadable() throws HyscaleException {
+        CustomObject resource = getResource(10);
+        String pretty = GsonProviderUtil.getPrettyGsonBuilder().toJson(resource);
+        assertEquals(toTree(resource), LastAppliedConfigUtil.readTree(pretty));
+    }
+
+    @Test
+    void testBlankConfig() throws HyscaleException {
+        assertNull(LastAppliedConfigUtil.readTree(null));
+        assertNull(LastAppliedConfigUtil.readTree(""));
+    }
+
+    private JsonNode toTree(CustomObject resource) {
+        return ObjectMapperFactory.jsonMapper().valueToTree(resource);
+    }
+
+    private CustomObject getResource(int entries) {
+        CustomObject resource = new CustomObject();
+        resource.put("apiVersion", "hyscale.io/v1");
+        resource.put("kind", "Sample");
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("name", "sample");
+        resource.put("metadata", metadata);
+        Map<String, Object> spec = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            spec.put("key-" + i, "value-" + i);
+        }
+        resource.put("spec", spec);
+        return resource;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+class PartialObjectMetadataUtilTest {
+
+    private static final String FIRST_PAGE = "{\"kind\":\"PartialObjectMetadataList\",\"metadata\":{\"continue\":\"next\"},"
+            + "\"items\":[{\"metadata\":{\"name\":\"web\",\"namespace\":\"dev\",\"labels\":{\"hyscale.io/app-name\":\"app\"}}}]}";
+
+    private static final String LAST_PAGE = "{\"kind\":\"PartialObjectMetadataList\",\"metadata\":{},"
+            + "\"items\":[{\"metadata\":{\"name\":\"db\",\"namespace\":\"stage\"}}]}";
+
+    @Test
+    void testListAllPages() throws Exception {
+        List<Request> requests = new ArrayList<>();
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            requests.add(request);
+            String body = request.url().queryParameter("continue") == null ? FIRST_PAGE : LAST_PAGE;
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+
+        List<V1ObjectMeta> metadataList = new ArrayList<>();
+        PartialObjectMetadataUtil.list(apiClient, (continueToken, limit) -> appsV1Api
+                .listDeploymentForAllNamespacesCall(null, continueToken, null, "hyscale.io/app-name", limit, null,
+                        null, null, null, null),
+                metadataList::add);
+
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertEquals("next", requests.get(1).url().queryParameter("continue"));
+        Assertions.assertEquals(String.valueOf(PartialObjectMetadataUtil.PAGE_SIZE),
+                requests.get(0).url().queryParameter("limit"));
+        Assertions.assertTrue(requests.get(0).header("Accept").contains("as=PartialObjectMetadataList"));
+        Assertions.assertEquals(2, metadataList.size());
+        Assertions.assertEquals("dev", metadataList.get(0).getNamespace());
+        Assertions.assertEquals("app", metadataList.get(0).getLabels().get("hyscale.io/app-name"));
+        Assertions.assertEquals("db", metadataList.get(1).getName());
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.watch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+class ResourceSnapshotInformerTest {
+
+    private static final String NAMESPACE = "dev";
+
+    private static final String LIST = "{\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[]}";
+
+    private static final String POD_ADDED_EVENT = "{\"type\":\"ADDED\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\","
+            + "\"metadata\":{\"name\":\"web-%d\",\"namespace\":\"dev\",\"resourceVersion\":\"%d\"}}}\n";
+
+    private static final int PODS = 5;
+
+    private static final long INTERVAL_IN_MILLIS = 500;
+
+    // Keeps reconnecting watches from spinning
+    private static final long WATCH_DELAY_IN_MILLIS = 200;
+
+    private static final long TIMEOUT_IN_MILLIS = 10000;
+
+    @Test
+    void testChangesDebounced() throws InterruptedException {
+        AtomicInteger podWatches = new AtomicInteger();
+        ApiClient apiClient = getApiClient(request -> {
+            if (!request.url().encodedPath().endsWith("/pods") || podWatches.getAndIncrement() > 0) {
+                return "";
+            }
+            // Burst of changes right after the initial list
+            return IntStream.range(0, PODS).mapToObj(i -> String.format(POD_ADDED_EVENT, i, i + 2))
+                    .collect(Collectors.joining());
+        });
+        List<Long> publishTimes = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> publishedPods = Collections.synchronizedList(new ArrayList<>());
+        ResourceSnapshotInformer informer = new ResourceSnapshotInformer(apiClient, NAMESPACE, "app=test");
+        informer.start(INTERVAL_IN_MILLIS, snapshot -> {
+            publishTimes.add(System.currentTimeMillis());
+            publishedPods.add(snapshot.getResources(ResourceKind.POD.getKind()).size());
+        });
+        try {
+            long start = System.currentTimeMillis();
+            while (!publishedPods.contains(PODS) && System.currentTimeMillis() - start < TIMEOUT_IN_MILLIS) {
+                Thread.sleep(50);
+            }
+            // Further publishes would happen within the interval
+            Thread.sleep(2 * INTERVAL_IN_MILLIS);
+        } finally {
+            informer.stop();
+        }
+
+        Assertions.assertEquals(PODS, publishedPods.get(publishedPods.size() - 1));
+        // Initial snapshot and at most one more covering the burst
+        Assertions.assertTrue(publishTimes.size() <= 2, "Published " + publishTimes.size() + " snapshots");
+        for (int i = 1; i < publishTimes.size(); i++) {
+            Assertions.assertTrue(publishTimes.get(i) - publishTimes.get(i - 1) >= INTERVAL_IN_MILLIS - 10);
+        }
+    }
+
+    @Test
+    void testInitialSnapshotOnceListed() throws InterruptedException {
+        List<Integer> publishedPods = Collections.synchronizedList(new ArrayList<>());
+        ResourceSnapshotInformer informer = new ResourceSnapshotInformer(getApiClient(request -> ""), NAMESPACE,
+                "app=test");
+        informer.start(INTERVAL_IN_MILLIS, snapshot -> {
+            Assertions.assertTrue(ResourceSnapshotInformer.WATCH_KINDS.stream().allMatch(snapshot::isListed));
+            publishedPods.add(snapshot.getResources(ResourceKind.POD.getKind()).size());
+        });
+        try {
+            long start = System.currentTimeMillis();
+            while (publishedPods.isEmpty() && System.currentTimeMillis() - start < TIMEOUT_IN_MILLIS) {
+                Thread.sleep(50);
+            }
+        } finally {
+            informer.stop();
+        }
+
+        Assertions.assertEquals(Collections.singletonList(0), publishedPods);
+    }
+
+    private ApiClient getApiClient(Function<Request, String> watchBody) {
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            String body = LIST;
+            if ("true".equals(request.url().queryParameter("watch"))) {
+                body = watchBody.apply(request);
+                try {
+                    Thread.sleep(WATCH_DELAY_IN_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
+        return apiClient;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.deployer.services.watch;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.github.srujankujmar.deployer.services.handler.impl.V1ServiceHandler;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+class ResourceWatchTrackerTest {
+
+    private static final String NAMESPACE = "dev";
+
+    private static final String SERVICE = "{\"kind\":\"Service\",\"apiVersion\":\"v1\","
+            + "\"metadata\":{\"name\":\"web\",\"namespace\":\"dev\",\"resourceVersion\":\"%s\"}}";
+
+    private static final String SERVICE_LIST = "{\"kind\":\"ServiceList\",\"apiVersion\":\"v1\","
+            + "\"metadata\":{\"resourceVersion\":\"1\"},\"items\":[%s]}";
+
+    private static final String DELETED_EVENT = "{\"type\":\"DELETED\",\"object\":" + String.format(SERVICE, "2") + "}\n";
+
+    // Keeps reconnecting watches from spinning
+    private static final long WATCH_DELAY_IN_MILLIS = 200;
+
+    private final WatchResource<V1Service, V1ServiceList> watchResource = new V1ServiceHandler().getWatchResource();
+
+    @Test
+    void testDeletedOnEvent() throws InterruptedException {
+        AtomicInteger watches = new AtomicInteger();
+        ApiClient apiClient = getApiClient(String.format(SERVICE_LIST, String.format(SERVICE, "1")),
+                () -> watches.getAndIncrement() == 0 ? DELETED_EVENT : "");
+
+        Set<String> pending = ResourceWatchTracker.awaitDeletion(apiClient, NAMESPACE, watchResource, List.of("web"),
+                10000, null);
+
+        Assertions.assertTrue(pending.isEmpty());
+        Assertions.assertTrue(watches.get() > 0);
+    }
+
+    @Test
+    void testMissingFromSyncedCache() throws InterruptedException {
+        AtomicInteger watches = new AtomicInteger();
+        ApiClient apiClient = getApiClient(String.format(SERVICE_LIST, ""), () -> {
+            watches.incrementAndGet();
+            return "";
+        });
+
+        long start = System.currentTimeMillis();
+        Set<String> pending = ResourceWatchTracker.awaitDeletion(apiClient, NAMESPACE, watchResource,
+                List.of("web", "db"), 10000, null);
+
+        // Deleted before the wait, no delete event is received
+        Assertions.assertTrue(pending.isEmpty());
+        Assertions.assertTrue(System.currentTimeMillis() - start < 10000);
+    }
+
+    @Test
+    void testDeletionTimeout() throws InterruptedException {
+        AtomicInteger progress = new AtomicInteger();
+        ApiClient apiClient = getApiClient(String.format(SERVICE_LIST, String.format(SERVICE, "1")), () -> "");
+
+        Set<String> pending = ResourceWatchTracker.awaitDeletion(apiClient, NAMESPACE, watchResource,
+                List.of("web", "db"), 2500, progress::incrementAndGet);
+
+        // db is not in the synced cache, web is never deleted
+        Assertions.assertEquals(Set.of("web"), pending);
+        Assertions.assertTrue(progress.get() > 0);
+    }
+
+    @Test
+    void testNoResources() throws InterruptedException {
+        Assertions.assertTrue(ResourceWatchTracker.awaitDeletion(new ApiClient(), NAMESPACE, watchResource,
+                List.of(), 1000, null).isEmpty());
+    }
+
+    private ApiClient getApiClient(String listBody, Supplier<String> watchBody) {
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            String body = listBody;
+            if ("true".equals(request.url().queryParameter("watch"))) {
+                body = watchBody.get();
+                try {
+                    Thread.sleep(WATCH_DELAY_IN_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.get("application/json"), body)).build();
+        }).build());
+        return apiClient;
+    }
+}
@@ -19,24 +19,20 @@ import com.github.srujankujmar.commons.constants.K8SRuntimeConstants;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.AnnotationKey;
 import com.github.srujankujmar.commons.models.K8sAuthorisation;
-import com.github.srujankujmar.commons.models.ResourceFieldSelectorKey;
 import com.github.srujankujmar.commons.models.ServiceMetadata;
-import com.github.srujankujmar.commons.utils.FieldSelectorUtil;
 import com.github.srujankujmar.commons.utils.ResourceSelectorUtil;
 import com.github.srujankujmar.deployer.core.model.ResourceKind;
-import com.github.srujankujmar.deployer.services.handler.ResourceHandlers;
-import com.github.srujankujmar.deployer.services.handler.ResourceLifeCycleHandler;
 import com.github.srujankujmar.deployer.services.handler.impl.V1DeploymentHandler;
-import com.github.srujankujmar.deployer.services.handler.impl.V1EventHandler;
-import com.github.srujankujmar.deployer.services.handler.impl.V1StorageClassHandler;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+import com.github.srujankujmar.deployer.services.processor.ResourceSnapshotProvider;
 import com.github.srujankujmar.deployer.services.provider.K8sClientProvider;
 import com.github.srujankujmar.deployer.services.util.KubernetesResourceUtil;
-import com.github.srujankujmar.troubleshooting.integration.errors.TroubleshootErrorCodes;
 import com.github.srujankujmar.troubleshooting.integration.models.TroubleshootingContext;
 import com.github.srujankujmar.troubleshooting.integration.spring.TroubleshootingConfig;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.*;
 import org.apache.commons.lang3.StringUtils;
+import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +41,7 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
@@ -60,25 +57,39 @@ public class TroubleshootingContextCollector {
     @Autowired
     private TroubleshootingConfig troubleshootingConfig;
     
+    @Autowired
+    private ResourceSnapshotProvider resourceSnapshotProvider;
+
     private List<String> troubleshootResources = Arrays.asList(ResourceKind.STATEFUL_SET.getKind(), ResourceKind.DEPLOYMENT.getKind(),
             ResourceKind.REPLICA_SET.getKind(), ResourceKind.POD.getKind(), ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind());
 
     public TroubleshootingContext build(@NonNull ServiceMetadata serviceMetadata, @NonNull K8sAuthorisation k8sAuthorisation, @NonNull String namespace) throws HyscaleException {
-        TroubleshootingContext context = new TroubleshootingContext();
         try {
             ApiClient apiClient = k8sClientProvider.get(k8sAuthorisation);
-
-            context.setServiceMetadata(serviceMetadata);
-            context.setTrace(troubleshootingConfig.isTrace());
+            String selector = ResourceSelectorUtil.getSelector(serviceMetadata.getAppName(), serviceMetadata.getEnvName(), serviceMetadata.getServiceName());
             long start = System.currentTimeMillis();
-            context.setResourceInfos(filter(getResources(serviceMetadata, apiClient, namespace)));
-            if (context.isTrace()) {
-                logger.debug("Time taken to build the context for service {} is {}", serviceMetadata.getServiceName(), System.currentTimeMillis() - start);
+            ResourceSnapshot snapshot = resourceSnapshotProvider.get(apiClient, selector, namespace, troubleshootResources);
+            if (troubleshootingConfig.isTrace()) {
+                logger.debug("Time taken to fetch resources of service {} is {}", serviceMetadata.getServiceName(), System.currentTimeMillis() - start);
             }
+            return build(serviceMetadata, snapshot);
         } catch (HyscaleException e) {
             logger.error("Error while preparing context to troubleshoot the service {}", serviceMetadata.getServiceName());
             throw e;
         }
+    }
+
+    /**
+     * Builds the context from resources of the service in the snapshot, no cluster calls are made
+     * @param serviceMetadata
+     * @param snapshot resources listed for the app or service
+     * @return context to troubleshoot the service
+     */
+    public TroubleshootingContext build(@NonNull ServiceMetadata serviceMetadata, @NonNull ResourceSnapshot snapshot) {
+        TroubleshootingContext context = new TroubleshootingContext();
+        context.setServiceMetadata(serviceMetadata);
+        context.setTrace(troubleshootingConfig.isTrace());
+        context.setResourceInfos(filter(getResources(serviceMetadata, snapshot)));
         return context;
     }
 
@@ -150,72 +161,59 @@ public class TroubleshootingContextCollector {
         return replicaSet;
     }
 
-    private Map<String, List<TroubleshootingContext.ResourceInfo>> getResources(@NonNull ServiceMetadata serviceMetadata, @NonNull ApiClient apiClient, @NonNull String namespace) throws HyscaleException {
-        String selector = ResourceSelectorUtil.getSelector(serviceMetadata.getAppName(), serviceMetadata.getEnvName(), serviceMetadata.getServiceName());
-        List<ResourceLifeCycleHandler> handlerList = getResourceHandlers();
-        if (handlerList == null || handlerList.isEmpty()) {
-            logger.error("Error while fetching resource lifecycle handler ");
-            throw new HyscaleException(TroubleshootErrorCodes.ERROR_WHILE_BUILDING_RESOURCES);
-        }
-
-        V1EventHandler eventHandler = (V1EventHandler) ResourceHandlers.getHandlerOf(ResourceKind.EVENT.getKind());
+    /**
+     * Resources of each troubleshoot kind for the service with their events and storage classes.
+     * Events are mapped to resources by involved object name
+     */
+    private Map<String, List<TroubleshootingContext.ResourceInfo>> getResources(@NonNull ServiceMetadata serviceMetadata, @NonNull ResourceSnapshot snapshot) {
+        String serviceName = serviceMetadata.getServiceName();
+        Map<String, List<V1Event>> nameVsEvents = snapshot.getEventsByInvolvedObject();
+        long windowStart = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(troubleshootingConfig.getEventsWindowInMinutes());
         Map<String, List<TroubleshootingContext.ResourceInfo>> resourceMap = new HashMap<>();
-        handlerList.stream().forEach(each -> {
-            List resourceList = null;
-            try {
-                resourceList = each.getBySelector(apiClient, selector, true, namespace);
-            } catch (HyscaleException e) {
-                logger.debug("Error while fetching resource {} in namespace {} of selector {}", each.getKind(), namespace, selector, e);
-            }
+        troubleshootResources.forEach(kind -> {
+            List<Object> resourceList = snapshot.getResources(kind, serviceName);
 
             // Construct resourceInfo for each resource of this kind
-            if (resourceList != null && !resourceList.isEmpty()) {
+            if (!resourceList.isEmpty()) {
                 List<TroubleshootingContext.ResourceInfo> resourceInfoList = new ArrayList<>();
                 resourceList.stream().forEach(eachResource -> {
                     TroubleshootingContext.ResourceInfo resourceInfo = new TroubleshootingContext.ResourceInfo();
+                    resourceInfo.setResource(eachResource);
                     try {
                         V1ObjectMeta v1ObjectMeta = KubernetesResourceUtil.getObjectMeta(eachResource);
-                        resourceInfo.setResource(eachResource);
-                        resourceInfo.setEvents(eventHandler.getBySelector(apiClient, getFieldSelector(v1ObjectMeta.getName(), namespace), false, namespace));
-                    } catch (HyscaleException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                        logger.debug("Error while fetching resource {} logs in namespace {}", eachResource.getClass(), namespace);
+                        if (nameVsEvents != null) {
+                            resourceInfo.setEvents(nameVsEvents.getOrDefault(v1ObjectMeta.getName(), Collections.emptyList())
+                                    .stream().filter(each -> isWithinWindow(each, windowStart)).collect(Collectors.toList()));
+                        }
+                    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                        logger.debug("Error while fetching resource {} logs in namespace {}", eachResource.getClass(), snapshot.getNamespace());
                     }
                     resourceInfoList.add(resourceInfo);
                 });
-
-                if (!resourceInfoList.isEmpty()) {
-                    resourceMap.put(each.getKind(), resourceInfoList);
-                }
+                resourceMap.put(kind, resourceInfoList);
             }
         });
 
         // Adding storage class to the context
-        V1StorageClassHandler storageClassHandler = (V1StorageClassHandler) ResourceHandlers.getHandlerOf(ResourceKind.STORAGE_CLASS.getKind());
-        List<V1StorageClass> storageClasses = storageClassHandler.getAll(apiClient);
-        if (storageClasses != null && !storageClasses.isEmpty()) {
+        List<V1StorageClass> storageClasses = snapshot.getResources(ResourceKind.STORAGE_CLASS.getKind());
+        if (!storageClasses.isEmpty()) {
             List<TroubleshootingContext.ResourceInfo> storageClassResourceInfoList =
                     storageClasses.stream().map(each -> {
                         TroubleshootingContext.ResourceInfo resourceInfo = new TroubleshootingContext.ResourceInfo();
                         resourceInfo.setResource(each);
                         return resourceInfo;
                     }).collect(Collectors.toList());
-            if (storageClassResourceInfoList != null && !storageClassResourceInfoList.isEmpty()) {
-                resourceMap.put(ResourceKind.STORAGE_CLASS.getKind(), storageClassResourceInfoList);
-            }
+            resourceMap.put(ResourceKind.STORAGE_CLASS.getKind(), storageClassResourceInfoList);
         }
 
         return resourceMap;
     }
-    
-    private List<ResourceLifeCycleHandler> getResourceHandlers() {
-        return ResourceHandlers.getAllHandlers().stream()
-                .filter(each -> troubleshootResources.contains(each.getKind())).collect(Collectors.toList());
-    }
 
-    private String getFieldSelector(String name, String namespace) {
-        Map<ResourceFieldSelectorKey, String> fieldMap = new HashMap<>();
-        fieldMap.put(V1EventHandler.EventFieldKey.INVOLVED_OBJECT_NAME, name);
-        fieldMap.put(V1EventHandler.EventFieldKey.INVOLVED_OBJECT_NAMESPACE, namespace);
-        return FieldSelectorUtil.getSelectorFromFieldMap(fieldMap);
+    private boolean isWithinWindow(V1Event event, long windowStart) {
+        DateTime eventTime = event.getLastTimestamp() != null ? event.getLastTimestamp() : event.getEventTime();
+        if (eventTime == null && event.getMetadata() != null) {
+            eventTime = event.getMetadata().getCreationTimestamp();
+        }
+        return eventTime == null || eventTime.getMillis() >= windowStart;
     }
 }
@@ -18,6 +18,7 @@ package com.github.srujankujmar.troubleshooting.integration.service;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.K8sAuthorisation;
 import com.github.srujankujmar.commons.models.ServiceMetadata;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
 import com.github.srujankujmar.troubleshooting.integration.models.DiagnosisReport;
 
 import java.util.List;
@@ -25,4 +26,9 @@ import java.util.List;
 public interface TroubleshootService {
 
     public List<DiagnosisReport> troubleshoot(ServiceMetadata serviceMetadata, K8sAuthorisation k8sAuthorisation, String namespace) throws HyscaleException;
+
+    /**
+     * Troubleshoots the service against resources in the snapshot without further cluster calls to list them
+     */
+    public List<DiagnosisReport> troubleshoot(ServiceMetadata serviceMetadata, ResourceSnapshot snapshot) throws HyscaleException;
 }
@@ -19,6 +19,7 @@ import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.framework.events.publisher.EventPublisher;
 import com.github.srujankujmar.commons.models.K8sAuthorisation;
 import com.github.srujankujmar.commons.models.ServiceMetadata;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
 import com.github.srujankujmar.troubleshooting.integration.builder.TroubleshootingContextCollector;
 import com.github.srujankujmar.troubleshooting.integration.conditions.PodStatusCondition;
 import com.github.srujankujmar.troubleshooting.integration.models.DiagnosisReport;
@@ -58,6 +59,18 @@ public class TroubleshootServiceImpl implements TroubleshootService {
         }
     }
 
+    @Override
+    public List<DiagnosisReport> troubleshoot(ServiceMetadata serviceMetadata, ResourceSnapshot snapshot) throws HyscaleException {
+        try {
+            TroubleshootingContext troubleshootingContext = contextBuilder.build(serviceMetadata, snapshot);
+            executeTroubleshootFlow(troubleshootingContext);
+            return troubleshootingContext.getDiagnosisReports();
+        } catch (HyscaleException e) {
+            logger.error("Error while troubleshooting service {}", serviceMetadata.getServiceName(), e);
+            throw e;
+        }
+    }
+
     private void executeTroubleshootFlow(TroubleshootingContext troubleshootingContext) throws HyscaleException {
         Node<TroubleshootingContext> current = podStatusCondition;
         String nodeDescription = current.describe();
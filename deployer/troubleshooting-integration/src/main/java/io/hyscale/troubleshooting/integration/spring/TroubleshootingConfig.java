@@ -26,7 +26,17 @@ public class TroubleshootingConfig {
     @Value("${com.github.srujankujmar.troubleshooting.trace:false}")
     private boolean trace;
 
+    @Value("${com.github.srujankujmar.troubleshooting.events.window.minutes:60}")
+    private long eventsWindowInMinutes;
+
     public boolean isTrace() {
         return trace;
     }
+
+    /**
+     * @return only events which occurred within this window are considered
+     */
+    public long getEventsWindowInMinutes() {
+        return eventsWindowInMinutes;
+    }
 }
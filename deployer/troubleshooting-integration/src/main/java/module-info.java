@@ -35,4 +35,5 @@ module troubleshooting.integration {
     requires java.annotation;
     requires com.fasterxml.jackson.databind;
     requires org.apache.commons.lang3;
+    requires joda.time;
 }
\ No newline at end of file
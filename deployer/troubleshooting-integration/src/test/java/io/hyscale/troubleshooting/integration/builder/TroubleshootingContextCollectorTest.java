@@ -0,0 +1,127 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.troubleshooting.integration.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.joda.time.DateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.github.srujankujmar.commons.models.ResourceLabelKey;
+import com.github.srujankujmar.commons.models.ServiceMetadata;
+import com.github.srujankujmar.deployer.core.model.ResourceKind;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+import com.github.srujankujmar.troubleshooting.integration.models.TroubleshootingContext;
+import com.github.srujankujmar.troubleshooting.integration.spring.TroubleshootingConfig;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+
+class TroubleshootingContextCollectorTest {
+
+    private static final String POD = ResourceKind.POD.getKind();
+
+    private static final int EVENTS_WINDOW_IN_MINUTES = 10;
+
+    @Mock
+    private TroubleshootingConfig troubleshootingConfig;
+
+    @InjectMocks
+    private TroubleshootingContextCollector contextCollector;
+
+    @BeforeEach
+    void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        when(troubleshootingConfig.getEventsWindowInMinutes()).thenReturn((long) EVENTS_WINDOW_IN_MINUTES);
+    }
+
+    @Test
+    void testEventsWithinWindow() {
+        DateTime recent = DateTime.now().minusMinutes(EVENTS_WINDOW_IN_MINUTES / 2);
+        DateTime old = DateTime.now().minusMinutes(EVENTS_WINDOW_IN_MINUTES * 2);
+        ResourceSnapshot snapshot = getSnapshot("web-0");
+        snapshot.setEvents(Arrays.asList(
+                getEvent("web-0", "RecentLastTimestamp").lastTimestamp(recent),
+                // Last timestamp takes precedence over event time
+                getEvent("web-0", "OldLastTimestamp").lastTimestamp(old).eventTime(recent),
+                getEvent("web-0", "RecentEventTime").eventTime(recent),
+                getEvent("web-0", "OldEventTime").eventTime(old),
+                getEvent("web-0", "RecentCreation").metadata(new V1ObjectMeta().creationTimestamp(recent)),
+                getEvent("web-0", "OldCreation").metadata(new V1ObjectMeta().creationTimestamp(old)),
+                // Events without time are kept
+                getEvent("web-0", "NoTime")));
+
+        assertEquals(Arrays.asList("RecentLastTimestamp", "RecentEventTime", "RecentCreation", "NoTime"),
+                getReasons(build(snapshot).get("web-0")));
+    }
+
+    @Test
+    void testEventsGroupedByInvolvedObject() {
+        DateTime recent = DateTime.now();
+        ResourceSnapshot snapshot = getSnapshot("web-0", "web-1");
+        snapshot.setEvents(Arrays.asList(getEvent("web-0", "Scheduled").lastTimestamp(recent),
+                getEvent("web-1", "Pulled").lastTimestamp(recent), getEvent("web-0", "Started").lastTimestamp(recent),
+                getEvent("db-0", "Killing").lastTimestamp(recent)));
+
+        Map<String, TroubleshootingContext.ResourceInfo> podInfos = build(snapshot);
+        assertEquals(Arrays.asList("Scheduled", "Started"), getReasons(podInfos.get("web-0")));
+        assertEquals(Collections.singletonList("Pulled"), getReasons(podInfos.get("web-1")));
+    }
+
+    @Test
+    void testNoEventsListed() {
+        Map<String, TroubleshootingContext.ResourceInfo> podInfos = build(getSnapshot("web-0"));
+        assertNull(podInfos.get("web-0").getEvents());
+    }
+
+    private Map<String, TroubleshootingContext.ResourceInfo> build(ResourceSnapshot snapshot) {
+        ServiceMetadata serviceMetadata = new ServiceMetadata();
+        serviceMetadata.setAppName("app");
+        serviceMetadata.setServiceName("web");
+        TroubleshootingContext context = contextCollector.build(serviceMetadata, snapshot);
+        return context.getResourceInfos().get(POD).stream()
+                .collect(Collectors.toMap(each -> ((V1Pod) each.getResource()).getMetadata().getName(), each -> each));
+    }
+
+    private ResourceSnapshot getSnapshot(String... podNames) {
+        ResourceSnapshot snapshot = new ResourceSnapshot("dev");
+        snapshot.addResources(POD, Arrays.stream(podNames).map(name -> new V1Pod().metadata(new V1ObjectMeta()
+                .name(name).putLabelsItem(ResourceLabelKey.SERVICE_NAME.getLabel(), "web")))
+                .collect(Collectors.toList()));
+        return snapshot;
+    }
+
+    private List<String> getReasons(TroubleshootingContext.ResourceInfo resourceInfo) {
+        return resourceInfo.getEvents().stream().map(V1Event::getReason).collect(Collectors.toList());
+    }
+
+    private V1Event getEvent(String involvedObject, String reason) {
+        return new V1Event().involvedObject(new V1ObjectReference().name(involvedObject)).reason(reason);
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.dockerfile.gen.services.persist;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.srujankujmar.commons.config.SetupConfig;
+import com.github.srujankujmar.commons.exception.CommonErrorCode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.io.FileDigestIndex;
+import com.github.srujankujmar.commons.models.SupportingFile;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Stages supporting files of a service into the docker build directory.
+ * Files are first brought up to date in a staging directory kept in the service cache,
+ * which outlives the clean up of service directory. A staged file is replaced only when
+ * its size or content differs from the source, files of the same size are compared by digest.
+ * Staged files are hard linked to the source and then into the build directory when possible,
+ * falling back to a channel transfer when source and destination are on different file systems.
+ * Files are staged in parallel, staged files no longer referred are removed
+ */
+@Component
+public class ArtifactStager {
+
+	private static final Logger logger = LoggerFactory.getLogger(ArtifactStager.class);
+
+	private static final String STAGING_DIR = "staged-artifacts";
+
+	private static final String STAGED_DIGESTS = "staged-digests";
+
+	private static final String TEMP_SUFFIX = ".staging";
+
+	private static final ExecutorService stagingExecutor = Executors.newFixedThreadPool(
+			Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors())),
+			new ThreadFactoryBuilder().setNameFormat("artifact-stager-%d").setDaemon(true).build());
+
+	@Autowired
+	private SetupConfig setupConfig;
+
+	/**
+	 * @param appName
+	 * @param serviceName
+	 * @param supportingFiles files to stage, each at its relative path
+	 * @param targetDir build directory
+	 * @throws HyscaleException if any of the files could not be staged
+	 */
+	public void stage(String appName, String serviceName, List<SupportingFile> supportingFiles, String targetDir)
+			throws HyscaleException {
+		String cacheDir = setupConfig.getCacheDir(appName, serviceName);
+		Path stagingDir = Paths.get(cacheDir, STAGING_DIR).toAbsolutePath();
+		FileDigestIndex digestIndex = FileDigestIndex.load(cacheDir + STAGED_DIGESTS);
+		// Files staged at the same path are staged one after the other, last one wins
+		Map<Path, CompletableFuture<Void>> stagingTasks = new LinkedHashMap<>();
+		for (SupportingFile supportingFile : supportingFiles) {
+			File source = supportingFile.getFile();
+			String relativePath = supportingFile.getRelativePath() != null ? supportingFile.getRelativePath() : "";
+			Path stagedFile = stagingDir.resolve(relativePath).resolve(source.getName()).normalize();
+			Path targetFile = Paths.get(targetDir, relativePath, source.getName());
+			Runnable stagingTask = () -> {
+				try {
+					updateStagedFile(source.toPath(), stagedFile, digestIndex);
+					link(stagedFile, targetFile);
+				} catch (IOException | HyscaleException e) {
+					throw new CompletionException(new HyscaleException(e, CommonErrorCode.FAILED_TO_COPY_FILE,
+							source.getName()));
+				}
+			};
+			CompletableFuture<Void> previous = stagingTasks.get(stagedFile);
+			stagingTasks.put(stagedFile, previous != null ? previous.thenRunAsync(stagingTask, stagingExecutor)
+					: CompletableFuture.runAsync(stagingTask, stagingExecutor));
+		}
+		try {
+			CompletableFuture.allOf(stagingTasks.values().toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof HyscaleException) {
+				throw (HyscaleException) e.getCause();
+			}
+			throw e;
+		} finally {
+			digestIndex.save();
+		}
+		removeUnreferred(stagingDir, stagingTasks.keySet());
+	}
+
+	private void updateStagedFile(Path source, Path stagedFile, FileDigestIndex digestIndex)
+			throws IOException, HyscaleException {
+		FileTime sourceModifiedTime = Files.getLastModifiedTime(source);
+		if (Files.isRegularFile(stagedFile)) {
+			if (Files.isSameFile(source, stagedFile)) {
+				return;
+			}
+			if (Files.size(source) == Files.size(stagedFile)) {
+				if (sourceModifiedTime.equals(Files.getLastModifiedTime(stagedFile))) {
+					return;
+				}
+				if (digestIndex.getDigest(source.toFile()).equals(digestIndex.getDigest(stagedFile.toFile()))) {
+					Files.setLastModifiedTime(stagedFile, sourceModifiedTime);
+					return;
+				}
+			}
+		}
+		logger.debug("Staging {}", source);
+		link(source, stagedFile);
+	}
+
+	/**
+	 * Links or copies source to target through a temporary file, replacing target atomically
+	 */
+	private void link(Path source, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		Path tempFile = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+		Files.deleteIfExists(tempFile);
+		try {
+			createLink(tempFile, source);
+		} catch (IOException | UnsupportedOperationException e) {
+			logger.debug("Cannot link {}, copying instead", source, e);
+			transfer(source, tempFile);
+			Files.setLastModifiedTime(tempFile, Files.getLastModifiedTime(source));
+		}
+		Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Hard links existing file, overridden in tests to exercise the copy fallback
+	 */
+	void createLink(Path link, Path existing) throws IOException {
+		Files.createLink(link, existing);
+	}
+
+	private void transfer(Path source, Path target) throws IOException {
+		try (FileChannel sourceChannel = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel targetChannel = FileChannel.open(target, StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long size = sourceChannel.size();
+			long position = 0;
+			while (position < size) {
+				position += sourceChannel.transferTo(position, size - position, targetChannel);
+			}
+		}
+	}
+
+	private void removeUnreferred(Path stagingDir, Set<Path> stagedFiles) {
+		if (!Files.isDirectory(stagingDir)) {
+			return;
+		}
+		List<Path> unreferred;
+		try (Stream<Path> paths = Files.walk(stagingDir)) {
+			unreferred = paths.filter(Files::isRegularFile).filter(each -> !stagedFiles.contains(each))
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			logger.debug("Failed to list staged artifacts in {}", stagingDir, e);
+			return;
+		}
+		for (Path each : unreferred) {
+			try {
+				Files.delete(each);
+			} catch (IOException e) {
+				logger.debug("Failed to remove staged artifact {}", each, e);
+			}
+		}
+	}
+}
@@ -15,7 +15,7 @@
  */
 package com.github.srujankujmar.dockerfile.gen.services.persist;
 
-import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -42,6 +42,9 @@ public class LocalPersistenceService extends DockerfilePersistenceService {
 	@Autowired
 	private DockerfileGenConfig dockerfileGenConfig;
 
+	@Autowired
+	private ArtifactStager artifactStager;
+
 	@Override
 	protected boolean copySupportingFiles(List<SupportingFile> supportingFiles, DockerfileGenContext context) {
 		if (supportingFiles == null || supportingFiles.isEmpty()) {
@@ -51,33 +54,35 @@ public class LocalPersistenceService extends DockerfilePersistenceService {
 		String appName = context.getAppName();
 		String serviceName = context.getServiceName();
 		String parentDir = dockerfileGenConfig.getDockerFileParentDir(appName, serviceName);
+		List<SupportingFile> filesToStage = new ArrayList<>();
 		boolean isSuccess = supportingFiles.stream().allMatch(each -> {
-			String dir = parentDir.concat(each.getRelativePath() != null ? each.getRelativePath() : "");
-			File file = each.getFile();
-			if (file == null) {
-				// Create File in dir
-				FileSpec fileSpec = each.getFileSpec();
-				if (fileSpec == null) {
-					return false;
-				}
-				try {
-					HyscaleFilesUtil.createFile(dir + fileSpec.getName(), fileSpec.getContent());
-				} catch (HyscaleException e) {
-					logger.error("Failed to create support file {} in directory {}", fileSpec.getName(), dir);
-					return false;
-				}
+			if (each.getFile() != null) {
+				filesToStage.add(each);
 				return true;
 			}
-			// Copy file to dir
+			// Create File in dir
+			String dir = parentDir.concat(each.getRelativePath() != null ? each.getRelativePath() : "");
+			FileSpec fileSpec = each.getFileSpec();
+			if (fileSpec == null) {
+				return false;
+			}
 			try {
-				HyscaleFilesUtil.copyFileToDir(file, new File(dir));
+				HyscaleFilesUtil.createFile(dir + fileSpec.getName(), fileSpec.getContent());
 			} catch (HyscaleException e) {
-				logger.error("Failed to copy support file {} to directory {}, error {}", file.getName(), dir,
-						e.toString());
+				logger.error("Failed to create support file {} in directory {}", fileSpec.getName(), dir);
 				return false;
 			}
 			return true;
 		});
+		// Copy files to dir, unchanged files are reused from earlier deployments
+		if (isSuccess && !filesToStage.isEmpty()) {
+			try {
+				artifactStager.stage(appName, serviceName, filesToStage, parentDir);
+			} catch (HyscaleException e) {
+				logger.error("Failed to copy support files to directory {}, error {}", parentDir, e.toString());
+				isSuccess = false;
+			}
+		}
 		if (isSuccess) {
 			WorkflowLogger.endActivity(Status.DONE);
 		} else {
@@ -0,0 +1,194 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.dockerfile.gen.services.persist;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.srujankujmar.commons.config.SetupConfig;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.models.SupportingFile;
+
+class ArtifactStagerTest {
+
+    private static final String APP_NAME = "app";
+
+    private static final String SERVICE_NAME = "service";
+
+    @TempDir
+    File tempDir;
+
+    private ArtifactStager artifactStager;
+
+    private Path sourceDir;
+
+    private Path targetDir;
+
+    private Path stagingDir;
+
+    @BeforeEach
+    void init() throws IOException {
+        SetupConfig setupConfig = Mockito.mock(SetupConfig.class);
+        String cacheDir = new File(tempDir, "cache").getPath() + File.separator;
+        Mockito.when(setupConfig.getCacheDir(APP_NAME, SERVICE_NAME)).thenReturn(cacheDir);
+        artifactStager = new ArtifactStager();
+        ReflectionTestUtils.setField(artifactStager, "setupConfig", setupConfig);
+        sourceDir = Files.createDirectories(tempDir.toPath().resolve("source"));
+        targetDir = tempDir.toPath().resolve("target");
+        stagingDir = tempDir.toPath().resolve("cache").resolve("staged-artifacts");
+    }
+
+    @Test
+    void stageTest() throws IOException, HyscaleException {
+        SupportingFile war = supportingFile("app.war", "artifacts/war/", "war-1");
+        SupportingFile script = supportingFile("run.sh", null, "echo run");
+        stage(war, script);
+        Assertions.assertEquals("war-1", read(targetDir.resolve("artifacts/war/app.war")));
+        Assertions.assertEquals("echo run", read(targetDir.resolve("run.sh")));
+
+        // Target dir is cleaned up between deployments
+        deleteTargetDir();
+        replaceSource(war, "war-2 updated", laterModifiedTime(war));
+        stage(war);
+        Assertions.assertEquals("war-2 updated", read(targetDir.resolve("artifacts/war/app.war")));
+        Assertions.assertTrue(Files.isSameFile(war.getFile().toPath(), stagingDir.resolve("artifacts/war/app.war")));
+        Assertions.assertFalse(Files.exists(targetDir.resolve("run.sh")));
+        Assertions.assertTrue(Files.exists(stagingDir.resolve("artifacts/war/app.war")));
+        Assertions.assertFalse(Files.exists(stagingDir.resolve("run.sh")));
+    }
+
+    @Test
+    void sameSizeUpdateTest() throws IOException, HyscaleException {
+        SupportingFile jar = supportingFile("app.jar", null, "jar-1");
+        stage(jar);
+        Path stagedFile = stagingDir.resolve("app.jar");
+
+        replaceSource(jar, "jar-2", laterModifiedTime(jar));
+        stage(jar);
+        Assertions.assertEquals("jar-2", read(stagedFile));
+        Assertions.assertEquals("jar-2", read(targetDir.resolve("app.jar")));
+        Assertions.assertTrue(Files.isSameFile(jar.getFile().toPath(), stagedFile));
+    }
+
+    @Test
+    void modifiedTimeOnlyUpdateTest() throws IOException, HyscaleException {
+        SupportingFile jar = supportingFile("app.jar", null, "jar-1");
+        stage(jar);
+        Path stagedFile = stagingDir.resolve("app.jar");
+        Object stagedFileKey = fileKey(stagedFile);
+
+        FileTime modifiedTime = laterModifiedTime(jar);
+        replaceSource(jar, "jar-1", modifiedTime);
+        stage(jar);
+        // Content is unchanged, staged file is kept with the time of source
+        Assertions.assertEquals(stagedFileKey, fileKey(stagedFile));
+        Assertions.assertFalse(Files.isSameFile(jar.getFile().toPath(), stagedFile));
+        Assertions.assertEquals(modifiedTime, Files.getLastModifiedTime(stagedFile));
+        Assertions.assertEquals("jar-1", read(targetDir.resolve("app.jar")));
+    }
+
+    @Test
+    void copyWithoutLinkTest() throws IOException, HyscaleException {
+        ArtifactStager copyingStager = new ArtifactStager() {
+            @Override
+            void createLink(Path link, Path existing) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ReflectionTestUtils.setField(copyingStager, "setupConfig",
+                ReflectionTestUtils.getField(artifactStager, "setupConfig"));
+        artifactStager = copyingStager;
+        SupportingFile war = supportingFile("app.war", "artifacts/", "war-1");
+        stage(war);
+        Path stagedFile = stagingDir.resolve("artifacts/app.war");
+        Path targetFile = targetDir.resolve("artifacts/app.war");
+        Assertions.assertEquals("war-1", read(targetFile));
+        Assertions.assertFalse(Files.isSameFile(war.getFile().toPath(), stagedFile));
+        Assertions.assertFalse(Files.isSameFile(stagedFile, targetFile));
+        Assertions.assertEquals(Files.getLastModifiedTime(war.getFile().toPath()), Files.getLastModifiedTime(stagedFile));
+
+        replaceSource(war, "war-2 updated", laterModifiedTime(war));
+        stage(war);
+        Assertions.assertEquals("war-2 updated", read(stagedFile));
+        Assertions.assertEquals("war-2 updated", read(targetFile));
+    }
+
+    @Test
+    void missingSourceTest() {
+        SupportingFile missing = new SupportingFile();
+        missing.setFile(sourceDir.resolve("missing.jar").toFile());
+        Assertions.assertThrows(HyscaleException.class, () -> stage(missing));
+    }
+
+    private void stage(SupportingFile... supportingFiles) throws HyscaleException {
+        artifactStager.stage(APP_NAME, SERVICE_NAME, Arrays.asList(supportingFiles),
+                targetDir.toString() + File.separator);
+    }
+
+    private SupportingFile supportingFile(String name, String relativePath, String content) throws IOException {
+        Path file = Files.write(sourceDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+        SupportingFile supportingFile = new SupportingFile();
+        supportingFile.setFile(file.toFile());
+        supportingFile.setRelativePath(relativePath);
+        return supportingFile;
+    }
+
+    /**
+     * Writes new version to another file and moves it over the source, source gets a new inode
+     */
+    private void replaceSource(SupportingFile supportingFile, String content, FileTime modifiedTime) throws IOException {
+        Path source = supportingFile.getFile().toPath();
+        Path newVersion = Files.write(source.resolveSibling(source.getFileName() + ".new"),
+                content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(newVersion, modifiedTime);
+        Files.move(newVersion, source, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FileTime laterModifiedTime(SupportingFile supportingFile) throws IOException {
+        FileTime modifiedTime = Files.getLastModifiedTime(supportingFile.getFile().toPath());
+        return FileTime.fromMillis(modifiedTime.toMillis() + 10000);
+    }
+
+    private Object fileKey(Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    }
+
+    private void deleteTargetDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(targetDir)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -20,6 +20,7 @@ import com.github.srujankujmar.commons.models.Activity;
 public enum ImageBuilderActivity implements Activity {
 
 	IMAGE_BUILD_PUSH("Image build and push "),
+	IMAGE_UNCHANGED("Image unchanged since last push "),
 	IMAGE_BUILD("Building image "),
 	BUILD_LOGS("Build logs "),
 	IMAGE_TAG("Tagging image "),
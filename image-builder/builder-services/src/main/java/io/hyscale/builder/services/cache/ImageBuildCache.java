@@ -0,0 +1,197 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.builder.services.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.srujankujmar.builder.core.models.BuildContext;
+import com.github.srujankujmar.builder.services.config.ImageBuilderConfig;
+import com.github.srujankujmar.builder.services.constants.DockerImageConstants;
+import com.github.srujankujmar.commons.config.SetupConfig;
+import com.github.srujankujmar.commons.constants.ToolConstants;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.io.FileDigestIndex;
+import com.github.srujankujmar.commons.utils.DigestUtil;
+import com.github.srujankujmar.servicespec.commons.model.service.Dockerfile;
+import com.github.srujankujmar.servicespec.commons.model.service.Image;
+import com.github.srujankujmar.servicespec.commons.util.ImageUtil;
+
+/**
+ * Remembers the image pushed for a service along with the fingerprint of its build inputs.
+ * Fingerprint covers the destination image and registry, dockerfile, build args, target
+ * and the content of every file in the build context.
+ * File contents are hashed through a {@link FileDigestIndex} so that unchanged files
+ * are not read again.
+ *
+ * Base images referred in the dockerfile are not part of the fingerprint,
+ * set HYS.IMAGE_BUILD_CACHE to false to always build
+ */
+@Component
+public class ImageBuildCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageBuildCache.class);
+
+    private static final String FILE_DIGESTS = "file-digests";
+
+    private static final String PUSHED_IMAGE = "pushed-image.properties";
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    private static final String IMAGE = "image";
+
+    private static final String DIGEST = "digest";
+
+    @Autowired
+    private SetupConfig setupConfig;
+
+    @Autowired
+    private ImageBuilderConfig imageBuilderConfig;
+
+    /**
+     * @param dockerfile resolved dockerfile to build the image with
+     * @param image destination image
+     * @param context
+     * @return fingerprint of build inputs, null if cache is disabled or inputs cannot be read
+     */
+    public String getFingerprint(Dockerfile dockerfile, Image image, BuildContext context) {
+        if (!imageBuilderConfig.isImageBuildCacheEnabled() || dockerfile == null || context.getPushRegistry() == null) {
+            return null;
+        }
+        String cacheDir = setupConfig.getCacheDir(context.getAppName(), context.getServiceName());
+        FileDigestIndex digestIndex = FileDigestIndex.load(cacheDir + FILE_DIGESTS);
+        MessageDigest fingerprint = DigestUtil.newMessageDigest();
+        try {
+            update(fingerprint, IMAGE, ImageUtil.getImage(image));
+            update(fingerprint, "registry", context.getPushRegistry().getUrl());
+            update(fingerprint, "target", dockerfile.getTarget());
+            if (dockerfile.getArgs() != null) {
+                for (Map.Entry<String, String> arg : new TreeMap<>(dockerfile.getArgs()).entrySet()) {
+                    update(fingerprint, "arg." + arg.getKey(), arg.getValue());
+                }
+            }
+            File dockerfileFile = new File(dockerfile.getDockerfilePath() + ToolConstants.LINUX_FILE_SEPARATOR
+                    + DockerImageConstants.DOCKERFILE_NAME);
+            update(fingerprint, "dockerfile", digestIndex.getDigest(dockerfileFile));
+            Path contextDir = Paths.get(dockerfile.getPath() != null ? dockerfile.getPath() : dockerfile.getDockerfilePath());
+            for (Path file : listFiles(contextDir)) {
+                update(fingerprint, "file." + contextDir.relativize(file), digestIndex.getDigest(file.toFile()));
+            }
+        } catch (HyscaleException | IOException e) {
+            logger.debug("Unable to fingerprint build context of service {}, image will be built",
+                    context.getServiceName(), e);
+            return null;
+        } finally {
+            digestIndex.save();
+        }
+        return DigestUtil.toHex(fingerprint.digest());
+    }
+
+    /**
+     * @param fingerprint
+     * @param image
+     * @param context
+     * @return digest of the image pushed with the same fingerprint, null if there is none
+     */
+    public String getPushedDigest(String fingerprint, Image image, BuildContext context) {
+        if (fingerprint == null) {
+            return null;
+        }
+        Path pushedImageFile = Paths.get(setupConfig.getCacheDir(context.getAppName(), context.getServiceName()),
+                PUSHED_IMAGE);
+        if (!Files.isRegularFile(pushedImageFile)) {
+            return null;
+        }
+        Properties pushedImage = new Properties();
+        try (InputStream inputStream = Files.newInputStream(pushedImageFile)) {
+            pushedImage.load(inputStream);
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable image cache {}", pushedImageFile, e);
+            return null;
+        }
+        if (!fingerprint.equals(pushedImage.getProperty(FINGERPRINT))
+                || !ImageUtil.getImage(image).equals(pushedImage.getProperty(IMAGE))) {
+            return null;
+        }
+        return StringUtils.trimToNull(pushedImage.getProperty(DIGEST));
+    }
+
+    /**
+     * Records the image pushed for the fingerprint, replacing the earlier record
+     * 
+     * @param fingerprint
+     * @param image
+     * @param context carrying digest of the pushed image
+     */
+    public void recordPushedImage(String fingerprint, Image image, BuildContext context) {
+        Path pushedImageFile = Paths.get(setupConfig.getCacheDir(context.getAppName(), context.getServiceName()),
+                PUSHED_IMAGE);
+        if (fingerprint == null || StringUtils.isBlank(context.getImageShaSum())) {
+            clear(pushedImageFile);
+            return;
+        }
+        Properties pushedImage = new Properties();
+        pushedImage.setProperty(FINGERPRINT, fingerprint);
+        pushedImage.setProperty(IMAGE, ImageUtil.getImage(image));
+        pushedImage.setProperty(DIGEST, context.getImageShaSum());
+        try {
+            Files.createDirectories(pushedImageFile.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(pushedImageFile)) {
+                pushedImage.store(outputStream, null);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to record pushed image of service {}", context.getServiceName(), e);
+            clear(pushedImageFile);
+        }
+    }
+
+    private void clear(Path pushedImageFile) {
+        try {
+            Files.deleteIfExists(pushedImageFile);
+        } catch (IOException e) {
+            logger.debug("Failed to clear image cache {}", pushedImageFile, e);
+        }
+    }
+
+    private List<Path> listFiles(Path contextDir) throws IOException {
+        try (Stream<Path> paths = Files.walk(contextDir)) {
+            return paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private void update(MessageDigest fingerprint, String key, String value) {
+        fingerprint.update((key + "=" + StringUtils.defaultString(value) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -42,6 +42,15 @@ public class ImageBuilderConfig {
     @Value("${HYS.PRESERVE_N_RECENTLY_USED:3}")
     private Integer noOfPreservedImages;
 
+    @Value("${HYS.IMAGE_BUILD_CACHE:true}")
+    private boolean imageBuildCacheEnabled;
+
+    @Value("${HYS.MAX_CONCURRENT_IMAGE_BUILDS:2}")
+    private Integer maxConcurrentBuilds;
+
+    @Value("${HYS.MAX_CONCURRENT_IMAGE_PUSHES:4}")
+    private Integer maxConcurrentPushes;
+
     public String getImageCleanUpPolicy() {
         return System.getenv(IMAGE_CLEAN_UP_POLICY_PROPERTY);
     }
@@ -50,6 +59,27 @@ public class ImageBuilderConfig {
         return noOfPreservedImages;
     }
 
+    /**
+     * @return true if build and push are skipped for images whose build inputs are unchanged since last push
+     */
+    public boolean isImageBuildCacheEnabled() {
+        return imageBuildCacheEnabled;
+    }
+
+    /**
+     * @return number of image builds run against the docker daemon at a time
+     */
+    public int getMaxConcurrentBuilds() {
+        return Math.max(1, maxConcurrentBuilds);
+    }
+
+    /**
+     * @return number of image pushes run at a time, independent of builds
+     */
+    public int getMaxConcurrentPushes() {
+        return Math.max(1, maxConcurrentPushes);
+    }
+
     public String getDockerBuildlog(String appName, String serviceName) {
         StringBuilder sb = new StringBuilder(setupConfig.getLogsDir(appName, serviceName));
         sb.append(BUILD_LOG);
@@ -16,6 +16,7 @@
 package com.github.srujankujmar.builder.services.docker.impl;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.ws.rs.ProcessingException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -50,6 +52,7 @@ import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.command.BuildImageResultCallback;
 import com.github.dockerjava.core.command.PullImageResultCallback;
 import com.github.dockerjava.core.command.PushImageResultCallback;
+import com.github.dockerjava.jaxrs.JerseyDockerCmdExecFactory;
 
 import com.github.srujankujmar.builder.core.models.BuildContext;
 import com.github.srujankujmar.builder.core.models.DockerImage;
@@ -61,7 +64,7 @@ import com.github.srujankujmar.builder.services.exception.ImageBuilderErrorCodes
 import com.github.srujankujmar.builder.services.spring.DockerClientCondition;
 import com.github.srujankujmar.commons.constants.ToolConstants;
 import com.github.srujankujmar.commons.exception.HyscaleException;
-import com.github.srujankujmar.commons.io.HyscaleFilesUtil;
+import com.github.srujankujmar.commons.io.LogSink;
 import com.github.srujankujmar.commons.logger.ActivityContext;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
 import com.github.srujankujmar.commons.models.ImageRegistry;
@@ -87,24 +90,47 @@ public class DockerRESTClient implements HyscaleDockerClient {
 
     private static final String SHA256 = "sha256";
 
+    // Connections for short lived commands like tag, list and version alongside streaming builds and pushes
+    private static final int ADDITIONAL_CONNECTIONS = 4;
+
     @Autowired
     private ImageBuilderConfig imageBuilderConfig;
 
     @Autowired
     private ImageMetadataProvider imageMetadataProvider;
 
-    private DefaultDockerClientConfig clientConfig;
+    private DockerClient dockerClient;
 
+    /**
+     * Creates a single docker client shared by all commands and threads.
+     * Build and push stream their output over a connection for the whole command,
+     * so the pool is sized to run the configured number of both at a time
+     */
     @PostConstruct
     public void init() {
-        clientConfig
+        DefaultDockerClientConfig clientConfig
                 = DefaultDockerClientConfig.createDefaultConfigBuilder()
                 .withDockerHost(imageBuilderConfig.getDockerHost()).build();
+        int maxConnections = imageBuilderConfig.getMaxConcurrentBuilds() + imageBuilderConfig.getMaxConcurrentPushes()
+                + ADDITIONAL_CONNECTIONS;
+        JerseyDockerCmdExecFactory cmdExecFactory = new JerseyDockerCmdExecFactory()
+                .withMaxTotalConnections(maxConnections)
+                .withMaxPerRouteConnections(maxConnections);
+        dockerClient = DockerClientBuilder.getInstance(clientConfig).withDockerCmdExecFactory(cmdExecFactory).build();
         logger.debug("Using docker rest client for image building");
     }
 
+    @PreDestroy
+    public void destroy() {
+        try {
+            dockerClient.close();
+        } catch (IOException e) {
+            logger.debug("Error while closing docker client", e);
+        }
+    }
+
     public DockerClient getDockerClient() {
-        return DockerClientBuilder.getInstance(clientConfig).build();
+        return dockerClient;
     }
 
     @Override
@@ -180,12 +206,13 @@ public class DockerRESTClient implements HyscaleDockerClient {
         if (buildContext.isVerbose()) {
             WorkflowLogger.header(ImageBuilderActivity.BUILD_LOGS);
         }
+        LogSink logSink = openLogSink(logFilePath);
         BuildImageResultCallback callback = new BuildImageResultCallback() {
             @Override
             public void onNext(BuildResponseItem item) {
                 ErrorDetail errorDetail = item.getErrorDetail();
                 String message = item.isErrorIndicated() && errorDetail != null ? errorDetail.getMessage() : item.getStream();
-                handleOutput(message, logFilePath, buildActivity, buildContext.isVerbose());
+                handleOutput(message, logSink, buildActivity, buildContext.isVerbose());
                 if (item.isErrorIndicated()) {
                     logger.error("Error while building image: {}", errorDetail);
                     onError(new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE));
@@ -202,6 +229,8 @@ public class DockerRESTClient implements HyscaleDockerClient {
             Thread.currentThread().interrupt();
             handleOutput(buildContext.isVerbose(), buildActivity, Status.FAILED);
             throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
+        } finally {
+            closeLogSink(logSink);
         }
 
         handleOutput(buildContext.isVerbose(), buildActivity, Status.DONE);
@@ -324,12 +353,13 @@ public class DockerRESTClient implements HyscaleDockerClient {
         if (buildContext.isVerbose()) {
             WorkflowLogger.header(ImageBuilderActivity.IMAGE_PUSH_LOG);
         }
+        LogSink logSink = openLogSink(logFilePath);
         PushImageResultCallback callback = new PushImageResultCallback() {
             @Override
             public void onNext(PushResponseItem item) {
                 ErrorDetail errorDetail = item.getErrorDetail();
                 String message = item.isErrorIndicated() && errorDetail != null ? errorDetail.getMessage() : item.getStatus();
-                handleOutput(message, logFilePath, pushActivity, buildContext.isVerbose());
+                handleOutput(message, logSink, pushActivity, buildContext.isVerbose());
                 if (item.isErrorIndicated()) {
                     logger.error("Error while pushing image: {}", errorDetail);
                     onError(new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE));
@@ -350,11 +380,13 @@ public class DockerRESTClient implements HyscaleDockerClient {
             Thread.currentThread().interrupt();
             handleOutput(buildContext.isVerbose(), pushActivity, Status.FAILED);
             throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE);
+        } finally {
+            closeLogSink(logSink);
         }
         handleOutput(buildContext.isVerbose(), pushActivity, Status.DONE);
     }
     
-    private void handleOutput(String output, String filePath, ActivityContext context, boolean isVerbose) {
+    private void handleOutput(String output, LogSink logSink, ActivityContext context, boolean isVerbose) {
         if (output == null) {
             return;
         }
@@ -363,10 +395,26 @@ public class DockerRESTClient implements HyscaleDockerClient {
         } else {
             WorkflowLogger.continueActivity(context);
         }
+        if (logSink != null) {
+            logSink.write(output);
+        }
+    }
+
+    /**
+     * @return sink writing output of the activity, null if log file cannot be opened
+     */
+    private LogSink openLogSink(String logFilePath) {
         try {
-            HyscaleFilesUtil.updateFile(filePath, output.concat(ToolConstants.NEW_LINE));
+            return LogSink.open(logFilePath);
         } catch (HyscaleException e) {
-            logger.error("Error while writing output to log file: {}", filePath, e);
+            logger.error("Error while opening log file: {}", logFilePath, e);
+            return null;
+        }
+    }
+
+    private void closeLogSink(LogSink logSink) {
+        if (logSink != null) {
+            logSink.close();
         }
     }
     
@@ -15,28 +15,12 @@
  */
 package com.github.srujankujmar.builder.services.handler;
 
-import com.github.srujankujmar.commons.logger.WorkflowLogger;
-import com.github.srujankujmar.commons.utils.TailHandler;
+public class BuildLogHandler extends ImageLogHandler {
 
-public class BuildLogHandler implements TailHandler {
+	private static final String EOF_MARKER = "(.*)Successfully tagged(.*)";
 
-	private static String EOF_MARKER = "(.*)Successfully tagged(.*)";
-
-	@Override
-	public void handleLine(String line) {
-		System.out.println(line);
-	}
-
-	@Override
-	public boolean handleEOF(String line) {
-		if (line == null) {
-			return true;
-		}
-		boolean eof = line.matches(EOF_MARKER);
-		if (eof) {
-			WorkflowLogger.footer();
-		}
-		return eof;
+	public BuildLogHandler() {
+		super(EOF_MARKER);
 	}
 
 }
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.builder.services.handler;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.utils.TailHandler;
+
+/**
+ * Prints image build or push logs till the line marking end of log
+ */
+public abstract class ImageLogHandler implements TailHandler {
+
+	private final Pattern eofPattern;
+
+	private final Matcher eofMatcher;
+
+	private final StringBuilder output = new StringBuilder();
+
+	protected ImageLogHandler(String eofMarker) {
+		this.eofPattern = Pattern.compile(eofMarker);
+		this.eofMatcher = eofPattern.matcher("");
+	}
+
+	@Override
+	public void handleLine(String line) {
+		System.out.println(line);
+	}
+
+	@Override
+	public boolean handleEOF(String line) {
+		if (line == null) {
+			return true;
+		}
+		boolean eof = eofPattern.matcher(line).matches();
+		if (eof) {
+			WorkflowLogger.footer();
+		}
+		return eof;
+	}
+
+	/**
+	 * Prints the lines at once, matching end of log without copying each line
+	 */
+	@Override
+	public boolean handleLines(List<? extends CharSequence> lines) {
+		output.setLength(0);
+		boolean eof = false;
+		for (CharSequence line : lines) {
+			output.append(line).append(System.lineSeparator());
+			if (eofMatcher.reset(line).matches()) {
+				eof = true;
+				break;
+			}
+		}
+		System.out.print(output);
+		if (eof) {
+			WorkflowLogger.footer();
+		}
+		return eof;
+	}
+
+}
@@ -16,6 +16,10 @@
 package com.github.srujankujmar.builder.services.impl;
 
 import java.io.File;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -30,6 +34,7 @@ import com.github.srujankujmar.builder.events.model.ImageBuildEvent;
 import com.github.srujankujmar.builder.events.model.ImagePullEvent;
 import com.github.srujankujmar.builder.events.model.ImagePushEvent;
 import com.github.srujankujmar.builder.events.model.ImageTagEvent;
+import com.github.srujankujmar.builder.services.cache.ImageBuildCache;
 import com.github.srujankujmar.builder.services.cleanup.ImageCleanUpProcessor;
 import com.github.srujankujmar.builder.services.config.ImageBuilderConfig;
 import com.github.srujankujmar.builder.services.constants.DockerImageConstants;
@@ -66,6 +71,24 @@ public class LocalImageBuildPushServiceImpl implements ImageBuildPushService {
     @Autowired
     private EventPublisher publisher;
 
+    @Autowired
+    private ImageBuildCache imageBuildCache;
+
+    private Semaphore buildPermits;
+
+    private Semaphore pushPermits;
+
+    /**
+     * Builds are bound by the docker daemon and pushes by the network,
+     * separate permits let services being deployed in parallel push
+     * while the next ones build
+     */
+    @PostConstruct
+    public void init() {
+        buildPermits = new Semaphore(imageBuilderConfig.getMaxConcurrentBuilds(), true);
+        pushPermits = new Semaphore(imageBuilderConfig.getMaxConcurrentPushes(), true);
+    }
+
     @Override
     public void buildAndPush(ServiceSpec serviceSpec, BuildContext context) throws HyscaleException {
         validate(serviceSpec, context);
@@ -75,6 +98,20 @@ public class LocalImageBuildPushServiceImpl implements ImageBuildPushService {
             return;
         }
 
+        Image image = serviceSpec.get(HyscaleSpecFields.image, Image.class);
+        Dockerfile dockerfile = getBuildDockerfile(serviceSpec, context);
+        String fingerprint = context.isStackAsServiceImage() ? null
+                : imageBuildCache.getFingerprint(dockerfile, image, context);
+        String pushedDigest = imageBuildCache.getPushedDigest(fingerprint, image, context);
+        if (pushedDigest != null) {
+            logger.debug("Build inputs of service {} unchanged, using pushed image {}", context.getServiceName(),
+                    pushedDigest);
+            WorkflowLogger.startActivity(ImageBuilderActivity.IMAGE_UNCHANGED);
+            WorkflowLogger.endActivity(Status.SKIPPING);
+            context.setImageShaSum(pushedDigest);
+            return;
+        }
+
         // Check if docker is installed or not
         if (!hyscaleDockerClient.checkForDocker()) {
             throw new HyscaleException(ImageBuilderErrorCodes.DOCKER_NOT_INSTALLED);
@@ -84,35 +121,73 @@ public class LocalImageBuildPushServiceImpl implements ImageBuildPushService {
             throw new HyscaleException(ImageBuilderErrorCodes.DOCKER_DAEMON_NOT_RUNNING);
         }
 
-        buildImage(serviceSpec, context);
+        acquire(buildPermits, "image build", ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
+        try {
+            buildImage(dockerfile, serviceSpec, context);
+        } finally {
+            buildPermits.release();
+        }
 
         String sourceImage = getSourceImageName(serviceSpec, context);
 
         pullImage(sourceImage, context);
 
-        Image image = serviceSpec.get(HyscaleSpecFields.image, Image.class);
-
         tagImage(sourceImage, image);
 
-        pushImage(image, context);
+        acquire(pushPermits, "image push", ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE);
+        try {
+            pushImage(image, context);
+        } finally {
+            pushPermits.release();
+        }
+        if (context.getPushRegistry() != null) {
+            imageBuildCache.recordPushedImage(fingerprint, image, context);
+        }
 
         // Clean up images based on clean up policy
         imageCleanUp.cleanUp(serviceSpec, context);
     }
 
-    private void buildImage(ServiceSpec serviceSpec, BuildContext context) throws HyscaleException {
+    private void acquire(Semaphore permits, String operation, ImageBuilderErrorCodes errorCode)
+            throws HyscaleException {
+        try {
+            // Untimed tryAcquire barges ahead of queued threads, a zero timeout honours the fair ordering
+            if (!permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                logger.debug("Waiting for a slot to start {}", operation);
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HyscaleException(e, errorCode);
+        }
+    }
+
+    /**
+     * @param serviceSpec
+     * @param context
+     * @return Dockerfile to build the image with, null if image build is not required
+     * @throws HyscaleException
+     */
+    private Dockerfile getBuildDockerfile(ServiceSpec serviceSpec, BuildContext context) throws HyscaleException {
         Dockerfile userDockerfile = serviceSpec.get(
                 HyscaleSpecFields.getPath(HyscaleSpecFields.image, HyscaleSpecFields.dockerfile), Dockerfile.class);
         //Skip Image Build if neither dockerfile from buildSpec nor user dockerfile is available
         if (skipBuild(userDockerfile, context)) {
+            return null;
+        }
+        //Prepare Dockerfile for Image build
+        return getDockerfile(userDockerfile, context);
+    }
+
+    private void buildImage(Dockerfile dockerfile, ServiceSpec serviceSpec, BuildContext context)
+            throws HyscaleException {
+        if (dockerfile == null) {
             WorkflowLogger.startActivity(ImageBuilderActivity.IMAGE_BUILD);
             WorkflowLogger.endActivity(Status.SKIPPING);
             return;
         }
         String tag = serviceSpec.get(HyscaleSpecFields.getPath(HyscaleSpecFields.image, HyscaleSpecFields.tag),
                 String.class);
-        //Prepare Dockerfile for Image build
-        Dockerfile dockerfile = getDockerfile(userDockerfile, context);
         ImageBuildEvent event = new ImageBuildEvent(ActivityState.STARTED, new File(dockerfile.getDockerfilePath()));
         publisher.publishEvent(event);
         String logFilePath = imageBuilderConfig.getDockerBuildlog(context.getAppName(), context.getServiceName());
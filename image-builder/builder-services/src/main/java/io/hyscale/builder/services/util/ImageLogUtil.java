@@ -16,10 +16,13 @@
 package com.github.srujankujmar.builder.services.util;
 
 import java.io.File;
+import java.util.concurrent.TimeUnit;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.io.LogProcessor;
+import com.github.srujankujmar.commons.io.LogSink;
 import com.github.srujankujmar.commons.io.TailLogFile;
+import com.github.srujankujmar.commons.utils.TailHandler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,28 +60,66 @@ public class ImageLogUtil {
 		String appName = context.getAppName();
 		String serviceName = context.getServiceName();
 
-		long startTime = System.currentTimeMillis();
-
 		// build logs
-		TailLogFile tailBuildLogs = tailBuildLogs(appName, serviceName);
-		if (tailBuildLogs != null) {
-			while (tailBuildLogs.isRunning()
-					&& (System.currentTimeMillis() - startTime) < DockerImageConstants.TAIL_LOG_MAX_WAIT_TIME) {
-				// waiting on build logs
+		if (!subscribeLogs(imageBuilderConfig.getDockerBuildlog(appName, serviceName), new BuildLogHandler(),
+				ImageBuilderActivity.BUILD_LOGS)) {
+			TailLogFile tailBuildLogs = tailBuildLogs(appName, serviceName);
+			if (tailBuildLogs != null) {
+				awaitTail(tailBuildLogs);
+				logger.debug("Tailing Build logs for app {} and service {}",appName,serviceName);
+				tailBuildLogs.stopRunning();
 			}
-			logger.debug("Tailing Build logs for app {} and service {}",appName,serviceName);
-			tailBuildLogs.stopRunning();
 		}
-		startTime = System.currentTimeMillis();
 		// push logs
-		TailLogFile tailPushLogs = tailPushLogs(appName, serviceName);
-		if (tailPushLogs != null) {
-			while (tailPushLogs.isRunning()
-					&& (System.currentTimeMillis() - startTime) < DockerImageConstants.TAIL_LOG_MAX_WAIT_TIME) {
-				// waiting on push logs
+		if (!subscribeLogs(imageBuilderConfig.getDockerPushLogDir(appName, serviceName), new PushLogHandler(),
+				ImageBuilderActivity.IMAGE_PUSH_LOG)) {
+			TailLogFile tailPushLogs = tailPushLogs(appName, serviceName);
+			if (tailPushLogs != null) {
+				awaitTail(tailPushLogs);
+				logger.debug("Tailing push logs for app {} and service {}",appName,serviceName);
+				tailPushLogs.stopRunning();
+			}
+		}
+	}
+
+	/**
+	 * Follows logs in memory while they are being written in this process
+	 * @return false if log is not being written, file has to be tailed
+	 */
+	private boolean subscribeLogs(String logFilePath, TailHandler handler, ImageBuilderActivity activity) {
+		LogSink logSink = LogSink.getOpenSink(logFilePath);
+		if (logSink == null) {
+			return false;
+		}
+		WorkflowLogger.header(activity);
+		LogSink.Subscription subscription = logSink.subscribe(handler);
+		if (subscription == null) {
+			// Closed in the meantime, log file is complete
+			TailLogFile tailLogFile = processLogFile.tailLogFile(new File(logFilePath), handler);
+			if (tailLogFile != null) {
+				awaitTail(tailLogFile);
+				tailLogFile.stopRunning();
 			}
-			logger.debug("Tailing push logs for app {} and service {}",appName,serviceName);
-			tailPushLogs.stopRunning();
+			return true;
+		}
+		logger.debug("Following logs of {} in memory", logFilePath);
+		try {
+			if (!subscription.await(DockerImageConstants.TAIL_LOG_MAX_WAIT_TIME, TimeUnit.MILLISECONDS)) {
+				logger.debug("Timed out following logs of {}", logFilePath);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			subscription.cancel();
+		}
+		return true;
+	}
+
+	private void awaitTail(TailLogFile tailLogFile) {
+		try {
+			tailLogFile.awaitStop(DockerImageConstants.TAIL_LOG_MAX_WAIT_TIME, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
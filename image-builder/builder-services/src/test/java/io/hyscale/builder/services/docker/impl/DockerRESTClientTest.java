@@ -0,0 +1,65 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.builder.services.docker.impl;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.srujankujmar.builder.services.config.ImageBuilderConfig;
+import com.github.srujankujmar.commons.utils.ImageMetadataProvider;
+
+public class DockerRESTClientTest {
+
+    private static final String DOCKER_HOST = "tcp://localhost:2375";
+
+    @Mock
+    private ImageBuilderConfig imageBuilderConfig;
+
+    @Mock
+    private ImageMetadataProvider imageMetadataProvider;
+
+    @InjectMocks
+    private DockerRESTClient dockerRESTClient;
+
+    @BeforeEach
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        when(imageBuilderConfig.getDockerHost()).thenReturn(DOCKER_HOST);
+        when(imageBuilderConfig.getMaxConcurrentBuilds()).thenReturn(2);
+        when(imageBuilderConfig.getMaxConcurrentPushes()).thenReturn(2);
+    }
+
+    @Test
+    public void testClientSharedUntilDestroyed() {
+        // Calling post construct manually for mockito
+        dockerRESTClient.init();
+        DockerClient dockerClient = dockerRESTClient.getDockerClient();
+        assertNotNull(dockerClient);
+        assertSame(dockerClient, dockerRESTClient.getDockerClient());
+
+        dockerRESTClient.destroy();
+        assertThrows(IllegalStateException.class, () -> dockerClient.versionCmd().exec());
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.builder.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+
+import com.github.srujankujmar.builder.core.models.BuildContext;
+import com.github.srujankujmar.builder.core.models.DockerImage;
+import com.github.srujankujmar.builder.services.cache.ImageBuildCache;
+import com.github.srujankujmar.builder.services.cleanup.ImageCleanUpProcessor;
+import com.github.srujankujmar.builder.services.config.ImageBuilderConfig;
+import com.github.srujankujmar.builder.services.docker.HyscaleDockerClient;
+import com.github.srujankujmar.builder.services.exception.ImageBuilderErrorCodes;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.framework.events.publisher.EventPublisher;
+import com.github.srujankujmar.commons.models.DockerfileEntity;
+import com.github.srujankujmar.commons.models.ImageRegistry;
+import com.github.srujankujmar.servicespec.commons.model.service.Dockerfile;
+import com.github.srujankujmar.servicespec.commons.model.service.Image;
+import com.github.srujankujmar.servicespec.commons.model.service.ServiceSpec;
+
+public class LocalImageBuildPushServiceImplTest {
+
+    private static final int MAX_CONCURRENT_BUILDS = 1;
+
+    private static final int MAX_CONCURRENT_PUSHES = 2;
+
+    private static final int SERVICES = 6;
+
+    private static final long OPERATION_MILLIS = 50;
+
+    @Mock
+    private HyscaleDockerClient hyscaleDockerClient;
+
+    @Mock
+    private ImageBuilderConfig imageBuilderConfig;
+
+    @Mock
+    private ImageCleanUpProcessor imageCleanUp;
+
+    @Mock
+    private EventPublisher publisher;
+
+    @Mock
+    private ImageBuildCache imageBuildCache;
+
+    @InjectMocks
+    private LocalImageBuildPushServiceImpl imageBuildPushService;
+
+    @TempDir
+    Path dockerfileDir;
+
+    @BeforeEach
+    public void initMocks() throws HyscaleException, IOException {
+        MockitoAnnotations.initMocks(this);
+        when(imageBuilderConfig.getMaxConcurrentBuilds()).thenReturn(MAX_CONCURRENT_BUILDS);
+        when(imageBuilderConfig.getMaxConcurrentPushes()).thenReturn(MAX_CONCURRENT_PUSHES);
+        when(hyscaleDockerClient.checkForDocker()).thenReturn(true);
+        when(hyscaleDockerClient.isDockerRunning()).thenReturn(true);
+        Files.createFile(dockerfileDir.resolve("Dockerfile"));
+        // Calling post construct manually for mockito
+        imageBuildPushService.init();
+    }
+
+    @Test
+    public void testConcurrentBuildsAndPushesLimited() throws Exception {
+        AtomicInteger activeBuilds = new AtomicInteger();
+        AtomicInteger maxBuilds = new AtomicInteger();
+        AtomicInteger activePushes = new AtomicInteger();
+        AtomicInteger maxPushes = new AtomicInteger();
+        when(hyscaleDockerClient.build(any(Dockerfile.class), anyString(), any(BuildContext.class)))
+                .thenAnswer(track(activeBuilds, maxBuilds, getDockerImage()));
+        doAnswer(track(activePushes, maxPushes, null)).when(hyscaleDockerClient).push(any(Image.class),
+                any(BuildContext.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(SERVICES);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < SERVICES; i++) {
+                String serviceName = "service-" + i;
+                results.add(executor.submit(() -> {
+                    imageBuildPushService.buildAndPush(getServiceSpec(serviceName), getBuildContext(serviceName));
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(MAX_CONCURRENT_BUILDS, maxBuilds.get());
+        assertTrue(maxPushes.get() <= MAX_CONCURRENT_PUSHES);
+        verify(hyscaleDockerClient, times(SERVICES)).build(any(Dockerfile.class), anyString(),
+                any(BuildContext.class));
+        verify(hyscaleDockerClient, times(SERVICES)).push(any(Image.class), any(BuildContext.class));
+    }
+
+    @Test
+    public void testFailedBuildReleasesPermit() throws HyscaleException {
+        when(hyscaleDockerClient.build(any(Dockerfile.class), anyString(), any(BuildContext.class)))
+                .thenThrow(new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE))
+                .thenReturn(getDockerImage());
+
+        assertThrows(HyscaleException.class,
+                () -> imageBuildPushService.buildAndPush(getServiceSpec("web"), getBuildContext("web")));
+        // Only one build permit, the next build would block forever if the failed one kept it
+        imageBuildPushService.buildAndPush(getServiceSpec("web"), getBuildContext("web"));
+
+        verify(hyscaleDockerClient).push(any(Image.class), any(BuildContext.class));
+    }
+
+    private <T> Answer<T> track(AtomicInteger active, AtomicInteger max, T result) {
+        return invocation -> {
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(OPERATION_MILLIS);
+            } finally {
+                active.decrementAndGet();
+            }
+            return result;
+        };
+    }
+
+    private ServiceSpec getServiceSpec(String serviceName) throws HyscaleException {
+        return new ServiceSpec("{\"name\": \"" + serviceName + "\", \"image\": {\"registry\": \"registry.test.io\", "
+                + "\"name\": \"" + serviceName + "\", \"tag\": \"1.0\"}}");
+    }
+
+    private BuildContext getBuildContext(String serviceName) {
+        BuildContext context = new BuildContext();
+        context.setAppName("app");
+        context.setServiceName(serviceName);
+        context.setPushRegistry(new ImageRegistry("registry.test.io", "dGVzdDp0ZXN0"));
+        DockerfileEntity dockerfileEntity = new DockerfileEntity();
+        dockerfileEntity.setDockerfile(new File(dockerfileDir.toFile(), "Dockerfile"));
+        context.setDockerfileEntity(dockerfileEntity);
+        return context;
+    }
+
+    private DockerImage getDockerImage() {
+        DockerImage dockerImage = new DockerImage();
+        dockerImage.setName("built");
+        dockerImage.setTag("1.0");
+        return dockerImage;
+    }
+}
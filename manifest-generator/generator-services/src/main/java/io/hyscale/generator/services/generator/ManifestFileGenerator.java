@@ -16,13 +16,23 @@
 package com.github.srujankujmar.generator.services.generator;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.srujankujmar.commons.models.YAMLManifest;
 import com.github.srujankujmar.commons.utils.NormalizationUtil;
 import com.github.srujankujmar.generator.services.constants.ManifestGenConstants;
 import com.github.srujankujmar.generator.services.exception.ManifestErrorCodes;
 import com.github.srujankujmar.plugin.framework.models.ManifestMeta;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
@@ -30,26 +40,69 @@ import com.github.srujankujmar.commons.io.HyscaleFilesUtil;
 
 /**
  * Generate Manifest File with yaml
+ * Manifest content is handed over in memory, files are written in the background
+ * for reference and are complete once the application context is closed
  *
  * @author tushart
  */
 @Component
 public class ManifestFileGenerator {
 
+	private static final Logger logger = LoggerFactory.getLogger(ManifestFileGenerator.class);
+
+	private static final long WRITE_TIMEOUT_IN_SECONDS = 30;
+
+	private final ExecutorService manifestWriter = Executors.newSingleThreadExecutor(
+			new ThreadFactoryBuilder().setNameFormat("manifest-writer-%d").setDaemon(true).build());
+
 	public YAMLManifest getYamlManifest(String manifestDir, String yaml, ManifestMeta manifestMeta)
 			throws HyscaleException {
+		return getYamlManifest(manifestDir, yaml, null, manifestMeta);
+	}
+
+	/**
+	 * @param manifestDir
+	 * @param yaml manifest content
+	 * @param manifestNode manifest content as tree, null if not available
+	 * @param manifestMeta
+	 * @return manifest holding the content, its file is written asynchronously
+	 * @throws HyscaleException if manifest content or directory is not available
+	 */
+	public YAMLManifest getYamlManifest(String manifestDir, String yaml, ObjectNode manifestNode,
+			ManifestMeta manifestMeta) throws HyscaleException {
 		if (StringUtils.isBlank(yaml) || StringUtils.isBlank(manifestDir)) {
 			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_WRITING_MANIFEST_TO_FILE, manifestDir);
 		}
 		StringBuilder sb = new StringBuilder(manifestDir);
 		sb.append(getManifestFileName(manifestMeta));
 		sb.append(ManifestGenConstants.YAML_EXTENSION);
-		File manifestFile = HyscaleFilesUtil.createFile(sb.toString(), yaml);
+		String manifestFile = sb.toString();
 		YAMLManifest yamlManifest = new YAMLManifest();
-		yamlManifest.setManifest(manifestFile);
+		yamlManifest.setYaml(yaml);
+		yamlManifest.setManifestNode(manifestNode);
+		yamlManifest.setManifest(CompletableFuture.supplyAsync(() -> {
+			try {
+				return HyscaleFilesUtil.createFile(manifestFile, yaml);
+			} catch (HyscaleException e) {
+				logger.error("Failed to write manifest file {}", manifestFile, e);
+				return null;
+			}
+		}, manifestWriter));
 		return yamlManifest;
 	}
 
+	@PreDestroy
+	public void destroy() {
+		manifestWriter.shutdown();
+		try {
+			if (!manifestWriter.awaitTermination(WRITE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+				logger.error("Timed out while writing manifest files");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private String getManifestFileName(ManifestMeta manifestMeta) {
 		StringBuilder sb = new StringBuilder();
 		if (!StringUtils.isBlank(manifestMeta.getIdentifier())) {
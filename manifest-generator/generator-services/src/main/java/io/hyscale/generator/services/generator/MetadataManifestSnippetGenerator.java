@@ -35,7 +35,7 @@ public class MetadataManifestSnippetGenerator {
 		v1ObjectMeta.setName(manifestResource.getName(serviceMetadata));
 
 		ManifestSnippet snippet = new ManifestSnippet();
-		snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+		snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(v1ObjectMeta));
 		snippet.setPath("metadata");
 		snippet.setKind(manifestResource.getKind());
 		return snippet;
@@ -24,11 +24,18 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.github.srujankujmar.servicespec.commons.json.config.JsonPathConfiguration;
+import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreePath;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 
+/**
+ * Path addressed operations on a json tree.
+ * Definite paths are resolved on the tree and the tree is modified in place,
+ * the returned node is the same instance as the input node.
+ * Other paths are evaluated through JsonPath on a serialized copy of the tree.
+ */
 @Component
 public class JsonTreeOperations {
 
@@ -40,20 +47,42 @@ public class JsonTreeOperations {
 	}
 
 	public JsonNode read(JsonNode node, String path) {
+		JsonTreePath treePath = JsonTreePath.compile(path);
+		if (treePath.isDefinite()) {
+			return treePath.read(node);
+		}
 		return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(node.toString()).read(path,
 				JsonNode.class);
 	}
 
 	public JsonNode add(JsonNode node, String path, JsonNode elementNode) throws IOException {
-		DocumentContext documentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
-				.parse(node.toString()).add(path, elementNode);
-		return objectMapper.readTree(documentContext.jsonString());
+		JsonTreePath treePath = JsonTreePath.compile(path);
+		if (!treePath.isDefinite()) {
+			DocumentContext documentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
+					.parse(node.toString()).add(path, elementNode);
+			return objectMapper.readTree(documentContext.jsonString());
+		}
+		JsonNode arrayNode = treePath.read(node);
+		if (arrayNode == null || !arrayNode.isArray()) {
+			throw new IOException("Array node not found at path " + path);
+		}
+		((ArrayNode) arrayNode).add(elementNode);
+		return node;
 	}
 
 	public ObjectNode put(JsonNode node, String parentPath, String key, JsonNode leafNode) throws IOException {
-		DocumentContext doccumentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
-				.parse(node.toString()).put(parentPath, key, leafNode);
-		return (ObjectNode) objectMapper.readTree(doccumentContext.jsonString());
+		JsonTreePath treePath = JsonTreePath.compile(parentPath);
+		if (!treePath.isDefinite()) {
+			DocumentContext doccumentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
+					.parse(node.toString()).put(parentPath, key, leafNode);
+			return (ObjectNode) objectMapper.readTree(doccumentContext.jsonString());
+		}
+		JsonNode parentNode = treePath.read(node);
+		if (parentNode == null || !parentNode.isObject()) {
+			throw new IOException("Object node not found at path " + parentPath);
+		}
+		((ObjectNode) parentNode).set(key, leafNode);
+		return (ObjectNode) node;
 	}
 
 	public ArrayNode arrayNode() {
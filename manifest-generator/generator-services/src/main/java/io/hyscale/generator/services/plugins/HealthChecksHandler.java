@@ -129,7 +129,7 @@ public class HealthChecksHandler implements ManifestHandler {
             return null;
         }
         ManifestSnippet manifestSnippet = new ManifestSnippet();
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(v1Probe));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(v1Probe));
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].readinessProbe");
         return manifestSnippet;
@@ -140,7 +140,7 @@ public class HealthChecksHandler implements ManifestHandler {
             return null;
         }
         ManifestSnippet manifestSnippet = new ManifestSnippet();
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(v1Probe));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(v1Probe));
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].livenessProbe");
         return manifestSnippet;
@@ -96,7 +96,7 @@ public class ImageHandler implements ManifestHandler {
         try {
             imgPullSecretNamesnippet.setKind(podSpecOwner);
             imgPullSecretNamesnippet.setPath("spec.template.spec.imagePullSecrets");
-            imgPullSecretNamesnippet.setSnippet(JsonSnippetConvertor.serialize(resourceNameList));
+            imgPullSecretNamesnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(resourceNameList));
         } catch (JsonProcessingException e) {
             logger.error("Error while generating image pull secret manifest {}", name, e);
         }
@@ -122,7 +122,7 @@ public class ImagePullSecretHandler implements ManifestHandler {
 
         ManifestSnippet snippet = new ManifestSnippet();
         snippet.setName(name);
-        snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+        snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(v1ObjectMeta));
         snippet.setPath("metadata");
         snippet.setKind(ManifestResource.SECRET.getKind());
         return snippet;
@@ -131,7 +131,7 @@ public class ImagePullSecretHandler implements ManifestHandler {
     private ManifestSnippet getDataSnippet(ImageRegistry imageRegistry) throws JsonProcessingException {
         ManifestSnippet snippet = new ManifestSnippet();
         snippet.setName(imageRegistry.getName());
-        snippet.setSnippet(JsonSnippetConvertor.serialize(getDockerConfig(imageRegistry)));
+        snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getDockerConfig(imageRegistry)));
         snippet.setPath("data");
         snippet.setKind(ManifestResource.SECRET.getKind());
         return snippet;
@@ -26,6 +26,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.models.ManifestContext;
 import com.github.srujankujmar.commons.models.ServiceMetadata;
@@ -45,6 +47,8 @@ public class LabelsAddonHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(LabelsAddonHandler.class);
 
+    private static final String LABELS = "labels";
+
     @Override
     public List<ManifestSnippet> handle(ServiceSpec serviceSpec, ManifestContext manifestContext)
             throws HyscaleException {
@@ -64,14 +68,7 @@ public class LabelsAddonHandler implements ManifestHandler {
                 if (manifestResource.getPredicate().test(serviceSpec)) {
                     // Get existing metadata and update labels in it
                     ManifestSnippet snippet = MetadataManifestSnippetGenerator.getMetaData(manifestResource, serviceMetadata);
-                    V1ObjectMeta v1ObjectMeta = JsonSnippetConvertor.deserialize(snippet.getSnippet(), V1ObjectMeta.class);
-                    Map<String, String> labels = v1ObjectMeta.getLabels();
-                    if (labels == null) {
-                        labels = new HashMap<String, String>();
-                    }
-                    labels.putAll(addOnLabels);
-                    v1ObjectMeta.setLabels(labels);
-                    snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+                    addLabels(snippet, addOnLabels);
                     snippetList.add(snippet);
                 }
             }
@@ -81,4 +78,24 @@ public class LabelsAddonHandler implements ManifestHandler {
         logger.debug("Completed LabelsAddonHandler");
         return snippetList;
     }
+
+    /**
+     * Labels are added to the metadata node directly,
+     * metadata set as text is deserialized and set back as text
+     */
+    void addLabels(ManifestSnippet snippet, Map<String, String> addOnLabels) throws IOException {
+        if (snippet.getSnippetNode() instanceof ObjectNode) {
+            ObjectNode labels = ((ObjectNode) snippet.getSnippetNode()).with(LABELS);
+            addOnLabels.forEach(labels::put);
+            return;
+        }
+        V1ObjectMeta v1ObjectMeta = JsonSnippetConvertor.deserialize(snippet.getSnippet(), V1ObjectMeta.class);
+        Map<String, String> labels = v1ObjectMeta.getLabels();
+        if (labels == null) {
+            labels = new HashMap<>();
+        }
+        labels.putAll(addOnLabels);
+        v1ObjectMeta.setLabels(labels);
+        snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+    }
 }
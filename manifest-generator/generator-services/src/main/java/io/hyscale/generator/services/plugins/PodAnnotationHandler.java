@@ -62,7 +62,7 @@ public class PodAnnotationHandler implements ManifestHandler {
         try {
             manifestSnippet.setKind(podSpecOwner);
             manifestSnippet.setPath("spec.template.metadata.annotations");
-            manifestSnippet.setSnippet(JsonSnippetConvertor.serialize(annotations));
+            manifestSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(annotations));
         } catch (JsonProcessingException e) {
             logger.error("Error while serializing pod annotations", e);
         }
@@ -79,7 +79,7 @@ public class PodSpecEnvHandler implements ManifestHandler {
             ManifestSnippet propsEnvSnippet = new ManifestSnippet();
             propsEnvSnippet.setPath("spec.template.spec.containers[0].env");
             propsEnvSnippet.setKind(podSpecOwner);
-            propsEnvSnippet.setSnippet(JsonSnippetConvertor.serialize(envVarList));
+            propsEnvSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(envVarList));
             snippetList.add(propsEnvSnippet);
 
         } catch (JsonProcessingException e) {
@@ -54,7 +54,7 @@ public class PodSpecLabels implements ManifestHandler {
             ManifestSnippet metaDataSnippet = new ManifestSnippet();
             metaDataSnippet.setPath("spec.template.metadata");
             metaDataSnippet.setKind(podSpecOwner);
-            metaDataSnippet.setSnippet(JsonSnippetConvertor.serialize(getTemplateMetaData(serviceMetadata, manifestContext)));
+            metaDataSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getTemplateMetaData(serviceMetadata, manifestContext)));
             snippetList.add(metaDataSnippet);
 
         } catch (JsonProcessingException e) {
@@ -111,7 +111,7 @@ public class PortsHandler implements ManifestHandler {
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].ports");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(containerPorts));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(containerPorts));
         return manifestSnippet;
     }
 
@@ -121,7 +121,7 @@ public class PortsHandler implements ManifestHandler {
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setKind(ManifestResource.SERVICE.getKind());
         manifestSnippet.setPath("spec.ports");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(servicePorts));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(servicePorts));
         return manifestSnippet;
     }
 
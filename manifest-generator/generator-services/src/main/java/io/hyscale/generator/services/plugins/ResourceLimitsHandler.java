@@ -102,7 +102,7 @@ public class ResourceLimitsHandler implements ManifestHandler {
 
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setPath("spec.template.spec.containers[0].resources");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(resourceRequirements));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(resourceRequirements));
         manifestSnippet.setKind(podSpecOwner);
         return manifestSnippet;
     }
@@ -67,7 +67,7 @@ public class SelectorLabelsHandler implements ManifestHandler {
         ManifestSnippet selectorSnippet = new ManifestSnippet();
         selectorSnippet.setPath("spec.selector");
         selectorSnippet.setKind(ManifestResource.SERVICE.getKind());
-        selectorSnippet.setSnippet(JsonSnippetConvertor.serialize(getSelectorLabels(serviceMetadata)));
+        selectorSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getSelectorLabels(serviceMetadata)));
         return selectorSnippet;
     }
 
@@ -76,7 +76,7 @@ public class SelectorLabelsHandler implements ManifestHandler {
         ManifestSnippet selectorSnippet = new ManifestSnippet();
         selectorSnippet.setPath("spec.selector.matchLabels");
         selectorSnippet.setKind(podSpecOwner);
-        selectorSnippet.setSnippet(JsonSnippetConvertor.serialize(getSelectorLabels(serviceMetadata)));
+        selectorSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getSelectorLabels(serviceMetadata)));
         return selectorSnippet;
     }
 
@@ -66,7 +66,7 @@ public class ServiceSpecAnnotationHandler implements ManifestHandler {
             } else {
                 annotations.put(AnnotationKey.HYSCALE_SERVICE_SPEC.getAnnotation(), serviceSpec.toString());
             }
-            manifestSnippet.setSnippet(JsonSnippetConvertor.serialize(annotations));
+            manifestSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(annotations));
             manifestSnippetList.add(manifestSnippet);
             return manifestSnippetList;
         } catch (IOException e) {
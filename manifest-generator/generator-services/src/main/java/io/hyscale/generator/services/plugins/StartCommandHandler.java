@@ -71,7 +71,7 @@ public class StartCommandHandler implements ManifestHandler {
             ManifestSnippet commandSnippet = new ManifestSnippet();
             commandSnippet.setPath("spec.template.spec.containers[0].command");
             commandSnippet.setKind(podSpecOwner);
-            commandSnippet.setSnippet(JsonSnippetConvertor.serialize(command));
+            commandSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(command));
             snippetList.add(commandSnippet);
             logger.debug("Prepared command snippet {}",commandSnippet.getSnippet());
 
@@ -80,7 +80,7 @@ public class StartCommandHandler implements ManifestHandler {
             ManifestSnippet argsSnippet = new ManifestSnippet();
             argsSnippet.setPath("spec.template.spec.containers[0].args");
             argsSnippet.setKind(podSpecOwner);
-            argsSnippet.setSnippet(JsonSnippetConvertor.serialize(args));
+            argsSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(args));
             snippetList.add(argsSnippet);
             logger.debug("Prepared command args snippet {}.",argsSnippet.getSnippet());
 
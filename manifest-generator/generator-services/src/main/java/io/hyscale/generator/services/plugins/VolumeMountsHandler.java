@@ -106,7 +106,7 @@ public class VolumeMountsHandler implements ManifestHandler {
 
     private ManifestSnippet buildVolumeMountSnippet(ServiceSpec serviceSpec, ServiceMetadata serviceMetadata, String podSpecOwner) throws JsonProcessingException, HyscaleException {
         ManifestSnippet volumeMountSnippet = new ManifestSnippet();
-        volumeMountSnippet.setSnippet(JsonSnippetConvertor.serialize(getVolumeMounts(serviceSpec, serviceMetadata, podSpecOwner)));
+        volumeMountSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getVolumeMounts(serviceSpec, serviceMetadata, podSpecOwner)));
         volumeMountSnippet.setKind(podSpecOwner);
         volumeMountSnippet.setPath("spec.template.spec.containers[0].volumeMounts");
         return volumeMountSnippet;
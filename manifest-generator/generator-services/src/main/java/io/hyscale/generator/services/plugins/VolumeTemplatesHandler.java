@@ -97,7 +97,7 @@ public class VolumeTemplatesHandler implements ManifestHandler {
     private ManifestSnippet buildVolumeClaimSnippet(List<Volume> volumes, ServiceMetadata serviceMetadata,
             Map<String, String> customLabels) throws JsonProcessingException, HyscaleException {
         ManifestSnippet snippet = new ManifestSnippet();
-        snippet.setSnippet(GsonSnippetConvertor.serialize(getVolumeClaims(volumes, serviceMetadata, customLabels)));
+        snippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(getVolumeClaims(volumes, serviceMetadata, customLabels)));
         snippet.setKind(ManifestResource.STATEFUL_SET.getKind());
         snippet.setPath("spec.volumeClaimTemplates");
         return snippet;
@@ -67,7 +67,7 @@ public class VolumesHandler implements ManifestHandler {
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.volumes");
-        manifestSnippet.setSnippet(JsonSnippetConvertor.serialize(getVolumes(serviceSpec, serviceMetadata)));
+        manifestSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getVolumes(serviceSpec, serviceMetadata)));
         return manifestSnippet;
     }
 
@@ -86,12 +86,13 @@ public class CustomSnippetsProcessor {
         if(patch == null){
             return source;
         }
-        source = DataFormatConverter.yamlToJson(source);
-        patch = DataFormatConverter.yamlToJson(patch);
-        String strategicMergeJson = StrategicPatch.apply(source, patch, new CustomSnippetsFieldDataProvider());
+        JsonNode mergedNode = StrategicPatch.apply(DataFormatConverter.yamlToJsonNode(source),
+                DataFormatConverter.yamlToJsonNode(patch), new CustomSnippetsFieldDataProvider());
+        if (mergedNode == null) {
+            return null;
+        }
         try {
-            JsonNode jsonNode = ObjectMapperFactory.jsonMapper().readTree(strategicMergeJson);
-            return ObjectMapperFactory.yamlMapper().writeValueAsString(jsonNode);
+            return ObjectMapperFactory.yamlMapper().writeValueAsString(mergedNode);
         }catch (IOException e){
             logger.error("Error while converting merged json string to yaml ",e);
         }
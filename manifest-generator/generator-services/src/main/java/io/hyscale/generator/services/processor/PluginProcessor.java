@@ -31,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
@@ -97,17 +98,23 @@ public class PluginProcessor {
             ManifestNode manifestNode = each.getValue();
             try {
                 String yamlString = null;
+                ObjectNode objectNode = null;
                 if (manifestNode != null && manifestNode.getObjectNode() != null) {
-                    yamlString = yamlMapper.writeValueAsString(manifestNode.getObjectNode());
+                    objectNode = manifestNode.getObjectNode();
+                    yamlString = yamlMapper.writeValueAsString(objectNode);
                     String kind = manifestMeta.getKind();
                     if(kindVsCustomSnippets!= null && !kindVsCustomSnippets.isEmpty()){
-                        yamlString = applyCustomSnippets(kindVsCustomSnippets,kind,yamlString);
+                        String mergedYaml = applyCustomSnippets(kindVsCustomSnippets,kind,yamlString);
+                        if (!mergedYaml.equals(yamlString)) {
+                            yamlString = mergedYaml;
+                            objectNode = readObjectNode(yamlMapper, yamlString);
+                        }
                         kindVsCustomSnippets.removeAll(kind);
                     }
                 }
                 WorkflowLogger.startActivity(ManifestGeneratorActivity.GENERATING_MANIFEST, each.getKey().getKind());
                 YAMLManifest yamlManifest = manifestFileGenerator.getYamlManifest(manifestDir, yamlString,
-                        each.getKey());
+                        objectNode, each.getKey());
                 manifestList.add(yamlManifest);
                 WorkflowLogger.endActivity(Status.DONE);
             } catch (HyscaleException e) {
@@ -122,7 +129,8 @@ public class PluginProcessor {
         serviceMetadata.setAppName(manifestContext.getAppName());
         serviceMetadata.setEnvName(manifestContext.getEnvName());
         serviceMetadata.setServiceName(serviceName);
-        List<Manifest> customSnippetsManifestList = getManifestsFromCustomSnippets(serviceMetadata, manifestDir, kindVsCustomSnippets);
+        List<Manifest> customSnippetsManifestList = getManifestsFromCustomSnippets(serviceMetadata, manifestDir,
+                kindVsCustomSnippets, yamlMapper);
         if(customSnippetsManifestList != null && !customSnippetsManifestList.isEmpty()){
              manifestList.addAll(customSnippetsManifestList);
         }
@@ -146,7 +154,8 @@ public class PluginProcessor {
         return yamlString;
     }
 
-    private List<Manifest> getManifestsFromCustomSnippets(ServiceMetadata serviceMetaData, String manifestDir, Multimap<String,String> kindVsCustomSnippets){
+    private List<Manifest> getManifestsFromCustomSnippets(ServiceMetadata serviceMetaData, String manifestDir,
+            Multimap<String, String> kindVsCustomSnippets, YAMLMapper yamlMapper) {
         if(kindVsCustomSnippets == null || kindVsCustomSnippets.isEmpty()){
             return Collections.emptyList();
         }
@@ -163,7 +172,7 @@ public class PluginProcessor {
             customSnippet = addHyscaleLabelsForCustomSnippets(customSnippet,serviceMetaData);
             try {
                 yamlManifest = manifestFileGenerator.getYamlManifest(manifestDir, customSnippet,
-                        manifestMeta);
+                        readObjectNode(yamlMapper, customSnippet), manifestMeta);
                 WorkflowLogger.endActivity(Status.DONE);
             } catch (HyscaleException e) {
                 logger.error("Failed to process manifest {}", kind, e);
@@ -174,6 +183,20 @@ public class PluginProcessor {
         return manifestList;
     }
 
+    /**
+     * @return manifest as tree, null if yaml is not a single mapping,
+     * in which case consumers parse the yaml content
+     */
+    private ObjectNode readObjectNode(YAMLMapper yamlMapper, String yaml) {
+        try {
+            JsonNode node = yamlMapper.readTree(yaml);
+            return node instanceof ObjectNode ? (ObjectNode) node : null;
+        } catch (JsonProcessingException e) {
+            logger.debug("Manifest yaml could not be read as tree", e);
+            return null;
+        }
+    }
+
     private String addHyscaleLabelsForCustomSnippets(String snippet, ServiceMetadata serviceMetadata){
         Yaml yaml = new Yaml();
         Map<String, Object> data = (Map) yaml.load(snippet);
@@ -223,7 +246,7 @@ public class PluginProcessor {
 
         List<String> failedSnippets = new ArrayList<>();
         manifestSnippetList.stream().filter(each -> {
-            return each != null && StringUtils.isNotBlank(each.getSnippet());
+            return each != null && (each.getSnippetNode() != null || StringUtils.isNotBlank(each.getSnippet()));
         }).forEach(each -> {
             logger.debug("Processing Snippet Kind{} :: Path at {} ", each.getKind(), each.getPath());
             ManifestMeta manifestMeta = new ManifestMeta(each.getKind());
@@ -239,7 +262,12 @@ public class PluginProcessor {
                 rootNode = manifestNode.getObjectNode();
             }
             try {
-                rootNode = (ObjectNode) manifestTreeUtils.injectSnippet(each.getSnippet(), each.getPath(), rootNode);
+                // Snippet nodes are injected as is, string snippets from third party plugins are parsed
+                if (each.getSnippetNode() != null) {
+                    rootNode = (ObjectNode) manifestTreeUtils.injectSnippet(each.getSnippetNode(), each.getPath(), rootNode);
+                } else {
+                    rootNode = (ObjectNode) manifestTreeUtils.injectSnippet(each.getSnippet(), each.getPath(), rootNode);
+                }
                 // updating the root node back in the manifests
                 manifestNode.setObjectNode(rootNode);
                 manifestMetavsNodeMap.put(manifestMeta, manifestNode);
@@ -97,7 +97,7 @@ public class AgentConfigMapBuilder extends AgentHelper implements AgentBuilder {
         V1ObjectMeta v1ObjectMeta = new V1ObjectMeta();
         v1ObjectMeta.setName(configMapName);
         v1ObjectMeta.setLabels(DefaultLabelBuilder.build(appName,envName,serviceName));
-        snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+        snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(v1ObjectMeta));
         snippet.setPath("metadata");
         snippet.setKind(ManifestResource.CONFIG_MAP.getKind());
         snippet.setName(configMapName);
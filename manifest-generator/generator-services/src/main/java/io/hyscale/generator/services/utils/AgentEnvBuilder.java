@@ -79,7 +79,7 @@ public class AgentEnvBuilder extends AgentHelper implements AgentBuilder {
                 envVarList.addAll(PodSpecEnvUtil.getSecretEnv(agent.getSecrets(), secretName));
             }
             if (!envVarList.isEmpty()) {
-                agentEnvSnippet.setSnippet(JsonSnippetConvertor.serialize(envVarList));
+                agentEnvSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(envVarList));
                 envSnippets.add(agentEnvSnippet);
             }
         }
@@ -100,7 +100,7 @@ public class AgentSecretBuilder extends AgentHelper implements AgentBuilder {
         V1ObjectMeta v1ObjectMeta = new V1ObjectMeta();
         v1ObjectMeta.setName(secretName);
         v1ObjectMeta.setLabels(DefaultLabelBuilder.build(appName,envName,serviceName));
-        snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+        snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(v1ObjectMeta));
         snippet.setPath("metadata");
         snippet.setKind(ManifestResource.SECRET.getKind());
         snippet.setName(secretName);
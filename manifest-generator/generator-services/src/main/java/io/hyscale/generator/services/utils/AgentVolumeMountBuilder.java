@@ -88,7 +88,7 @@ public class AgentVolumeMountBuilder extends AgentHelper implements AgentBuilder
                 volumeMounts.add(VolumeMountsUtil.buildForSecrets(secretsVolumePath,
                         K8sResourceNameGenerator.getResourceVolumeName(secretName, ManifestResource.SECRET.getKind())));
             }
-            volumeMountSnippet.setSnippet(JsonSnippetConvertor.serialize(volumeMounts));
+            volumeMountSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(volumeMounts));
             volumeMountSnippets.add(volumeMountSnippet);
         }
 
@@ -82,7 +82,7 @@ public class AgentVolumesBuilder extends AgentHelper implements AgentBuilder {
                 volumeList.add(volume);
             }
         }
-        volumeSnippet.setSnippet(JsonSnippetConvertor.serialize(volumeList));
+        volumeSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(volumeList));
         volumeSnippets.add(volumeSnippet);
         return volumeSnippets;
     }
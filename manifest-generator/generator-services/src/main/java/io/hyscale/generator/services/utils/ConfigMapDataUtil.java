@@ -94,13 +94,13 @@ public class ConfigMapDataUtil {
         ManifestSnippet configMapDataSnippet = new ManifestSnippet();
         configMapDataSnippet.setKind(ManifestResource.CONFIG_MAP.getKind());
         configMapDataSnippet.setPath(DATA_PATH);
-        configMapDataSnippet.setSnippet(JsonSnippetConvertor.serialize(configProps));
+        configMapDataSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(configProps));
         manifestSnippetList.add(configMapDataSnippet);
 
         ManifestSnippet binaryDataSnippet = new ManifestSnippet();
         binaryDataSnippet.setKind(ManifestResource.CONFIG_MAP.getKind());
         binaryDataSnippet.setPath(BINARY_DATA_PATH);
-        binaryDataSnippet.setSnippet(JsonSnippetConvertor.serialize(fileProps));
+        binaryDataSnippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(fileProps));
         manifestSnippetList.add(binaryDataSnippet);
 
         return manifestSnippetList;
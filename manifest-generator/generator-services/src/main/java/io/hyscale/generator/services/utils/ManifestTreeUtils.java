@@ -57,111 +57,108 @@ public class ManifestTreeUtils {
         if (StringUtils.isBlank(snippet)) {
             return rootNode;
         }
-        if (StringUtils.isBlank(path) || rootNode == null) {
-            logger.error("Path and root node required for injecting snippet");
-            throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
+        validate(path, rootNode);
+        return injectSnippet(objectMapper.readTree(snippet), path, rootNode);
+    }
+
+    /**
+     * Injects the element node at path, the root node is modified in place.
+     * If the leaf at path is an array the element (or each element of an array element)
+     * is appended to it, otherwise the leaf is replaced with the element
+     *
+     * @param elementNode
+     * @param path
+     * @param rootNode
+     * @return root node
+     * @throws IOException if the parents of path do not match the path structure
+     * @throws HyscaleException
+     */
+    public JsonNode injectSnippet(JsonNode elementNode, String path, ObjectNode rootNode)
+            throws IOException, HyscaleException {
+        if (elementNode == null) {
+            return rootNode;
         }
+        validate(path, rootNode);
         String parentKey = JsonTreeUtil.getParentKey(path);
-        JsonNode elementNode = objectMapper.readTree(snippet);
         if (parentKey == null) {
-            parentKey = "$";
-            return jsonTreeOperations.put(rootNode, parentKey, JsonTreeUtil.getKey(path), elementNode);
+            rootNode.set(path, elementNode);
+            return rootNode;
+        }
+        JsonNode parentNode = createParentsIfNotExists(rootNode, parentKey.split("\\."));
+        if (!parentNode.isObject()) {
+            logger.error("Cannot inject snippet at {}, parent is not an object", path);
+            throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
         }
-        createParentsIfNotExists(rootNode,
-                JsonTreeUtil.getParentKey(path).split("\\."), 0);
-        rootNode = (ObjectNode) createLeafNodeIfNotExists(rootNode, elementNode, path);
-        return insertSnippet(rootNode, path, elementNode);
+        insertSnippet((ObjectNode) parentNode, JsonTreeUtil.getKey(path), elementNode);
+        return rootNode;
     }
 
-    private JsonNode insertSnippet(ObjectNode rootNode, String path, JsonNode elementNode) throws HyscaleException, IOException {
-        JsonNode leafNode = jsonTreeOperations.read(rootNode, path);
-        if (leafNode == null) {
+    private void validate(String path, ObjectNode rootNode) throws HyscaleException {
+        if (StringUtils.isBlank(path) || rootNode == null) {
+            logger.error("Path and root node required for injecting snippet");
             throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
         }
-        if (leafNode.isArray()) {
-            if (elementNode.isArray()) {
-                ArrayNode arrayNode = (ArrayNode) elementNode;
-                for (int i = 0; i < arrayNode.size(); i++) {
-                    rootNode = (ObjectNode) jsonTreeOperations.add(rootNode, path, arrayNode.get(i));
-                }
-            } else {
-                rootNode = (ObjectNode) jsonTreeOperations.add(rootNode, path, elementNode);
-            }
+    }
+
+    private void insertSnippet(ObjectNode parentNode, String key, JsonNode elementNode) {
+        JsonNode leafNode = parentNode.get(key);
+        if (leafNode == null || !leafNode.isArray()) {
+            parentNode.set(key, elementNode);
+            return;
+        }
+        ArrayNode leafArrayNode = (ArrayNode) leafNode;
+        if (elementNode.isArray()) {
+            leafArrayNode.addAll((ArrayNode) elementNode);
         } else {
-            rootNode = jsonTreeOperations.put(rootNode, JsonTreeUtil.getParentKey(path), JsonTreeUtil.getKey(path), elementNode);
+            leafArrayNode.add(elementNode);
         }
-        return rootNode;
     }
 
     /**
-     * Prepares the parent node of the path if array => prepare the array node of
-     * the path and => if indexed , prepares the respective index element => prepare
-     * the object node of the path
+     * Prepares the parent nodes of the path in place, for an array path => prepares
+     * the array node and if indexed, the elements up to the respective index =>
+     * otherwise prepares the object node of the path
      *
      * @param root
      * @param paths
-     * @param index
-     * @return
+     * @return the node at the last of the paths
      * @throws IOException
      */
-
-    private JsonNode createParentsIfNotExists(JsonNode root, String[] paths, int index) throws IOException {
-        if (root == null) {
-            return root;
-        }
-
-        if (paths == null) {
-            return root;
-        }
-        if (index >= paths.length) {
-            return root;
-        }
-
-        int arrayIndex = JsonTreeUtil.getArrayIndex(paths[index]);
-        JsonNode parent = root.get(normalize(paths[index]));
-        if (parent == null) {
-            if (JsonTreeUtil.isArrayPath(paths[index])) {
-                ArrayNode arrayNode = jsonTreeOperations.arrayNode();
-                if (arrayIndex >= 0) {
-                    for (int j = 0; j <= arrayIndex; j++) {
-                        arrayNode.add(jsonTreeOperations.objectNode());
-                    }
-                }
-                parent = arrayNode;
-            } else {
-                parent = jsonTreeOperations.objectNode();
+    private JsonNode createParentsIfNotExists(ObjectNode root, String[] paths) throws IOException {
+        JsonNode current = root;
+        for (String path : paths) {
+            if (!current.isObject()) {
+                throw new IOException("Parent found to be non-object node while the path claims a field " + path);
             }
-            root = root.isArray() ? ((ArrayNode) root).add(parent) : ((ObjectNode) root).put(normalize(paths[index]), parent);
-        } else {
-            if (arrayIndex >= 0) {
-                if (!parent.isArray()) {
-                    throw new IOException("Parent found to be non-array node while the path claims to be an array " + paths[index]);
-                }
-                ArrayNode arrayNode = (ArrayNode) parent;
-                for (int j = 0; j <= arrayIndex; j++) {
-                    if (arrayNode.get(j) == null) {
-                        arrayNode.add(jsonTreeOperations.objectNode());
-                    }
+            ObjectNode currentObject = (ObjectNode) current;
+            String field = normalize(path);
+            JsonNode parent = currentObject.get(field);
+            if (!JsonTreeUtil.isArrayPath(path)) {
+                if (parent == null || parent.isNull()) {
+                    parent = jsonTreeOperations.objectNode();
+                    currentObject.set(field, parent);
                 }
+                current = parent;
+                continue;
             }
+            if (parent == null || parent.isNull()) {
+                parent = jsonTreeOperations.arrayNode();
+                currentObject.set(field, parent);
+            } else if (!parent.isArray()) {
+                throw new IOException("Parent found to be non-array node while the path claims to be an array " + path);
+            }
+            ArrayNode arrayNode = (ArrayNode) parent;
+            int arrayIndex = JsonTreeUtil.getArrayIndex(path);
+            if (arrayIndex < 0) {
+                current = arrayNode;
+                continue;
+            }
+            for (int j = arrayNode.size(); j <= arrayIndex; j++) {
+                arrayNode.add(jsonTreeOperations.objectNode());
+            }
+            current = arrayNode.get(arrayIndex);
         }
-        return createParentsIfNotExists(parent, paths, index + 1);
-    }
-
-    /*
-     * Prepares the leaf node to inject the snippet Checks if the leaf node to be
-     * inserted in an array, => if yes inserts arraynode => else inserts objectnode
-     */
-    private JsonNode createLeafNodeIfNotExists(JsonNode root, JsonNode elementNode, String path) throws IOException {
-        if (path == null || path.isBlank()) {
-            return root;
-        }
-        JsonNode leafNode = jsonTreeOperations.read(root, path);
-        if (leafNode == null) {
-            leafNode = elementNode.isArray() ? jsonTreeOperations.arrayNode() : jsonTreeOperations.objectNode();
-            root = jsonTreeOperations.put(root, JsonTreeUtil.getParentKey(path), JsonTreeUtil.getKey(path), leafNode);
-        }
-        return root;
+        return current;
     }
 
     private String normalize(String path) {
@@ -59,7 +59,7 @@ public class SecretsDataUtil {
                 modifiedMap.put(fileName,
                         Base64.encodeBase64String(stringBuilder.toString().getBytes()));
             }
-            snippet.setSnippet(JsonSnippetConvertor.serialize(modifiedMap));
+            snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(modifiedMap));
             snippet.setKind(ManifestResource.SECRET.getKind());
             snippet.setPath("data");
             return snippet;
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.generator.services.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.generator.services.utils.ManifestTreeUtils;
+import com.github.srujankujmar.servicespec.commons.json.config.JsonPathConfiguration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Compares in place snippet injection with the serialize, JsonPath and re-parse
+ * round trip on a StatefulSet with agents, env vars and volumes.
+ * Run with the main method from the test classpath
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ManifestInjectionBenchmark {
+
+    private static final String CONTAINERS_PATH = "spec.template.spec.containers";
+
+    @Param({ "2", "10" })
+    private int agents;
+
+    @Param({ "50", "200" })
+    private int envVars;
+
+    @Param({ "20" })
+    private int volumes;
+
+    private List<String> paths;
+
+    private List<JsonNode> snippets;
+
+    private ManifestTreeUtils manifestTreeUtils;
+
+    private ObjectMapper yamlMapper;
+
+    @Setup
+    public void init() {
+        JsonTreeOperations jsonTreeOperations = new JsonTreeOperations();
+        jsonTreeOperations.init();
+        manifestTreeUtils = new ManifestTreeUtils();
+        manifestTreeUtils.init();
+        ReflectionTestUtils.setField(manifestTreeUtils, "jsonTreeOperations", jsonTreeOperations);
+        yamlMapper = new ObjectMapper(new YAMLFactory());
+        buildStatefulSetSnippets();
+    }
+
+    @Benchmark
+    public JsonNode inPlace() throws IOException, HyscaleException {
+        ObjectNode rootNode = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < paths.size(); i++) {
+            // Snippets are fresh trees per generation, injected arrays become part of the manifest
+            manifestTreeUtils.injectSnippet(snippets.get(i).deepCopy(), paths.get(i), rootNode);
+        }
+        return rootNode;
+    }
+
+    @Benchmark
+    public JsonNode jsonPathRoundTrip() throws IOException {
+        JsonNode rootNode = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < paths.size(); i++) {
+            rootNode = legacyInject(rootNode, paths.get(i), snippets.get(i));
+        }
+        return rootNode;
+    }
+
+    /**
+     * Serialize, evaluate and re-parse per operation as done before in place injection
+     */
+    private JsonNode legacyInject(JsonNode rootNode, String path, JsonNode elementNode) throws IOException {
+        String parentPath = JsonTreeUtil.getParentKey(path);
+        String key = JsonTreeUtil.getKey(path);
+        rootNode = legacyCreateParents(rootNode, parentPath);
+        JsonNode leafNode = JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(rootNode.toString())
+                .read(path, JsonNode.class);
+        if (leafNode != null && leafNode.isArray()) {
+            for (JsonNode element : elementNode.isArray() ? elementNode : List.of(elementNode)) {
+                DocumentContext context = JsonPath.using(JsonPathConfiguration.getConfiguration())
+                        .parse(rootNode.toString()).add(path, element);
+                rootNode = yamlMapper.readTree(context.jsonString());
+            }
+            return rootNode;
+        }
+        DocumentContext context = JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(rootNode.toString())
+                .put(parentPath == null ? "$" : parentPath, key, elementNode);
+        return yamlMapper.readTree(context.jsonString());
+    }
+
+    private JsonNode legacyCreateParents(JsonNode rootNode, String parentPath) {
+        if (parentPath == null) {
+            return rootNode;
+        }
+        JsonNode current = rootNode;
+        for (String field : parentPath.split("\\.")) {
+            String name = JsonTreeUtil.isArrayPath(field) ? JsonTreeUtil.getSanitizedArrayPath(field) : field;
+            JsonNode child = current.get(name);
+            if (child == null) {
+                child = JsonTreeUtil.isArrayPath(field) ? JsonNodeFactory.instance.arrayNode()
+                        : JsonNodeFactory.instance.objectNode();
+                ((ObjectNode) current).set(name, child);
+            }
+            int index = JsonTreeUtil.getArrayIndex(field);
+            if (index >= 0) {
+                ArrayNode arrayNode = (ArrayNode) child;
+                while (arrayNode.size() <= index) {
+                    arrayNode.addObject();
+                }
+                child = arrayNode.get(index);
+            }
+            current = child;
+        }
+        return rootNode;
+    }
+
+    private void buildStatefulSetSnippets() {
+        paths = new ArrayList<>();
+        snippets = new ArrayList<>();
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        add("apiVersion", factory.textNode("apps/v1"));
+        add("kind", factory.textNode("StatefulSet"));
+        ObjectNode metadata = factory.objectNode();
+        metadata.put("name", "benchmark");
+        metadata.putObject("labels").put("hyscale.io/service-name", "benchmark");
+        add("metadata", metadata);
+        add("spec.replicas", factory.numberNode(3));
+        add("spec.serviceName", factory.textNode("benchmark"));
+        for (int container = 0; container <= agents; container++) {
+            String containerPath = CONTAINERS_PATH + "[" + container + "]";
+            add(containerPath + ".name", factory.textNode("container-" + container));
+            add(containerPath + ".image", factory.textNode("registry/image-" + container + ":1.0"));
+            ArrayNode env = factory.arrayNode();
+            for (int i = 0; i < envVars; i++) {
+                env.addObject().put("name", "ENV_" + i).put("value", "value-" + i);
+            }
+            add(containerPath + ".env", env);
+            for (int i = 0; i < volumes; i++) {
+                ArrayNode volumeMount = factory.arrayNode();
+                volumeMount.addObject().put("name", "volume-" + container + "-" + i).put("mountPath", "/data/" + i);
+                add(containerPath + ".volumeMounts", volumeMount);
+                ArrayNode volume = factory.arrayNode();
+                volume.addObject().put("name", "volume-" + container + "-" + i).putObject("emptyDir");
+                add("spec.template.spec.volumes", volume);
+            }
+        }
+    }
+
+    private void add(String path, JsonNode snippet) {
+        paths.add(path);
+        snippets.add(snippet);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(ManifestInjectionBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.generator.services.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.plugin.framework.models.ManifestSnippet;
+import com.github.srujankujmar.plugin.framework.util.JsonSnippetConvertor;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+class LabelsAddonHandlerTest {
+
+    private final LabelsAddonHandler labelsAddonHandler = new LabelsAddonHandler();
+
+    @Test
+    void testAddLabelsToNode() throws IOException {
+        ManifestSnippet snippet = new ManifestSnippet();
+        snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(getMetadata()));
+
+        labelsAddonHandler.addLabels(snippet, Map.of("team", "platform"));
+
+        JsonNode labels = snippet.getSnippetNode().get("labels");
+        assertEquals("web", labels.get("app").asText());
+        assertEquals("platform", labels.get("team").asText());
+    }
+
+    @Test
+    void testAddLabelsToText() throws IOException {
+        ManifestSnippet snippet = new ManifestSnippet();
+        snippet.setSnippet(JsonSnippetConvertor.serialize(getMetadata()));
+
+        labelsAddonHandler.addLabels(snippet, Map.of("team", "platform"));
+
+        assertNull(snippet.getSnippetNode());
+        V1ObjectMeta metadata = JsonSnippetConvertor.deserialize(snippet.getSnippet(), V1ObjectMeta.class);
+        assertEquals("metadata", metadata.getName());
+        assertEquals(Map.of("app", "web", "team", "platform"), metadata.getLabels());
+    }
+
+    @Test
+    void testAddLabelsToTextWithoutLabels() throws IOException {
+        ManifestSnippet snippet = new ManifestSnippet();
+        snippet.setSnippet(JsonSnippetConvertor.serialize(new V1ObjectMeta().name("metadata")));
+
+        labelsAddonHandler.addLabels(snippet, Map.of("team", "platform"));
+
+        V1ObjectMeta metadata = JsonSnippetConvertor.deserialize(snippet.getSnippet(), V1ObjectMeta.class);
+        assertNotNull(metadata.getLabels());
+        assertEquals("platform", metadata.getLabels().get("team"));
+    }
+
+    private V1ObjectMeta getMetadata() {
+        return new V1ObjectMeta().name("metadata").putLabelsItem("app", "web");
+    }
+}
@@ -15,12 +15,14 @@
  */
 package com.github.srujankujmar.generator.services.utils;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -104,7 +106,11 @@ class ManifestTreeUtilsTest {
                 Arguments.of(JsonSnippetConvertor.serialize(snippetMap),
                         "root.test[0].new", getInputDir("array-source.json"), getInputDir("array-injected-replace.json")),
                 Arguments.of(JsonSnippetConvertor.serialize(snippetMap),
-                        "root.test[2].new", getInputDir("array-source.json"), getInputDir("array-injected-skip.json"))
+                        "root.test[2].new", getInputDir("array-source.json"), getInputDir("array-injected-skip.json")),
+                Arguments.of(JsonSnippetConvertor.serialize(snippetMap),
+                        "root.test[0].new.nested", getInputDir("array-source.json"), getInputDir("array-injected-nested.json")),
+                Arguments.of(JsonSnippetConvertor.serialize(List.of(snippetMap)),
+                        "root.test[0].list", getInputDir("array-list-source.json"), getInputDir("array-list-injected.json"))
                 );
     }
 
@@ -112,12 +118,13 @@ class ManifestTreeUtilsTest {
     @MethodSource("input")
     void testSnippetInjection(String snippet, String path, String sourceNodeFile, String expectedJsonFile)
             throws HyscaleException, IOException {
-        ObjectNode objectNode = OBJECT_NODE;
+        ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
         if (StringUtils.isNotBlank(sourceNodeFile)) {
             objectNode = (ObjectNode) objectMapper.readTree(new File(getFilePath(sourceNodeFile)));
         }
         try {
             JsonNode data = manifestTreeUtils.injectSnippet(snippet, path, objectNode);
+            assertSame(objectNode, data);
             String expectedData = getData(expectedJsonFile);
             JSONAssert.assertEquals("Expected data doesn't match with actual data.", expectedData, data.toString(),
                     false);
@@ -17,23 +17,50 @@ package com.github.srujankujmar.plugin.framework.models;
 
 import javax.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * Model for defining a json snippet in a kubernetes manifest
+ * The snippet can be set either as a string or as a {@link JsonNode},
+ * a node is injected into the manifest without any parsing
  */
 public class ManifestSnippet {
 
     private String snippet;
+    private JsonNode snippetNode;
     private String kind;
     private String path;
     private String name;
 
+    /**
+     * @return snippet string, serialized from the snippet node on first access
+     * if the snippet was set as a node. Object and array nodes are returned as JSON text.
+     * Value nodes are returned as their unquoted text, e.g. 3 or IfNotPresent,
+     * the same as plugins set value snippets as strings, not as JSON text
+     */
     @NotNull
     public String getSnippet() {
+        if (snippet == null && snippetNode != null) {
+            snippet = snippetNode.isValueNode() ? snippetNode.asText() : snippetNode.toString();
+        }
         return snippet;
     }
 
     public void setSnippet(String snippet) {
         this.snippet = snippet;
+        this.snippetNode = null;
+    }
+
+    /**
+     * @return snippet node, null if the snippet was set as a string
+     */
+    public JsonNode getSnippetNode() {
+        return snippetNode;
+    }
+
+    public void setSnippetNode(JsonNode snippetNode) {
+        this.snippetNode = snippetNode;
+        this.snippet = null;
     }
 
     @NotNull
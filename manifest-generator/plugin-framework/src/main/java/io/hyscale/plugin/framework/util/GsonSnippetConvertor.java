@@ -17,10 +17,19 @@ package com.github.srujankujmar.plugin.framework.util;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 public class GsonSnippetConvertor {
     
@@ -28,6 +37,8 @@ public class GsonSnippetConvertor {
 
 	private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
 
+	private static final Pattern INTEGRAL_NUMBER = Pattern.compile("-?\\d+");
+
 	public static <T> String serialize(T element) throws JsonProcessingException {
 		if (element == null) {
 			return null;
@@ -35,6 +46,70 @@ public class GsonSnippetConvertor {
 		return gson.toJson(element);
 	}
 
+	/**
+	 * Converts element to a jackson json tree through the gson tree,
+	 * no intermediate string is created
+	 */
+	public static <T> JsonNode toJsonNode(T element) throws JsonProcessingException {
+		if (element == null) {
+			return null;
+		}
+		return toJsonNode(gson.toJsonTree(element));
+	}
+
+	private static JsonNode toJsonNode(JsonElement jsonElement) {
+		JsonNodeFactory factory = JsonNodeFactory.instance;
+		if (jsonElement == null || jsonElement.isJsonNull()) {
+			return factory.nullNode();
+		}
+		if (jsonElement.isJsonObject()) {
+			ObjectNode objectNode = factory.objectNode();
+			for (Map.Entry<String, JsonElement> entry : jsonElement.getAsJsonObject().entrySet()) {
+				objectNode.set(entry.getKey(), toJsonNode(entry.getValue()));
+			}
+			return objectNode;
+		}
+		if (jsonElement.isJsonArray()) {
+			ArrayNode arrayNode = factory.arrayNode();
+			for (JsonElement each : jsonElement.getAsJsonArray()) {
+				arrayNode.add(toJsonNode(each));
+			}
+			return arrayNode;
+		}
+		JsonPrimitive primitive = jsonElement.getAsJsonPrimitive();
+		if (primitive.isBoolean()) {
+			return factory.booleanNode(primitive.getAsBoolean());
+		}
+		if (primitive.isNumber()) {
+			return toNumberNode(primitive.getAsNumber());
+		}
+		return factory.textNode(primitive.getAsString());
+	}
+
+	/**
+	 * Numbers are mapped to the node a json parser would create for their
+	 * serialized form, integral values to int or long nodes and others to double nodes
+	 */
+	private static JsonNode toNumberNode(Number number) {
+		JsonNodeFactory factory = JsonNodeFactory.instance;
+		if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+			return factory.numberNode(number.intValue());
+		}
+		if (number instanceof Long) {
+			return factory.numberNode(number.longValue());
+		}
+		String value = number.toString();
+		if (INTEGRAL_NUMBER.matcher(value).matches()) {
+			BigInteger integral = new BigInteger(value);
+			if (integral.bitLength() < Integer.SIZE) {
+				return factory.numberNode(integral.intValue());
+			}
+			return integral.bitLength() < Long.SIZE ? factory.numberNode(integral.longValue())
+					: factory.numberNode(integral);
+		}
+		return factory.numberNode(Double.parseDouble(value));
+	}
+
 	public static <T> T deserialize(String element, Class<T> klazz) throws IOException {
 		if (element == null) {
 			return null;
@@ -20,6 +20,8 @@ import java.io.IOException;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class JsonSnippetConvertor {
@@ -39,6 +41,20 @@ public class JsonSnippetConvertor {
 		return objectMapper.writeValueAsString(element);
 	}
 
+	/**
+	 * Converts element to a json tree without serializing it to a string
+	 */
+	public static <T> JsonNode toJsonNode(T element) throws JsonProcessingException {
+		if (element == null) {
+			return null;
+		}
+		try {
+			return objectMapper.valueToTree(element);
+		} catch (IllegalArgumentException e) {
+			throw new JsonMappingException(null, e.getMessage(), e);
+		}
+	}
+
 	public static <T> T deserialize(String element, Class<T> klazz) throws IOException {
 		if (element == null) {
 			return null;
@@ -86,13 +86,40 @@ public class JsonSchemaValidator {
      * @throws HyscaleException
      */
     public static ProcessingReport validate(JsonNode inputSpecNode,JsonNode referenceSchema) throws HyscaleException{
+        return validate(inputSpecNode, compile(referenceSchema));
+    }
+
+    /**
+     * Validates whether the given input json node satisfies compiled schema.
+     *
+     * @param inputSpecNode JsonNode input
+     * @param schema compiled through {@link #compile(JsonNode)}
+     * @return ProcessingReport
+     * @throws HyscaleException
+     */
+    public static ProcessingReport validate(JsonNode inputSpecNode, JsonSchema schema) throws HyscaleException {
+        try {
+            return schema.validate(inputSpecNode, true);
+        } catch (ProcessingException p) {
+            LOGGER.error(p.getMessage());
+            throw new HyscaleException(p, CommonErrorCode.SCHEMA_PROCESSING_ERROR);
+        }
+    }
+
+    /**
+     * Compiles reference schema, compiled schema is immutable and can be shared across threads
+     *
+     * @param referenceSchema JsonNode input
+     * @return JsonSchema
+     * @throws HyscaleException
+     */
+    public static JsonSchema compile(JsonNode referenceSchema) throws HyscaleException {
         if(referenceSchema==null || referenceSchema.isNull()){
             LOGGER.error(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND.getMessage());
             throw new HyscaleException(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND);
         }
         try {
-            JsonSchema schema = factory.getJsonSchema(referenceSchema);
-            return schema.validate(inputSpecNode, true);
+            return factory.getJsonSchema(referenceSchema);
         }catch (ProcessingException p){
             LOGGER.error(p.getMessage());
             throw new HyscaleException(p,CommonErrorCode.SCHEMA_PROCESSING_ERROR);
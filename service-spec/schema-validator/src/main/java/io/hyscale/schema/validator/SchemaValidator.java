@@ -15,7 +15,10 @@
  */
 package com.github.srujankujmar.schema.validator;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.srujankujmar.commons.constants.ToolConstants;
 import com.github.srujankujmar.commons.exception.CommonErrorCode;
 import com.github.srujankujmar.commons.exception.HyscaleException;
@@ -30,10 +33,15 @@ import org.springframework.stereotype.Component;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Processes given input spec file,gets respective reference schema and returns validated ProcessingReport from JsonSchemaValidator.
+ * Reference schema of each spec type is loaded and compiled once, specs can be validated concurrently.
  */
 @Component
 public class SchemaValidator {
@@ -42,6 +50,26 @@ public class SchemaValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SchemaValidator.class);
 
+    private final Map<HyscaleSpecType, JsonSchema> typeVsSchema = new ConcurrentHashMap<>();
+
+    /**
+     * validates whether the given json node satisfies respective reference schema.
+     *
+     * @param spec parsed spec
+     * @param type
+     * @return ProcessingReport
+     * @throws HyscaleException
+     */
+    public ProcessingReport validateSpec(JsonNode spec, HyscaleSpecType type) throws HyscaleException {
+        if (spec == null || spec.isMissingNode()) {
+            HyscaleException ex = new HyscaleException(CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION,
+                    "empty spec");
+            LOGGER.error(ex.getMessage());
+            throw ex;
+        }
+        return JsonSchemaValidator.validate(spec, getSchema(type));
+    }
+
     /**
      * validates whether the given string satisfies respective reference schema.
      *
@@ -51,7 +79,13 @@ public class SchemaValidator {
      * @throws HyscaleException
      */
     public ProcessingReport validateSpec(String spec, HyscaleSpecType type) throws HyscaleException {
-        return JsonSchemaValidator.validate(spec,getSchema(type));
+        try {
+            return validateSpec(JsonLoader.fromString(spec), type);
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage());
+            HyscaleException ex = new HyscaleException(e,CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION,e.getMessage());
+            throw ex;
+        }
     }
 
     /**
@@ -82,7 +116,22 @@ public class SchemaValidator {
         return schemaPathBuilder.toString();
     }
 
-    private String getSchema(HyscaleSpecType type) throws HyscaleException{
+    /**
+     * @param type
+     * @return compiled reference schema of the type, loaded on first use
+     * @throws HyscaleException
+     */
+    private JsonSchema getSchema(HyscaleSpecType type) throws HyscaleException {
+        JsonSchema schema = typeVsSchema.get(type);
+        if (schema == null) {
+            // Concurrent first use may compile more than once, any of the compiled schemas can be used
+            schema = JsonSchemaValidator.compile(loadSchema(type));
+            typeVsSchema.putIfAbsent(type, schema);
+        }
+        return schema;
+    }
+
+    private JsonNode loadSchema(HyscaleSpecType type) throws HyscaleException{
         String schemaPath = getSchemaPath(type);
         try (InputStream is = SchemaValidator.class.getClassLoader().getResourceAsStream(schemaPath)) {
             if (is == null) {
@@ -90,7 +139,9 @@ public class SchemaValidator {
                 LOGGER.error(ex.getMessage());
                 throw ex;
             }
-            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                return JsonLoader.fromReader(reader);
+            }
         } catch (IOException e) {
             HyscaleException ex = new HyscaleException(e, CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION, e.getMessage());
             LOGGER.error(ex.getMessage());
@@ -19,10 +19,10 @@ package com.github.srujankujmar.servicespec.commons.builder;
 import java.io.IOException;
 
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
-import com.github.srujankujmar.commons.utils.DataFormatConverter;
 import com.github.srujankujmar.servicespec.commons.activity.ServiceSpecActivity;
 import org.apache.commons.lang3.StringUtils;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
@@ -33,6 +33,7 @@ import com.github.srujankujmar.servicespec.commons.exception.ServiceSpecErrorCod
 
 /**
  * Builder to create effective service spec by merging service spec and service profile
+ * Service spec and profile are parsed once, validated and merged as json trees
  * @author tushar
  *
  */
@@ -44,6 +45,10 @@ public class EffectiveServiceSpecBuilder {
 
     private String profile;
 
+    private JsonNode serviceSpecNode;
+
+    private JsonNode profileNode;
+
     private FieldMetaDataProvider fieldMetaDataProvider;
 
     public EffectiveServiceSpecBuilder type(ServiceInputType serviceInputType) {
@@ -61,36 +66,63 @@ public class EffectiveServiceSpecBuilder {
         return this;
     }
 
+    /**
+     * Parsed service spec, takes precedence over service spec data
+     */
+    public EffectiveServiceSpecBuilder withServiceSpec(JsonNode serviceSpecNode) {
+        this.serviceSpecNode = serviceSpecNode;
+        return this;
+    }
+
+    /**
+     * Parsed profile, takes precedence over profile data
+     */
+    public EffectiveServiceSpecBuilder withProfile(JsonNode profileNode) {
+        this.profileNode = profileNode;
+        return this;
+    }
+
     public EffectiveServiceSpecBuilder withFieldMetaDataProvider(FieldMetaDataProvider fieldMetaDataProvider) {
         this.fieldMetaDataProvider = fieldMetaDataProvider;
         return this;
     }
 
+    /**
+     * @return effective service spec in json format
+     * @throws HyscaleException
+     */
     public String build() throws HyscaleException {
+        JsonNode effectiveServiceSpec = buildTree();
+        return effectiveServiceSpec != null ? effectiveServiceSpec.toString() : null;
+    }
 
-        validate(serviceSpec, profile);
-
-        if (this.serviceInputType == ServiceInputType.YAML) {
-            // convert to JSON
-            serviceSpec = DataFormatConverter.yamlToJson(serviceSpec);
-            profile = DataFormatConverter.yamlToJson(profile);
-        }
+    /**
+     * Parses service spec and profile if not already parsed,
+     * removes unrequired fields from the profile and merges it into service spec
+     * Merged tree may share nodes with the parsed service spec and profile
+     * 
+     * @return effective service spec
+     * @throws HyscaleException
+     */
+    public JsonNode buildTree() throws HyscaleException {
+        JsonNode serviceSpecTree = serviceSpecNode != null ? serviceSpecNode
+                : parse(serviceSpec, ServiceSpecErrorCodes.SERVICE_SPEC_REQUIRED,
+                        ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
+        JsonNode profileTree = profileNode != null ? profileNode
+                : parse(profile, ServiceSpecErrorCodes.SERVICE_PROFILE_REQUIRED,
+                        ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
 
         // Remove unrequired fields from the profile
-        profile = ServiceSpecBuilderUtil.updateProfile(profile);
+        profileTree = ServiceSpecBuilderUtil.updateProfile(profileTree);
 
-        String strategicMergeJson = StrategicPatch.apply(serviceSpec, profile, fieldMetaDataProvider);
-
-        return strategicMergeJson;
+        return StrategicPatch.apply(serviceSpecTree, profileTree, fieldMetaDataProvider);
     }
 
     //TODO   integrating service spec and profile schema validation
-    private void validate(String serviceSpec, String profile) throws HyscaleException {
-        if (StringUtils.isBlank(serviceSpec)) {
-            throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_SPEC_REQUIRED);
-        }
-        if (StringUtils.isBlank(profile)) {
-            throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_PROFILE_REQUIRED);
+    private JsonNode parse(String data, ServiceSpecErrorCodes requiredError, ServiceSpecErrorCodes parseError)
+            throws HyscaleException {
+        if (StringUtils.isBlank(data)) {
+            throw new HyscaleException(requiredError);
         }
         ObjectMapper mapper;
         if (ServiceInputType.JSON == this.serviceInputType) {
@@ -99,16 +131,10 @@ public class EffectiveServiceSpecBuilder {
             mapper = ObjectMapperFactory.yamlMapper();
         }
         try {
-            mapper.readTree(serviceSpec);
-        } catch (IOException e) {
-            WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
-            throw new HyscaleException(e,ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
-        }
-        try {
-            mapper.readTree(profile);
+            return mapper.readTree(data);
         } catch (IOException e) {
             WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
-            throw new HyscaleException(e,ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
+            throw new HyscaleException(e, parseError);
         }
     }
 
@@ -15,21 +15,27 @@
  */
 package com.github.srujankujmar.servicespec.commons.builder;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.srujankujmar.servicespec.commons.fields.HyscaleSpecFields;
 
 public class ServiceSpecBuilderUtil {
 
-	public static String updateProfile(String profileSpecification) {
-
-		DocumentContext doc = JsonPath.parse(profileSpecification);
-		// Environment information
-		doc.delete(HyscaleSpecFields.getPath(HyscaleSpecFields.environment));
-		// Override information
-		doc.delete(HyscaleSpecFields.getPath(HyscaleSpecFields.overrides));
-
-		return doc.jsonString();
+	/**
+	 * Removes environment and override information from the profile
+	 * @param profile
+	 * @return new profile object without the fields, profile is not modified
+	 */
+	public static JsonNode updateProfile(JsonNode profile) {
+		if (profile == null || !profile.isObject()) {
+			return profile;
+		}
+		ObjectNode updatedProfile = JsonNodeFactory.instance.objectNode();
+		updatedProfile.setAll((ObjectNode) profile);
+		updatedProfile.remove(HyscaleSpecFields.environment);
+		updatedProfile.remove(HyscaleSpecFields.overrides);
+		return updatedProfile;
 	}
 
 }
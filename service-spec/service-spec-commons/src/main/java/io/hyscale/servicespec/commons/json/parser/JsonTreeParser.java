@@ -31,6 +31,8 @@ import com.github.srujankujmar.servicespec.commons.json.parser.constants.JsonPat
 
 /**
  * Parser for json tree
+ * Definite paths are evaluated on the in-memory tree through {@link JsonTreePath},
+ * any other path falls back to JsonPath
  */
 public class JsonTreeParser {
 
@@ -48,10 +50,11 @@ public class JsonTreeParser {
         if (root == null) {
             return null;
         }
-        if (!field.startsWith(JsonPathConstants.JSON_ROOT_PATH)) {
-            field = JsonPathConstants.JSON_ROOT_PATH + field;
+        JsonTreePath treePath = JsonTreePath.compile(field);
+        if (treePath.isDefinite()) {
+            return treePath.read(root);
         }
-        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(field,
+        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(getRootPath(field),
                 JsonNode.class);
     }
 
@@ -68,10 +71,12 @@ public class JsonTreeParser {
         if (root == null) {
             return null;
         }
-        if (!field.startsWith(JsonPathConstants.JSON_ROOT_PATH)) {
-            field = JsonPathConstants.JSON_ROOT_PATH + field;
+        JsonTreePath treePath = JsonTreePath.compile(field);
+        if (treePath.isDefinite()) {
+            return deserializeJsonNode(treePath.read(root), klazz);
         }
-        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(field, klazz);
+        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(getRootPath(field),
+                klazz);
     }
 
 	/**
@@ -88,6 +93,13 @@ public class JsonTreeParser {
         return deserializeJsonNode(jsonNode, typeReference);
     }
 
+    private static String getRootPath(String field) {
+        if (field.startsWith(JsonPathConstants.JSON_ROOT)) {
+            return field;
+        }
+        return JsonPathConstants.JSON_ROOT_PATH + field;
+    }
+
 	/**
 	 * @param jsonNode
 	 * @param klass
@@ -96,7 +108,7 @@ public class JsonTreeParser {
 	 * @throws HyscaleException
 	 */
 
-    private static <T> T deserializeJsonNode(JsonNode jsonNode, Class<T> klass) throws HyscaleException {
+    static <T> T deserializeJsonNode(JsonNode jsonNode, Class<T> klass) throws HyscaleException {
         if (jsonNode == null || jsonNode.isMissingNode()) {
             return null;
         }
@@ -115,7 +127,7 @@ public class JsonTreeParser {
 	 * @throws HyscaleException
 	 */
 
-    private static <T> T deserializeJsonNode(JsonNode jsonNode, TypeReference<T> typeReference) throws HyscaleException {
+    static <T> T deserializeJsonNode(JsonNode jsonNode, TypeReference<T> typeReference) throws HyscaleException {
         if (jsonNode == null || jsonNode.isMissingNode()) {
             return null;
         }
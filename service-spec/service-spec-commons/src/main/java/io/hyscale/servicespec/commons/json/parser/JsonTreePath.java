@@ -0,0 +1,201 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.servicespec.commons.json.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.servicespec.commons.fields.HyscaleSpecFields;
+import com.github.srujankujmar.servicespec.commons.json.parser.constants.JsonPathConstants;
+
+/**
+ * Compiled form of a definite json path such as "image.buildSpec.artifacts[0].name".
+ * Paths are compiled once and walk the in-memory {@link JsonNode} tree directly.
+ * Paths using wildcards, slices, filters or deep scan are marked as not definite,
+ * callers are expected to evaluate those through JsonPath
+ */
+public final class JsonTreePath {
+
+    private static final int MAX_CACHED_PATHS = 2048;
+
+    private static final Map<String, JsonTreePath> compiledPaths = new ConcurrentHashMap<>();
+
+    private final String path;
+
+    private final List<Segment> segments;
+
+    private JsonTreePath(String path, List<Segment> segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * @param path json path with or without root prefix
+     * @return compiled path, cached across calls
+     */
+    public static JsonTreePath compile(String path) {
+        JsonTreePath compiledPath = compiledPaths.get(path);
+        if (compiledPath != null) {
+            return compiledPath;
+        }
+        compiledPath = new JsonTreePath(path, parse(path));
+        if (compiledPaths.size() < MAX_CACHED_PATHS) {
+            compiledPaths.putIfAbsent(path, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * @return true if path can be evaluated by {@link #read(JsonNode)}
+     */
+    public boolean isDefinite() {
+        return segments != null;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Walks the tree from root
+     * @param root
+     * @return JsonNode at path, null if path is not present or holds null value
+     */
+    public JsonNode read(JsonNode root) {
+        if (!isDefinite()) {
+            throw new IllegalStateException("Path " + path + " is not definite");
+        }
+        JsonNode current = root;
+        for (Segment segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.select(current);
+        }
+        if (current == null || current.isMissingNode() || current.isNull()) {
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * @param path
+     * @return segments of the path, null if path is not definite
+     */
+    private static List<Segment> parse(String path) {
+        if (StringUtils.isBlank(path)) {
+            return null;
+        }
+        String field = path;
+        if (field.startsWith(JsonPathConstants.JSON_ROOT_PATH)) {
+            field = field.substring(JsonPathConstants.JSON_ROOT_PATH.length());
+        } else if (field.equals(JsonPathConstants.JSON_ROOT)) {
+            return Collections.emptyList();
+        }
+        if (field.isEmpty() || field.contains("..") || field.contains(HyscaleSpecFields.WILDCARD)
+                || field.contains("?") || field.contains("@") || field.contains("'") || field.contains("\"")) {
+            return null;
+        }
+        List<Segment> segments = new ArrayList<>();
+        for (String token : StringUtils.split(field, HyscaleSpecFields.DOT)) {
+            if (!parseToken(token, segments)) {
+                return null;
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    private static boolean parseToken(String token, List<Segment> segments) {
+        int braceIndex = token.indexOf(HyscaleSpecFields.arrayLeftBrace);
+        String name = braceIndex < 0 ? token : token.substring(0, braceIndex);
+        if (!name.isEmpty()) {
+            if (name.contains(HyscaleSpecFields.arrayRightBrace)) {
+                return false;
+            }
+            segments.add(new FieldSegment(name));
+        }
+        while (braceIndex >= 0) {
+            int closeIndex = token.indexOf(HyscaleSpecFields.arrayRightBrace, braceIndex);
+            if (closeIndex < 0) {
+                return false;
+            }
+            String index = token.substring(braceIndex + 1, closeIndex);
+            if (!isInteger(index)) {
+                return false;
+            }
+            segments.add(new IndexSegment(Integer.parseInt(index)));
+            int next = closeIndex + 1;
+            if (next == token.length()) {
+                return true;
+            }
+            if (!token.startsWith(HyscaleSpecFields.arrayLeftBrace, next)) {
+                return false;
+            }
+            braceIndex = next;
+        }
+        return true;
+    }
+
+    private static boolean isInteger(String index) {
+        String digits = index.startsWith("-") ? index.substring(1) : index;
+        return !digits.isEmpty() && digits.length() < 10 && StringUtils.isNumeric(digits);
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private interface Segment {
+        JsonNode select(JsonNode node);
+    }
+
+    private static final class FieldSegment implements Segment {
+        private final String name;
+
+        FieldSegment(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public JsonNode select(JsonNode node) {
+            return node.isObject() ? node.get(name) : null;
+        }
+    }
+
+    private static final class IndexSegment implements Segment {
+        private final int index;
+
+        IndexSegment(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public JsonNode select(JsonNode node) {
+            if (!node.isArray()) {
+                return null;
+            }
+            int position = index < 0 ? node.size() + index : index;
+            return node.get(position);
+        }
+    }
+}
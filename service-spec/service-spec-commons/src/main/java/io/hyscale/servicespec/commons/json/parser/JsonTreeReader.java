@@ -0,0 +1,98 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.servicespec.commons.json.parser;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+
+/**
+ * Memoizing reader over an immutable json tree.
+ * Resolved nodes are cached per path, values of immutable types
+ * (String, primitive wrappers, enums) are cached per path and type.
+ * Other types are converted from the cached node on every call
+ * so that callers never share mutable objects.
+ * Object and array nodes are returned as copies, value nodes are immutable.
+ * Conversion failures are reported as {@link HyscaleException} for every path,
+ * unlike JsonPath lookups which suppress them.
+ *
+ * Root returned by {@link #getRoot()} is the tree itself and must not be modified
+ */
+public class JsonTreeReader {
+
+    private final JsonNode root;
+
+    private final Map<String, Optional<JsonNode>> nodeCache = new ConcurrentHashMap<>();
+
+    private final Map<String, Optional<Object>> valueCache = new ConcurrentHashMap<>();
+
+    public JsonTreeReader(JsonNode root) {
+        this.root = root;
+    }
+
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @param path
+     * @return node at path, a copy for object and array nodes
+     */
+    public JsonNode get(String path) {
+        JsonNode node = getNode(path);
+        return node != null && node.isContainerNode() ? node.deepCopy() : node;
+    }
+
+    private JsonNode getNode(String path) {
+        if (root == null) {
+            return null;
+        }
+        return nodeCache.computeIfAbsent(path, key -> Optional.ofNullable(JsonTreeParser.get(root, key)))
+                .orElse(null);
+    }
+
+    public <T> T get(String path, Class<T> klass) throws HyscaleException {
+        if (root == null) {
+            return null;
+        }
+        if (!isImmutable(klass)) {
+            return JsonTreeParser.deserializeJsonNode(getNode(path), klass);
+        }
+        String key = path + "#" + klass.getName();
+        Optional<Object> value = valueCache.get(key);
+        if (value == null) {
+            value = Optional.ofNullable(JsonTreeParser.deserializeJsonNode(getNode(path), klass));
+            valueCache.putIfAbsent(key, value);
+        }
+        return klass.cast(value.orElse(null));
+    }
+
+    public <T> T get(String path, TypeReference<T> typeReference) throws HyscaleException {
+        if (root == null) {
+            return null;
+        }
+        return JsonTreeParser.deserializeJsonNode(getNode(path), typeReference);
+    }
+
+    private static boolean isImmutable(Class<?> klass) {
+        return klass == String.class || klass == Boolean.class || klass == Character.class
+                || (Number.class.isAssignableFrom(klass) && klass.getName().startsWith("java.lang.")) || klass.isEnum();
+    }
+}
@@ -22,7 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 import com.github.srujankujmar.servicespec.commons.exception.ServiceSpecErrorCodes;
-import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeParser;
+import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeReader;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
@@ -30,14 +30,18 @@ import java.io.IOException;
 public class Profile implements HyscaleSpec {
     private JsonNode root;
 
+    private JsonTreeReader reader;
+
     public Profile(JsonNode root) {
         this.root = root;
+        this.reader = new JsonTreeReader(root);
     }
 
     public Profile(String profilePath) throws HyscaleException {
         ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
         try {
             this.root = mapper.readTree(profilePath);
+            this.reader = new JsonTreeReader(root);
         } catch (IOException e) {
             throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
         }
@@ -45,17 +49,17 @@ public class Profile implements HyscaleSpec {
 
     @Override
     public JsonNode get(String path) {
-        return JsonTreeParser.get(root, path);
+        return reader.get(path);
     }
 
     @Override
     public <T> T get(String path, Class<T> klass) throws HyscaleException {
-        return JsonTreeParser.get(root, path, klass);
+        return reader.get(path, klass);
     }
 
     @Override
     public <T> T get(String path, TypeReference<T> typeReference) throws HyscaleException {
-        return JsonTreeParser.get(root, path, typeReference);
+        return reader.get(path, typeReference);
     }
 
     @Override
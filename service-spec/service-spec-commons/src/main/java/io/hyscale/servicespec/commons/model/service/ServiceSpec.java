@@ -22,7 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 import com.github.srujankujmar.servicespec.commons.exception.ServiceSpecErrorCodes;
-import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeParser;
+import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeReader;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.io.FileUtils;
 
@@ -46,8 +46,11 @@ public final class ServiceSpec implements HyscaleSpec {
 
     private JsonNode root;
 
+    private JsonTreeReader reader;
+
     public ServiceSpec(JsonNode root) {
         this.root = root;
+        this.reader = new JsonTreeReader(root);
     }
 
     public ServiceSpec(String serviceSpec) throws HyscaleException {
@@ -68,6 +71,7 @@ public final class ServiceSpec implements HyscaleSpec {
         ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
         try {
             this.root = mapper.readTree(serviceSpec);
+            this.reader = new JsonTreeReader(root);
         } catch (IOException e) {
             LOGGER.error(e.getMessage());
             throw new HyscaleException(e,ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
@@ -75,15 +79,15 @@ public final class ServiceSpec implements HyscaleSpec {
     }
 
     public JsonNode get(String path) {
-        return JsonTreeParser.get(root, path);
+        return reader.get(path);
     }
 
     public <T> T get(String path, Class<T> klass) throws HyscaleException {
-        return JsonTreeParser.get(root, path, klass);
+        return reader.get(path, klass);
     }
 
     public <T> T get(String path, TypeReference<T> typeReference) throws HyscaleException {
-        return JsonTreeParser.get(root, path, typeReference);
+        return reader.get(path, typeReference);
     }
 
     @Override
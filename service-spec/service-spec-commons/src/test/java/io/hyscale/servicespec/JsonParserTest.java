@@ -17,9 +17,12 @@ package com.github.srujankujmar.servicespec;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
 import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeParser;
+import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreePath;
+import com.github.srujankujmar.servicespec.commons.json.parser.JsonTreeReader;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -56,4 +59,59 @@ public class JsonParserTest {
         String color = JsonTreeParser.get(rootNode, "food.fruits[1].color", String.class);
         Assertions.assertEquals("yellow", color);
     }
+
+    @Test
+    public void testMissingField() throws HyscaleException {
+        Assertions.assertNull(JsonTreeParser.get(rootNode, "food.meat"));
+        Assertions.assertNull(JsonTreeParser.get(rootNode, "food.vegetables[5]"));
+        Assertions.assertNull(JsonTreeParser.get(rootNode, "food.vegetables.name", String.class));
+    }
+
+    @Test
+    public void testNegativeIndexAndRootPath() throws HyscaleException {
+        Assertions.assertEquals("Onion", JsonTreeParser.get(rootNode, "food.vegetables[-1]", String.class));
+        Assertions.assertEquals("Apple", JsonTreeParser.get(rootNode, "$.food.fruits[0].name", String.class));
+    }
+
+    @Test
+    public void testCompiledPath() {
+        Assertions.assertTrue(JsonTreePath.compile("food.fruits[1].color").isDefinite());
+        Assertions.assertSame(JsonTreePath.compile("food.fruits[1].color"), JsonTreePath.compile("food.fruits[1].color"));
+        Assertions.assertFalse(JsonTreePath.compile("food.fruits[*].color").isDefinite());
+        Assertions.assertFalse(JsonTreePath.compile("food..color").isDefinite());
+    }
+
+    @Test
+    public void testIndefinitePathFallback() {
+        JsonNode colors = JsonTreeParser.get(rootNode, "food.fruits[*].color");
+        Assertions.assertNotNull(colors);
+        Assertions.assertEquals(3, colors.size());
+    }
+
+    @Test
+    public void testReaderMemoizesResults() throws HyscaleException {
+        JsonTreeReader reader = new JsonTreeReader(rootNode);
+        Assertions.assertSame(reader.get("food.fruits[0].color"), reader.get("food.fruits[0].color"));
+        Assertions.assertEquals("red", reader.get("food.fruits[0].color", String.class));
+        Assertions.assertSame(reader.get("food.fruits[0].color", String.class),
+                reader.get("food.fruits[0].color", String.class));
+        Assertions.assertNull(reader.get("food.fruits[0].weight", Integer.class));
+    }
+
+    @Test
+    public void testReaderReturnsCopies() throws HyscaleException {
+        JsonTreeReader reader = new JsonTreeReader(rootNode);
+        ObjectNode fruit = (ObjectNode) reader.get("food.fruits[0]");
+        fruit.put("color", "blue");
+        Assertions.assertNotSame(fruit, reader.get("food.fruits[0]"));
+        Assertions.assertEquals("red", reader.get("food.fruits[0]").get("color").asText());
+        Assertions.assertEquals("red", reader.get("food.fruits[0].color", String.class));
+        Assertions.assertEquals("red", rootNode.at("/food/fruits/0/color").asText());
+    }
+
+    @Test
+    public void testReaderConversionFailure() {
+        JsonTreeReader reader = new JsonTreeReader(rootNode);
+        Assertions.assertThrows(HyscaleException.class, () -> reader.get("food.fruits[0].color", Integer.class));
+    }
 }
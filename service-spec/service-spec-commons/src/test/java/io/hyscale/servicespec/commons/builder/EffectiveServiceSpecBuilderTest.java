@@ -0,0 +1,67 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.servicespec.commons.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.utils.ObjectMapperFactory;
+import com.github.srujankujmar.servicespec.commons.exception.ServiceSpecErrorCodes;
+
+class EffectiveServiceSpecBuilderTest {
+
+    private static final String SERVICE_SPEC = "name: myservice\nreplicas: 1\nvolumes:\n  - name: data\n    size: 1Gi\n";
+
+    private static final String PROFILE = "environment: stage\noverrides: myservice\nreplicas: 2\nvolumes:\n  - name: data\n    size: 2Gi\n";
+
+    @Test
+    void testMergedTree() throws HyscaleException {
+        JsonNode effectiveServiceSpec = new EffectiveServiceSpecBuilder().type(ServiceInputType.YAML)
+                .withServiceSpec(SERVICE_SPEC).withProfile(PROFILE)
+                .withFieldMetaDataProvider(new MapFieldDataProvider()).buildTree();
+        assertEquals(2, effectiveServiceSpec.get("replicas").asInt());
+        assertEquals(1, effectiveServiceSpec.get("volumes").size());
+        assertEquals("2Gi", effectiveServiceSpec.get("volumes").get(0).get("size").asText());
+        assertNull(effectiveServiceSpec.get("environment"));
+        assertNull(effectiveServiceSpec.get("overrides"));
+    }
+
+    @Test
+    void testParsedInput() throws Exception {
+        JsonNode profile = ObjectMapperFactory.yamlMapper().readTree(PROFILE);
+        String effectiveServiceSpec = new EffectiveServiceSpecBuilder()
+                .withServiceSpec(ObjectMapperFactory.yamlMapper().readTree(SERVICE_SPEC)).withProfile(profile)
+                .withFieldMetaDataProvider(new MapFieldDataProvider()).build();
+        assertEquals(2, ObjectMapperFactory.jsonMapper().readTree(effectiveServiceSpec).get("replicas").asInt());
+        // Profile is not modified
+        assertEquals("stage", profile.get("environment").asText());
+    }
+
+    @Test
+    void testInvalidInput() {
+        HyscaleException exception = assertThrows(HyscaleException.class,
+                () -> new EffectiveServiceSpecBuilder().withServiceSpec(SERVICE_SPEC).withProfile(" ").buildTree());
+        assertEquals(ServiceSpecErrorCodes.SERVICE_PROFILE_REQUIRED, exception.getHyscaleError());
+        exception = assertThrows(HyscaleException.class,
+                () -> new EffectiveServiceSpecBuilder().withServiceSpec("name: [a").withProfile(PROFILE).buildTree());
+        assertEquals(ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR, exception.getHyscaleError());
+    }
+}
@@ -71,9 +71,11 @@ public enum ControllerActivity implements Activity {
     INVALID_FILE_INPUT("Given input {} is not a file.Expecting file input."),
     DIRECTORY_INPUT_FOUND("Found directory {} instead of file"),
     WAITING_FOR_SERVICE_STATUS("It might take some time as it runs diagnosis for services"),
+    WATCHING_SERVICE_STATUS("Watching service status, press Ctrl+C to stop"),
     TROUBLESHOOT("{}"), 
     APPLICATION_DETAILS("Applications"),
-    SUCCESSFULLY_SCALED("Successfully  {} {}");
+    SUCCESSFULLY_SCALED("Successfully  {} {}"),
+    VERBOSE_NOT_SUPPORTED_IN_PARALLEL("Verbose output is not supported when deploying services in parallel, refer to log files listed in deployment info");
 
     private String message;
 
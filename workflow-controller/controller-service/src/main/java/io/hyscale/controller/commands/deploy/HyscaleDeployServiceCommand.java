@@ -18,6 +18,10 @@ package com.github.srujankujmar.controller.commands.deploy;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import com.google.gson.*;
 import com.github.srujankujmar.commons.component.ComponentInvoker;
 import com.github.srujankujmar.commons.config.SetupConfig;
@@ -42,6 +46,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import com.github.srujankujmar.commons.logger.Buffered;
 import com.github.srujankujmar.commons.logger.WorkflowLogger;
 import com.github.srujankujmar.commons.models.Manifest;
 import com.github.srujankujmar.controller.activity.ControllerActivity;
@@ -51,11 +56,13 @@ import com.github.srujankujmar.controller.commands.input.ProfileArg;
 import com.github.srujankujmar.controller.invoker.DeployComponentInvoker;
 import com.github.srujankujmar.controller.invoker.ImageBuildComponentInvoker;
 import com.github.srujankujmar.controller.invoker.ManifestGeneratorComponentInvoker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import picocli.CommandLine;
 import picocli.CommandLine.ArgGroup;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.Pattern;
 
 /**
@@ -70,6 +77,7 @@ import javax.validation.constraints.Pattern;
  *  profile - profile name to look for. Profile file should be present for all services in service spec
  * (profiles and profile are mutually exclusive)
  *  verbose  prints the verbose output of the deployment
+ *  parallelism - number of services deployed concurrently, output of each service is printed once it completes
  * <p>
  * Eg 1: hyscale deploy service -f svca.hspec -f svcb.hspec -p dev-svca.hprof -n dev -a sample
  * Eg 2: hyscale deploy service -f svca.hspec -f svcb.hspec -P dev -n dev -a sample
@@ -109,6 +117,10 @@ public class HyscaleDeployServiceCommand implements Callable<Integer> {
             required = true, description = "Service specs files.", split = ",", converter = FileConverter.class)
     private List<File> serviceSpecsFiles;
 
+    @Min(value = ValidationConstants.MIN_PARALLELISM, message = ValidationConstants.MIN_PARALLELISM_ERROR_MSG)
+    @CommandLine.Option(names = {"--parallelism"}, required = false, description = "Number of services to deploy in parallel. Defaults to 1")
+    private int parallelism = 1;
+
     @Pattern(regexp = ValidationConstants.STRUCTURED_OUTPUT_FORMAT_REGEX, message = ValidationConstants.INVALID_OUTPUT_FORMAT_MSG)
     @CommandLine.Option(names = {"-o", "--output"},paramLabel = "json" ,required = false, description = "Output in json format.")
     private String structuredOutput;
@@ -242,50 +254,125 @@ public class HyscaleDeployServiceCommand implements Callable<Integer> {
             return ToolConstants.INVALID_INPUT_ERROR_CODE;
         }
 
+        if (parallelism > 1 && verbose) {
+            WorkflowLogger.warn(ControllerActivity.VERBOSE_NOT_SUPPORTED_IN_PARALLEL);
+            verbose = false;
+        }
+
         boolean isCommandFailed = false;
-        for (WorkflowContext workflowContext : contextList) {
-            String serviceName = workflowContext.getServiceName();
-            WorkflowLogger.header(ControllerActivity.SERVICE_NAME, serviceName);
+        for (ServiceDeployResult result : deployServices(contextList, serviceVsSpecFile)) {
+            isCommandFailed = isCommandFailed || result.isFailed();
+            // Status of successful services is reported only till the first failure
+            if (result.isFailed() || !isCommandFailed) {
+                result.getServiceStatus().forEach(jsonArr::add);
+            }
+        }
+        if(WorkflowLogger.isDisabled()) {
+            StructuredOutputHandler.prepareOutput(WorkflowConstants.SERVICE_STATUS,jsonArr);
+        }
+        return isCommandFailed ? ToolConstants.HYSCALE_ERROR_CODE : 0;
+    }
+
+    /**
+     * Runs the workflow of each service, one after the other when parallelism is 1
+     * else on a pool of parallelism threads with output of each service buffered.
+     * Results and buffered output are processed in the order of contextList
+     */
+    List<ServiceDeployResult> deployServices(List<WorkflowContext> contextList, Map<String, File> serviceVsSpecFile)
+            throws InterruptedException {
+        List<ServiceDeployResult> results = new ArrayList<>();
+        if (parallelism <= 1 || contextList.size() <= 1) {
+            for (WorkflowContext workflowContext : contextList) {
+                results.add(deployService(workflowContext, serviceVsSpecFile.get(workflowContext.getServiceName())));
+            }
+            return results;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, contextList.size()),
+                new ThreadFactoryBuilder().setNameFormat("deploy-service-%d").setDaemon(true).build());
+        try {
+            List<Future<Buffered<ServiceDeployResult>>> futures = new ArrayList<>();
+            for (WorkflowContext workflowContext : contextList) {
+                File serviceSpecFile = serviceVsSpecFile.get(workflowContext.getServiceName());
+                futures.add(executorService.submit(
+                        () -> WorkflowLogger.callBuffered(() -> deployIsolated(workflowContext, serviceSpecFile))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(getResult(futures.get(i), contextList.get(i)));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return results;
+    }
+
+    private ServiceDeployResult getResult(Future<Buffered<ServiceDeployResult>> future, WorkflowContext workflowContext)
+            throws InterruptedException {
+        try {
+            Buffered<ServiceDeployResult> buffered = future.get();
+            WorkflowLogger.flush(buffered.getOutput());
+            return buffered.getResult();
+        } catch (ExecutionException e) {
+            logger.error("Error while deploying app: {}, service: {}", appName, workflowContext.getServiceName(), e.getCause());
+            workflowContext.setFailed(true);
+            return new ServiceDeployResult(true, new JsonArray());
+        }
+    }
+
+    private ServiceDeployResult deployIsolated(WorkflowContext workflowContext, File serviceSpecFile) {
+        try {
+            return deployService(workflowContext, serviceSpecFile);
+        } catch (RuntimeException e) {
+            // Keep failure isolated to this service
+            logger.error("Error while deploying app: {}, service: {}", appName, workflowContext.getServiceName(), e);
+            workflowContext.setFailed(true);
+            return new ServiceDeployResult(true, new JsonArray());
+        }
+    }
 
-            workflowContext.addAttribute(WorkflowConstants.DEPLOY_START_TIME, System.currentTimeMillis());
-            SetupConfig.clearAbsolutePath();
-            SetupConfig.setAbsolutePath(serviceVsSpecFile.get(serviceName).getAbsoluteFile().getParent());
+    private ServiceDeployResult deployService(WorkflowContext workflowContext, File serviceSpecFile) {
+        String serviceName = workflowContext.getServiceName();
+        JsonArray serviceStatus = new JsonArray();
+        WorkflowLogger.header(ControllerActivity.SERVICE_NAME, serviceName);
+
+        workflowContext.addAttribute(WorkflowConstants.DEPLOY_START_TIME, System.currentTimeMillis());
+        SetupConfig.clearAbsolutePath();
+        SetupConfig.setAbsolutePath(serviceSpecFile.getAbsoluteFile().getParent());
+        try {
             workflowContext.addAttribute(WorkflowConstants.VERBOSE, verbose);
 
             // clean up service dir before dockerfileGen
             workflowContext.addAttribute(WorkflowConstants.CLEAN_UP_SERVICE_DIR, true);
 
-            executeInvoker(dockerfileGeneratorComponentInvoker, workflowContext);
+            executeInvoker(dockerfileGeneratorComponentInvoker, workflowContext, serviceStatus);
 
-            executeInvoker(imageBuildComponentInvoker, workflowContext);
+            executeInvoker(imageBuildComponentInvoker, workflowContext, serviceStatus);
 
-            executeInvoker(manifestGeneratorComponentInvoker, workflowContext);
+            executeInvoker(manifestGeneratorComponentInvoker, workflowContext, serviceStatus);
 
             if (!workflowContext.isFailed()) {
                 List<Manifest> manifestList = (List<Manifest>) workflowContext.getAttribute(WorkflowConstants.OUTPUT);
                 workflowContext.addAttribute(WorkflowConstants.GENERATED_MANIFESTS, manifestList);
                 WorkflowLogger.header(ControllerActivity.STARTING_DEPLOYMENT);
-                executeInvoker(deployComponentInvoker, workflowContext);
+                executeInvoker(deployComponentInvoker, workflowContext, serviceStatus);
             }
             logWorkflowInfo(workflowContext);
-            isCommandFailed = isCommandFailed ? isCommandFailed : workflowContext.isFailed();
-            if (WorkflowLogger.isDisabled() && !isCommandFailed) {
-                ServiceStatus serviceStatus = new ServiceStatus();
-                serviceStatus.setName(workflowContext.getServiceName());
-                if (workflowContext.getAttribute(WorkflowConstants.SERVICE_IP) != null) {
-                    serviceStatus.setMessage(workflowContext.getAttribute(WorkflowConstants.SERVICE_IP).toString());
-                }
-                JsonObject json = (JsonObject) jsonParser.parse(GsonProviderUtil.getPrettyGsonBuilder().toJson(serviceStatus));
-                jsonArr.add(json);
+        } finally {
+            if (parallelism > 1) {
+                SetupConfig.clearAbsolutePath();
             }
         }
-        if(WorkflowLogger.isDisabled()) {
-            StructuredOutputHandler.prepareOutput(WorkflowConstants.SERVICE_STATUS,jsonArr);
+        if (WorkflowLogger.isDisabled() && !workflowContext.isFailed()) {
+            ServiceStatus status = new ServiceStatus();
+            status.setName(serviceName);
+            if (workflowContext.getAttribute(WorkflowConstants.SERVICE_IP) != null) {
+                status.setMessage(workflowContext.getAttribute(WorkflowConstants.SERVICE_IP).toString());
+            }
+            serviceStatus.add(jsonParser.parse(GsonProviderUtil.getPrettyGsonBuilder().toJson(status)));
         }
-        return isCommandFailed ? ToolConstants.HYSCALE_ERROR_CODE : 0;
+        return new ServiceDeployResult(workflowContext.isFailed(), serviceStatus);
     }
 
-    private boolean executeInvoker(ComponentInvoker<WorkflowContext> invoker, WorkflowContext context) {
+    private boolean executeInvoker(ComponentInvoker<WorkflowContext> invoker, WorkflowContext context, JsonArray serviceStatusArr) {
         if (context.isFailed()) {
             return false;
         }
@@ -308,7 +395,7 @@ public class HyscaleDeployServiceCommand implements Callable<Integer> {
                 }
                 // Prepare K8s Error and set to serviceStatus.
                 JsonObject json = (JsonObject) jsonParser.parse(GsonProviderUtil.getPrettyGsonBuilder().toJson(serviceStatus));
-                jsonArr.add(json);
+                serviceStatusArr.add(json);
             }
         }
         return !context.isFailed();
@@ -340,4 +427,24 @@ public class HyscaleDeployServiceCommand implements Callable<Integer> {
     public void clear() {
         SetupConfig.clearAbsolutePath();
     }
+
+    static class ServiceDeployResult {
+
+        private final boolean failed;
+
+        private final JsonArray serviceStatus;
+
+        ServiceDeployResult(boolean failed, JsonArray serviceStatus) {
+            this.failed = failed;
+            this.serviceStatus = serviceStatus;
+        }
+
+        boolean isFailed() {
+            return failed;
+        }
+
+        JsonArray getServiceStatus() {
+            return serviceStatus;
+        }
+    }
 }
@@ -40,6 +40,7 @@ import com.github.srujankujmar.controller.invoker.StatusComponentInvoker;
 import com.github.srujankujmar.controller.model.WorkflowContext;
 import com.github.srujankujmar.controller.util.CommandUtil;
 import com.github.srujankujmar.controller.util.StatusUtil;
+import com.github.srujankujmar.controller.util.StatusWatcher;
 import com.github.srujankujmar.controller.validator.impl.ClusterValidator;
 import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
 import picocli.CommandLine.Command;
@@ -54,6 +55,7 @@ import picocli.CommandLine.Option;
  * <p>
  * Fetches the deployment status {@link DeploymentStatus} of each service in the app
  * Displays app data in a table format to the user.
+ * With --watch the table is kept up to date as resources change, till interrupted
  * @see HyscaleGetAppsCommand
  * Every command/sub-command has to implement the {@link Callable} so that
  * whenever the command is executed the {@link #call()}
@@ -75,6 +77,9 @@ public class HyscaleAppStatusCommand implements Callable<Integer> {
     @Option(names = {"-a", "--app"}, required = true, description = "Application name.")
     private String appName;
 
+    @Option(names = {"-w", "--watch"}, required = false, description = "Watch status till interrupted")
+    private boolean watch = false;
+
     @Autowired
     private ClusterValidator clusterValidator;
 
@@ -84,6 +89,9 @@ public class HyscaleAppStatusCommand implements Callable<Integer> {
     @Autowired
     private K8sAuthConfigBuilder authConfigBuilder;
 
+    @Autowired
+    private StatusWatcher statusWatcher;
+
     @Override
     public Integer call() throws Exception {
         if (!CommandUtil.isInputValid(this)) {
@@ -98,6 +106,11 @@ public class HyscaleAppStatusCommand implements Callable<Integer> {
             WorkflowLogger.logPersistedActivities();
             return ToolConstants.INVALID_INPUT_ERROR_CODE;
         }
+        if (watch) {
+            WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
+            statusWatcher.watch(context, null);
+            return ToolConstants.HYSCALE_SUCCESS_CODE;
+        }
         WorkflowLogger.info(ControllerActivity.WAITING_FOR_SERVICE_STATUS);
 
         WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
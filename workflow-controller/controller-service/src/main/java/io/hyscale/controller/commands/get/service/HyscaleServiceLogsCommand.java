@@ -48,6 +48,8 @@ import picocli.CommandLine.Option;
  *  serviceName - name of the service
  *  namespace - namespace in which the app is deployed
  *  appName - name of the app
+ *  replica - name of the replica to fetch logs from
+ *  all-replicas - enable this option to fetch logs from all replicas
  *  tail - enable this option to tail the logs
  *  line - last 'n' number of lines are retrieved from the service
  * <p>
@@ -84,6 +86,9 @@ public class HyscaleServiceLogsCommand implements Callable<Integer> {
     @Option(names = {"-r", "--replica"}, required = false, description = "Replica name")
     private String replicaName;
 
+    @Option(names = {"--all-replicas"}, required = false, description = "Logs of all the replicas, each line prefixed with replica and container name")
+    private boolean allReplicas = false;
+
     @Option(names = {"-t", "--tail"}, required = false, description = "Tail output of the service logs")
     private boolean tail = false;
 
@@ -110,6 +115,7 @@ public class HyscaleServiceLogsCommand implements Callable<Integer> {
         workflowContext.addAttribute(WorkflowConstants.TAIL_LOGS, tail);
         workflowContext.addAttribute(WorkflowConstants.LINES, line);
         workflowContext.addAttribute(WorkflowConstants.REPLICA_NAME, replicaName);
+        workflowContext.addAttribute(WorkflowConstants.ALL_REPLICAS, allReplicas);
 
         if (!clusterValidator.validate(workflowContext)) {
             WorkflowLogger.logPersistedActivities();
@@ -28,6 +28,7 @@ import com.github.srujankujmar.controller.invoker.StatusComponentInvoker;
 import com.github.srujankujmar.controller.model.WorkflowContext;
 import com.github.srujankujmar.controller.util.CommandUtil;
 import com.github.srujankujmar.controller.util.StatusUtil;
+import com.github.srujankujmar.controller.util.StatusWatcher;
 import com.github.srujankujmar.controller.validator.impl.ClusterValidator;
 
 import org.slf4j.Logger;
@@ -59,6 +60,7 @@ import picocli.CommandLine.Option;
  * The service status has been abstracted over the pod status,see {@link DeploymentStatus},
  * gives the information about service and the failure message when it is in
  * NotRunning status.
+ * With --watch the table is kept up to date as resources change, till interrupted
  * @see HyscaleGetServiceCommand .
  * Every command/sub-command has to implement the {@link Callable} so that
  * whenever the command is executed the {@link #call()}
@@ -85,6 +87,9 @@ public class HyscaleServiceStatusCommand implements Callable<Integer> {
             @Pattern(regexp = ValidationConstants.SERVICE_NAME_REGEX, message = ValidationConstants.INVALID_SERVICE_NAME_MSG)
                     String> serviceList;
 
+    @Option(names = {"-w", "--watch"}, required = false, description = "Watch status till interrupted")
+    private boolean watch = false;
+
     @Autowired
     private ClusterValidator clusterValidator;
 
@@ -94,6 +99,9 @@ public class HyscaleServiceStatusCommand implements Callable<Integer> {
     @Autowired
     private K8sAuthConfigBuilder authConfigBuilder;
 
+    @Autowired
+    private StatusWatcher statusWatcher;
+
     @Override
     public Integer call() throws Exception {
 
@@ -112,6 +120,12 @@ public class HyscaleServiceStatusCommand implements Callable<Integer> {
             contextList.add(context);
         }
 
+        if (watch) {
+            WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
+            statusWatcher.watch(contextList.get(0), serviceList);
+            return ToolConstants.HYSCALE_SUCCESS_CODE;
+        }
+
         WorkflowLogger.info(ControllerActivity.WAITING_FOR_SERVICE_STATUS);
 
         WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
@@ -67,6 +67,8 @@ public class WorkflowConstants {
 	
 	public static final String REPLICA_NAME = "REPLICA_NAME";
 
+	public static final String ALL_REPLICAS = "ALL_REPLICAS";
+
 	public static final String ERROR_MESSAGE = "ERROR_MESSAGE";
 
 	public static final String SERVICE_STATUS = "serviceStatus";
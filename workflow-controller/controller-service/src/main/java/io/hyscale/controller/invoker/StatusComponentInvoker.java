@@ -17,6 +17,12 @@ package com.github.srujankujmar.controller.invoker;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -35,10 +41,12 @@ import com.github.srujankujmar.controller.model.WorkflowContext;
 import com.github.srujankujmar.controller.util.TroubleshootUtil;
 import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
 import com.github.srujankujmar.deployer.services.deployer.Deployer;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
 import com.github.srujankujmar.troubleshooting.integration.actions.ServiceNotDeployedAction;
 import com.github.srujankujmar.troubleshooting.integration.models.DiagnosisReport;
 import com.github.srujankujmar.troubleshooting.integration.models.TroubleshootingContext;
 import com.github.srujankujmar.troubleshooting.integration.service.TroubleshootService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * ServiceStatus component acts as a bridge between workflow controller and deployer for status operation
@@ -52,6 +60,9 @@ public class StatusComponentInvoker extends ComponentInvoker<WorkflowContext> {
     
     private static final Logger logger = LoggerFactory.getLogger(StatusComponentInvoker.class);
 
+    private static final ExecutorService statusExecutor = Executors.newFixedThreadPool(8,
+            new ThreadFactoryBuilder().setNameFormat("service-status-%d").setDaemon(true).build());
+
     @Autowired
     private Deployer deployer;
     
@@ -80,28 +91,37 @@ public class StatusComponentInvoker extends ComponentInvoker<WorkflowContext> {
             context.addAttribute(WorkflowConstants.DEPLOYMENT_STATUS, serviceStatus);
             return;
         }
-        // App status command
-        List<DeploymentStatus> deploymentStatusList = deployer.getDeploymentStatus(deploymentContext);
+        // App status command, services are evaluated against a single snapshot of the app resources
+        ResourceSnapshot snapshot = deployer.getResourceSnapshot(deploymentContext);
+        List<DeploymentStatus> deploymentStatusList = deployer.getDeploymentStatus(snapshot);
         if (deploymentStatusList != null) {
-            for (DeploymentStatus serviceStatus : deploymentStatusList) {
-                if (serviceStatus != null) {
-                    serviceStatus.setMessage(getServiceMessage(serviceStatus, deploymentContext));
-                }
-            }
+            List<CompletableFuture<Void>> messageFutures = deploymentStatusList.stream().filter(Objects::nonNull)
+                    .map(serviceStatus -> CompletableFuture.runAsync(() -> serviceStatus.setMessage(getServiceMessage(
+                            serviceStatus, () -> troubleshoot(deploymentContext.getAppName(), serviceStatus.getServiceName(), snapshot))),
+                            statusExecutor))
+                    .collect(Collectors.toList());
+            messageFutures.forEach(CompletableFuture::join);
             context.addAttribute(WorkflowConstants.DEPLOYMENT_STATUS_LIST, deploymentStatusList);
         }
         
     }
     
-    private String getServiceMessage(DeploymentStatus serviceStatus, DeploymentContext context) {
+    /**
+     * @param serviceStatus
+     * @param context app and namespace of the service
+     * @return troubleshooting message for the service status, service is troubleshot against the cluster
+     */
+    public String getServiceMessage(DeploymentStatus serviceStatus, DeploymentContext context) {
+        if (serviceStatus == null) {
+            return null;
+        }
+        return getServiceMessage(serviceStatus, () -> troubleshoot(context, serviceStatus.getServiceName()));
+    }
+    
+    private String getServiceMessage(DeploymentStatus serviceStatus, Supplier<List<DiagnosisReport>> troubleshooter) {
         if (serviceStatus == null) {
             return null;
         }
-        /*
-         * Fetch service name from service status as
-         * context can have the previous service name in case of app deploy
-         */
-        context.setServiceName(serviceStatus.getServiceName());
         List<DiagnosisReport> diagnosisReports = null;
         if (!DeploymentStatus.ServiceStatus.SCALING_DOWN.equals(serviceStatus.getServiceStatus())) {
             if (DeploymentStatus.ServiceStatus.NOT_DEPLOYED.equals(serviceStatus.getServiceStatus())) {
@@ -109,21 +129,33 @@ public class StatusComponentInvoker extends ComponentInvoker<WorkflowContext> {
                 serviceNotDeployedAction.process(toubleshootingContext);
                 diagnosisReports = toubleshootingContext.getDiagnosisReports();
             } else if (!DeploymentStatus.ServiceStatus.RUNNING.equals(serviceStatus.getServiceStatus())) {
-                diagnosisReports = troubleshoot(context);
+                diagnosisReports = troubleshooter.get();
             }
         }
         return TroubleshootUtil.getTroubleshootMessage(diagnosisReports);
     }
     
-    private List<DiagnosisReport> troubleshoot(DeploymentContext deploymentContext) {
+    private List<DiagnosisReport> troubleshoot(DeploymentContext deploymentContext, String serviceName) {
         ServiceMetadata serviceMetadata = new ServiceMetadata();
         serviceMetadata.setAppName(deploymentContext.getAppName());
-        serviceMetadata.setServiceName(deploymentContext.getServiceName());
+        serviceMetadata.setServiceName(serviceName);
         try {
             return troubleshootService.troubleshoot(serviceMetadata, (K8sAuthorisation) deploymentContext.getAuthConfig(), 
                     deploymentContext.getNamespace());
         } catch (HyscaleException e) {
-            logger.error("Error while executing troubleshooot serice {}",deploymentContext.getServiceName(), e);
+            logger.error("Error while executing troubleshooot serice {}", serviceName, e);
+        }
+        return Collections.emptyList();
+    }
+    
+    private List<DiagnosisReport> troubleshoot(String appName, String serviceName, ResourceSnapshot snapshot) {
+        ServiceMetadata serviceMetadata = new ServiceMetadata();
+        serviceMetadata.setAppName(appName);
+        serviceMetadata.setServiceName(serviceName);
+        try {
+            return troubleshootService.troubleshoot(serviceMetadata, snapshot);
+        } catch (HyscaleException e) {
+            logger.error("Error while executing troubleshooot serice {}", serviceName, e);
         }
         return Collections.emptyList();
     }
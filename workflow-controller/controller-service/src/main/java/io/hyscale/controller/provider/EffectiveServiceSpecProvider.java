@@ -29,7 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import com.github.srujankujmar.commons.exception.HyscaleException;
 import com.github.srujankujmar.commons.io.HyscaleFilesUtil;
@@ -98,29 +98,27 @@ public class EffectiveServiceSpecProvider {
             Map<String, Entry<String, File>> serviceVsProfile) throws HyscaleException {
 
         List<EffectiveServiceSpec> effectiveServiceSpecList = new ArrayList<>();
-        ObjectMapper mapper = null;
 
         for (File serviceSpecFile : serviceSpecFiles) {
             EffectiveServiceSpec effectiveServiceSpec = new EffectiveServiceSpec();
             ServiceMetadata serviceMetadata = new ServiceMetadata();
             effectiveServiceSpec.setServiceMetadata(serviceMetadata);
-            mapper = ObjectMapperFactory.yamlMapper();
             String serviceName = ServiceSpecUtil.getServiceName(serviceSpecFile);
             serviceMetadata.setServiceName(serviceName);
             Entry<String, File> profileDetail = serviceVsProfile.remove(serviceName);
             String serviceSpecData = HyscaleFilesUtil.readFileData(serviceSpecFile);
+            JsonNode serviceSpecNode = null;
             if (profileDetail != null) {
                 String profileName = profileDetail.getKey();
                 serviceMetadata.setEnvName(profileName);
                 File profileFile = profileDetail.getValue();
                 WorkflowLogger.startActivity(ControllerActivity.APPLYING_PROFILE_FOR_SERVICE, profileName, serviceName);
-                mapper = ObjectMapperFactory.jsonMapper();
                 try {
                     MapFieldDataProvider mapFieldDataProvider = new MapFieldDataProvider();
-                    // Merge
-                    serviceSpecData = new EffectiveServiceSpecBuilder().type(ServiceInputType.YAML)
+                    // Merge parsed trees
+                    serviceSpecNode = new EffectiveServiceSpecBuilder().type(ServiceInputType.YAML)
                             .withServiceSpec(serviceSpecData).withProfile(HyscaleFilesUtil.readFileData(profileFile))
-                            .withFieldMetaDataProvider(mapFieldDataProvider).build();
+                            .withFieldMetaDataProvider(mapFieldDataProvider).buildTree();
                     WorkflowLogger.endActivity(Status.DONE);
                 } catch (HyscaleException e) {
                     logger.error("Error while applying profile {} for service {}", profileName, serviceName, e);
@@ -132,7 +130,10 @@ public class EffectiveServiceSpecProvider {
                 serviceMetadata.setEnvName(WorkflowConstants.DEV_ENV);
             }
             try {
-                effectiveServiceSpec.setServiceSpec(new ServiceSpec(mapper.readTree(serviceSpecData)));
+                if (serviceSpecNode == null) {
+                    serviceSpecNode = ObjectMapperFactory.yamlMapper().readTree(serviceSpecData);
+                }
+                effectiveServiceSpec.setServiceSpec(new ServiceSpec(serviceSpecNode));
                 effectiveServiceSpecList.add(effectiveServiceSpec);
             } catch (IOException e) {
                 logger.error("Error while processing service spec ", e);
@@ -72,6 +72,7 @@ public class LoggerUtility {
      * In case user doesn't provide a replica, and there are more than 1 replica
      * user is prompted to choose from the available replicas.
      * Chosen replica logs are shown to the user.
+     * When all replicas are requested, logs of all the replicas are streamed together.
      *
      * @param context
      * @throws HyscaleException
@@ -85,11 +86,13 @@ public class LoggerUtility {
         Boolean isTail = (Boolean) context.getAttribute(WorkflowConstants.TAIL_LOGS);
         isTail = (isTail == null) ? false : isTail;
         Integer lines = (Integer) context.getAttribute(WorkflowConstants.LINES);
+        boolean allReplicas = Boolean.TRUE.equals(context.getAttribute(WorkflowConstants.ALL_REPLICAS));
         AuthConfig authConfig = context.getAuthConfig();
 
         String selectedPod = null;
         try {
-            selectedPod = validateAndGetReplicaName(authConfig, appName, serviceName, replicaName, namespace);
+            selectedPod = validateAndGetReplicaName(authConfig, appName, serviceName, allReplicas ? null : replicaName,
+                    namespace, allReplicas);
         } catch (HyscaleException e) {
             context.setFailed(true);
             WorkflowLogger.error(ControllerActivity.CAUSE, e.getMessage());
@@ -101,7 +104,9 @@ public class LoggerUtility {
         }
         try {
             WorkflowLogger.header(ControllerActivity.SERVICE_LOGS, selectedPod);
-            deployerLogUtil.processLogs(authConfig, appName, serviceName, selectedPod, namespace, lines, isTail);
+            // Pod is resolved by deployer for all replicas
+            deployerLogUtil.processLogs(authConfig, appName, serviceName, allReplicas ? null : selectedPod, namespace,
+                    lines, isTail);
         } catch (HyscaleException ex) {
             logger.error("Error while getting deployment logs for service: {}, in namespace: {}", serviceName,
                     namespace, ex);
@@ -125,6 +130,7 @@ public class LoggerUtility {
      * 2. Replica name not provided by user
      *      a. If single replica, return replica name
      *      b. else prompt user to provide replica name
+     * 3. All replicas requested, return names of all the replicas
      * </b>
      *
      * @param authConfig
@@ -132,11 +138,12 @@ public class LoggerUtility {
      * @param serviceName
      * @param replicaName
      * @param namespace
+     * @param allReplicas
      * @return replica name
      * @throws HyscaleException
      */
     private String validateAndGetReplicaName(AuthConfig authConfig, String appName, String serviceName, String replicaName,
-                                             String namespace) throws HyscaleException {
+                                             String namespace, boolean allReplicas) throws HyscaleException {
 
         // Fetch latest replicas of the given service & app in the namespace
         // if replica is not provided by the user , validation happens on all the replicas of that service
@@ -153,6 +160,12 @@ public class LoggerUtility {
             return null;
         }
 
+        if (allReplicas) {
+            StringBuilder pods = new StringBuilder();
+            replicaInfoList.stream().filter(Objects::nonNull).forEach(each -> pods.append(each.getName() + ", "));
+            return HyscaleStringUtil.removeSuffixStr(pods, ", ");
+        }
+
         // Replica is not provided by the user
         if (replicaName == null) {
             ReplicaInfo replicaInfo = null;
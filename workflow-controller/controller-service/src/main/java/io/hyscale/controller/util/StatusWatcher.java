@@ -0,0 +1,221 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.controller.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.logger.TableFields;
+import com.github.srujankujmar.commons.logger.TableFormatter;
+import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.DeploymentContext;
+import com.github.srujankujmar.controller.activity.ControllerActivity;
+import com.github.srujankujmar.controller.builder.DeploymentContextBuilder;
+import com.github.srujankujmar.controller.invoker.StatusComponentInvoker;
+import com.github.srujankujmar.controller.model.WorkflowContext;
+import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
+import com.github.srujankujmar.deployer.services.deployer.Deployer;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+import com.github.srujankujmar.deployer.services.util.DeploymentStatusUtil;
+import com.github.srujankujmar.deployer.services.watch.ResourceSnapshotInformer;
+
+/**
+ * Watches status of services through informers and re-renders the status table on change.
+ * Table is redrawn in place on a terminal, otherwise only changed rows are printed.
+ * Troubleshooting message of a service is refreshed only when its status changes
+ */
+@Component
+public class StatusWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusWatcher.class);
+
+    private static final long REFRESH_INTERVAL_IN_MILLIS = 1000;
+
+    private static final String CURSOR_UP = "\033[%dA";
+
+    private static final String CLEAR_TO_END = "\033[J";
+
+    @Autowired
+    private Deployer deployer;
+
+    @Autowired
+    private DeploymentContextBuilder deploymentContextBuilder;
+
+    @Autowired
+    private StatusComponentInvoker statusComponentInvoker;
+
+    /**
+     * Watches status till interrupted
+     *
+     * @param context app, namespace and cluster to watch
+     * @param serviceNames services to display, all services of the app if null
+     * @throws HyscaleException if watch could not be started
+     */
+    public void watch(WorkflowContext context, List<String> serviceNames) throws HyscaleException {
+        DeploymentContext deploymentContext = deploymentContextBuilder.build(context);
+        deploymentContext.setWaitForReadiness(false);
+        Consumer<ResourceSnapshot> statusRenderer = new StatusRenderer(deploymentContext, serviceNames,
+                System.console() != null)::render;
+        WorkflowLogger.info(ControllerActivity.WATCHING_SERVICE_STATUS);
+        ResourceSnapshotInformer informer = deployer.watchResourceSnapshot(deploymentContext,
+                REFRESH_INTERVAL_IN_MILLIS, statusRenderer);
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            informer.stop();
+        }
+    }
+
+    /**
+     * Invoked serially by the informer
+     */
+    class StatusRenderer {
+
+        private final DeploymentContext deploymentContext;
+
+        private final List<String> serviceNames;
+
+        private final boolean interactive;
+
+        private final Map<String, DeploymentStatus.ServiceStatus> serviceVsStatus = new HashMap<>();
+
+        private final Map<String, String> serviceVsMessage = new HashMap<>();
+
+        private Map<String, String[]> renderedRows;
+
+        private int renderedLines;
+
+        /**
+         * @param interactive redraws the table in place when true, otherwise prints changed rows
+         */
+        StatusRenderer(DeploymentContext deploymentContext, List<String> serviceNames, boolean interactive) {
+            this.deploymentContext = deploymentContext;
+            this.serviceNames = serviceNames;
+            this.interactive = interactive;
+        }
+
+        void render(ResourceSnapshot snapshot) {
+            List<DeploymentStatus> deploymentStatusList;
+            try {
+                deploymentStatusList = getDeploymentStatus(snapshot);
+            } catch (HyscaleException e) {
+                logger.error("Error while getting status of app {} in namespace {}", deploymentContext.getAppName(),
+                        deploymentContext.getNamespace(), e);
+                return;
+            }
+            boolean isLarge = false;
+            Map<String, String[]> rows = new LinkedHashMap<>();
+            for (DeploymentStatus deploymentStatus : deploymentStatusList) {
+                deploymentStatus.setMessage(getMessage(deploymentStatus));
+                if (StringUtils.isNotBlank(deploymentStatus.getServiceAddress())) {
+                    isLarge = isLarge || deploymentStatus.getServiceAddress().length() > TableFields.SERVICE_ADDRESS.getLength();
+                }
+                rows.put(deploymentStatus.getServiceName(), StatusUtil.getRowData(deploymentStatus));
+            }
+            if (renderedRows != null && isSame(rows, renderedRows)) {
+                return;
+            }
+            TableFormatter table = StatusUtil.getStatusTable(isLarge);
+            if (interactive) {
+                redraw(table, rows);
+            } else {
+                printChanges(table, rows);
+            }
+            renderedRows = rows;
+        }
+
+        private List<DeploymentStatus> getDeploymentStatus(ResourceSnapshot snapshot) throws HyscaleException {
+            List<DeploymentStatus> deploymentStatusList = deployer.getDeploymentStatus(snapshot);
+            if (serviceNames == null) {
+                return deploymentStatusList.stream()
+                        .sorted(Comparator.comparing(DeploymentStatus::getServiceName, Comparator.nullsLast(String::compareTo)))
+                        .collect(Collectors.toList());
+            }
+            Map<String, DeploymentStatus> serviceVsDeploymentStatus = new HashMap<>();
+            deploymentStatusList.forEach(each -> serviceVsDeploymentStatus.putIfAbsent(each.getServiceName(), each));
+            List<DeploymentStatus> selectedStatusList = new ArrayList<>();
+            for (String serviceName : serviceNames) {
+                DeploymentStatus deploymentStatus = serviceVsDeploymentStatus.get(serviceName);
+                selectedStatusList.add(deploymentStatus != null ? deploymentStatus
+                        : DeploymentStatusUtil.getNotDeployedStatus(serviceName));
+            }
+            return selectedStatusList;
+        }
+
+        private String getMessage(DeploymentStatus deploymentStatus) {
+            String serviceName = deploymentStatus.getServiceName();
+            DeploymentStatus.ServiceStatus serviceStatus = deploymentStatus.getServiceStatus();
+            if (serviceVsMessage.containsKey(serviceName) && serviceStatus == serviceVsStatus.get(serviceName)) {
+                return serviceVsMessage.get(serviceName);
+            }
+            String message = statusComponentInvoker.getServiceMessage(deploymentStatus, deploymentContext);
+            serviceVsStatus.put(serviceName, serviceStatus);
+            serviceVsMessage.put(serviceName, message);
+            return message;
+        }
+
+        @SuppressWarnings("java:S106")
+        private void redraw(TableFormatter table, Map<String, String[]> rows) {
+            rows.values().forEach(table::addRow);
+            String output = table.toString();
+            StringBuilder screen = new StringBuilder();
+            if (renderedLines > 0) {
+                screen.append(String.format(CURSOR_UP, renderedLines)).append(CLEAR_TO_END);
+            }
+            screen.append(output);
+            System.out.print(screen);
+            System.out.flush();
+            renderedLines = StringUtils.countMatches(output, '\n');
+        }
+
+        private void printChanges(TableFormatter table, Map<String, String[]> rows) {
+            if (renderedRows == null) {
+                WorkflowLogger.logTableFields(table);
+            }
+            rows.forEach((serviceName, row) -> {
+                String[] renderedRow = renderedRows != null ? renderedRows.get(serviceName) : null;
+                if (!Arrays.equals(row, renderedRow)) {
+                    WorkflowLogger.logTableRow(table, row);
+                }
+            });
+        }
+
+        private boolean isSame(Map<String, String[]> rows, Map<String, String[]> otherRows) {
+            if (rows.size() != otherRows.size()) {
+                return false;
+            }
+            return rows.entrySet().stream()
+                    .allMatch(entry -> Arrays.equals(entry.getValue(), otherRows.get(entry.getKey())));
+        }
+    }
+}
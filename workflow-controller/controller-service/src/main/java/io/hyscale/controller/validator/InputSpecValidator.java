@@ -16,9 +16,15 @@
 package com.github.srujankujmar.controller.validator;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.github.srujankujmar.commons.exception.CommonErrorCode;
+import com.github.srujankujmar.commons.logger.Buffered;
 import com.github.srujankujmar.commons.logger.LoggerTags;
 import com.github.srujankujmar.commons.utils.WindowsUtil;
 import com.github.srujankujmar.controller.activity.ControllerActivity;
@@ -32,9 +38,11 @@ import com.github.srujankujmar.commons.logger.WorkflowLogger;
 import com.github.srujankujmar.commons.models.Activity;
 import com.github.srujankujmar.commons.validator.Validator;
 import com.github.srujankujmar.controller.util.ValidatorMessageHandler;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Ensures validators are called for all the input files even if some fails validation
+ * Input files are validated concurrently
  *
  * @author tushar
  */
@@ -42,6 +50,10 @@ public abstract class InputSpecValidator implements Validator<List<File>> {
 
     private static final Logger logger = LoggerFactory.getLogger(InputSpecValidator.class);
 
+    private static final ExecutorService validationExecutor = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder().setNameFormat("spec-validator-%d").setDaemon(true).build());
+
     @Override
     public boolean validate(List<File> inputSpecFiles) throws HyscaleException {
         logger.debug("Running validator: {}", this.getClass());
@@ -51,20 +63,67 @@ public abstract class InputSpecValidator implements Validator<List<File>> {
         boolean isInvalid = false;
         boolean isFailed = false;
         StringBuilder exceptionMsgBuilder = new StringBuilder().append(": \n");
-        for (File inputSpecFile : inputSpecFiles) {
-            try {
-                if (!validateFile(inputSpecFile) || !getSchemaValidator().validate(inputSpecFile)) {
-                    isInvalid = true;
-                }
-            } catch (HyscaleException e) {
+        for (SpecValidationResult result : validateSpecFiles(inputSpecFiles)) {
+            if (result.exception != null) {
                 isFailed = true;
-                exceptionMsgBuilder.append(e.getMessage()).append(ToolConstants.NEW_LINE);
+                exceptionMsgBuilder.append(result.exception.getMessage()).append(ToolConstants.NEW_LINE);
+            } else if (!result.valid) {
+                isInvalid = true;
             }
         }
         ValidatorMessageHandler.handleErrMsg(exceptionMsgBuilder, isInvalid, isFailed);
         return !isInvalid;
     }
-    
+
+    /**
+     * Validates files concurrently, output of each file is written in the order of files
+     */
+    private List<SpecValidationResult> validateSpecFiles(List<File> inputSpecFiles) {
+        List<SpecValidationResult> results = new ArrayList<>();
+        if (inputSpecFiles.size() == 1) {
+            results.add(validateSpecFile(inputSpecFiles.get(0)));
+            return results;
+        }
+        List<Future<Buffered<SpecValidationResult>>> futures = new ArrayList<>();
+        for (File inputSpecFile : inputSpecFiles) {
+            futures.add(validationExecutor.submit(() -> WorkflowLogger.callBuffered(() -> validateSpecFile(inputSpecFile))));
+        }
+        RuntimeException failure = null;
+        for (Future<Buffered<SpecValidationResult>> future : futures) {
+            try {
+                Buffered<SpecValidationResult> buffered = future.get();
+                WorkflowLogger.flush(buffered.getOutput());
+                if (buffered.getFailure() == null) {
+                    results.add(buffered.getResult());
+                } else if (failure == null) {
+                    failure = buffered.getFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new SpecValidationResult(new HyscaleException(e,
+                        CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION, e.getMessage())));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        // Output of all files is written before the failure
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private SpecValidationResult validateSpecFile(File inputSpecFile) {
+        try {
+            return new SpecValidationResult(validateFile(inputSpecFile) && getSchemaValidator().validate(inputSpecFile));
+        } catch (HyscaleException e) {
+            return new SpecValidationResult(e);
+        }
+    }
+
     private boolean validateFile(File inputFile) throws HyscaleException {
         logger.debug("Running Validator {}", getClass());
         if (inputFile == null) {
@@ -117,4 +176,21 @@ public abstract class InputSpecValidator implements Validator<List<File>> {
 
     protected abstract String getFilePattern();
 
+    private static class SpecValidationResult {
+
+        private final boolean valid;
+
+        private final HyscaleException exception;
+
+        SpecValidationResult(boolean valid) {
+            this.valid = valid;
+            this.exception = null;
+        }
+
+        SpecValidationResult(HyscaleException exception) {
+            this.valid = false;
+            this.exception = exception;
+        }
+    }
+
 }
@@ -61,16 +61,15 @@ public abstract class SpecSchemaValidator implements Validator<File> {
     public boolean validate(File specFile) throws HyscaleException {
         String fileName = specFile.getName();
         ProcessingReport processingReport;
-        String jsonData = null;
+        JsonNode specNode = null;
         try {
-            jsonData = DataFormatConverter.yamlToJson(specFile);
+            specNode = DataFormatConverter.yamlToJsonNode(specFile);
         } catch (HyscaleException e) {
             WorkflowLogger.persist(getActivity(), LoggerTags.ERROR, fileName, ERROR_MESSAGE);
             throw new HyscaleException(e.getHyscaleError(), ToolConstants.SCHEMA_VALIDATION_FAILURE_ERROR_CODE);
         }
         try {
-            processingReport = schemaValidator.validateSpec(jsonData,
-                    getReferenceSchemaType());
+            processingReport = schemaValidator.validateSpec(specNode, getReferenceSchemaType());
         } catch (HyscaleException e) {
             WorkflowLogger.persist(getActivity(), LoggerTags.ERROR, fileName, e.getMessage());
             throw new HyscaleException(e.getHyscaleError(), ToolConstants.SCHEMA_VALIDATION_FAILURE_ERROR_CODE);
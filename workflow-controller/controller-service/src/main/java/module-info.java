@@ -41,6 +41,7 @@ module controller.service {
     requires info.picocli;
     requires json.schema.core;
     requires com.google.gson;
+    requires com.google.common;
     requires prettytime;
     requires client.java.api;
     requires client.java;
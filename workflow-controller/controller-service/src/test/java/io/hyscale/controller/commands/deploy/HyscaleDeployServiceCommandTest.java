@@ -0,0 +1,123 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.controller.commands.deploy;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.srujankujmar.commons.logger.BufferedOutput;
+import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.controller.commands.deploy.HyscaleDeployServiceCommand.ServiceDeployResult;
+import com.github.srujankujmar.controller.invoker.DeployComponentInvoker;
+import com.github.srujankujmar.controller.invoker.DockerfileGeneratorComponentInvoker;
+import com.github.srujankujmar.controller.invoker.ImageBuildComponentInvoker;
+import com.github.srujankujmar.controller.invoker.ManifestGeneratorComponentInvoker;
+import com.github.srujankujmar.controller.model.WorkflowContext;
+import com.github.srujankujmar.controller.model.WorkflowContextBuilder;
+
+public class HyscaleDeployServiceCommandTest {
+
+    private static final List<String> SERVICES = Arrays.asList("web", "db", "cache", "queue");
+
+    private static final String FAILING_SERVICE = "db";
+
+    @Mock
+    private DockerfileGeneratorComponentInvoker dockerfileGeneratorComponentInvoker;
+
+    @Mock
+    private ImageBuildComponentInvoker imageBuildComponentInvoker;
+
+    @Mock
+    private ManifestGeneratorComponentInvoker manifestGeneratorComponentInvoker;
+
+    @Mock
+    private DeployComponentInvoker deployComponentInvoker;
+
+    @InjectMocks
+    private HyscaleDeployServiceCommand deployServiceCommand;
+
+    private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void initMocks() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        // Services listed first take the longest, so they complete last
+        doAnswer(invocation -> {
+            WorkflowContext context = invocation.getArgument(0);
+            threadNames.add(Thread.currentThread().getName());
+            Thread.sleep(50L * (SERVICES.size() - SERVICES.indexOf(context.getServiceName())));
+            if (FAILING_SERVICE.equals(context.getServiceName())) {
+                throw new IllegalStateException("Image build failed");
+            }
+            return null;
+        }).when(imageBuildComponentInvoker).execute(any(WorkflowContext.class));
+        ReflectionTestUtils.setField(deployServiceCommand, "appName", "app");
+        ReflectionTestUtils.setField(deployServiceCommand, "parallelism", SERVICES.size());
+    }
+
+    @Test
+    public void testParallelDeployKeepsOrder() throws InterruptedException {
+        List<WorkflowContext> contextList = new ArrayList<>();
+        Map<String, File> serviceVsSpecFile = new HashMap<>();
+        for (String service : SERVICES) {
+            contextList.add(new WorkflowContextBuilder("app").withServiceName(service).get());
+            serviceVsSpecFile.put(service, new File(service + ".hspec"));
+        }
+
+        WorkflowLogger.startBuffering();
+        List<ServiceDeployResult> results;
+        BufferedOutput output;
+        try {
+            results = deployServiceCommand.deployServices(contextList, serviceVsSpecFile);
+        } finally {
+            output = WorkflowLogger.stopBuffering();
+        }
+
+        // Failure stays with its service, the others are deployed
+        Assertions.assertEquals(Arrays.asList(false, true, false, false),
+                results.stream().map(ServiceDeployResult::isFailed).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList(false, true, false, false),
+                contextList.stream().map(WorkflowContext::isFailed).collect(Collectors.toList()));
+
+        Assertions.assertTrue(threadNames.stream().allMatch(name -> name.startsWith("deploy-service-")));
+
+        // Output of each service is written whole, in the order of services
+        String logs = output.getOutput();
+        int previous = -1;
+        for (String service : SERVICES) {
+            int index = logs.indexOf(service);
+            Assertions.assertTrue(index > previous, service + " output out of order");
+            previous = index;
+        }
+    }
+}
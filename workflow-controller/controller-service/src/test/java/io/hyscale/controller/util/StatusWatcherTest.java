@@ -0,0 +1,160 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.srujankujmar.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.github.srujankujmar.commons.exception.HyscaleException;
+import com.github.srujankujmar.commons.logger.TableFields;
+import com.github.srujankujmar.commons.logger.WorkflowLogger;
+import com.github.srujankujmar.commons.models.DeploymentContext;
+import com.github.srujankujmar.controller.invoker.StatusComponentInvoker;
+import com.github.srujankujmar.deployer.core.model.DeploymentStatus;
+import com.github.srujankujmar.deployer.core.model.DeploymentStatus.ServiceStatus;
+import com.github.srujankujmar.deployer.services.deployer.Deployer;
+import com.github.srujankujmar.deployer.services.model.ResourceSnapshot;
+
+public class StatusWatcherTest {
+
+    private static final ResourceSnapshot SNAPSHOT = new ResourceSnapshot("dev");
+
+    @Mock
+    private Deployer deployer;
+
+    @Mock
+    private StatusComponentInvoker statusComponentInvoker;
+
+    @InjectMocks
+    private StatusWatcher statusWatcher;
+
+    private final Map<String, ServiceStatus> serviceVsStatus = new LinkedHashMap<>();
+
+    @BeforeEach
+    public void initMocks() throws HyscaleException {
+        MockitoAnnotations.initMocks(this);
+        serviceVsStatus.put("web", ServiceStatus.RUNNING);
+        serviceVsStatus.put("db", ServiceStatus.NOT_RUNNING);
+        // Each snapshot gives new status objects as the deployer does
+        when(deployer.getDeploymentStatus(SNAPSHOT)).thenAnswer(invocation -> serviceVsStatus.entrySet().stream()
+                .map(entry -> {
+                    DeploymentStatus deploymentStatus = new DeploymentStatus();
+                    deploymentStatus.setServiceName(entry.getKey());
+                    deploymentStatus.setServiceStatus(entry.getValue());
+                    return deploymentStatus;
+                }).collect(Collectors.toList()));
+        when(statusComponentInvoker.getServiceMessage(any(DeploymentStatus.class), any(DeploymentContext.class)))
+                .thenAnswer(invocation -> "Troubleshoot " + invocation.<DeploymentStatus>getArgument(0).getServiceStatus());
+    }
+
+    @Test
+    public void testMessageRefreshedOnStatusChange() {
+        StatusWatcher.StatusRenderer renderer = getRenderer(false);
+        render(renderer);
+        render(renderer);
+        verify(statusComponentInvoker, times(2)).getServiceMessage(any(DeploymentStatus.class),
+                any(DeploymentContext.class));
+
+        serviceVsStatus.put("db", ServiceStatus.RUNNING);
+        String output = render(renderer);
+
+        // Only the service whose status changed is troubleshot again
+        verify(statusComponentInvoker, times(3)).getServiceMessage(any(DeploymentStatus.class),
+                any(DeploymentContext.class));
+        assertTrue(output.contains("Troubleshoot " + ServiceStatus.RUNNING));
+    }
+
+    @Test
+    public void testPrintChanges() {
+        StatusWatcher.StatusRenderer renderer = getRenderer(false);
+        String output = render(renderer);
+        assertTrue(output.contains(TableFields.SERVICE.getFieldName()));
+        assertTrue(output.contains("web"));
+        assertTrue(output.contains("db"));
+
+        // Nothing printed without changes
+        assertEquals(StringUtils.EMPTY, render(renderer));
+
+        serviceVsStatus.put("db", ServiceStatus.FAILED);
+        output = render(renderer);
+        assertFalse(output.contains(TableFields.SERVICE.getFieldName()));
+        assertFalse(output.contains("web"));
+        assertTrue(output.contains("db"));
+        assertTrue(output.contains(ServiceStatus.FAILED.getMessage()));
+    }
+
+    @Test
+    public void testRedraw() {
+        StatusWatcher.StatusRenderer renderer = getRenderer(true);
+        PrintStream out = System.out;
+        ByteArrayOutputStream screen = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(screen, true, StandardCharsets.UTF_8));
+        String first;
+        String second;
+        try {
+            renderer.render(SNAPSHOT);
+            first = screen.toString(StandardCharsets.UTF_8);
+            screen.reset();
+            renderer.render(SNAPSHOT);
+            assertEquals(0, screen.size());
+
+            serviceVsStatus.put("db", ServiceStatus.FAILED);
+            renderer.render(SNAPSHOT);
+            second = screen.toString(StandardCharsets.UTF_8);
+        } finally {
+            System.setOut(out);
+        }
+
+        assertFalse(first.contains("\033["));
+        // Previous table is cleared and drawn again as a whole
+        String clear = "\033[" + StringUtils.countMatches(first, '\n') + "A\033[J";
+        assertTrue(second.startsWith(clear));
+        assertTrue(second.contains("web"));
+        assertTrue(second.contains(ServiceStatus.FAILED.getMessage()));
+    }
+
+    private StatusWatcher.StatusRenderer getRenderer(boolean interactive) {
+        DeploymentContext deploymentContext = new DeploymentContext();
+        deploymentContext.setAppName("app");
+        deploymentContext.setNamespace("dev");
+        return statusWatcher.new StatusRenderer(deploymentContext, null, interactive);
+    }
+
+    private String render(StatusWatcher.StatusRenderer renderer) {
+        WorkflowLogger.startBuffering();
+        renderer.render(SNAPSHOT);
+        return WorkflowLogger.stopBuffering().getOutput();
+    }
+}